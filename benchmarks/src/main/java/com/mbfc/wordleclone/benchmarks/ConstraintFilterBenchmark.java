@@ -0,0 +1,76 @@
+package com.mbfc.wordleclone.benchmarks;
+
+import com.mbfc.wordleclone.lib.comparator.ComparatorResult;
+import com.mbfc.wordleclone.lib.comparator.CompareException;
+import com.mbfc.wordleclone.lib.comparator.ObjectComparator;
+import com.mbfc.wordleclone.lib.dataset.ObjectDataset;
+import com.mbfc.wordleclone.lib.solver.ConstraintFilter;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the time of narrowing down the candidates of an object game with a {@link
+ * ConstraintFilter}.
+ *
+ * <p>Every invocation resets the filter and applies the results of three guesses against the same
+ * target, so the first guess scans the whole dataset and the other ones only the remaining rows.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ConstraintFilterBenchmark {
+  @Param({"1000", "100000"})
+  public int rows;
+
+  private ObjectDataset records;
+  private ConstraintFilter filter;
+  private int[] guesses;
+  private List<List<ComparatorResult>> results;
+
+  /**
+   * Generates the dataset and the results of the guesses.
+   *
+   * @throws CompareException if the records cannot be compared
+   */
+  @Setup
+  public void setUp() throws CompareException {
+    records = SyntheticDatasets.generate(rows);
+    filter = ConstraintFilter.compile(records);
+    guesses = new int[] {rows / 7, rows / 3, rows / 2};
+    ObjectComparator comparator = new ObjectComparator();
+    results =
+        List.of(
+            comparator.compare(records.get(guesses[0]), records.get(rows - 1)),
+            comparator.compare(records.get(guesses[1]), records.get(rows - 1)),
+            comparator.compare(records.get(guesses[2]), records.get(rows - 1)));
+  }
+
+  /**
+   * Applies the guesses to a fresh filter.
+   *
+   * @return the number of remaining candidates
+   */
+  @Benchmark
+  public int applyGuesses() {
+    filter.reset();
+    for (int i = 0; i < guesses.length; i++) {
+      filter.apply(results.get(i), records.get(guesses[i]));
+    }
+
+    return filter.remaining();
+  }
+}
@@ -0,0 +1,83 @@
+package com.mbfc.wordleclone.benchmarks;
+
+import com.mbfc.wordleclone.lib.comparator.ComparatorResult;
+import com.mbfc.wordleclone.lib.comparator.CompareException;
+import com.mbfc.wordleclone.lib.comparator.CompiledObjectComparator;
+import com.mbfc.wordleclone.lib.comparator.ObjectComparator;
+import com.mbfc.wordleclone.lib.dataset.ColumnarDataset;
+import com.mbfc.wordleclone.lib.dataset.ObjectDataset;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the throughput of comparing two records of an object dataset.
+ *
+ * <p>The {@code treemap} variant compares the parsed {@code TreeMap} records, the {@code columnar}
+ * variant compares rows of a {@link ColumnarDataset} built from the same records, and the {@code
+ * compiled} variant compares the records with a {@link CompiledObjectComparator}. Guess and target
+ * rows are spread over the whole dataset, so larger datasets also show the cost of cache misses.
+ * See {@link DatasetFootprint} for the memory use of both representations.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DatasetBenchmark {
+  @Param({"1000", "100000"})
+  public int rows;
+
+  @Param({"treemap", "columnar", "compiled"})
+  public String representation;
+
+  private final ObjectComparator comparator = new ObjectComparator();
+  private ObjectDataset records;
+  private ColumnarDataset columns;
+  private CompiledObjectComparator compiled;
+  private int[] pairs;
+  private int next;
+
+  /** Generates the dataset and the compared rows. */
+  @Setup
+  public void setUp() {
+    records = SyntheticDatasets.generate(rows);
+    columns = ColumnarDataset.of(records);
+    compiled = CompiledObjectComparator.compile(records);
+    pairs = new int[2048];
+    for (int i = 0; i < pairs.length; i++) {
+      pairs[i] = (int) ((i * 2654435761L) % rows);
+    }
+  }
+
+  /**
+   * Compares the next pair of records.
+   *
+   * @return the comparison results
+   * @throws CompareException if the records cannot be compared
+   */
+  @Benchmark
+  public List<ComparatorResult> compare() throws CompareException {
+    int guess = pairs[next++ & (pairs.length - 1)];
+    int target = pairs[next++ & (pairs.length - 1)];
+
+    if (representation.equals("columnar")) {
+      return comparator.compare(columns, guess, target);
+    } else if (representation.equals("compiled")) {
+      return compiled.compare(records.get(guess), records.get(target));
+    }
+
+    return comparator.compare(records.get(guess), records.get(target));
+  }
+}
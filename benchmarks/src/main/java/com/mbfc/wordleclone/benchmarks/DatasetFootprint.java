@@ -0,0 +1,57 @@
+package com.mbfc.wordleclone.benchmarks;
+
+import com.mbfc.wordleclone.lib.dataset.ColumnarDataset;
+import com.mbfc.wordleclone.lib.dataset.ObjectDataset;
+
+/**
+ * Prints the heap used by an object dataset in the {@code TreeMap} and in the columnar
+ * representation.
+ *
+ * <p>The heap is measured as the difference of used memory after a full collection, before and
+ * after creating the dataset, so run it on an otherwise idle JVM, e.g. {@code java -cp
+ * benchmarks/target/benchmarks.jar com.mbfc.wordleclone.benchmarks.DatasetFootprint 100000}.
+ */
+public final class DatasetFootprint {
+
+  private DatasetFootprint() {}
+
+  /**
+   * Measures the datasets with the given numbers of rows.
+   *
+   * @param args the numbers of rows, {@code 1000} and {@code 100000} by default
+   */
+  public static void main(String[] args) {
+    String[] sizes = args.length > 0 ? args : new String[] {"1000", "100000"};
+
+    for (String size : sizes) {
+      int rows = Integer.parseInt(size);
+
+      long before = usedMemory();
+      ObjectDataset records = SyntheticDatasets.generate(rows);
+      long recordBytes = usedMemory() - before;
+
+      before = usedMemory();
+      ColumnarDataset columns = ColumnarDataset.of(records);
+      long columnBytes = usedMemory() - before;
+
+      System.out.printf(
+          "rows=%d treemap=%d B (%d B/row) columnar=%d B (%d B/row, estimated %d B)%n",
+          rows,
+          recordBytes,
+          recordBytes / rows,
+          columnBytes,
+          columnBytes / rows,
+          columns.estimateMemoryBytes());
+    }
+  }
+
+  private static long usedMemory() {
+    Runtime runtime = Runtime.getRuntime();
+
+    for (int i = 0; i < 3; i++) {
+      System.gc();
+    }
+
+    return runtime.totalMemory() - runtime.freeMemory();
+  }
+}
@@ -0,0 +1,82 @@
+package com.mbfc.wordleclone.benchmarks;
+
+import com.mbfc.wordleclone.lib.comparator.CompareException;
+import com.mbfc.wordleclone.lib.comparator.StringComparator;
+import com.mbfc.wordleclone.lib.dictionary.PackedWordDictionary;
+import com.mbfc.wordleclone.lib.dictionary.WordIndex;
+import com.mbfc.wordleclone.lib.game.GameException;
+import com.mbfc.wordleclone.lib.game.SimpleGame;
+import com.mbfc.wordleclone.lib.parser.SimpleStringParser;
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the latency of a whole game: resetting it and playing guesses until it's finished.
+ *
+ * <p>Every guess goes through {@link SimpleGame#play}, so it's converted, validated, compared and
+ * added to the board. Guesses are taken from the word list, so they're always valid.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class GameBenchmark {
+  @Param({"4letters.txt", "5letters.txt", "6letters.txt"})
+  public String wordList;
+
+  @Param({"index", "packed"})
+  public String dictionary;
+
+  private SimpleGame game;
+  private String[] guesses;
+  private int next;
+
+  /**
+   * Loads the word list and creates the game.
+   *
+   * @throws IOException if the word list cannot be read
+   */
+  @Setup
+  public void setUp() throws IOException {
+    List<String> words = new SimpleStringParser().parseResource(wordList);
+    List<String> guessList =
+        dictionary.equals("packed") ? PackedWordDictionary.of(words) : WordIndex.of(words);
+
+    game = new SimpleGame(new StringComparator(), guessList, 6);
+    guesses = new String[1024];
+    for (int i = 0; i < guesses.length; i++) {
+      guesses[i] = words.get((int) ((i * 2654435761L) % words.size()));
+    }
+  }
+
+  /**
+   * Plays a whole game.
+   *
+   * @return the number of guesses used
+   * @throws CompareException if a guess cannot be compared
+   * @throws GameException if a guess is not valid
+   */
+  @Benchmark
+  public int playGame() throws CompareException, GameException {
+    game.reset();
+    while (!game.getGameFinished()) {
+      game.play(guesses[next++ & (guesses.length - 1)]);
+    }
+
+    return game.getTriesUsed();
+  }
+}
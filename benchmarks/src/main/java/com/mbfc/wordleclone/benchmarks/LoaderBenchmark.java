@@ -0,0 +1,94 @@
+package com.mbfc.wordleclone.benchmarks;
+
+import com.mbfc.wordleclone.lib.dictionary.MappedWordList;
+import com.mbfc.wordleclone.lib.parser.SimpleStringParser;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the time of loading a large generated dictionary file.
+ *
+ * <p>The {@code reader} variant reads the file into a list of strings, the {@code mapped} variant
+ * memory-maps it into a {@link MappedWordList}, and the {@code interned} variant decodes the mapped
+ * list into interned strings.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 3, time = 2)
+@Fork(1)
+public class LoaderBenchmark {
+  @Param({"1000000"})
+  public int words;
+
+  @Param({"reader", "mapped", "interned"})
+  public String loader;
+
+  private Path file;
+
+  /**
+   * Writes the dictionary file of random six letter words.
+   *
+   * @throws IOException if the file cannot be written
+   */
+  @Setup
+  public void setUp() throws IOException {
+    Random random = new Random(words);
+    char[] word = new char[6];
+
+    file = Files.createTempFile("dictionary", ".txt");
+    try (BufferedWriter writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+      for (int i = 0; i < words; i++) {
+        for (int j = 0; j < word.length; j++) {
+          word[j] = (char) ('a' + random.nextInt(26));
+        }
+        writer.write(word);
+        writer.newLine();
+      }
+    }
+  }
+
+  /**
+   * Removes the dictionary file.
+   *
+   * @throws IOException if the file cannot be removed
+   */
+  @TearDown
+  public void tearDown() throws IOException {
+    Files.deleteIfExists(file);
+  }
+
+  /**
+   * Loads the whole dictionary.
+   *
+   * @return the loaded words
+   * @throws IOException if the file cannot be read
+   */
+  @Benchmark
+  public List<String> load() throws IOException {
+    return switch (loader) {
+      case "mapped" -> MappedWordList.map(file);
+      case "interned" -> MappedWordList.map(file).toInternedList();
+      default -> new SimpleStringParser().parseFile(file.toString());
+    };
+  }
+}
@@ -0,0 +1,77 @@
+package com.mbfc.wordleclone.benchmarks;
+
+import com.mbfc.wordleclone.lib.comparator.ComparatorResult;
+import com.mbfc.wordleclone.lib.comparator.CompareException;
+import com.mbfc.wordleclone.lib.comparator.CompiledObjectComparator;
+import com.mbfc.wordleclone.lib.comparator.ObjectComparator;
+import com.mbfc.wordleclone.lib.dataset.ObjectDataset;
+import com.mbfc.wordleclone.lib.json.Field;
+import com.mbfc.wordleclone.lib.parser.JsonParser;
+import java.io.IOException;
+import java.util.List;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the throughput of comparing two records of a bundled json word list.
+ *
+ * <p>The {@code object} variant uses {@link ObjectComparator}, the {@code compiled} variant a
+ * {@link CompiledObjectComparator} compiled for the list. See {@link DatasetBenchmark} for the same
+ * comparison on large synthetic datasets.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ObjectComparatorBenchmark {
+  @Param({"/programming_languages.json", "/music_genres.json"})
+  public String wordList;
+
+  @Param({"object", "compiled"})
+  public String comparator;
+
+  private com.mbfc.wordleclone.lib.comparator.Comparator<TreeMap<String, Field>> instance;
+  private List<TreeMap<String, Field>> records;
+  private int next;
+
+  /**
+   * Loads the word list and creates the comparator.
+   *
+   * @throws IOException if the word list cannot be read
+   */
+  @Setup
+  public void setUp() throws IOException {
+    records = new JsonParser().parseResource(wordList).right();
+    instance =
+        comparator.equals("compiled")
+            ? CompiledObjectComparator.compile((ObjectDataset) records)
+            : new ObjectComparator();
+  }
+
+  /**
+   * Compares the next pair of records.
+   *
+   * @return the comparison results
+   * @throws CompareException if the records cannot be compared
+   */
+  @Benchmark
+  public List<ComparatorResult> compare() throws CompareException {
+    int guess = next++ % records.size();
+    int target = (next * 7) % records.size();
+
+    return instance.compare(records.get(guess), records.get(target));
+  }
+}
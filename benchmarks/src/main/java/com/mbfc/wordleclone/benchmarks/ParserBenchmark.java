@@ -0,0 +1,82 @@
+package com.mbfc.wordleclone.benchmarks;
+
+import com.mbfc.wordleclone.lib.json.Field;
+import com.mbfc.wordleclone.lib.parser.JsonParser;
+import com.mbfc.wordleclone.lib.util.Pair;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the time of parsing a large generated json word list.
+ *
+ * <p>The {@code serial} variant converts the records on the reading thread, the {@code parallel}
+ * variant converts them in chunks on the common fork-join pool, see {@link
+ * JsonParser#JsonParser(boolean)}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 3, time = 5)
+@Fork(
+    value = 1,
+    jvmArgs = {"-Xmx4g"})
+public class ParserBenchmark {
+  @Param({"100000", "500000"})
+  public int rows;
+
+  @Param({"serial", "parallel"})
+  public String conversion;
+
+  private Path file;
+  private JsonParser parser;
+
+  /**
+   * Writes the json file and creates the parser.
+   *
+   * @throws IOException if the file cannot be written
+   */
+  @Setup
+  public void setUp() throws IOException {
+    file = Files.createTempFile("dataset", ".json");
+    SyntheticDatasets.writeJson(rows, file);
+    parser = new JsonParser(conversion.equals("parallel"));
+  }
+
+  /**
+   * Removes the json file.
+   *
+   * @throws IOException if the file cannot be removed
+   */
+  @TearDown
+  public void tearDown() throws IOException {
+    Files.deleteIfExists(file);
+  }
+
+  /**
+   * Parses the whole file.
+   *
+   * @return the parsed word list
+   * @throws IOException if the file cannot be parsed
+   */
+  @Benchmark
+  public Pair<String, List<TreeMap<String, Field>>> parse() throws IOException {
+    return parser.parseFile(file.toString());
+  }
+}
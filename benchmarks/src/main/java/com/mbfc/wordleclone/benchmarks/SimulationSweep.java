@@ -0,0 +1,65 @@
+package com.mbfc.wordleclone.benchmarks;
+
+import com.mbfc.wordleclone.lib.comparator.StringComparator;
+import com.mbfc.wordleclone.lib.dictionary.PackedWordDictionary;
+import com.mbfc.wordleclone.lib.game.EndlessRandomGame;
+import com.mbfc.wordleclone.lib.game.SimpleEndlessGame;
+import com.mbfc.wordleclone.lib.parser.SimpleStringParser;
+import com.mbfc.wordleclone.lib.simulation.CandidateStrategy;
+import com.mbfc.wordleclone.lib.simulation.LetterStrategy;
+import com.mbfc.wordleclone.lib.simulation.SimulationReport;
+import com.mbfc.wordleclone.lib.simulation.SimulationRunner;
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * Simulates endless games for a grid of starting lives and bonus lives.
+ *
+ * <p>{@link SimpleEndlessGame} is played on {@code 5letters.txt} with a {@link CandidateStrategy},
+ * and {@link EndlessRandomGame} on 5 letter strings with a {@link LetterStrategy}. Run it with
+ * {@code java -cp benchmarks/target/benchmarks.jar com.mbfc.wordleclone.benchmarks.SimulationSweep
+ * 10000}.
+ */
+public final class SimulationSweep {
+  private static final int[] LIVES = {4, 5, 6, 7, 8};
+  private static final int[] BONUS_LIVES = {0, 1, 2, 3};
+
+  private SimulationSweep() {}
+
+  /**
+   * Runs the simulations.
+   *
+   * @param args the number of games per configuration, {@code 10000} by default
+   * @throws IOException if the word list cannot be read
+   * @throws InterruptedException if the simulation is interrupted
+   */
+  public static void main(String[] args) throws IOException, InterruptedException {
+    long games = args.length > 0 ? Long.parseLong(args[0]) : 10_000;
+    List<String> words =
+        PackedWordDictionary.of(new SimpleStringParser().parseResource("5letters.txt"));
+    StringComparator comparator = new StringComparator();
+    SimulationRunner runner = new SimulationRunner();
+
+    for (int lives : LIVES) {
+      for (int bonus : BONUS_LIVES) {
+        SimulationReport report =
+            runner.run(
+                () -> new SimpleEndlessGame(comparator, words, lives, bonus),
+                () -> new CandidateStrategy(words, comparator),
+                games);
+        System.out.printf("endless lives=%d bonus=%d %s%n", lives, bonus, report);
+      }
+    }
+
+    for (int lives : LIVES) {
+      for (int bonus : BONUS_LIVES) {
+        SimulationReport report =
+            runner.run(
+                () -> new EndlessRandomGame(comparator, lives, bonus, 5),
+                LetterStrategy::new,
+                games);
+        System.out.printf("endless random lives=%d bonus=%d %s%n", lives, bonus, report);
+      }
+    }
+  }
+}
@@ -0,0 +1,80 @@
+package com.mbfc.wordleclone.benchmarks;
+
+import com.mbfc.wordleclone.lib.comparator.ComparatorResult;
+import com.mbfc.wordleclone.lib.comparator.CompareException;
+import com.mbfc.wordleclone.lib.comparator.StringComparator;
+import com.mbfc.wordleclone.lib.parser.SimpleStringParser;
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the throughput of comparing two words of a bundled word list.
+ *
+ * <p>The {@code compare} benchmark builds the list of results, the {@code comparePacked} benchmark
+ * packs them into a single code without allocating.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class StringComparatorBenchmark {
+  @Param({"4letters.txt", "5letters.txt", "6letters.txt"})
+  public String wordList;
+
+  private final StringComparator comparator = new StringComparator();
+  private String[] words;
+  private int next;
+
+  /**
+   * Loads the word list and picks the compared words.
+   *
+   * @throws IOException if the word list cannot be read
+   */
+  @Setup
+  public void setUp() throws IOException {
+    List<String> list = new SimpleStringParser().parseResource(wordList);
+
+    words = new String[1024];
+    for (int i = 0; i < words.length; i++) {
+      words[i] = list.get((int) ((i * 2654435761L) % list.size()));
+    }
+  }
+
+  /**
+   * Compares the next pair of words into a list of results.
+   *
+   * @return the comparison results
+   * @throws CompareException if the words cannot be compared
+   */
+  @Benchmark
+  public List<ComparatorResult> compare() throws CompareException {
+    return comparator.compare(
+        words[next++ & (words.length - 1)], words[next++ & (words.length - 1)]);
+  }
+
+  /**
+   * Compares the next pair of words into a packed code.
+   *
+   * @return the packed comparison results
+   * @throws CompareException if the words cannot be compared
+   */
+  @Benchmark
+  public long comparePacked() throws CompareException {
+    return comparator.comparePacked(
+        words[next++ & (words.length - 1)], words[next++ & (words.length - 1)]);
+  }
+}
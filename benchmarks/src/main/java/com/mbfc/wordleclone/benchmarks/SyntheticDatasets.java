@@ -0,0 +1,121 @@
+package com.mbfc.wordleclone.benchmarks;
+
+import com.mbfc.wordleclone.lib.dataset.ObjectDataset;
+import com.mbfc.wordleclone.lib.json.DateTimeField;
+import com.mbfc.wordleclone.lib.json.DoubleField;
+import com.mbfc.wordleclone.lib.json.Field;
+import com.mbfc.wordleclone.lib.json.IntegerField;
+import com.mbfc.wordleclone.lib.json.SetField;
+import com.mbfc.wordleclone.lib.json.StringField;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+
+/**
+ * Generates object datasets of any size with the same shape as the bundled json word lists.
+ *
+ * <p>Every record has a unique string key, a string, integer, double and datetime field and a set
+ * field of up to four elements out of a hundred. The generator is seeded, so the same number of
+ * rows always gives the same dataset.
+ */
+final class SyntheticDatasets {
+
+  /** Schema of the generated records. */
+  static final Map<String, String> FIELDS =
+      Map.of(
+          "name", "string",
+          "family", "string",
+          "year", "integer",
+          "rating", "double",
+          "release", "datetime",
+          "tags", "set");
+
+  private static final String[] FAMILIES = {"lisp", "ml", "c", "algol", "smalltalk", "prolog"};
+  private static final LocalDateTime EPOCH = LocalDateTime.of(1950, 1, 1, 0, 0);
+
+  private SyntheticDatasets() {}
+
+  /**
+   * Writes a json word list with the given number of records, in the format read by {@link
+   * com.mbfc.wordleclone.lib.parser.JsonParser}.
+   *
+   * @param rows the number of records
+   * @param file the file to write
+   * @throws IOException if the file cannot be written
+   */
+  static void writeJson(int rows, Path file) throws IOException {
+    DateTimeFormatter formatter = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm");
+    ObjectDataset dataset = generate(rows);
+
+    try (BufferedWriter writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+      writer.write("{\n  \"key\": \"name\",\n  \"fields\": {");
+      writer.write(
+          FIELDS.entrySet().stream()
+              .map(x -> "\"" + x.getKey() + "\": \"" + x.getValue() + "\"")
+              .collect(Collectors.joining(", ")));
+      writer.write("},\n  \"data\": [\n");
+
+      for (int i = 0; i < rows; i++) {
+        TreeMap<String, Field> record = dataset.get(i);
+        writer.write(i == 0 ? "    {" : ",\n    {");
+        writer.write(
+            record.entrySet().stream()
+                .map(x -> "\"" + x.getKey() + "\": \"" + format(x.getValue(), formatter) + "\"")
+                .collect(Collectors.joining(", ")));
+        writer.write("}");
+      }
+
+      writer.write("\n  ]\n}\n");
+    }
+  }
+
+  /**
+   * Generates a dataset with the given number of records.
+   *
+   * @param rows the number of records
+   * @return the generated dataset, keyed by the {@code name} field
+   */
+  static ObjectDataset generate(int rows) {
+    Random random = new Random(rows);
+    List<TreeMap<String, Field>> records = new ArrayList<>(rows);
+
+    for (int i = 0; i < rows; i++) {
+      HashSet<String> tags = new HashSet<>();
+      for (int j = random.nextInt(4); j >= 0; j--) {
+        tags.add("tag" + random.nextInt(100));
+      }
+
+      TreeMap<String, Field> record = new TreeMap<>();
+      record.put("name", new StringField("name" + i));
+      record.put("family", new StringField(FAMILIES[random.nextInt(FAMILIES.length)]));
+      record.put("year", new IntegerField(1950 + random.nextInt(75)));
+      record.put("rating", new DoubleField(random.nextInt(50) / 10.0));
+      record.put("release", new DateTimeField(EPOCH.plusMinutes(random.nextInt(40_000_000))));
+      record.put("tags", new SetField(tags));
+      records.add(record);
+    }
+
+    return new ObjectDataset("name", FIELDS, records);
+  }
+
+  private static String format(Field<?> field, DateTimeFormatter formatter) {
+    if (field instanceof DateTimeField dateTime) {
+      return dateTime.getValue().format(formatter);
+    } else if (field instanceof SetField set) {
+      return String.join(",", set.getValue());
+    }
+
+    return String.valueOf(field.getValue());
+  }
+}
@@ -0,0 +1,100 @@
+package com.mbfc.wordleclone.benchmarks;
+
+import com.mbfc.wordleclone.lib.comparator.StringComparator;
+import com.mbfc.wordleclone.lib.dictionary.PackedWordDictionary;
+import com.mbfc.wordleclone.lib.dictionary.WordIndex;
+import com.mbfc.wordleclone.lib.game.GameException;
+import com.mbfc.wordleclone.lib.game.SimpleGame;
+import com.mbfc.wordleclone.lib.parser.SimpleStringParser;
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the latency of validating a guess against a word list.
+ *
+ * <p>The {@code list} variant validates against the {@code ArrayList} returned by the parser, the
+ * {@code index} variant against a {@link WordIndex} built from it, and the {@code packed} variant
+ * against a {@link PackedWordDictionary}. Half of the guesses are in the word list and half of them
+ * are not.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ValidationBenchmark {
+  @Param({"4letters.txt", "5letters.txt", "6letters.txt"})
+  public String wordList;
+
+  @Param({"list", "index", "packed"})
+  public String dictionary;
+
+  private ValidatingGame game;
+  private String[] guesses;
+  private int next;
+
+  /**
+   * Loads the word list and prepares the guesses.
+   *
+   * @throws IOException if the word list cannot be read
+   */
+  @Setup
+  public void setUp() throws IOException {
+    List<String> words = new SimpleStringParser().parseResource(wordList);
+    game = new ValidatingGame(dictionary(words));
+    guesses = new String[1024];
+    for (int i = 0; i < guesses.length; i++) {
+      String word = words.get((i * 7919) % words.size());
+      guesses[i] = i % 2 == 0 ? word : new StringBuilder(word).reverse().toString();
+    }
+  }
+
+  private List<String> dictionary(List<String> words) {
+    return switch (dictionary) {
+      case "index" -> WordIndex.of(words);
+      case "packed" -> PackedWordDictionary.of(words);
+      default -> words;
+    };
+  }
+
+  /**
+   * Validates the next guess.
+   *
+   * @return {@code true} if the guess was valid
+   */
+  @Benchmark
+  public boolean validate() {
+    String guess = guesses[next++ & (guesses.length - 1)];
+
+    try {
+      game.check(guess);
+      return true;
+    } catch (GameException e) {
+      return false;
+    }
+  }
+
+  /** Exposes the protected validation of {@link SimpleGame} to the benchmark. */
+  private static final class ValidatingGame extends SimpleGame {
+    ValidatingGame(List<String> guessList) {
+      super(new StringComparator(), guessList, 6);
+    }
+
+    void check(String guess) throws GameException {
+      validate(guess);
+    }
+  }
+}
@@ -0,0 +1,164 @@
+package com.mbfc.wordleclone.benchmarks;
+
+import com.mbfc.wordleclone.lib.json.Field;
+import com.mbfc.wordleclone.lib.parser.JsonParser;
+import com.mbfc.wordleclone.lib.parser.SimpleStringParser;
+import com.mbfc.wordleclone.lib.util.Pair;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.List;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the time of parsing the bundled word lists, from the classpath and from a file.
+ *
+ * <p>The text and the json lists are separate states, so that each benchmark only runs once per
+ * list of its own kind. See {@link ParserBenchmark} and {@link LoaderBenchmark} for large generated
+ * files.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class WordListParserBenchmark {
+
+  /** A text word list, and a copy of it in a temporary file. */
+  @State(Scope.Benchmark)
+  public static class WordListState {
+    @Param({"4letters.txt", "5letters.txt", "6letters.txt"})
+    public String wordList;
+
+    private Path file;
+
+    /**
+     * Copies the word list to a file.
+     *
+     * @throws IOException if the file cannot be written
+     */
+    @Setup
+    public void setUp() throws IOException {
+      file = copy(wordList, ".txt");
+    }
+
+    /**
+     * Removes the file.
+     *
+     * @throws IOException if the file cannot be removed
+     */
+    @TearDown
+    public void tearDown() throws IOException {
+      Files.deleteIfExists(file);
+    }
+  }
+
+  /** A json word list, and a copy of it in a temporary file. */
+  @State(Scope.Benchmark)
+  public static class ObjectListState {
+    @Param({"/programming_languages.json", "/music_genres.json"})
+    public String objectWordList;
+
+    private Path file;
+
+    /**
+     * Copies the word list to a file.
+     *
+     * @throws IOException if the file cannot be written
+     */
+    @Setup
+    public void setUp() throws IOException {
+      file = copy(objectWordList, ".json");
+    }
+
+    /**
+     * Removes the file.
+     *
+     * @throws IOException if the file cannot be removed
+     */
+    @TearDown
+    public void tearDown() throws IOException {
+      Files.deleteIfExists(file);
+    }
+  }
+
+  /**
+   * Parses the text word list from the classpath.
+   *
+   * @param state the word list
+   * @return the parsed words
+   * @throws IOException if the word list cannot be read
+   */
+  @Benchmark
+  public List<String> parseWords(WordListState state) throws IOException {
+    return new SimpleStringParser().parseResource(state.wordList);
+  }
+
+  /**
+   * Parses the text word list from a file.
+   *
+   * @param state the word list
+   * @return the parsed words
+   * @throws IOException if the file cannot be read
+   */
+  @Benchmark
+  public List<String> parseWordsFile(WordListState state) throws IOException {
+    return new SimpleStringParser().parseFile(state.file.toString());
+  }
+
+  /**
+   * Parses the json word list from the classpath.
+   *
+   * @param state the word list
+   * @return the parsed records
+   * @throws IOException if the word list cannot be read
+   */
+  @Benchmark
+  public Pair<String, List<TreeMap<String, Field>>> parseObjects(ObjectListState state)
+      throws IOException {
+    return new JsonParser().parseResource(state.objectWordList);
+  }
+
+  /**
+   * Parses the json word list from a file.
+   *
+   * @param state the word list
+   * @return the parsed records
+   * @throws IOException if the file cannot be read
+   */
+  @Benchmark
+  public Pair<String, List<TreeMap<String, Field>>> parseObjectsFile(ObjectListState state)
+      throws IOException {
+    return new JsonParser().parseFile(state.file.toString());
+  }
+
+  private static Path copy(String resource, String suffix) throws IOException {
+    Path file = Files.createTempFile("wordlist", suffix);
+    String name = resource.startsWith("/") ? resource.substring(1) : resource;
+
+    try (InputStream in =
+        WordListParserBenchmark.class.getClassLoader().getResourceAsStream(name)) {
+      if (in == null) {
+        throw new IOException("Cannot find the resource: " + resource + ".");
+      }
+      Files.copy(in, file, StandardCopyOption.REPLACE_EXISTING);
+    }
+
+    return file;
+  }
+}
@@ -1,11 +1,23 @@
 package com.mbfc.wordleclone.cli;
 
+import com.mbfc.wordleclone.lib.comparator.Comparator;
 import com.mbfc.wordleclone.lib.comparator.CompareException;
+import com.mbfc.wordleclone.lib.comparator.CompiledObjectComparator;
+import com.mbfc.wordleclone.lib.comparator.FeedbackMatrix;
 import com.mbfc.wordleclone.lib.comparator.ObjectComparator;
+import com.mbfc.wordleclone.lib.comparator.PackedComparator;
 import com.mbfc.wordleclone.lib.comparator.StringComparator;
+import com.mbfc.wordleclone.lib.dataset.ObjectDataset;
+import com.mbfc.wordleclone.lib.dictionary.PackedWordDictionary;
+import com.mbfc.wordleclone.lib.dictionary.WordDictionaries;
+import com.mbfc.wordleclone.lib.dictionary.WordIndex;
+import com.mbfc.wordleclone.lib.dictionary.WordListRegistry;
+import com.mbfc.wordleclone.lib.game.DailyGame;
+import com.mbfc.wordleclone.lib.game.DailyObjectGame;
 import com.mbfc.wordleclone.lib.game.EndlessGame;
 import com.mbfc.wordleclone.lib.game.EndlessRandomGame;
 import com.mbfc.wordleclone.lib.game.Game;
+import com.mbfc.wordleclone.lib.game.GameBoard;
 import com.mbfc.wordleclone.lib.game.GameException;
 import com.mbfc.wordleclone.lib.game.GameMode;
 import com.mbfc.wordleclone.lib.game.ObjectEndlessGame;
@@ -18,11 +30,16 @@ import com.mbfc.wordleclone.lib.game.ZenGame;
 import com.mbfc.wordleclone.lib.game.ZenObjectGame;
 import com.mbfc.wordleclone.lib.game.ZenRandomGame;
 import com.mbfc.wordleclone.lib.json.Field;
+import com.mbfc.wordleclone.lib.metrics.Metrics;
 import com.mbfc.wordleclone.lib.parser.JsonParser;
 import com.mbfc.wordleclone.lib.parser.SimpleStringParser;
-import com.mbfc.wordleclone.lib.util.HighScoreManager;
+import com.mbfc.wordleclone.lib.solver.ConstraintFilter;
+import com.mbfc.wordleclone.lib.solver.EntropySolver;
+import com.mbfc.wordleclone.lib.solver.WordCandidateFilter;
+import com.mbfc.wordleclone.lib.util.HighScoreStore;
 import com.mbfc.wordleclone.lib.util.Pair;
 import java.io.IOException;
+import java.nio.file.Path;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -35,46 +52,123 @@ import org.fusesource.jansi.Ansi;
 /**
  * Interactive game menu.
  *
- * <p>This menu provides three top-level options: Play, Load a list, and Exit. When "Play" is
- * selected, the user is prompted to choose a data type (String or Object), and when String is
- * chosen, they must select a game mode (Endless or Normal). In Normal mode the number of attempts
- * is set and the user selects one of the loaded word lists before launching the game (SimpleGame).
+ * <p>This menu provides five top-level options: Play, Load a list, Precompute feedback matrix,
+ * Statistics and Exit. When "Play" is selected, the user is prompted to choose a data type (String
+ * or Object), and when String is chosen, they must select a game mode (Endless or Normal). In
+ * Normal mode the number of attempts is set and the user selects one of the loaded word lists
+ * before launching the game (SimpleGame).
  */
 public class GameMenu {
 
+  // Memory budget of the lists loaded by the user, which are reloaded from their files when needed
+  private static final long CUSTOM_LISTS_BUDGET = 64L * 1024 * 1024;
+  // Rough estimate of the memory used by a parsed record of an object list
+  private static final long RECORD_BYTES = 512;
+  // High scores of all endless modes, shared by every game process of the user
+  private static final Path HIGH_SCORES_FILE =
+      Path.of(System.getProperty("user.home"), ".wordle-clone", "highscores.txt");
+
   private final Scanner scanner;
-  // Cache of word lists stored as <list name, List<String>>
-  private final Map<String, List<String>> wordLists;
-  private final Map<String, Pair<String, List<TreeMap<String, Field>>>> objectWordLists;
+  // Word lists loaded when they are first played, each list is a shared
+  // PackedWordDictionary, or a WordIndex if its words cannot be packed
+  private final WordListRegistry<List<String>> wordLists;
+  private final WordListRegistry<Pair<String, List<TreeMap<String, Field>>>> objectWordLists;
+  // Precomputed comparison results stored as <list name, FeedbackMatrix>
+  private final Map<String, FeedbackMatrix> feedbackMatrices;
+  // Hint solvers stored as <list name, EntropySolver>, created when the list is first played
+  private final Map<String, EntropySolver> solvers;
   private final SimpleStringParser parser;
   private final JsonParser jsonParser;
+  private final HighScoreStore highScores;
+  private final String player;
 
   /** Constructs a new GameMenu instance. */
   public GameMenu() {
     scanner = new Scanner(System.in);
-    wordLists = new HashMap<>();
-    objectWordLists = new HashMap<>();
+    wordLists = new WordListRegistry<>(GameMenu::memoryBytes, CUSTOM_LISTS_BUDGET);
+    objectWordLists =
+        new WordListRegistry<>(list -> list.right().size() * RECORD_BYTES, CUSTOM_LISTS_BUDGET);
+    feedbackMatrices = new HashMap<>();
+    solvers = new HashMap<>();
     parser = new SimpleStringParser();
     jsonParser = new JsonParser();
+    highScores = new HighScoreStore(HIGH_SCORES_FILE);
+    player = System.getProperty("user.name", "player");
+    Metrics.setEnabled(true);
+
+    registerDefaultResources();
+  }
+
+  /**
+   * Parses and indexes a word list loaded by the user.
+   *
+   * @param filePath the path of the word list file
+   * @return the indexed words
+   * @throws IOException if the file cannot be read or is empty
+   */
+  private List<String> parseWordList(String filePath) throws IOException {
+    List<String> words = parser.parseFile(filePath);
 
-    loadDefaultResources();
+    if (words.isEmpty()) {
+      throw new IOException("The loaded word list is empty.");
+    }
+
+    return WordDictionaries.of(words);
+  }
+
+  /** Estimates the memory used by an indexed word list, for the budget of the custom lists. */
+  private static long memoryBytes(List<String> words) {
+    return words instanceof PackedWordDictionary dictionary
+        ? dictionary.getMemoryBytes()
+        : WordIndex.of(words).getMemoryBytes();
   }
 
   /**
-   * Loads default resources.
+   * Registers default resources.
    *
-   * <p>Adds a default word list ("5 letters") from the resource file.
+   * <p>Adds the default word lists (e.g. "5 letters") from the resource files, which are
+   * precompiled at build time by {@link com.mbfc.wordleclone.lib.parser.ListCompiler}. The files
+   * are read when the list is played for the first time.
    */
-  private void loadDefaultResources() {
+  private void registerDefaultResources() {
+    wordLists.register(
+        "4 letters", () -> WordDictionaries.of(parser.parseResource("4letters.bin")));
+    wordLists.register(
+        "5 letters", () -> WordDictionaries.of(parser.parseResource("5letters.bin")));
+    wordLists.register(
+        "6 letters", () -> WordDictionaries.of(parser.parseResource("6letters.bin")));
+
+    objectWordLists.register(
+        "Programming languages", () -> jsonParser.parseResource("/programming_languages.bin"));
+  }
+
+  /**
+   * Returns the word list with the given name, loading it if needed.
+   *
+   * @param listName the name of the list
+   * @return the list, or {@code null} if it doesn't exist or cannot be loaded
+   */
+  private List<String> getWordList(String listName) {
     try {
-      wordLists.put("4 letters", parser.parseResource("4letters.txt"));
-      wordLists.put("5 letters", parser.parseResource("5letters.txt"));
-      wordLists.put("6 letters", parser.parseResource("6letters.txt"));
-
-      objectWordLists.put(
-          "Programming languages", jsonParser.parseResource("/programming_languages.json"));
-    } catch (Exception ignore) {
-      // Ignore errors during default resource loading.
+      return wordLists.get(listName);
+    } catch (IOException e) {
+      System.out.println("Error loading word list: " + e.getMessage());
+      return null;
+    }
+  }
+
+  /**
+   * Returns the object list with the given name, loading it if needed.
+   *
+   * @param listName the name of the list
+   * @return the list, or {@code null} if it doesn't exist or cannot be loaded
+   */
+  private Pair<String, List<TreeMap<String, Field>>> getObjectWordList(String listName) {
+    try {
+      return objectWordLists.get(listName);
+    } catch (IOException e) {
+      System.out.println("Error loading word list: " + e.getMessage());
+      return null;
     }
   }
 
@@ -85,7 +179,9 @@ public class GameMenu {
       System.out.println("\n==== Main Menu ====");
       System.out.println("1. Play");
       System.out.println("2. Load a list");
-      System.out.println("3. Exit");
+      System.out.println("3. Precompute feedback matrix");
+      System.out.println("4. Statistics");
+      System.out.println("5. Exit");
       System.out.print("Choose an option: ");
 
       String option = scanner.nextLine().trim();
@@ -98,6 +194,13 @@ public class GameMenu {
           loadListOption();
           break;
         case "3":
+          precomputeMatrixOption();
+          break;
+        case "4":
+          statisticsOption();
+          break;
+        case "5":
+          saveHighScores();
           System.out.println("Goodbye!");
           return;
         default:
@@ -120,41 +223,41 @@ public class GameMenu {
 
     switch (option) {
       case "1":
-        System.out.println("Example that you can try in wordle-clone dir: \n"
-                          +"./cli/src/main/resources/spanish5letters.txt");        
-        System.out.print("Enter the file path to the word list (absolute or inside project folder as above):");
+        System.out.println(
+            "Example that you can try in wordle-clone dir: \n"
+                + "./cli/src/main/resources/spanish5letters.txt");
+        System.out.print(
+            "Enter the file path to the word list (absolute or inside project folder as above):");
         String filePath = scanner.nextLine().trim();
 
         System.out.print("Enter a name for this list: ");
         String listName = scanner.nextLine().trim();
 
         try {
-          List<String> words = parser.parseFile(filePath);
-
-          if (words.isEmpty()) {
-            System.out.println("The loaded word list is empty.");
-            return;
-          }
-
-          wordLists.put(listName, words);
+          // the list replaces one with the same name only once it's loaded
+          List<String> words = parseWordList(filePath);
+          wordLists.registerEvictable(listName, () -> parseWordList(filePath), words);
+          solvers.remove(listName);
+          feedbackMatrices.remove(listName);
           System.out.println("Word list '" + listName + "' loaded successfully.");
         } catch (IOException e) {
           System.out.println("Error loading word list: " + e.getMessage());
         }
         break;
       case "2":
-        System.out.println("Example that you can try in wordle-clone dir: \n"
-                          +"./cli/src/main/resources/music_genres.json");        
-        System.out.print("Enter the file path to the word list (absolute or inside project folder as above):");
+        System.out.println(
+            "Example that you can try in wordle-clone dir: \n"
+                + "./cli/src/main/resources/music_genres.json");
+        System.out.print(
+            "Enter the file path to the word list (absolute or inside project folder as above):");
         String p = scanner.nextLine().trim();
 
         System.out.print("Enter a name for this list: ");
         String n = scanner.nextLine().trim();
 
         try {
-          Pair<String, List<TreeMap<String, Field>>> map = jsonParser.parseFile(p);
-
-          objectWordLists.put(n, map);
+          Pair<String, List<TreeMap<String, Field>>> records = jsonParser.parseFile(p);
+          objectWordLists.registerEvictable(n, () -> jsonParser.parseFile(p), records);
           System.out.println("Word list '" + n + "' loaded successfully.");
         } catch (IOException e) {
           System.out.println("Error loading word list: " + e.getMessage());
@@ -168,6 +271,85 @@ public class GameMenu {
     scanner.nextLine();
   }
 
+  /**
+   * Handles the "Precompute feedback matrix" option.
+   *
+   * <p>Prompts for the name of a word list and builds the matrix of comparison results for it,
+   * either fully or lazily, and reports how long it took and how much memory it uses. Games started
+   * on that list will then look up the results instead of comparing the words.
+   */
+  private void precomputeMatrixOption() {
+    System.out.println(Ansi.ansi().eraseScreen().cursor(0, 0));
+    System.out.println("Available word lists:");
+    for (String key : wordLists.names()) {
+      System.out.println("- " + key);
+    }
+    System.out.print("Enter the name of the word list: ");
+    String listName = scanner.nextLine().trim();
+    List<String> words = getWordList(listName);
+
+    if (words == null) {
+      System.out.println("No word list with that name exists.");
+    } else {
+      long fullBytes = FeedbackMatrix.estimateBytes(words.size(), words.get(0).length());
+      System.out.println("1. Full (about " + fullBytes / (1024 * 1024) + " MB)");
+      System.out.println("2. Lazy (rows are computed when they are needed)");
+      System.out.print("Choose an option: ");
+      String option = scanner.nextLine().trim();
+
+      try {
+        if (!option.equals("2") && fullBytes > availableMemory()) {
+          throw new IllegalArgumentException(
+              "Not enough memory for the full matrix, use the lazy one instead.");
+        }
+        FeedbackMatrix matrix =
+            option.equals("2") ? FeedbackMatrix.lazy(words) : FeedbackMatrix.build(words);
+
+        feedbackMatrices.put(listName, matrix);
+        solvers.remove(listName);
+        System.out.println(
+            "Feedback matrix for '"
+                + listName
+                + "' built in "
+                + matrix.getBuildNanos() / 1_000_000
+                + " ms, using "
+                + matrix.getMemoryBytes() / 1024
+                + " KB.");
+      } catch (IllegalArgumentException e) {
+        System.out.println("Error building feedback matrix: " + e.getMessage());
+      }
+    }
+
+    System.out.println("Press Enter to continue...");
+    scanner.nextLine();
+  }
+
+  /**
+   * Returns the memory the heap can still grow into.
+   *
+   * @return the number of bytes between the used and the maximum heap size
+   */
+  private static long availableMemory() {
+    Runtime runtime = Runtime.getRuntime();
+
+    return runtime.maxMemory() - (runtime.totalMemory() - runtime.freeMemory());
+  }
+
+  /**
+   * Handles the "Statistics" option.
+   *
+   * <p>Prints the metrics recorded since the menu was started, or since they were last reset.
+   */
+  private void statisticsOption() {
+    System.out.println(Ansi.ansi().eraseScreen().cursor(0, 0));
+    System.out.println(Metrics.snapshot().format());
+    System.out.print("Type 'reset' to reset the statistics, or press Enter to continue...");
+
+    if (scanner.nextLine().trim().equalsIgnoreCase("reset")) {
+      Metrics.reset();
+    }
+  }
+
   /**
    * Handles the "Play" option.
    *
@@ -208,6 +390,7 @@ public class GameMenu {
     System.out.println("4. Random");
     System.out.println("5. Endless Random");
     System.out.println("6. Zen Random");
+    System.out.println("7. Daily");
 
     System.out.print("Choose an option: ");
     String modeOption = scanner.nextLine().trim();
@@ -250,6 +433,7 @@ public class GameMenu {
 
     int length = 5;
     List<String> chosenList = null;
+    String chosenListName = null;
     if (selectedMode.name().contains("RANDOM")) {
       System.out.println("Using random chains of characters.");
       System.out.print("Enter the length of the words (default 5): ");
@@ -267,27 +451,43 @@ public class GameMenu {
         return;
       }
       System.out.println("Available word lists:");
-      for (String key : wordLists.keySet()) {
+      for (String key : wordLists.names()) {
         System.out.println("- " + key);
       }
       System.out.print("Enter the name of the word list to use (\"5 letters\" by default): ");
       String listKey = scanner.nextLine().trim();
-      chosenList = wordLists.get(listKey);
+      chosenListName = listKey;
+      chosenList = getWordList(listKey);
       if (chosenList == null) {
         System.out.println("No word list with that name exists. Chosen: \"5 letters\" by default.");
-        chosenList = wordLists.get("5 letters");
+        chosenListName = "5 letters";
+        chosenList = getWordList(chosenListName);
+        if (chosenList == null) {
+          return;
+        }
       }
       length = chosenList.get(0).length();
     }
     System.out.println("Press Enter to continue...");
     scanner.nextLine();
 
-    StringComparator comparator = new StringComparator();
+    PackedComparator<String> comparator = new StringComparator();
+    if (chosenListName != null && feedbackMatrices.containsKey(chosenListName)) {
+      comparator = feedbackMatrices.get(chosenListName);
+    }
+    EntropySolver solver = null;
+    if (chosenListName != null) {
+      final List<String> words = chosenList;
+      final PackedComparator<String> solverComparator = comparator;
+      solver =
+          solvers.computeIfAbsent(chosenListName, x -> new EntropySolver(words, solverComparator));
+    }
     try {
       switch (selectedMode) {
         case SIMPLE:
           SimpleGame simpleGame = new SimpleGame(comparator, chosenList, lives);
-          gameLoop(simpleGame, null);
+          simpleGame.setCandidateFilter(new WordCandidateFilter(chosenList, comparator));
+          gameLoop(simpleGame, null, solver);
           break;
 
         case ENDLESS:
@@ -298,20 +498,21 @@ public class GameMenu {
 
           SimpleEndlessGame endlessGame =
               new SimpleEndlessGame(comparator, chosenList, lives, addedLives);
-          HighScoreManager highScoreManager = new HighScoreManager("highscore_endless_classic.txt");
-          endlessGameLoop(endlessGame, highScoreManager, null);
+          endlessGame.setCandidateFilter(new WordCandidateFilter(chosenList, comparator));
+          endlessGameLoop(endlessGame, "endless_classic", null, solver);
           break;
 
         case ZEN_CLASSIC:
           // Tryby Zen nie wymagają liczby żyć ani wyboru listy, ale ZenClassic potrzebuje listy
           // słów.
           ZenGame zenGame = new ZenGame(comparator, chosenList);
-          gameLoop(zenGame, null);
+          zenGame.setCandidateFilter(new WordCandidateFilter(chosenList, comparator));
+          gameLoop(zenGame, null, solver);
           break;
 
         case RANDOM:
           RandomGame randomGame = new RandomGame(comparator, lives, length);
-          gameLoop(randomGame, null);
+          gameLoop(randomGame, null, null);
           break;
 
         case ENDLESS_RANDOM:
@@ -322,14 +523,21 @@ public class GameMenu {
 
           EndlessRandomGame endlessGameRandom =
               new EndlessRandomGame(comparator, lives, addedLives, length);
-          HighScoreManager highScoreManagerRandom =
-              new HighScoreManager("highscore_endless_random.txt");
-          endlessGameLoop(endlessGameRandom, highScoreManagerRandom, null);
+          endlessGameLoop(endlessGameRandom, "endless_random", null, null);
           break;
 
         case ZEN_RANDOM:
           ZenRandomGame zenRandGame = new ZenRandomGame(comparator, length);
-          gameLoop(zenRandGame, null);
+          gameLoop(zenRandGame, null, null);
+          break;
+
+        case DAILY:
+          DailyGame dailyGame = new DailyGame(comparator, chosenList, lives);
+          dailyGame.setCandidateFilter(new WordCandidateFilter(chosenList, comparator));
+          System.out.println("Daily puzzle of " + dailyGame.getDate() + ".");
+          System.out.println("Press Enter to start...");
+          scanner.nextLine();
+          gameLoop(dailyGame, null, solver);
           break;
 
         default:
@@ -347,6 +555,7 @@ public class GameMenu {
     System.out.println("1. Normal");
     System.out.println("2. Endless");
     System.out.println("3. Zen");
+    System.out.println("4. Daily");
 
     System.out.print("Choose an option: ");
     String modeOption = scanner.nextLine().trim();
@@ -390,28 +599,37 @@ public class GameMenu {
       return;
     }
     System.out.println("Available word lists:");
-    for (String key : objectWordLists.keySet()) {
+    for (String key : objectWordLists.names()) {
       System.out.println("- " + key);
     }
     System.out.print(
         "Enter the name of the word list to use (\"Programming languages\" by default): ");
     String listKey = scanner.nextLine().trim();
-    Pair<String, List<TreeMap<String, Field>>> chosenList = objectWordLists.get(listKey);
+    Pair<String, List<TreeMap<String, Field>>> chosenList = getObjectWordList(listKey);
     if (chosenList == null) {
       System.out.println(
           "No word list with that name exists. Chosen: \"Programming languages\" by default.");
-      chosenList = objectWordLists.get("Programming languages");
+      chosenList = getObjectWordList("Programming languages");
+      if (chosenList == null) {
+        return;
+      }
     }
 
     System.out.println("Press Enter to continue...");
     scanner.nextLine();
-    ObjectComparator comparator = new ObjectComparator();
+    Comparator<TreeMap<String, Field>> comparator =
+        chosenList.right() instanceof ObjectDataset dataset
+            ? CompiledObjectComparator.compile(dataset)
+            : new ObjectComparator();
     try {
       switch (selectedMode) {
         case SIMPLE:
           SimpleObjectGame simpleGame =
               new SimpleObjectGame(comparator, chosenList.right(), lives, chosenList.left());
-          gameLoop(simpleGame, chosenList.left());
+          if (chosenList.right() instanceof ObjectDataset dataset) {
+            simpleGame.setCandidateFilter(ConstraintFilter.compile(dataset));
+          }
+          gameLoop(simpleGame, chosenList.left(), null);
           break;
 
         case ENDLESS:
@@ -423,8 +641,10 @@ public class GameMenu {
           ObjectEndlessGame endlessGame =
               new ObjectEndlessGame(
                   comparator, chosenList.right(), lives, addedLives, chosenList.left());
-          HighScoreManager highScoreManager = new HighScoreManager("highscore_endless_object.txt");
-          endlessGameLoop(endlessGame, highScoreManager, chosenList.left());
+          if (chosenList.right() instanceof ObjectDataset dataset) {
+            endlessGame.setCandidateFilter(ConstraintFilter.compile(dataset));
+          }
+          endlessGameLoop(endlessGame, "endless_object", chosenList.left(), null);
           break;
 
         case ZEN_CLASSIC:
@@ -432,7 +652,22 @@ public class GameMenu {
           // słów.
           ZenObjectGame zenGame =
               new ZenObjectGame(comparator, chosenList.right(), chosenList.left());
-          gameLoop(zenGame, chosenList.left());
+          if (chosenList.right() instanceof ObjectDataset dataset) {
+            zenGame.setCandidateFilter(ConstraintFilter.compile(dataset));
+          }
+          gameLoop(zenGame, chosenList.left(), null);
+          break;
+
+        case DAILY:
+          DailyObjectGame dailyGame =
+              new DailyObjectGame(comparator, chosenList.right(), lives, chosenList.left());
+          if (chosenList.right() instanceof ObjectDataset dataset) {
+            dailyGame.setCandidateFilter(ConstraintFilter.compile(dataset));
+          }
+          System.out.println("Daily puzzle of " + dailyGame.getDate() + ".");
+          System.out.println("Press Enter to start...");
+          scanner.nextLine();
+          gameLoop(dailyGame, chosenList.left(), null);
           break;
 
         default:
@@ -448,20 +683,24 @@ public class GameMenu {
    * Handles the game loop for Normal game mode.
    *
    * <p>Displays the current board and the number of remaining attempts, processes user input (with
-   * an option to exit by typing "q"), and determines whether the game is won or lost. After the
-   * game ends, asks the user if they want to play again and restarts the game loop if confirmed.
+   * an option to exit by typing "q" and to get a hint by typing "?"), and determines whether the
+   * game is won or lost. After the game ends, asks the user if they want to play again and restarts
+   * the game loop if confirmed.
    */
-  private void gameLoop(Game<?, ?> game, String key) {
+  private void gameLoop(Game<?, ?> game, String key, EntropySolver solver) {
     do {
       System.out.println(Ansi.ansi().eraseScreen().cursor(0, 0));
       Printer.printColorCodeInfo();
       System.out.println("Guesses left: " + game.getTriesLeft());
       Printer.printBoard(game.getBoard(), key);
-      System.out.print("\nGuess (or type 'q' to exit): ");
+      System.out.print("\nGuess (or type 'q' to exit, '?' for a hint): ");
 
       String guess = scanner.nextLine().trim().toLowerCase();
       if (guess.equalsIgnoreCase("q")) {
         break;
+      } else if (guess.equals("?")) {
+        printHint(game, solver);
+        continue;
       }
 
       try {
@@ -485,7 +724,7 @@ public class GameMenu {
 
     if (option.equalsIgnoreCase("y")) {
       game.reset();
-      gameLoop(game, key);
+      gameLoop(game, key, solver);
     }
   }
 
@@ -495,24 +734,30 @@ public class GameMenu {
    * <p>This method now accepts an abstract EndlessGame instance. Thanks to polymorphism, any
    * subclass (e.g., SimpleEndlessGame, RandomEndlessGame) can be used.
    *
+   * <p>The high score is updated after every guess, and the store writes it to the disk in batches.
+   * The pending scores are saved when the game is over.
+   *
    * @param game an instance of EndlessGame
-   * @param highScoreManager the high score manager responsible for tracking and updating the high
-   *     score
+   * @param mode the name of the mode in the high score store, e.g. "endless_classic"
+   * @param solver the solver giving hints, or {@code null} if hints are not available
    */
   private void endlessGameLoop(
-      EndlessGame<?, ?> game, HighScoreManager highScoreManager, String key) {
+      EndlessGame<?, ?> game, String mode, String key, EntropySolver solver) {
     while (!game.getGameFinished()) {
       System.out.println(Ansi.ansi().eraseScreen().cursor(0, 0));
       Printer.printColorCodeInfo();
       System.out.println("Current Score: " + game.getScore());
-      System.out.println("High Score: " + highScoreManager.getHighScore());
+      System.out.println("High Score: " + highScores.getHighScore(mode, player));
       System.out.println("Lives left: " + game.getLives());
       Printer.printBoard(game.getBoard(), key);
-      System.out.print("\nGuess (or type 'q' to exit): ");
+      System.out.print("\nGuess (or type 'q' to exit, '?' for a hint): ");
 
       String guess = scanner.nextLine().trim().toLowerCase();
       if (guess.equalsIgnoreCase("q")) {
         break;
+      } else if (guess.equals("?")) {
+        printHint(game, solver);
+        continue;
       }
 
       try {
@@ -526,7 +771,7 @@ public class GameMenu {
 
           System.out.println(Ansi.ansi().eraseScreen().cursor(0, 0));
           System.out.println("Current Score: " + simulatedScore);
-          System.out.println("High Score: " + highScoreManager.getHighScore());
+          System.out.println("High Score: " + highScores.getHighScore(mode, player));
           System.out.println("Lives left: " + simulatedLives);
           Printer.printBoard(game.getBoard(), key);
           System.out.println(
@@ -539,7 +784,7 @@ public class GameMenu {
           scanner.nextLine();
           game.commitRound();
         }
-        highScoreManager.updateHighScore(game.getScore());
+        highScores.updateHighScore(mode, player, game.getScore());
       } catch (CompareException | GameException e) {
         System.out.println("Error: " + e.getMessage());
         System.out.println("Press Enter to continue...");
@@ -549,14 +794,60 @@ public class GameMenu {
 
     System.out.println(Ansi.ansi().eraseScreen().cursor(0, 0));
     Printer.printBoard(game.getBoard(), key);
+    saveHighScores();
     System.out.println(game.getFinalGameMessage());
-    System.out.println("High Score: " + highScoreManager.getHighScore());
+    System.out.println("High Score: " + highScores.getHighScore(mode, player));
     System.out.println("\nDo you want to play again? [y/n]");
     String option = scanner.nextLine().trim();
 
     if (option.equalsIgnoreCase("y")) {
       game.reset();
-      endlessGameLoop(game, highScoreManager, key);
+      endlessGameLoop(game, mode, key, solver);
+    }
+  }
+
+  /** Writes the pending high scores, reporting a failure without interrupting the game. */
+  private void saveHighScores() {
+    try {
+      highScores.flush();
+    } catch (IOException e) {
+      System.err.println("Error saving high score: " + e.getMessage());
+    }
+  }
+
+  /**
+   * Prints the guess recommended by the solver for the current board of the game.
+   *
+   * <p>The hint command is {@code "?"} rather than a word, so it cannot clash with a guess.
+   *
+   * @param game the string game being played
+   * @param solver the solver of the word list, or {@code null} if hints are not available
+   */
+  @SuppressWarnings("unchecked")
+  private void printHint(Game<?, ?> game, EntropySolver solver) {
+    if (solver == null) {
+      System.out.println("Hints are only available for games on a word list.");
+    } else {
+      try {
+        GameBoard<String> board = (GameBoard<String>) game.getBoard();
+        Optional<String> hint = solver.suggest(board, game.getTarget().length());
+
+        if (hint.isPresent()) {
+          System.out.println(
+              "Hint: try '"
+                  + hint.get()
+                  + "' ("
+                  + solver.getCandidates().size()
+                  + " possible words left).");
+        } else {
+          System.out.println("No word in the list matches the results.");
+        }
+      } catch (CompareException e) {
+        System.out.println("Error: " + e.getMessage());
+      }
     }
+
+    System.out.println("Press Enter to continue...");
+    scanner.nextLine();
   }
 }
@@ -1,6 +1,7 @@
 package com.mbfc.wordleclone.cli;
 
 import com.mbfc.wordleclone.lib.comparator.ComparatorResult;
+import com.mbfc.wordleclone.lib.game.CandidateFilter;
 import com.mbfc.wordleclone.lib.game.GameBoard;
 import com.mbfc.wordleclone.lib.json.Field;
 import com.mbfc.wordleclone.lib.util.Pair;
@@ -107,6 +108,9 @@ public class Printer {
   /**
    * Prints the entire {@link GameBoard} with each guess color-coded.
    *
+   * <p>If a {@link CandidateFilter} is attached to the board, the number of words that are still
+   * possible targets is printed below the guesses.
+   *
    * @param board the game board for current game
    */
   public static <T> void printBoard(GameBoard<T> board, String key) {
@@ -120,5 +124,10 @@ public class Printer {
         printlnMap(pair, key);
       }
     }
+
+    CandidateFilter<T> filter = board.getFilter();
+    if (filter != null && !board.isEmpty()) {
+      System.out.println(filter.remaining() + " words remaining");
+    }
   }
 }
@@ -0,0 +1,315 @@
+package com.mbfc.wordleclone.lib.comparator;
+
+import com.mbfc.wordleclone.lib.dictionary.WordIndex;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Precomputed guess-by-target matrix of {@link StringComparator} results for a word list.
+ *
+ * <p>Every cell of the matrix holds the packed code (see {@link PackedResults}) of comparing the
+ * guess at the row index against the target at the column index. The codes are stored as {@code
+ * byte} values for words up to {@value #MAX_BYTE_LENGTH} letters and as {@code short} values for
+ * words up to {@value #MAX_SHORT_LENGTH} letters, so the 15,801 words of a six letter list take
+ * about 500 MB.
+ *
+ * <p>A matrix can be built eagerly, in which case all rows are computed in parallel on the common
+ * {@link ForkJoinPool}, or lazily, in which case each row is computed on the first lookup that
+ * needs it. Lazy matrices are meant for lists that are too large to hold fully in memory, where
+ * only rows of actually played guesses are ever materialized.
+ *
+ * <p>The matrix implements {@link PackedComparator}, so it can be passed to any game instead of a
+ * {@link StringComparator}. Words that are not in the list are compared by a {@link
+ * StringComparator}.
+ */
+public class FeedbackMatrix implements PackedComparator<String> {
+
+  /** Maximum length of words whose codes are stored as {@code byte} values. */
+  public static final int MAX_BYTE_LENGTH = 5;
+
+  /** Maximum length of words whose codes are stored as {@code short} values. */
+  public static final int MAX_SHORT_LENGTH = 10;
+
+  private static final int ROWS_PER_TASK = 32;
+  private static final long ARRAY_HEADER_BYTES = 16;
+  private static final long REFERENCE_BYTES = 4;
+
+  private final StringComparator comparator = new StringComparator();
+  private final WordIndex words;
+  private final int wordLength;
+  private final boolean wide;
+  private final boolean lazy;
+  private final AtomicReferenceArray<Object> rows;
+  private long buildNanos;
+
+  private FeedbackMatrix(List<String> words, boolean lazy) {
+    if (words.isEmpty()) {
+      throw new IllegalArgumentException("Cannot build a feedback matrix for an empty list.");
+    }
+
+    this.words = WordIndex.of(words);
+    this.wordLength = words.get(0).length();
+    this.lazy = lazy;
+    this.rows = new AtomicReferenceArray<>(words.size());
+
+    if (wordLength > MAX_SHORT_LENGTH) {
+      throw new IllegalArgumentException(
+          "Cannot build a feedback matrix for words longer than " + MAX_SHORT_LENGTH + ".");
+    }
+    this.wide = wordLength > MAX_BYTE_LENGTH;
+
+    for (String word : words) {
+      if (word.length() != wordLength) {
+        throw new IllegalArgumentException(
+            "Cannot build a feedback matrix. Words have different length.");
+      }
+    }
+  }
+
+  /**
+   * Builds the full matrix for the given words in parallel.
+   *
+   * @param words the word list, all words need to have the same length
+   * @return the built matrix
+   * @throws IllegalArgumentException if the list is empty, or words have different or too big
+   *     length
+   */
+  public static FeedbackMatrix build(List<String> words) {
+    FeedbackMatrix matrix = new FeedbackMatrix(words, false);
+    long start = System.nanoTime();
+
+    ForkJoinPool.commonPool().invoke(matrix.new RowTask(0, matrix.words.size()));
+    matrix.buildNanos = System.nanoTime() - start;
+
+    return matrix;
+  }
+
+  /**
+   * Creates a matrix for the given words, whose rows are computed on first use.
+   *
+   * @param words the word list, all words need to have the same length
+   * @return the lazy matrix
+   * @throws IllegalArgumentException if the list is empty, or words have different or too big
+   *     length
+   */
+  public static FeedbackMatrix lazy(List<String> words) {
+    return new FeedbackMatrix(words, true);
+  }
+
+  /**
+   * Returns the number of bytes that the full matrix for the given number of words would take.
+   *
+   * @param wordCount the number of words in the list
+   * @param wordLength the length of each word
+   * @return the estimated memory footprint in bytes
+   */
+  public static long estimateBytes(int wordCount, int wordLength) {
+    long cellBytes = wordLength > MAX_BYTE_LENGTH ? Short.BYTES : Byte.BYTES;
+
+    return ARRAY_HEADER_BYTES
+        + wordCount * REFERENCE_BYTES
+        + wordCount * (ARRAY_HEADER_BYTES + wordCount * cellBytes);
+  }
+
+  /**
+   * Returns the packed code of comparing the guess at given index against the target at given
+   * index.
+   *
+   * @param guessIndex the index of the guess in the word list
+   * @param targetIndex the index of the target in the word list
+   * @return the packed code of the comparison
+   */
+  public int code(int guessIndex, int targetIndex) {
+    Object row = row(guessIndex);
+
+    if (wide) {
+      return ((short[]) row)[targetIndex] & 0xFFFF;
+    }
+
+    return ((byte[]) row)[targetIndex] & 0xFF;
+  }
+
+  /**
+   * Returns the index of the word in the list.
+   *
+   * @param word the word to look for
+   * @return the index of the first occurrence of the word, or {@code -1} if it's not in the list
+   */
+  public int indexOf(String word) {
+    return words.indexOf(word);
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public List<ComparatorResult> compare(String guess, String target) throws CompareException {
+    int guessIndex = indexOf(guess);
+    int targetIndex = indexOf(target);
+
+    if (guessIndex < 0 || targetIndex < 0) {
+      return comparator.compare(guess, target);
+    }
+
+    return PackedResults.asList(code(guessIndex, targetIndex), wordLength, StringComparator.RADIX);
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public int resultLength(String guess) {
+    return guess.length();
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public int radix() {
+    return StringComparator.RADIX;
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public int compareInto(String guess, String target, byte[] results) throws CompareException {
+    int guessIndex = indexOf(guess);
+    int targetIndex = indexOf(target);
+
+    if (guessIndex < 0 || targetIndex < 0) {
+      return comparator.compareInto(guess, target, results);
+    }
+
+    if (results.length < wordLength) {
+      throw new CompareException(
+          String.format(
+              "Cannot compare \"%s\" to \"%s\". Result buffer is too small.", guess, target));
+    }
+
+    int code = code(guessIndex, targetIndex);
+    for (int i = 0; i < wordLength; i++) {
+      results[i] = (byte) (code % StringComparator.RADIX);
+      code /= StringComparator.RADIX;
+    }
+
+    return wordLength;
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public long comparePacked(String guess, String target) throws CompareException {
+    int guessIndex = indexOf(guess);
+    int targetIndex = indexOf(target);
+
+    if (guessIndex < 0 || targetIndex < 0) {
+      return comparator.comparePacked(guess, target);
+    }
+
+    return code(guessIndex, targetIndex);
+  }
+
+  public int size() {
+    return words.size();
+  }
+
+  public int getWordLength() {
+    return wordLength;
+  }
+
+  public boolean isLazy() {
+    return lazy;
+  }
+
+  /**
+   * Returns the time it took to build the full matrix.
+   *
+   * @return the build time in nanoseconds, or {@code 0} for lazy matrices
+   */
+  public long getBuildNanos() {
+    return buildNanos;
+  }
+
+  /**
+   * Returns the number of rows that are currently computed.
+   *
+   * @return the number of materialized rows
+   */
+  public int getMaterializedRows() {
+    int count = 0;
+
+    for (int i = 0; i < rows.length(); i++) {
+      if (rows.get(i) != null) {
+        count++;
+      }
+    }
+
+    return count;
+  }
+
+  /**
+   * Returns the estimated memory footprint of the currently computed rows.
+   *
+   * @return the number of bytes used by the matrix
+   */
+  public long getMemoryBytes() {
+    long cellBytes = wide ? Short.BYTES : Byte.BYTES;
+
+    return ARRAY_HEADER_BYTES
+        + words.size() * REFERENCE_BYTES
+        + getMaterializedRows() * (ARRAY_HEADER_BYTES + words.size() * cellBytes);
+  }
+
+  private Object row(int guessIndex) {
+    Object row = rows.get(guessIndex);
+
+    if (row == null) {
+      row = computeRow(guessIndex);
+      if (!rows.compareAndSet(guessIndex, null, row)) {
+        row = rows.get(guessIndex);
+      }
+    }
+
+    return row;
+  }
+
+  private Object computeRow(int guessIndex) {
+    String guess = words.get(guessIndex);
+    short[] wideRow = wide ? new short[words.size()] : null;
+    byte[] narrowRow = wide ? null : new byte[words.size()];
+
+    try {
+      for (int j = 0; j < words.size(); j++) {
+        long code = comparator.comparePacked(guess, words.get(j));
+        if (wide) {
+          wideRow[j] = (short) code;
+        } else {
+          narrowRow[j] = (byte) code;
+        }
+      }
+    } catch (CompareException e) {
+      // lengths are checked in the constructor
+      throw new IllegalStateException(e);
+    }
+
+    return wide ? wideRow : narrowRow;
+  }
+
+  private class RowTask extends RecursiveAction {
+    private final int from;
+    private final int to;
+
+    RowTask(int from, int to) {
+      this.from = from;
+      this.to = to;
+    }
+
+    @Override
+    protected void compute() {
+      if (to - from <= ROWS_PER_TASK) {
+        for (int i = from; i < to; i++) {
+          rows.set(i, computeRow(i));
+        }
+        return;
+      }
+
+      int middle = (from + to) >>> 1;
+      invokeAll(new RowTask(from, middle), new RowTask(middle, to));
+    }
+  }
+}
@@ -1,5 +1,6 @@
 package com.mbfc.wordleclone.lib.comparator;
 
+import com.mbfc.wordleclone.lib.dataset.ColumnarDataset;
 import com.mbfc.wordleclone.lib.json.DateTimeField;
 import com.mbfc.wordleclone.lib.json.DoubleField;
 import com.mbfc.wordleclone.lib.json.Field;
@@ -19,6 +20,9 @@ import java.util.TreeMap;
  * <p>Supports {@link StringField}, {@link IntegerField}, {@link DoubleField}, {@link
  * DateTimeField}, and {@link SetField}. Throws an exception if maps are different sizes or contain
  * unsupported field types.
+ *
+ * <p>Records of a {@link ColumnarDataset} can also be compared directly by their rows, which gives
+ * the same results without unboxing any fields.
  */
 public class ObjectComparator implements Comparator<TreeMap<String, Field>> {
 
@@ -62,6 +66,32 @@ public class ObjectComparator implements Comparator<TreeMap<String, Field>> {
     return result;
   }
 
+  /**
+   * Compares two rows of a columnar dataset, column by column, and returns a list of {@link
+   * ComparatorResult} for each field.
+   *
+   * @param data the dataset holding both records
+   * @param guessRow the row of the guess
+   * @param targetRow the row of the target
+   * @return list of comparison results in the same order as the field names
+   */
+  public List<ComparatorResult> compare(ColumnarDataset data, int guessRow, int targetRow) {
+    List<ComparatorResult> result = new ArrayList<>(data.columnCount());
+
+    for (int c = 0; c < data.columnCount(); c++) {
+      result.add(
+          switch (data.columnType(c)) {
+            case STRING -> cmpString(data, c, guessRow, targetRow);
+            case INTEGER -> cmp(data.intValue(c, guessRow), data.intValue(c, targetRow));
+            case DOUBLE -> cmp(data.doubleValue(c, guessRow), data.doubleValue(c, targetRow));
+            case DATETIME -> cmp(data.dateTimeValue(c, guessRow), data.dateTimeValue(c, targetRow));
+            case SET -> cmpSet(data, c, guessRow, targetRow);
+          });
+    }
+
+    return result;
+  }
+
   private ComparatorResult cmp(DateTimeField guess, DateTimeField target) {
     if (guess.equal(target)) {
       return ComparatorResult.CORRECT;
@@ -98,6 +128,35 @@ public class ObjectComparator implements Comparator<TreeMap<String, Field>> {
     return ComparatorResult.INCORRECT;
   }
 
+  private ComparatorResult cmp(int guess, int target) {
+    if (guess == target) {
+      return ComparatorResult.CORRECT;
+    }
+
+    return guess > target ? ComparatorResult.TOO_HIGH : ComparatorResult.TOO_LOW;
+  }
+
+  private ComparatorResult cmp(long guess, long target) {
+    if (guess == target) {
+      return ComparatorResult.CORRECT;
+    }
+
+    return guess > target ? ComparatorResult.TOO_HIGH : ComparatorResult.TOO_LOW;
+  }
+
+  private ComparatorResult cmp(double guess, double target) {
+    // same as Double.equals, so NaN is equal to itself, and 0.0 differs from -0.0
+    if (Double.doubleToLongBits(guess) == Double.doubleToLongBits(target)) {
+      return ComparatorResult.CORRECT;
+    } else if (guess > target) {
+      return ComparatorResult.TOO_HIGH;
+    } else if (guess < target) {
+      return ComparatorResult.TOO_LOW;
+    }
+
+    return ComparatorResult.INCORRECT;
+  }
+
   private ComparatorResult cmp(SetField guess, SetField target) {
     if (guess.equal(target)) {
       return ComparatorResult.CORRECT;
@@ -117,4 +176,25 @@ public class ObjectComparator implements Comparator<TreeMap<String, Field>> {
 
     return ComparatorResult.INCORRECT;
   }
+
+  private ComparatorResult cmpSet(ColumnarDataset data, int column, int guessRow, int targetRow) {
+    if (data.setEqual(column, guessRow, targetRow)) {
+      return ComparatorResult.CORRECT;
+    } else if (data.setPartial(column, guessRow, targetRow)) {
+      return ComparatorResult.PARTIAL;
+    }
+
+    return ComparatorResult.INCORRECT;
+  }
+
+  private ComparatorResult cmpString(
+      ColumnarDataset data, int column, int guessRow, int targetRow) {
+    if (data.stringEqual(column, guessRow, targetRow)) {
+      return ComparatorResult.CORRECT;
+    } else if (data.stringPartial(column, guessRow, targetRow)) {
+      return ComparatorResult.PARTIAL;
+    }
+
+    return ComparatorResult.INCORRECT;
+  }
 }
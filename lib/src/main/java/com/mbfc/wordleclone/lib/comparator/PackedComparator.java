@@ -0,0 +1,59 @@
+package com.mbfc.wordleclone.lib.comparator;
+
+/**
+ * Extension of the {@link Comparator} interface for comparisons that don't allocate result lists.
+ *
+ * <p>Instead of building a {@code List<ComparatorResult>}, an implementation writes the ordinal of
+ * each {@link ComparatorResult} into a caller-supplied {@code byte[]} buffer, or packs all of them
+ * into a single {@code long} code. The packing scheme is described in {@link PackedResults}; the
+ * {@link #radix()} of the implementation tells how many distinct results a single position can
+ * have.
+ *
+ * <p>The list returned by {@link Comparator#compare} must contain the same results as the ones
+ * written by {@link #compareInto} and {@link #comparePacked}, so that this interface is only a
+ * faster way of obtaining them.
+ *
+ * @param <T> the type of objects to compare
+ */
+public interface PackedComparator<T> extends Comparator<T> {
+
+  /**
+   * Returns the number of results the comparison of the given guess produces.
+   *
+   * @param guess the object to be compared
+   * @return the number of results, e.g. the length of a string
+   */
+  int resultLength(T guess);
+
+  /**
+   * Returns the number of distinct {@link ComparatorResult} values that can appear in the result.
+   *
+   * <p>The returned value is the base of codes returned by {@link #comparePacked}.
+   *
+   * @return the radix of the packed codes
+   */
+  int radix();
+
+  /**
+   * Compares the guess object against target object and writes the ordinals of the results into the
+   * given buffer.
+   *
+   * @param guess the object to be compared (e.g., the user's guess)
+   * @param target the object against which the guess is compared
+   * @param results the buffer to write the {@link ComparatorResult#ordinal()} values into
+   * @return the number of results written into the buffer
+   * @throws CompareException if two objects cannot be compared or the buffer is too small
+   */
+  int compareInto(T guess, T target, byte[] results) throws CompareException;
+
+  /**
+   * Compares the guess object against target object and returns the results packed into a {@code
+   * long}.
+   *
+   * @param guess the object to be compared (e.g., the user's guess)
+   * @param target the object against which the guess is compared
+   * @return the packed results, see {@link PackedResults}
+   * @throws CompareException if two objects cannot be compared or the result is too long to pack
+   */
+  long comparePacked(T guess, T target) throws CompareException;
+}
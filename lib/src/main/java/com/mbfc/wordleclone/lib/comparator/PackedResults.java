@@ -0,0 +1,237 @@
+package com.mbfc.wordleclone.lib.comparator;
+
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.RandomAccess;
+
+/**
+ * Utility class for encoding the results of a comparison into a single {@code long} value.
+ *
+ * <p>Each {@link ComparatorResult} is represented by its ordinal. The results are packed as digits
+ * of a number in the given radix, where the result at position {@code i} is the digit with weight
+ * {@code radix^i}. Because {@link ComparatorResult#CORRECT} has the ordinal {@code 0}, the code of
+ * a fully correct guess is always {@link #ALL_CORRECT}, regardless of the length and radix.
+ *
+ * <p>For example, the results {@code [CORRECT, PARTIAL, INCORRECT]} in radix 3 are encoded as
+ * {@code 0 * 1 + 1 * 3 + 2 * 9 = 21}.
+ */
+public final class PackedResults {
+
+  /** The code of the comparison in which every result is {@link ComparatorResult#CORRECT}. */
+  public static final long ALL_CORRECT = 0L;
+
+  private static final ComparatorResult[] VALUES = ComparatorResult.values();
+
+  private static final int MIN_RADIX = 2;
+
+  private static final long[][] POWERS = new long[VALUES.length + 1][];
+
+  static {
+    for (int radix = MIN_RADIX; radix <= VALUES.length; radix++) {
+      List<Long> powers = new ArrayList<>();
+      long power = 1;
+
+      powers.add(power);
+      while (power <= Long.MAX_VALUE / radix) {
+        power *= radix;
+        powers.add(power);
+      }
+
+      POWERS[radix] = powers.stream().mapToLong(Long::longValue).toArray();
+    }
+  }
+
+  private PackedResults() {}
+
+  /**
+   * Returns the maximum number of results that can be packed into a {@code long} in given radix.
+   *
+   * @param radix the radix of the code
+   * @return the maximum number of results in a single code
+   * @throws IllegalArgumentException if the radix is not supported
+   */
+  public static int maxLength(int radix) {
+    return powers(radix).length - 1;
+  }
+
+  /**
+   * Returns the number of distinct codes of the given length, i.e. {@code radix^length}.
+   *
+   * @param length the number of results in a code
+   * @param radix the radix of the code
+   * @return the number of distinct codes
+   * @throws IllegalArgumentException if the radix is not supported or the length is too big
+   */
+  public static long codeCount(int length, int radix) {
+    long[] powers = powers(radix);
+
+    if (length < 0 || length >= powers.length) {
+      throw new IllegalArgumentException("Cannot count codes of length " + length + ".");
+    }
+
+    return powers[length];
+  }
+
+  /**
+   * Packs the ordinals stored in the buffer into a single code.
+   *
+   * @param results the buffer with {@link ComparatorResult} ordinals
+   * @param length the number of results in the buffer
+   * @param radix the radix of the code
+   * @return the packed code
+   * @throws IllegalArgumentException if the results cannot be packed in given radix
+   */
+  public static long pack(byte[] results, int length, int radix) {
+    if (length > maxLength(radix)) {
+      throw new IllegalArgumentException("Cannot pack " + length + " results in radix " + radix);
+    }
+
+    long code = 0;
+
+    for (int i = length - 1; i >= 0; i--) {
+      code = code * radix + results[i];
+    }
+
+    return code;
+  }
+
+  /**
+   * Packs the list of results into a single code.
+   *
+   * <p>Lists created by {@link #asList} with the same radix are not iterated over.
+   *
+   * @param results the list of results
+   * @param radix the radix of the code
+   * @return the packed code
+   * @throws IllegalArgumentException if the results cannot be packed in given radix
+   */
+  public static long pack(List<ComparatorResult> results, int radix) {
+    if (results instanceof PackedResultList packed && packed.radix == radix) {
+      return packed.code;
+    }
+
+    int length = results.size();
+    if (length > maxLength(radix)) {
+      throw new IllegalArgumentException("Cannot pack " + length + " results in radix " + radix);
+    }
+
+    long code = 0;
+
+    for (int i = length - 1; i >= 0; i--) {
+      int ordinal = results.get(i).ordinal();
+
+      if (ordinal >= radix) {
+        throw new IllegalArgumentException("Cannot pack " + results.get(i) + " in radix " + radix);
+      }
+
+      code = code * radix + ordinal;
+    }
+
+    return code;
+  }
+
+  /**
+   * Returns the result at the given position of the code.
+   *
+   * @param code the packed code
+   * @param index the position of the result
+   * @param radix the radix of the code
+   * @return the result at the given position
+   */
+  public static ComparatorResult get(long code, int index, int radix) {
+    return VALUES[(int) ((code / powers(radix)[index]) % radix)];
+  }
+
+  /**
+   * Returns an immutable list view of the packed code.
+   *
+   * @param code the packed code
+   * @param length the number of results in the code
+   * @param radix the radix of the code
+   * @return a list of results backed by the code
+   */
+  public static List<ComparatorResult> asList(long code, int length, int radix) {
+    if (length > maxLength(radix)) {
+      throw new IllegalArgumentException("Cannot unpack " + length + " results in radix " + radix);
+    }
+
+    return new PackedResultList(code, length, radix);
+  }
+
+  /**
+   * Converts the ordinals stored in the buffer into a list of results.
+   *
+   * <p>Used for results that are too long to be packed into a single code.
+   *
+   * @param results the buffer with {@link ComparatorResult} ordinals
+   * @param length the number of results in the buffer
+   * @return a list of results
+   */
+  public static List<ComparatorResult> toList(byte[] results, int length) {
+    List<ComparatorResult> list = new ArrayList<>(length);
+
+    for (int i = 0; i < length; i++) {
+      list.add(VALUES[results[i]]);
+    }
+
+    return list;
+  }
+
+  /**
+   * Checks if every result in the list is {@link ComparatorResult#CORRECT}.
+   *
+   * <p>Lists created by {@link #asList} are checked without iterating over them.
+   *
+   * @param results the list of results
+   * @return {@code true} if all results are correct, {@code false} otherwise
+   */
+  public static boolean allCorrect(List<ComparatorResult> results) {
+    if (results instanceof PackedResultList packed) {
+      return packed.code == ALL_CORRECT;
+    }
+
+    for (ComparatorResult result : results) {
+      if (result != ComparatorResult.CORRECT) {
+        return false;
+      }
+    }
+
+    return true;
+  }
+
+  private static long[] powers(int radix) {
+    if (radix < MIN_RADIX || radix > VALUES.length) {
+      throw new IllegalArgumentException("Unsupported radix: " + radix);
+    }
+
+    return POWERS[radix];
+  }
+
+  private static final class PackedResultList extends AbstractList<ComparatorResult>
+      implements RandomAccess {
+    private final long code;
+    private final int length;
+    private final int radix;
+
+    PackedResultList(long code, int length, int radix) {
+      this.code = code;
+      this.length = length;
+      this.radix = radix;
+    }
+
+    @Override
+    public ComparatorResult get(int index) {
+      if (index < 0 || index >= length) {
+        throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + length);
+      }
+
+      return PackedResults.get(code, index, radix);
+    }
+
+    @Override
+    public int size() {
+      return length;
+    }
+  }
+}
@@ -1,9 +1,6 @@
 package com.mbfc.wordleclone.lib.comparator;
 
-import java.util.ArrayList;
-import java.util.HashMap;
 import java.util.List;
-import java.util.Map;
 
 /**
  * An implementation fo {@link Comparator} interface for comparing two strings character by
@@ -24,8 +21,29 @@ import java.util.Map;
  *   <li>{@link ComparatorResult#INCORRECT} - the character in {@code guess} does not exist in the
  *       {@code target} string.
  * </ul>
+ *
+ * <p>The comparison itself is implemented by the {@link PackedComparator} methods, which count the
+ * remaining lowercase ASCII letters in an {@code int[26]} array, reused by every call on the same
+ * thread, and fall back to a scan of the target for other characters. The {@link #compare} method
+ * only adapts their result to a list.
  */
-public class StringComparator implements Comparator<String> {
+public class StringComparator implements PackedComparator<String> {
+
+  /** Radix of the codes returned by {@link #comparePacked}. */
+  public static final int RADIX = 3;
+
+  /** Maximum length of strings that can be compared with {@link #comparePacked}. */
+  public static final int MAX_PACKED_LENGTH = PackedResults.maxLength(RADIX);
+
+  private static final int ALPHABET_SIZE = 26;
+
+  /** Counts of the remaining letters, all zero between the calls. */
+  private static final ThreadLocal<int[]> REMAINING_LETTERS =
+      ThreadLocal.withInitial(() -> new int[ALPHABET_SIZE]);
+
+  private static final byte CORRECT = (byte) ComparatorResult.CORRECT.ordinal();
+  private static final byte PARTIAL = (byte) ComparatorResult.PARTIAL.ordinal();
+  private static final byte INCORRECT = (byte) ComparatorResult.INCORRECT.ordinal();
 
   /**
    * Compares two string character by character and returns the result.
@@ -37,45 +55,171 @@ public class StringComparator implements Comparator<String> {
    */
   @Override
   public List<ComparatorResult> compare(String guess, String target) throws CompareException {
-    if (guess.length() != target.length()) {
+    int length = checkLength(guess, target);
+
+    if (length <= MAX_PACKED_LENGTH) {
+      return PackedResults.asList(comparePacked(guess, target), length, RADIX);
+    }
+
+    byte[] results = new byte[length];
+    compareInto(guess, target, results);
+
+    return PackedResults.toList(results, length);
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public int resultLength(String guess) {
+    return guess.length();
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public int radix() {
+    return RADIX;
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public int compareInto(String guess, String target, byte[] results) throws CompareException {
+    int length = checkLength(guess, target);
+
+    if (results.length < length) {
       throw new CompareException(
           String.format(
-              "Cannot compare \"%s\" to \"%s\". Strings have different length.", guess, target));
+              "Cannot compare \"%s\" to \"%s\". Result buffer is too small.", guess, target));
     }
 
-    int length = guess.length();
-    List<ComparatorResult> result = new ArrayList<>(length);
+    int[] remainingLetters = REMAINING_LETTERS.get();
+    boolean otherCharacters = false;
 
     for (int i = 0; i < length; i++) {
-      result.add(null);
+      char targetChar = target.charAt(i);
+      if (guess.charAt(i) == targetChar) {
+        results[i] = CORRECT;
+      } else {
+        results[i] = INCORRECT;
+        int letter = targetChar - 'a';
+        if (letter >= 0 && letter < ALPHABET_SIZE) {
+          remainingLetters[letter]++;
+        } else {
+          otherCharacters = true;
+        }
+      }
     }
 
-    Map<Character, Integer> remainingLetters = new HashMap<>();
+    boolean[] used = otherCharacters ? new boolean[length] : null;
 
     for (int i = 0; i < length; i++) {
+      if (results[i] == CORRECT) {
+        continue;
+      }
+
       char guessChar = guess.charAt(i);
-      char targetChar = target.charAt(i);
-      if (guessChar == targetChar) {
-        result.set(i, ComparatorResult.CORRECT);
-      } else {
-        result.set(i, null); // placeholder
-        remainingLetters.put(targetChar, remainingLetters.getOrDefault(targetChar, 0) + 1);
+      int letter = guessChar - 'a';
+      if (letter >= 0 && letter < ALPHABET_SIZE) {
+        if (remainingLetters[letter] > 0) {
+          remainingLetters[letter]--;
+          results[i] = PARTIAL;
+        }
+      } else if (used != null) {
+        for (int j = 0; j < length; j++) {
+          if (!used[j] && results[j] != CORRECT && target.charAt(j) == guessChar) {
+            used[j] = true;
+            results[i] = PARTIAL;
+            break;
+          }
+        }
       }
     }
 
+    clear(remainingLetters, target);
+    return length;
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * <p>The returned code is in radix {@value #RADIX}, so only strings up to {@link
+   * #MAX_PACKED_LENGTH} characters can be compared this way.
+   */
+  @Override
+  public long comparePacked(String guess, String target) throws CompareException {
+    int length = checkLength(guess, target);
+
+    if (length > MAX_PACKED_LENGTH) {
+      throw new CompareException(
+          String.format("Cannot compare \"%s\" to \"%s\". Strings are too long.", guess, target));
+    }
+
+    int[] remainingLetters = REMAINING_LETTERS.get();
+    long correct = 0;
+    long otherCharacters = 0;
+
     for (int i = 0; i < length; i++) {
-      if (result.get(i) == null) {
-        char guessChar = guess.charAt(i);
-        int count = remainingLetters.getOrDefault(guessChar, 0);
-        if (count > 0) {
-          result.set(i, ComparatorResult.PARTIAL);
-          remainingLetters.put(guessChar, count - 1);
+      char targetChar = target.charAt(i);
+      if (guess.charAt(i) == targetChar) {
+        correct |= 1L << i;
+      } else {
+        int letter = targetChar - 'a';
+        if (letter >= 0 && letter < ALPHABET_SIZE) {
+          remainingLetters[letter]++;
         } else {
-          result.set(i, ComparatorResult.INCORRECT);
+          otherCharacters |= 1L << i;
+        }
+      }
+    }
+
+    long code = 0;
+    long weight = 1;
+
+    for (int i = 0; i < length; i++, weight *= RADIX) {
+      if ((correct & (1L << i)) != 0) {
+        continue;
+      }
+
+      char guessChar = guess.charAt(i);
+      int letter = guessChar - 'a';
+      byte result = INCORRECT;
+      if (letter >= 0 && letter < ALPHABET_SIZE) {
+        if (remainingLetters[letter] > 0) {
+          remainingLetters[letter]--;
+          result = PARTIAL;
+        }
+      } else {
+        for (long rest = otherCharacters; rest != 0; rest &= rest - 1) {
+          int j = Long.numberOfTrailingZeros(rest);
+          if (target.charAt(j) == guessChar) {
+            otherCharacters &= ~(1L << j);
+            result = PARTIAL;
+            break;
+          }
         }
       }
+
+      code += result * weight;
+    }
+
+    clear(remainingLetters, target);
+    return code;
+  }
+
+  private static void clear(int[] remainingLetters, String target) {
+    for (int i = 0; i < target.length(); i++) {
+      int letter = target.charAt(i) - 'a';
+      if (letter >= 0 && letter < ALPHABET_SIZE) {
+        remainingLetters[letter] = 0;
+      }
+    }
+  }
+
+  private static int checkLength(String guess, String target) throws CompareException {
+    if (guess.length() != target.length()) {
+      throw new CompareException(
+          String.format(
+              "Cannot compare \"%s\" to \"%s\". Strings have different length.", guess, target));
     }
 
-    return result;
+    return guess.length();
   }
 }
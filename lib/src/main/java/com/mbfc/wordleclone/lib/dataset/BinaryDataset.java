@@ -0,0 +1,297 @@
+package com.mbfc.wordleclone.lib.dataset;
+
+import com.mbfc.wordleclone.lib.dictionary.BinaryWordList;
+import com.mbfc.wordleclone.lib.json.DateTimeField;
+import com.mbfc.wordleclone.lib.json.DoubleField;
+import com.mbfc.wordleclone.lib.json.Field;
+import com.mbfc.wordleclone.lib.json.IntegerField;
+import com.mbfc.wordleclone.lib.json.SetField;
+import com.mbfc.wordleclone.lib.json.StringField;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Reads and writes object datasets in a precompiled binary format.
+ *
+ * <p>The file starts with the header of {@link BinaryWordList} of the {@link
+ * BinaryWordList#DATASET} kind, followed by the schema: the key, the number of fields and the name
+ * and type of every field. The records are then stored column by column, in the order of the field
+ * names, the same way as in a {@link ColumnarDataset}:
+ *
+ * <ul>
+ *   <li>{@code integer} and {@code double} columns as an array of their values,
+ *   <li>{@code datetime} columns as an array of {@code long} epoch seconds in UTC,
+ *   <li>{@code string} columns as a dictionary of distinct values and an {@code int} code per row,
+ *   <li>{@code set} columns as a dictionary of distinct elements and, for every row, the number of
+ *       elements followed by their codes.
+ * </ul>
+ *
+ * <p>Strings are stored as an {@code int} length and their UTF-8 bytes. Reading the dataset creates
+ * a single instance of every distinct string of a column, which the records share, and needs no
+ * parsing of numbers or dates.
+ */
+public final class BinaryDataset {
+
+  private BinaryDataset() {}
+
+  /**
+   * Writes the dataset in the precompiled format.
+   *
+   * @param dataset the dataset to write
+   * @param out the stream to write to, not closed by this method
+   * @throws IOException if the stream cannot be written
+   * @throws IllegalArgumentException if a record doesn't have all of the fields of the schema
+   */
+  public static void write(ObjectDataset dataset, OutputStream out) throws IOException {
+    DataOutputStream data = new DataOutputStream(out);
+    Map<String, String> fields = new TreeMap<>(dataset.getFields());
+
+    BinaryWordList.writeHeader(data, BinaryWordList.DATASET);
+    writeString(data, dataset.getKey());
+    data.writeInt(fields.size());
+    for (Map.Entry<String, String> field : fields.entrySet()) {
+      writeString(data, field.getKey());
+      writeString(data, field.getValue());
+    }
+    data.writeInt(dataset.size());
+
+    for (Map.Entry<String, String> field : fields.entrySet()) {
+      List<Field> column = new ArrayList<>(dataset.size());
+      for (int row = 0; row < dataset.size(); row++) {
+        Field value = dataset.get(row).get(field.getKey());
+        if (value == null) {
+          throw new IllegalArgumentException(
+              "Record " + row + " doesn't have the field: " + field.getKey() + ".");
+        }
+        column.add(value);
+      }
+
+      writeColumn(data, type(field.getKey(), field.getValue()), column);
+    }
+
+    data.flush();
+  }
+
+  /**
+   * Reads a precompiled dataset from the buffer.
+   *
+   * @param buffer the buffer positioned at the start of the file
+   * @return the dataset, indexed on its key
+   * @throws IOException if the buffer doesn't contain a valid precompiled dataset
+   */
+  public static ObjectDataset read(ByteBuffer buffer) throws IOException {
+    try {
+      int kind = BinaryWordList.readHeader(buffer);
+      if (kind != BinaryWordList.DATASET) {
+        throw new IOException("Not a precompiled object dataset, kind: " + kind + ".");
+      }
+
+      final String key = readString(buffer);
+      Map<String, String> fields = new TreeMap<>();
+      for (int i = count(buffer); i > 0; i--) {
+        String name = readString(buffer);
+        fields.put(name, readString(buffer));
+      }
+
+      int rows = count(buffer);
+      List<TreeMap<String, Field>> records = new ArrayList<>(rows);
+      for (int row = 0; row < rows; row++) {
+        records.add(new TreeMap<>());
+      }
+
+      for (Map.Entry<String, String> field : fields.entrySet()) {
+        readColumn(buffer, field.getKey(), type(field.getKey(), field.getValue()), records);
+      }
+
+      return new ObjectDataset(key, fields, records);
+    } catch (BufferUnderflowException
+        | IndexOutOfBoundsException
+        | NegativeArraySizeException
+        | IllegalArgumentException e) {
+      throw new IOException("Truncated or corrupted precompiled object dataset.", e);
+    }
+  }
+
+  /**
+   * Maps the file and reads the precompiled dataset from it.
+   *
+   * @param file the precompiled file
+   * @return the dataset, indexed on its key
+   * @throws IOException if the file cannot be read, or is not a valid precompiled dataset
+   */
+  public static ObjectDataset read(Path file) throws IOException {
+    return read(BinaryWordList.map(file));
+  }
+
+  private static void writeColumn(DataOutputStream data, ColumnType type, List<Field> column)
+      throws IOException {
+    switch (type) {
+      case INTEGER -> {
+        for (Field value : column) {
+          data.writeInt(((IntegerField) value).getValue());
+        }
+      }
+      case DOUBLE -> {
+        for (Field value : column) {
+          data.writeDouble(((DoubleField) value).getValue());
+        }
+      }
+      case DATETIME -> {
+        for (Field value : column) {
+          data.writeLong(((DateTimeField) value).getValue().toEpochSecond(ZoneOffset.UTC));
+        }
+      }
+      case STRING -> {
+        Map<String, Integer> codes = new HashMap<>();
+        List<String> dictionary = new ArrayList<>();
+        int[] rowCodes = new int[column.size()];
+
+        for (int row = 0; row < rowCodes.length; row++) {
+          rowCodes[row] = code(((StringField) column.get(row)).getValue(), codes, dictionary);
+        }
+        writeDictionary(data, dictionary);
+        for (int code : rowCodes) {
+          data.writeInt(code);
+        }
+      }
+      case SET -> {
+        Map<String, Integer> codes = new HashMap<>();
+        List<String> dictionary = new ArrayList<>();
+        List<int[]> rowCodes = new ArrayList<>(column.size());
+
+        for (Field value : column) {
+          HashSet<String> elements = ((SetField) value).getValue();
+          int[] elementCodes = new int[elements.size()];
+          int i = 0;
+          for (String element : elements) {
+            elementCodes[i++] = code(element, codes, dictionary);
+          }
+          rowCodes.add(elementCodes);
+        }
+        writeDictionary(data, dictionary);
+        for (int[] elementCodes : rowCodes) {
+          data.writeInt(elementCodes.length);
+          for (int code : elementCodes) {
+            data.writeInt(code);
+          }
+        }
+      }
+      default -> throw new IllegalArgumentException("Unknown type of column: " + type + ".");
+    }
+  }
+
+  private static void readColumn(
+      ByteBuffer buffer, String name, ColumnType type, List<TreeMap<String, Field>> records)
+      throws IOException {
+    switch (type) {
+      case INTEGER -> {
+        for (TreeMap<String, Field> record : records) {
+          record.put(name, new IntegerField(buffer.getInt()));
+        }
+      }
+      case DOUBLE -> {
+        for (TreeMap<String, Field> record : records) {
+          record.put(name, new DoubleField(buffer.getDouble()));
+        }
+      }
+      case DATETIME -> {
+        for (TreeMap<String, Field> record : records) {
+          record.put(
+              name,
+              new DateTimeField(LocalDateTime.ofEpochSecond(buffer.getLong(), 0, ZoneOffset.UTC)));
+        }
+      }
+      case STRING -> {
+        String[] dictionary = readDictionary(buffer);
+        for (TreeMap<String, Field> record : records) {
+          record.put(name, new StringField(dictionary[buffer.getInt()]));
+        }
+      }
+      case SET -> {
+        String[] dictionary = readDictionary(buffer);
+        for (TreeMap<String, Field> record : records) {
+          int size = count(buffer);
+          HashSet<String> elements = new HashSet<>(size * 2);
+          for (int i = 0; i < size; i++) {
+            elements.add(dictionary[buffer.getInt()]);
+          }
+          record.put(name, new SetField(elements));
+        }
+      }
+      default -> throw new IOException("Unknown type of column: " + type + ".");
+    }
+  }
+
+  private static int code(String value, Map<String, Integer> codes, List<String> dictionary) {
+    Integer code = codes.get(value);
+
+    if (code == null) {
+      code = dictionary.size();
+      codes.put(value, code);
+      dictionary.add(value);
+    }
+
+    return code;
+  }
+
+  private static void writeDictionary(DataOutputStream data, List<String> dictionary)
+      throws IOException {
+    data.writeInt(dictionary.size());
+    for (String value : dictionary) {
+      writeString(data, value);
+    }
+  }
+
+  private static String[] readDictionary(ByteBuffer buffer) throws IOException {
+    String[] dictionary = new String[count(buffer)];
+
+    for (int i = 0; i < dictionary.length; i++) {
+      dictionary[i] = readString(buffer);
+    }
+
+    return dictionary;
+  }
+
+  private static void writeString(DataOutputStream data, String value) throws IOException {
+    byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+
+    data.writeInt(bytes.length);
+    data.write(bytes);
+  }
+
+  private static String readString(ByteBuffer buffer) throws IOException {
+    byte[] bytes = new byte[count(buffer)];
+    buffer.get(bytes);
+
+    return new String(bytes, StandardCharsets.UTF_8);
+  }
+
+  private static int count(ByteBuffer buffer) throws IOException {
+    int count = buffer.getInt();
+
+    // every counted element takes at least one byte
+    if (count < 0 || count > buffer.remaining()) {
+      throw new IOException("Truncated or corrupted precompiled object dataset.");
+    }
+
+    return count;
+  }
+
+  private static ColumnType type(String name, String typeName) {
+    return ColumnType.fromTypeName(typeName)
+        .orElseThrow(() -> new IllegalArgumentException("Unknown type of field: " + name + "."));
+  }
+}
@@ -0,0 +1,49 @@
+package com.mbfc.wordleclone.lib.dataset;
+
+import java.util.Arrays;
+import java.util.Optional;
+
+/**
+ * An enumeration representing the types of fields in an object dataset.
+ *
+ * <p>Each type is associated with the name used in the "fields" section of a json word list, see
+ * {@link com.mbfc.wordleclone.lib.parser.JsonParser}.
+ */
+public enum ColumnType {
+  STRING("string"),
+  INTEGER("integer"),
+  DOUBLE("double"),
+  DATETIME("datetime"),
+  SET("set");
+
+  private final String typeName;
+
+  /**
+   * Constructs a column type with the specified name.
+   *
+   * @param typeName the name of the type in json word lists
+   */
+  ColumnType(String typeName) {
+    this.typeName = typeName;
+  }
+
+  /**
+   * Returns the name of this type in json word lists.
+   *
+   * @return the type name
+   */
+  public String getTypeName() {
+    return typeName;
+  }
+
+  /**
+   * Searches for a column type with the specified name.
+   *
+   * @param typeName the name of the type in json word lists
+   * @return an {@link Optional} containing the corresponding {@code ColumnType} if found, or {@link
+   *     Optional#empty()} otherwise
+   */
+  public static Optional<ColumnType> fromTypeName(String typeName) {
+    return Arrays.stream(values()).filter(type -> type.typeName.equals(typeName)).findFirst();
+  }
+}
@@ -0,0 +1,446 @@
+package com.mbfc.wordleclone.lib.dataset;
+
+import com.mbfc.wordleclone.lib.json.DateTimeField;
+import com.mbfc.wordleclone.lib.json.DoubleField;
+import com.mbfc.wordleclone.lib.json.Field;
+import com.mbfc.wordleclone.lib.json.IntegerField;
+import com.mbfc.wordleclone.lib.json.SetField;
+import com.mbfc.wordleclone.lib.json.StringField;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * A column oriented, primitive backed representation of an object dataset.
+ *
+ * <p>Instead of a {@code TreeMap<String, Field>} of boxed values per record, every field is stored
+ * as a single array indexed by the row of the record:
+ *
+ * <ul>
+ *   <li>{@code integer} fields as {@code int[]},
+ *   <li>{@code double} fields as {@code double[]},
+ *   <li>{@code datetime} fields as {@code long[]} of epoch seconds in UTC (the json format has a
+ *       precision of minutes, so nothing is lost),
+ *   <li>{@code string} fields as {@code int[]} of codes into a dictionary of distinct values,
+ *   <li>{@code set} fields as bitsets over a dictionary of distinct elements, with the same number
+ *       of {@code long} words for every row.
+ * </ul>
+ *
+ * <p>Columns are ordered by field name, which is the order in which {@link
+ * com.mbfc.wordleclone.lib.comparator.ObjectComparator} compares the fields of two records. The
+ * comparison methods of this class follow the semantics of the corresponding {@link Field}
+ * implementations, so records can be compared directly by their row indexes.
+ */
+public final class ColumnarDataset {
+  private static final long ARRAY_HEADER_BYTES = 16;
+  private static final long REFERENCE_BYTES = 4;
+  private static final long STRING_BYTES = 40;
+
+  private final String key;
+  private final int rows;
+  private final String[] names;
+  private final Column[] columns;
+  private final Map<String, Integer> keyIndex;
+
+  private ColumnarDataset(
+      String key, Map<String, String> fields, List<TreeMap<String, Field>> records) {
+    this.key = key;
+    this.rows = records.size();
+    this.names = new TreeMap<>(fields).keySet().toArray(new String[0]);
+    this.columns = new Column[names.length];
+    this.keyIndex = new HashMap<>(rows * 2);
+
+    for (int row = 0; row < rows; row++) {
+      if (records.get(row).size() != names.length) {
+        throw new IllegalArgumentException(
+            "Record " + row + " doesn't match the schema. Maps have different size.");
+      }
+    }
+
+    for (int c = 0; c < names.length; c++) {
+      String name = names[c];
+      ColumnType type =
+          ColumnType.fromTypeName(fields.get(name))
+              .orElseThrow(
+                  () -> new IllegalArgumentException("Unknown type of field: " + name + "."));
+
+      columns[c] = new Column(type, rows);
+      for (int row = 0; row < rows; row++) {
+        columns[c].set(row, records.get(row).get(name), name);
+      }
+      columns[c].finish();
+    }
+
+    int keyColumn = columnIndex(key);
+    if (keyColumn >= 0 && columns[keyColumn].type == ColumnType.STRING) {
+      for (int row = 0; row < rows; row++) {
+        keyIndex.putIfAbsent(stringValue(keyColumn, row).toLowerCase(), row);
+      }
+    }
+  }
+
+  /**
+   * Converts the object dataset into columns.
+   *
+   * @param dataset the dataset to convert
+   * @return the columnar representation of the dataset, with rows in the same order
+   * @throws IllegalArgumentException if a record doesn't match the schema of the dataset
+   */
+  public static ColumnarDataset of(ObjectDataset dataset) {
+    return new ColumnarDataset(dataset.getKey(), dataset.getFields(), dataset);
+  }
+
+  /**
+   * Converts the records into columns.
+   *
+   * @param key the name of the key field
+   * @param fields the schema of the records, mapping field names to type names
+   * @param records the records to convert
+   * @return the columnar representation of the records, with rows in the same order
+   * @throws IllegalArgumentException if a record doesn't match the schema
+   */
+  public static ColumnarDataset of(
+      String key, Map<String, String> fields, List<TreeMap<String, Field>> records) {
+    return new ColumnarDataset(key, fields, records);
+  }
+
+  public String getKey() {
+    return key;
+  }
+
+  public int size() {
+    return rows;
+  }
+
+  public int columnCount() {
+    return columns.length;
+  }
+
+  public String columnName(int column) {
+    return names[column];
+  }
+
+  public ColumnType columnType(int column) {
+    return columns[column].type;
+  }
+
+  /**
+   * Returns the index of the column with the given name.
+   *
+   * @param name the name of the field
+   * @return the index of the column, or {@code -1} if there is no such field
+   */
+  public int columnIndex(String name) {
+    for (int c = 0; c < names.length; c++) {
+      if (names[c].equals(name)) {
+        return c;
+      }
+    }
+
+    return -1;
+  }
+
+  /**
+   * Returns the row of the record whose key field matches the given value, ignoring case.
+   *
+   * @param value the value of the key field to look for
+   * @return the first matching row, or {@code -1} if there is none
+   */
+  public int rowOf(String value) {
+    Integer row = keyIndex.get(value.toLowerCase());
+
+    return row == null ? -1 : row;
+  }
+
+  public int intValue(int column, int row) {
+    return columns[column].ints[row];
+  }
+
+  public double doubleValue(int column, int row) {
+    return columns[column].doubles[row];
+  }
+
+  /**
+   * Returns the value of a {@code datetime} field.
+   *
+   * @param column the index of the column
+   * @param row the index of the row
+   * @return the number of seconds from the epoch in UTC
+   */
+  public long dateTimeValue(int column, int row) {
+    return columns[column].longs[row];
+  }
+
+  public String stringValue(int column, int row) {
+    return columns[column].dictionary[columns[column].ints[row]];
+  }
+
+  /**
+   * Returns the code of a {@code string} field in the dictionary of its column.
+   *
+   * <p>Rows with the same value have the same code, so results computed for a value can be reused
+   * by all rows that have it.
+   *
+   * @param column the index of the column
+   * @param row the index of the row
+   * @return the code of the value, from {@code 0} to {@link #dictionarySize} exclusive
+   */
+  public int stringCode(int column, int row) {
+    return columns[column].ints[row];
+  }
+
+  /**
+   * Returns the number of distinct values of a {@code string} column, or distinct elements of a
+   * {@code set} column.
+   *
+   * @param column the index of the column
+   * @return the size of the dictionary of the column
+   */
+  public int dictionarySize(int column) {
+    return columns[column].dictionary.length;
+  }
+
+  /**
+   * Returns the number of {@code long} words of the bitset of a {@code set} field.
+   *
+   * @param column the index of the column
+   * @return the number of words per row
+   */
+  public int setWordCount(int column) {
+    return columns[column].wordsPerRow;
+  }
+
+  /**
+   * Returns a word of the bitset of a {@code set} field.
+   *
+   * <p>Bit {@code b} of word {@code w} is set if the set contains the element with code {@code w *
+   * 64 + b}.
+   *
+   * @param column the index of the column
+   * @param row the index of the row
+   * @param word the index of the word, from {@code 0} to {@link #setWordCount} exclusive
+   * @return the bits of the word
+   */
+  public long setWord(int column, int row, int word) {
+    Column col = columns[column];
+
+    return col.bits[row * col.wordsPerRow + word];
+  }
+
+  /**
+   * Checks if the {@code string} fields of two rows are equal, ignoring case.
+   *
+   * @param column the index of the column
+   * @param guessRow the row of the guess
+   * @param targetRow the row of the target
+   * @return {@code true} if the values are equal, {@code false} otherwise
+   * @see StringField#equal
+   */
+  public boolean stringEqual(int column, int guessRow, int targetRow) {
+    Column col = columns[column];
+
+    return col.folded[col.ints[guessRow]] == col.folded[col.ints[targetRow]];
+  }
+
+  /**
+   * Checks if the {@code string} field of one row contains the other.
+   *
+   * @param column the index of the column
+   * @param guessRow the row of the guess
+   * @param targetRow the row of the target
+   * @return {@code true} if the values match partially, {@code false} otherwise
+   * @see StringField#partial
+   */
+  public boolean stringPartial(int column, int guessRow, int targetRow) {
+    Column col = columns[column];
+    String guess = col.dictionary[col.ints[guessRow]];
+    String target = col.dictionary[col.ints[targetRow]];
+
+    return guess.contains(target) || target.contains(guess);
+  }
+
+  /**
+   * Checks if the {@code set} fields of two rows are equal.
+   *
+   * @param column the index of the column
+   * @param guessRow the row of the guess
+   * @param targetRow the row of the target
+   * @return {@code true} if the sets have the same elements, {@code false} otherwise
+   * @see SetField#equal
+   */
+  public boolean setEqual(int column, int guessRow, int targetRow) {
+    Column col = columns[column];
+    int guess = guessRow * col.wordsPerRow;
+    int target = targetRow * col.wordsPerRow;
+
+    for (int i = 0; i < col.wordsPerRow; i++) {
+      if (col.bits[guess + i] != col.bits[target + i]) {
+        return false;
+      }
+    }
+
+    return true;
+  }
+
+  /**
+   * Checks if the {@code set} fields of two rows have common elements.
+   *
+   * @param column the index of the column
+   * @param guessRow the row of the guess
+   * @param targetRow the row of the target
+   * @return {@code true} if the sets intersect, {@code false} otherwise
+   * @see SetField#partial
+   */
+  public boolean setPartial(int column, int guessRow, int targetRow) {
+    Column col = columns[column];
+    int guess = guessRow * col.wordsPerRow;
+    int target = targetRow * col.wordsPerRow;
+
+    for (int i = 0; i < col.wordsPerRow; i++) {
+      if ((col.bits[guess + i] & col.bits[target + i]) != 0) {
+        return true;
+      }
+    }
+
+    return false;
+  }
+
+  /**
+   * Returns the estimated number of bytes used by the columns.
+   *
+   * @return the memory footprint in bytes
+   */
+  public long estimateMemoryBytes() {
+    long bytes = ARRAY_HEADER_BYTES + columns.length * REFERENCE_BYTES;
+
+    for (Column column : columns) {
+      bytes += column.estimateMemoryBytes();
+    }
+
+    return bytes;
+  }
+
+  Column column(int column) {
+    return columns[column];
+  }
+
+  /** Storage of a single field of all records. */
+  static final class Column {
+    final ColumnType type;
+    int[] ints;
+    double[] doubles;
+    long[] longs;
+    String[] dictionary;
+    int[] folded;
+    long[] bits;
+    int wordsPerRow;
+
+    private Map<String, Integer> codes;
+    private List<HashSet<String>> sets;
+
+    Column(ColumnType type, int rows) {
+      this.type = type;
+
+      switch (type) {
+        case INTEGER -> ints = new int[rows];
+        case DOUBLE -> doubles = new double[rows];
+        case DATETIME -> longs = new long[rows];
+        case STRING -> {
+          ints = new int[rows];
+          codes = new HashMap<>();
+        }
+        case SET -> {
+          codes = new HashMap<>();
+          sets = new ArrayList<>(rows);
+        }
+        default -> throw new IllegalArgumentException("Unknown type of field: " + type + ".");
+      }
+    }
+
+    void set(int row, Field<?> field, String name) {
+      if (field == null) {
+        throw new IllegalArgumentException("Record " + row + " doesn't have the field: " + name);
+      }
+
+      try {
+        switch (type) {
+          case INTEGER -> ints[row] = ((IntegerField) field).getValue();
+          case DOUBLE -> doubles[row] = ((DoubleField) field).getValue();
+          case DATETIME -> longs[row] = toEpochSecond(((DateTimeField) field).getValue());
+          case STRING -> ints[row] = code(((StringField) field).getValue());
+          case SET -> {
+            HashSet<String> set = ((SetField) field).getValue();
+            for (String element : set) {
+              code(element);
+            }
+            sets.add(set);
+          }
+          default -> throw new IllegalArgumentException("Unknown type of field: " + name + ".");
+        }
+      } catch (ClassCastException e) {
+        throw new IllegalArgumentException(
+            "Record " + row + " has a field of a different type: " + name, e);
+      }
+    }
+
+    void finish() {
+      if (type == ColumnType.STRING) {
+        dictionary = new String[codes.size()];
+        codes.forEach((value, code) -> dictionary[code] = value);
+
+        Map<String, Integer> foldedCodes = new HashMap<>();
+        folded = new int[dictionary.length];
+        for (int i = 0; i < dictionary.length; i++) {
+          folded[i] =
+              foldedCodes.computeIfAbsent(dictionary[i].toLowerCase(), x -> foldedCodes.size());
+        }
+      } else if (type == ColumnType.SET) {
+        dictionary = new String[codes.size()];
+        codes.forEach((value, code) -> dictionary[code] = value);
+
+        wordsPerRow = Math.max(1, (dictionary.length + Long.SIZE - 1) / Long.SIZE);
+        bits = new long[sets.size() * wordsPerRow];
+        for (int row = 0; row < sets.size(); row++) {
+          for (String element : sets.get(row)) {
+            int bit = codes.get(element);
+            bits[row * wordsPerRow + bit / Long.SIZE] |= 1L << (bit % Long.SIZE);
+          }
+        }
+      }
+
+      codes = null;
+      sets = null;
+    }
+
+    long estimateMemoryBytes() {
+      long bytes = 0;
+
+      bytes += ints == null ? 0 : ARRAY_HEADER_BYTES + (long) ints.length * Integer.BYTES;
+      bytes += doubles == null ? 0 : ARRAY_HEADER_BYTES + (long) doubles.length * Double.BYTES;
+      bytes += longs == null ? 0 : ARRAY_HEADER_BYTES + (long) longs.length * Long.BYTES;
+      bytes += folded == null ? 0 : ARRAY_HEADER_BYTES + (long) folded.length * Integer.BYTES;
+      bytes += bits == null ? 0 : ARRAY_HEADER_BYTES + (long) bits.length * Long.BYTES;
+      if (dictionary != null) {
+        bytes += ARRAY_HEADER_BYTES + dictionary.length * REFERENCE_BYTES;
+        for (String value : dictionary) {
+          bytes += STRING_BYTES + value.length();
+        }
+      }
+
+      return bytes;
+    }
+
+    private int code(String value) {
+      return codes.computeIfAbsent(value, x -> codes.size());
+    }
+
+    private static long toEpochSecond(LocalDateTime value) {
+      return value.toEpochSecond(ZoneOffset.UTC);
+    }
+  }
+}
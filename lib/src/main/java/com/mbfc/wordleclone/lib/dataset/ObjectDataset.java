@@ -0,0 +1,169 @@
+package com.mbfc.wordleclone.lib.dataset;
+
+import com.mbfc.wordleclone.lib.json.Field;
+import com.mbfc.wordleclone.lib.json.StringField;
+import java.util.AbstractList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.RandomAccess;
+import java.util.TreeMap;
+
+/**
+ * An immutable list of object records with a hash index on the key field.
+ *
+ * <p>The index maps the lowercase value of each record's key field to the position of the record,
+ * the same way as {@link StringField#equal} compares strings. Finding the record a player guessed,
+ * and checking if the dataset {@link #contains} a record, are therefore single hash lookups instead
+ * of scans over all records.
+ *
+ * <p>Besides the records, the dataset keeps the schema it was parsed with, mapping each field name
+ * to the name of its type (e.g. {@code "integer"}), see {@link
+ * com.mbfc.wordleclone.lib.parser.JsonParser}.
+ */
+public final class ObjectDataset extends AbstractList<TreeMap<String, Field>>
+    implements RandomAccess {
+  private final String key;
+  private final Map<String, String> fields;
+  private final TreeMap<String, Field>[] records;
+  private final Map<String, Integer> index;
+
+  /**
+   * Creates a new dataset and builds the index on its key field.
+   *
+   * @param key the name of the key field, which must be a {@link StringField} in every record
+   * @param fields the schema of the records, mapping field names to type names
+   * @param records the records of the dataset
+   * @throws IllegalArgumentException if any record doesn't have a string key field
+   */
+  @SuppressWarnings("unchecked")
+  public ObjectDataset(
+      String key, Map<String, String> fields, List<TreeMap<String, Field>> records) {
+    this.key = key;
+    this.fields = Collections.unmodifiableMap(new TreeMap<>(fields));
+    this.records = records.toArray(new TreeMap[0]);
+    this.index = new HashMap<>(this.records.length * 2);
+
+    for (int i = 0; i < this.records.length; i++) {
+      if (!(this.records[i].get(key) instanceof StringField keyField)) {
+        throw new IllegalArgumentException(
+            "Record " + i + " doesn't have a string key field: " + key);
+      }
+
+      index.putIfAbsent(fold(keyField.getValue()), i);
+    }
+  }
+
+  /**
+   * Finds the record whose key field matches the given value, ignoring case.
+   *
+   * <p>Uses the index if the list is an {@code ObjectDataset} indexed on the same key, and scans
+   * the list otherwise.
+   *
+   * @param records the list of records to search
+   * @param key the name of the key field
+   * @param value the value of the key field to look for
+   * @return the first matching record, or {@code null} if there is none
+   */
+  public static TreeMap<String, Field> find(
+      List<TreeMap<String, Field>> records, String key, String value) {
+    if (records instanceof ObjectDataset dataset && dataset.key.equals(key)) {
+      return dataset.find(value);
+    }
+
+    StringField valueField = new StringField(value);
+
+    return records.stream()
+        .filter(x -> ((StringField) x.get(key)).equal(valueField))
+        .findFirst()
+        .orElse(null);
+  }
+
+  /**
+   * Finds the record whose key field matches the given value, ignoring case.
+   *
+   * @param value the value of the key field to look for
+   * @return the first matching record, or {@code null} if there is none
+   */
+  public TreeMap<String, Field> find(String value) {
+    int row = rowOf(value);
+
+    return row < 0 ? null : records[row];
+  }
+
+  /**
+   * Returns the position of the record whose key field matches the given value, ignoring case.
+   *
+   * @param value the value of the key field to look for
+   * @return the position of the first matching record, or {@code -1} if there is none
+   */
+  public int rowOf(String value) {
+    Integer row = index.get(fold(value));
+
+    return row == null ? -1 : row;
+  }
+
+  /**
+   * Returns the position of the given record in the dataset.
+   *
+   * @param record the record to look for
+   * @return the position of the record, or {@code -1} if it's not in the dataset
+   */
+  public int rowOf(TreeMap<String, Field> record) {
+    if (record == null || !(record.get(key) instanceof StringField keyField)) {
+      return -1;
+    }
+
+    int row = rowOf(keyField.getValue());
+    if (row >= 0 && (records[row] == record || records[row].equals(record))) {
+      return row;
+    }
+
+    return row < 0 ? -1 : indexOfScan(record);
+  }
+
+  @Override
+  public TreeMap<String, Field> get(int index) {
+    return records[index];
+  }
+
+  @Override
+  public int size() {
+    return records.length;
+  }
+
+  /**
+   * Checks if the dataset contains the given record, using the index on the key field.
+   *
+   * @param o the record to look for
+   * @return {@code true} if the record is in the dataset, {@code false} otherwise
+   */
+  @Override
+  @SuppressWarnings("unchecked")
+  public boolean contains(Object o) {
+    return o instanceof TreeMap<?, ?> record && rowOf((TreeMap<String, Field>) record) >= 0;
+  }
+
+  public String getKey() {
+    return key;
+  }
+
+  public Map<String, String> getFields() {
+    return fields;
+  }
+
+  private int indexOfScan(TreeMap<String, Field> record) {
+    for (int i = 0; i < records.length; i++) {
+      if (records[i].equals(record)) {
+        return i;
+      }
+    }
+
+    return -1;
+  }
+
+  private static String fold(String value) {
+    return value.toLowerCase();
+  }
+}
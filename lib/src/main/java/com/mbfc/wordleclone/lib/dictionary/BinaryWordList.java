@@ -0,0 +1,271 @@
+package com.mbfc.wordleclone.lib.dictionary;
+
+import java.io.BufferedInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+/**
+ * Reads and writes word lists in a precompiled binary format.
+ *
+ * <p>Every precompiled file starts with a header of the {@code "WCLB"} magic number, the version of
+ * the format and the kind of the content. All numbers are big-endian. The kinds of content are:
+ *
+ * <ul>
+ *   <li>{@link #PACKED} - an {@code int} count followed by the sorted {@code long} codes of a
+ *       {@link PackedWordDictionary}.
+ *   <li>{@link #INDEXED} - an {@code int} count, the hash table of a {@link WordIndex} as an {@code
+ *       int} length and the {@code int} slots, then {@code count + 1} {@code int} offsets of the
+ *       words in the UTF-8 bytes that follow.
+ *   <li>{@link #DATASET} - an object dataset, see {@link
+ *       com.mbfc.wordleclone.lib.dataset.BinaryDataset}.
+ * </ul>
+ *
+ * <p>Loading a list is a single bulk read of the buffer, without splitting lines, sorting packed
+ * codes or hashing words. Lists are written with {@code PACKED} whenever all of their words can be
+ * packed, which, like {@link PackedWordDictionary#of}, sorts and deduplicates them.
+ */
+public final class BinaryWordList {
+
+  /** The magic number every precompiled file starts with, {@code "WCLB"} in ASCII. */
+  public static final int MAGIC = 0x57434C42;
+
+  /** The version of the format. */
+  public static final int VERSION = 1;
+
+  /** Number of bytes of the header. */
+  public static final int HEADER_BYTES = 6;
+
+  /** Kind of a list of packed words. */
+  public static final int PACKED = 1;
+
+  /** Kind of a list of words with a hash index. */
+  public static final int INDEXED = 2;
+
+  /** Kind of an object dataset. */
+  public static final int DATASET = 3;
+
+  private static final int EMPTY = -1;
+
+  private BinaryWordList() {}
+
+  /**
+   * Checks if the stream starts with the magic number of a precompiled file.
+   *
+   * <p>The stream is reset to where it was, so it can then be read either way.
+   *
+   * @param in the stream to check, which must support {@link InputStream#mark}
+   * @return {@code true} if the stream is precompiled, {@code false} otherwise
+   * @throws IOException if the stream cannot be read
+   */
+  public static boolean isBinary(InputStream in) throws IOException {
+    in.mark(Integer.BYTES);
+    byte[] header = in.readNBytes(Integer.BYTES);
+    in.reset();
+
+    return header.length == Integer.BYTES && ByteBuffer.wrap(header).getInt() == MAGIC;
+  }
+
+  /**
+   * Checks if the file starts with the magic number of a precompiled file.
+   *
+   * @param file the file to check
+   * @return {@code true} if the file is precompiled, {@code false} otherwise
+   * @throws IOException if the file cannot be read
+   */
+  public static boolean isBinary(Path file) throws IOException {
+    try (InputStream in = new BufferedInputStream(Files.newInputStream(file), Integer.BYTES)) {
+      return isBinary(in);
+    }
+  }
+
+  /**
+   * Writes the header of a precompiled file.
+   *
+   * @param out the stream to write to
+   * @param kind the kind of the content
+   * @throws IOException if the stream cannot be written
+   */
+  public static void writeHeader(DataOutputStream out, int kind) throws IOException {
+    out.writeInt(MAGIC);
+    out.writeByte(VERSION);
+    out.writeByte(kind);
+  }
+
+  /**
+   * Reads and validates the header of a precompiled file.
+   *
+   * @param buffer the buffer positioned at the start of the file
+   * @return the kind of the content
+   * @throws IOException if the buffer doesn't start with a header of a supported version
+   */
+  public static int readHeader(ByteBuffer buffer) throws IOException {
+    if (buffer.remaining() < HEADER_BYTES || buffer.getInt() != MAGIC) {
+      throw new IOException("Not a precompiled word list.");
+    }
+
+    int version = buffer.get();
+    if (version != VERSION) {
+      throw new IOException("Unsupported version of a precompiled word list: " + version + ".");
+    }
+
+    return buffer.get();
+  }
+
+  /**
+   * Writes the words as a precompiled list.
+   *
+   * @param words the words to write
+   * @param out the stream to write to, not closed by this method
+   * @throws IOException if the stream cannot be written
+   */
+  public static void write(List<String> words, OutputStream out) throws IOException {
+    DataOutputStream data = new DataOutputStream(out);
+
+    if (PackedWordDictionary.isPackable(words)) {
+      PackedWordDictionary dictionary = PackedWordDictionary.of(words);
+
+      writeHeader(data, PACKED);
+      data.writeInt(dictionary.size());
+      for (int i = 0; i < dictionary.size(); i++) {
+        data.writeLong(dictionary.getCode(i));
+      }
+    } else {
+      WordIndex index = WordIndex.of(words);
+      int[] table = index.table();
+
+      writeHeader(data, INDEXED);
+      data.writeInt(index.size());
+      data.writeInt(table.length);
+      for (int slot : table) {
+        data.writeInt(slot);
+      }
+
+      byte[][] encoded = new byte[index.size()][];
+      int offset = 0;
+      data.writeInt(offset);
+      for (int i = 0; i < encoded.length; i++) {
+        encoded[i] = index.get(i).getBytes(StandardCharsets.UTF_8);
+        offset += encoded[i].length;
+        data.writeInt(offset);
+      }
+      for (byte[] word : encoded) {
+        data.write(word);
+      }
+    }
+
+    data.flush();
+  }
+
+  /**
+   * Reads a precompiled list from the buffer.
+   *
+   * @param buffer the buffer positioned at the start of the file
+   * @return a {@link PackedWordDictionary} or a {@link WordIndex}, depending on the kind of list
+   * @throws IOException if the buffer doesn't contain a valid precompiled word list
+   */
+  public static List<String> read(ByteBuffer buffer) throws IOException {
+    try {
+      int kind = readHeader(buffer);
+
+      return switch (kind) {
+        case PACKED -> readPacked(buffer);
+        case INDEXED -> readIndexed(buffer);
+        default -> throw new IOException("Not a precompiled word list, kind: " + kind + ".");
+      };
+    } catch (BufferUnderflowException
+        | IndexOutOfBoundsException
+        | NegativeArraySizeException
+        | IllegalArgumentException e) {
+      throw new IOException("Truncated or corrupted precompiled word list.", e);
+    }
+  }
+
+  /**
+   * Maps the file and reads the precompiled list from it.
+   *
+   * @param file the precompiled file
+   * @return a {@link PackedWordDictionary} or a {@link WordIndex}, depending on the kind of list
+   * @throws IOException if the file cannot be read, or is not a valid precompiled word list
+   */
+  public static List<String> read(Path file) throws IOException {
+    return read(map(file));
+  }
+
+  /**
+   * Maps the whole file into memory, read-only.
+   *
+   * @param file the file to map
+   * @return the mapped buffer
+   * @throws IOException if the file cannot be mapped, or is larger than 2 GB
+   */
+  public static ByteBuffer map(Path file) throws IOException {
+    try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+      if (channel.size() > Integer.MAX_VALUE) {
+        throw new IOException("File is too large to map: " + file);
+      }
+
+      return channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+    }
+  }
+
+  private static PackedWordDictionary readPacked(ByteBuffer buffer) throws IOException {
+    long[] codes = new long[count(buffer, Long.BYTES)];
+    buffer.asLongBuffer().get(codes);
+    buffer.position(buffer.position() + codes.length * Long.BYTES);
+
+    for (int i = 1; i < codes.length; i++) {
+      if (codes[i - 1] >= codes[i]) {
+        throw new IOException("The codes of a precompiled word list are not sorted.");
+      }
+    }
+
+    return PackedWordDictionary.ofSortedCodes(codes);
+  }
+
+  private static WordIndex readIndexed(ByteBuffer buffer) throws IOException {
+    String[] words = new String[count(buffer, Integer.BYTES)];
+    int[] table = new int[count(buffer, Integer.BYTES)];
+    if (Integer.bitCount(table.length) != 1 || table.length < words.length) {
+      throw new IOException("Invalid hash table of a precompiled word list.");
+    }
+    buffer.asIntBuffer().get(table);
+    buffer.position(buffer.position() + table.length * Integer.BYTES);
+    for (int slot : table) {
+      if (slot < EMPTY || slot >= words.length) {
+        throw new IOException("Invalid hash table of a precompiled word list.");
+      }
+    }
+
+    int[] offsets = new int[words.length + 1];
+    buffer.asIntBuffer().get(offsets);
+    buffer.position(buffer.position() + offsets.length * Integer.BYTES);
+    byte[] bytes = new byte[offsets[words.length]];
+    buffer.get(bytes);
+
+    for (int i = 0; i < words.length; i++) {
+      words[i] = new String(bytes, offsets[i], offsets[i + 1] - offsets[i], StandardCharsets.UTF_8);
+    }
+
+    return new WordIndex(words, table);
+  }
+
+  private static int count(ByteBuffer buffer, int elementBytes) throws IOException {
+    int count = buffer.getInt();
+
+    if (count < 0 || (long) count * elementBytes > buffer.remaining()) {
+      throw new IOException("Truncated or corrupted precompiled word list.");
+    }
+
+    return count;
+  }
+}
@@ -0,0 +1,262 @@
+package com.mbfc.wordleclone.lib.dictionary;
+
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.RandomAccess;
+
+/**
+ * An immutable word list backed by a memory-mapped file.
+ *
+ * <p>The file is mapped read-only and scanned once for line breaks. The list only keeps the start
+ * and end offset of every line, so a dictionary of millions of words takes 8 bytes per word on the
+ * heap, and the words are decoded as UTF-8 each time they're read. Lines are split the same way as
+ * {@link java.io.BufferedReader#lines()} splits them: on {@code "\n"}, {@code "\r"} and {@code
+ * "\r\n"}, without an empty last line for a trailing line break.
+ *
+ * <p>{@link #contains} and {@link #indexOf} binary search the lines, comparing their UTF-8 bytes in
+ * the mapped file, so validating a guess doesn't decode any words. The sorted order of the lines is
+ * computed on the first lookup and takes 4 more bytes per word.
+ *
+ * <p>The file channel is closed as soon as the file is mapped, the mapping stays valid until the
+ * list is garbage collected. The file must not be modified while the list is in use.
+ */
+public final class MappedWordList extends AbstractList<String> implements RandomAccess {
+  private final MappedByteBuffer buffer;
+  private final int[] offsets;
+  private final int size;
+  private volatile int[] sorted;
+
+  private MappedWordList(MappedByteBuffer buffer, int[] offsets, int size) {
+    this.buffer = buffer;
+    this.offsets = offsets;
+    this.size = size;
+  }
+
+  /**
+   * Maps the given file and finds the offsets of its lines.
+   *
+   * @param file the file to map
+   * @return the list of lines of the file
+   * @throws IOException if the file cannot be mapped, or is larger than 2 GB
+   */
+  public static MappedWordList map(Path file) throws IOException {
+    MappedByteBuffer buffer;
+
+    try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+      if (channel.size() > Integer.MAX_VALUE) {
+        throw new IOException("File is too large to map: " + file);
+      }
+
+      buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+    }
+
+    int limit = buffer.limit();
+    int[] offsets = new int[64];
+    int size = 0;
+    int start = 0;
+
+    for (int i = 0; i < limit; i++) {
+      byte b = buffer.get(i);
+
+      if (b == '\n' || b == '\r') {
+        offsets = add(offsets, size++, start, i);
+        if (b == '\r' && i + 1 < limit && buffer.get(i + 1) == '\n') {
+          i++;
+        }
+        start = i + 1;
+      }
+    }
+
+    if (start < limit) {
+      offsets = add(offsets, size++, start, limit);
+    }
+
+    return new MappedWordList(buffer, Arrays.copyOf(offsets, 2 * size), size);
+  }
+
+  @Override
+  public String get(int index) {
+    if (index < 0 || index >= size) {
+      throw new IndexOutOfBoundsException("Index " + index + " out of bounds for length " + size);
+    }
+
+    int start = offsets[2 * index];
+    byte[] bytes = new byte[offsets[2 * index + 1] - start];
+    buffer.get(start, bytes);
+
+    return new String(bytes, StandardCharsets.UTF_8);
+  }
+
+  @Override
+  public int size() {
+    return size;
+  }
+
+  @Override
+  public boolean contains(Object o) {
+    return indexOf(o) >= 0;
+  }
+
+  @Override
+  public int indexOf(Object o) {
+    return find(o, true);
+  }
+
+  @Override
+  public int lastIndexOf(Object o) {
+    return find(o, false);
+  }
+
+  /**
+   * Decodes all words into an immutable list of interned strings.
+   *
+   * <p>Interned strings are shared with all other interned copies of the same word, e.g. when the
+   * same dictionary is loaded multiple times.
+   *
+   * @return the words of the file, in the same order
+   */
+  public List<String> toInternedList() {
+    List<String> words = new ArrayList<>(size);
+
+    for (int i = 0; i < size; i++) {
+      words.add(get(i).intern());
+    }
+
+    return List.copyOf(words);
+  }
+
+  /**
+   * Returns the estimated heap footprint of the list, not counting the mapped file.
+   *
+   * @return the number of bytes used by the offsets
+   */
+  public long getMemoryBytes() {
+    int[] order = sorted;
+
+    return 16
+        + (long) offsets.length * Integer.BYTES
+        + (order == null ? 0 : 16 + (long) order.length * Integer.BYTES);
+  }
+
+  private int find(Object o, boolean first) {
+    if (!(o instanceof String word)) {
+      return -1;
+    }
+
+    int[] order = sortedOrder();
+    byte[] key = word.getBytes(StandardCharsets.UTF_8);
+    int low = 0;
+    int high = size - 1;
+    int found = -1;
+
+    // lines are sorted by their bytes, then by their index, so equal lines keep their order
+    while (low <= high) {
+      int mid = (low + high) >>> 1;
+      int cmp = compare(order[mid], key);
+
+      if (cmp == 0) {
+        found = mid;
+      }
+      if (cmp < 0 || (cmp == 0 && !first)) {
+        low = mid + 1;
+      } else {
+        high = mid - 1;
+      }
+    }
+
+    return found < 0 ? -1 : order[found];
+  }
+
+  private int[] sortedOrder() {
+    int[] order = sorted;
+
+    if (order == null) {
+      order = new int[size];
+      for (int i = 0; i < size; i++) {
+        order[i] = i;
+      }
+      sort(order, new int[size], 0, size);
+      sorted = order;
+    }
+
+    return order;
+  }
+
+  /**
+   * Sorts a range of line numbers with a stable merge sort, which skips the merge of halves that
+   * are already in order, so it's linear for files that are already sorted.
+   */
+  private void sort(int[] order, int[] buffer, int from, int to) {
+    if (to - from < 2) {
+      return;
+    }
+
+    int mid = (from + to) >>> 1;
+    sort(order, buffer, from, mid);
+    sort(order, buffer, mid, to);
+    if (compareLines(order[mid - 1], order[mid]) <= 0) {
+      return;
+    }
+
+    System.arraycopy(order, from, buffer, from, mid - from);
+    int left = from;
+    int right = mid;
+    int next = from;
+    while (left < mid && right < to) {
+      order[next++] =
+          compareLines(buffer[left], order[right]) <= 0 ? buffer[left++] : order[right++];
+    }
+    // the rest of the right half is already in place
+    System.arraycopy(buffer, left, order, next, mid - left);
+  }
+
+  private int compareLines(int a, int b) {
+    int start = offsets[2 * a];
+    int length = offsets[2 * a + 1] - start;
+    int otherStart = offsets[2 * b];
+    int otherLength = offsets[2 * b + 1] - otherStart;
+
+    for (int i = 0; i < length && i < otherLength; i++) {
+      int cmp = Byte.compareUnsigned(buffer.get(start + i), buffer.get(otherStart + i));
+      if (cmp != 0) {
+        return cmp;
+      }
+    }
+
+    return Integer.compare(length, otherLength);
+  }
+
+  private int compare(int line, byte[] key) {
+    int start = offsets[2 * line];
+    int length = offsets[2 * line + 1] - start;
+
+    for (int i = 0; i < length && i < key.length; i++) {
+      int cmp = Byte.compareUnsigned(buffer.get(start + i), key[i]);
+      if (cmp != 0) {
+        return cmp;
+      }
+    }
+
+    return Integer.compare(length, key.length);
+  }
+
+  private static int[] add(int[] offsets, int index, int start, int end) {
+    int[] result = offsets;
+
+    if (2 * index + 1 >= result.length) {
+      result = Arrays.copyOf(result, result.length * 2);
+    }
+    result[2 * index] = start;
+    result[2 * index + 1] = end;
+
+    return result;
+  }
+}
@@ -0,0 +1,210 @@
+package com.mbfc.wordleclone.lib.dictionary;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.RandomAccess;
+
+/**
+ * An immutable, sorted word list that stores every word in a single {@code long}.
+ *
+ * <p>Each letter {@code 'a'} to {@code 'z'} is encoded in 5 bits as a value from 1 to 26, starting
+ * from the highest bits of the {@code long}, so words of up to {@value #MAX_LENGTH} lowercase ASCII
+ * letters can be packed. Unused low bits are zero, so the numeric order of the codes is the
+ * alphabetical order of the words, and the dictionary is a sorted {@code long[]} searched with a
+ * binary search. Compared to a list of strings, a word takes 8 bytes instead of about 50.
+ *
+ * <p>The words are sorted and deduplicated when the dictionary is created, so the order of the
+ * original list is not kept. Words are decoded into new strings each time they're read.
+ */
+public final class PackedWordDictionary extends AbstractList<String> implements RandomAccess {
+
+  /** Maximum length of a word that can be packed. */
+  public static final int MAX_LENGTH = 12;
+
+  private static final int BITS_PER_LETTER = 5;
+  private static final int LETTER_MASK = (1 << BITS_PER_LETTER) - 1;
+  private static final int TOP_SHIFT = BITS_PER_LETTER * (MAX_LENGTH - 1);
+  private static final long INVALID = -1L;
+
+  private final long[] codes;
+
+  private PackedWordDictionary(long[] codes) {
+    this.codes = codes;
+  }
+
+  /**
+   * Packs the given words into a dictionary.
+   *
+   * @param words the words to pack
+   * @return the sorted dictionary of distinct words
+   * @throws IllegalArgumentException if any word cannot be packed, see {@link #isPackable}
+   */
+  public static PackedWordDictionary of(List<String> words) {
+    if (words instanceof PackedWordDictionary dictionary) {
+      return dictionary;
+    }
+
+    long[] codes = new long[words.size()];
+
+    for (int i = 0; i < codes.length; i++) {
+      codes[i] = encode(words.get(i));
+      if (codes[i] == INVALID) {
+        throw new IllegalArgumentException("Cannot pack the word: " + words.get(i) + ".");
+      }
+    }
+
+    Arrays.sort(codes);
+    int size = 0;
+    for (int i = 0; i < codes.length; i++) {
+      if (size == 0 || codes[size - 1] != codes[i]) {
+        codes[size++] = codes[i];
+      }
+    }
+
+    return new PackedWordDictionary(Arrays.copyOf(codes, size));
+  }
+
+  /**
+   * Wraps codes that are already sorted and distinct, e.g. read from a {@link BinaryWordList}.
+   *
+   * @param codes the sorted, distinct codes of the words
+   * @return the dictionary backed by the given array
+   */
+  static PackedWordDictionary ofSortedCodes(long[] codes) {
+    return new PackedWordDictionary(codes);
+  }
+
+  /**
+   * Checks if all the given words can be packed.
+   *
+   * @param words the words to check
+   * @return {@code true} if all words are non empty, have at most {@value #MAX_LENGTH} letters and
+   *     only contain letters from {@code 'a'} to {@code 'z'}, {@code false} otherwise
+   */
+  public static boolean isPackable(List<String> words) {
+    if (words instanceof PackedWordDictionary) {
+      return true;
+    }
+
+    for (String word : words) {
+      if (encode(word) == INVALID) {
+        return false;
+      }
+    }
+
+    return true;
+  }
+
+  /**
+   * Encodes the word into its packed code.
+   *
+   * @param word the word to encode
+   * @return the packed code, or {@code -1} if the word cannot be packed
+   */
+  public static long encode(String word) {
+    if (word == null || word.isEmpty() || word.length() > MAX_LENGTH) {
+      return INVALID;
+    }
+
+    long code = 0;
+    for (int i = 0; i < word.length(); i++) {
+      char c = word.charAt(i);
+
+      if (c < 'a' || c > 'z') {
+        return INVALID;
+      }
+      code |= (long) (c - 'a' + 1) << (TOP_SHIFT - i * BITS_PER_LETTER);
+    }
+
+    return code;
+  }
+
+  /**
+   * Decodes the packed code into its word.
+   *
+   * @param code the packed code
+   * @return the decoded word
+   */
+  public static String decode(long code) {
+    char[] letters = new char[MAX_LENGTH];
+    int length = 0;
+
+    while (length < MAX_LENGTH) {
+      int letter = (int) (code >>> (TOP_SHIFT - length * BITS_PER_LETTER)) & LETTER_MASK;
+      if (letter == 0) {
+        break;
+      }
+      letters[length++] = (char) ('a' + letter - 1);
+    }
+
+    return new String(letters, 0, length);
+  }
+
+  @Override
+  public String get(int index) {
+    return decode(codes[index]);
+  }
+
+  /**
+   * Returns the packed code of the word at the given index.
+   *
+   * @param index the index of the word
+   * @return the packed code of the word
+   */
+  public long getCode(int index) {
+    return codes[index];
+  }
+
+  @Override
+  public int size() {
+    return codes.length;
+  }
+
+  /**
+   * Checks if the dictionary contains the given word, using a binary search.
+   *
+   * @param o the word to look for
+   * @return {@code true} if the word is in the dictionary, {@code false} otherwise
+   */
+  @Override
+  public boolean contains(Object o) {
+    return indexOf(o) >= 0;
+  }
+
+  /**
+   * Returns the index of the given word, using a binary search.
+   *
+   * @param o the word to look for
+   * @return the index of the word, or {@code -1} if it's not in the dictionary
+   */
+  @Override
+  public int indexOf(Object o) {
+    if (!(o instanceof String word)) {
+      return -1;
+    }
+
+    long code = encode(word);
+    if (code == INVALID) {
+      return -1;
+    }
+
+    int index = Arrays.binarySearch(codes, code);
+
+    return index < 0 ? -1 : index;
+  }
+
+  @Override
+  public int lastIndexOf(Object o) {
+    return indexOf(o);
+  }
+
+  /**
+   * Returns the estimated memory footprint of the dictionary.
+   *
+   * @return the number of bytes used by the codes
+   */
+  public long getMemoryBytes() {
+    return 16 + (long) codes.length * Long.BYTES;
+  }
+}
@@ -0,0 +1,29 @@
+package com.mbfc.wordleclone.lib.dictionary;
+
+import java.util.List;
+
+/**
+ * Creates the most compact immutable dictionary for a word list.
+ *
+ * <p>Games validate every guess with {@link List#contains}, which scans a regular list. The guess
+ * list should be a {@link WordIndex}, built once per list and shared by all games created from it.
+ * Lists of lowercase ASCII words can also be a {@link PackedWordDictionary}, which takes 8 bytes
+ * per word.
+ */
+public final class WordDictionaries {
+
+  private WordDictionaries() {}
+
+  /**
+   * Indexes the word list for validation and target selection.
+   *
+   * @param words the loaded words
+   * @return a {@link PackedWordDictionary} if all words can be packed, a {@link WordIndex}
+   *     otherwise
+   */
+  public static List<String> of(List<String> words) {
+    return PackedWordDictionary.isPackable(words)
+        ? PackedWordDictionary.of(words)
+        : WordIndex.of(words);
+  }
+}
@@ -0,0 +1,144 @@
+package com.mbfc.wordleclone.lib.dictionary;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.RandomAccess;
+
+/**
+ * An immutable word list with a hash index over its words.
+ *
+ * <p>The index is an open addressing table of positions in the list, keyed by {@link
+ * String#hashCode()}. Since strings cache their hash codes, checking if the list {@link #contains}
+ * a word costs a single hash computation of the guess and, on average, one {@link String#equals}
+ * call, so it's O(length) instead of the O(words) scan of a regular {@code List<String>}.
+ *
+ * <p>The index is built once, when the list is created. Because it's immutable, the same instance
+ * can be safely shared across all games created from the same list, also between threads. Use
+ * {@link #of(List)} to avoid building a new index for a list that is already indexed.
+ */
+public final class WordIndex extends AbstractList<String> implements RandomAccess {
+  private static final int EMPTY = -1;
+
+  private final String[] words;
+  private final int[] table;
+  private final int mask;
+
+  /**
+   * Wraps words with an index that was built before, e.g. read from a {@link BinaryWordList}.
+   *
+   * @param words the words of the list
+   * @param table the hash table of {@link #table()}, built for the same words
+   */
+  WordIndex(String[] words, int[] table) {
+    this.words = words;
+    this.table = table;
+    this.mask = table.length - 1;
+  }
+
+  private WordIndex(String[] words) {
+    this.words = words;
+
+    int capacity = Integer.highestOneBit(Math.max(words.length * 2, 2) - 1) << 1;
+    this.table = new int[capacity];
+    this.mask = capacity - 1;
+    Arrays.fill(table, EMPTY);
+
+    for (int i = 0; i < words.length; i++) {
+      int slot = slot(words[i]);
+
+      if (table[slot] == EMPTY) {
+        table[slot] = i;
+      }
+    }
+  }
+
+  /**
+   * Returns an index over the given words.
+   *
+   * <p>If the list is already a {@code WordIndex}, it's returned as is.
+   *
+   * @param words the words to index
+   * @return an immutable indexed list of the words, in the same order
+   */
+  public static WordIndex of(List<String> words) {
+    if (words instanceof WordIndex index) {
+      return index;
+    }
+
+    return new WordIndex(words.toArray(new String[0]));
+  }
+
+  @Override
+  public String get(int index) {
+    return words[index];
+  }
+
+  @Override
+  public int size() {
+    return words.length;
+  }
+
+  /**
+   * Checks if the list contains the given word, using the hash index.
+   *
+   * @param o the word to look for
+   * @return {@code true} if the word is in the list, {@code false} otherwise
+   */
+  @Override
+  public boolean contains(Object o) {
+    return indexOf(o) != EMPTY;
+  }
+
+  /**
+   * Returns the index of the first occurrence of the given word, using the hash index.
+   *
+   * @param o the word to look for
+   * @return the index of the word, or {@code -1} if it's not in the list
+   */
+  @Override
+  public int indexOf(Object o) {
+    if (!(o instanceof String word)) {
+      return EMPTY;
+    }
+
+    return table[slot(word)];
+  }
+
+  /**
+   * Returns the estimated memory footprint of the list.
+   *
+   * <p>Every word is counted as a compact {@code String} with its own byte array.
+   *
+   * @return the number of bytes used by the words and the index
+   */
+  public long getMemoryBytes() {
+    long bytes = 32 + (long) words.length * Integer.BYTES + (long) table.length * Integer.BYTES;
+
+    for (String word : words) {
+      bytes += 40 + word.length();
+    }
+
+    return bytes;
+  }
+
+  /**
+   * Returns the hash table of the index, which must not be modified.
+   *
+   * @return the positions of the words, in the slots of their hash codes
+   */
+  int[] table() {
+    return table;
+  }
+
+  private int slot(String word) {
+    int hash = word.hashCode();
+    int slot = (hash ^ (hash >>> 16)) & mask;
+
+    while (table[slot] != EMPTY && !words[table[slot]].equals(word)) {
+      slot = (slot + 1) & mask;
+    }
+
+    return slot;
+  }
+}
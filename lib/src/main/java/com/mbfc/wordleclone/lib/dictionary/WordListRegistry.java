@@ -0,0 +1,294 @@
+package com.mbfc.wordleclone.lib.dictionary;
+
+import java.io.IOException;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.ToLongFunction;
+
+/**
+ * A thread-safe registry of named lists, which are loaded lazily.
+ *
+ * <p>Registering a list only stores its {@link Loader}. The list is loaded by the first call of
+ * {@link #get} for its name, and the same instance is returned to all of the later callers. If
+ * several threads ask for a list that is not loaded yet, only one of them runs the loader and the
+ * others wait for its result. A loader that fails is run again on the next call. Loaders should
+ * return immutable lists, such as a {@link PackedWordDictionary} or a {@link WordIndex}, so that
+ * they can be shared by any number of games and threads.
+ *
+ * <p>Lists registered with {@link #registerEvictable} count towards a memory budget. When the
+ * loaded evictable lists exceed it, the least recently used ones are unloaded, and loaded again
+ * from their loaders when they are needed. Other lists are kept once they are loaded.
+ *
+ * @param <V> the type of the lists
+ */
+public final class WordListRegistry<V> {
+
+  /**
+   * Loads a list of the registry.
+   *
+   * @param <V> the type of the list
+   */
+  @FunctionalInterface
+  public interface Loader<V> {
+    /**
+     * Loads the list.
+     *
+     * @return the loaded list
+     * @throws IOException if the list cannot be loaded
+     */
+    V load() throws IOException;
+  }
+
+  private final ConcurrentMap<String, Entry<V>> entries = new ConcurrentHashMap<>();
+  private final ToLongFunction<? super V> weigher;
+  private final long budgetBytes;
+  private final AtomicLong clock = new AtomicLong();
+  private long evictableBytes;
+
+  /**
+   * Creates an empty registry.
+   *
+   * @param weigher estimates the number of bytes used by a list
+   * @param budgetBytes maximum number of bytes used by the loaded evictable lists
+   */
+  public WordListRegistry(ToLongFunction<? super V> weigher, long budgetBytes) {
+    this.weigher = weigher;
+    this.budgetBytes = budgetBytes;
+  }
+
+  /**
+   * Registers a list that is kept in memory once it's loaded.
+   *
+   * <p>A list that was registered with the same name before is replaced.
+   *
+   * @param name the name of the list
+   * @param loader loads the list on the first use
+   */
+  public void register(String name, Loader<? extends V> loader) {
+    put(new Entry<>(name, loader, false));
+  }
+
+  /**
+   * Registers a list that can be unloaded to stay within the memory budget.
+   *
+   * <p>A list that was registered with the same name before is replaced.
+   *
+   * @param name the name of the list
+   * @param loader loads the list on the first use, and again after it was unloaded
+   */
+  public void registerEvictable(String name, Loader<? extends V> loader) {
+    put(new Entry<>(name, loader, true));
+  }
+
+  /**
+   * Registers a list that is already loaded, and can be unloaded to stay within the memory budget.
+   *
+   * <p>A list that was registered with the same name before is replaced. Loading the list before
+   * registering it keeps the previous list if the new one cannot be loaded.
+   *
+   * @param name the name of the list
+   * @param loader loads the list again after it was unloaded
+   * @param list the loaded list
+   */
+  public void registerEvictable(String name, Loader<? extends V> loader, V list) {
+    Entry<V> entry = new Entry<>(name, loader, true);
+    entry.value = CompletableFuture.completedFuture(list);
+    entry.lastUsed = clock.incrementAndGet();
+
+    put(entry);
+    loaded(entry, list);
+  }
+
+  /**
+   * Returns the list with the given name, loading it if needed.
+   *
+   * @param name the name of the list
+   * @return the list, or {@code null} if no list with that name is registered
+   * @throws IOException if the list cannot be loaded
+   */
+  public V get(String name) throws IOException {
+    Entry<V> entry = entries.get(name);
+    if (entry == null) {
+      return null;
+    }
+    entry.lastUsed = clock.incrementAndGet();
+
+    CompletableFuture<V> value;
+    boolean owner = false;
+    synchronized (entry) {
+      if (entry.value == null) {
+        entry.value = new CompletableFuture<>();
+        owner = true;
+      }
+      value = entry.value;
+    }
+
+    if (owner) {
+      load(entry, value);
+    }
+
+    try {
+      return value.join();
+    } catch (CompletionException e) {
+      if (e.getCause() instanceof IOException cause) {
+        throw new IOException(cause.getMessage(), cause);
+      } else if (e.getCause() instanceof RuntimeException cause) {
+        throw cause;
+      }
+      throw e;
+    }
+  }
+
+  /**
+   * Checks if a list with the given name is registered.
+   *
+   * @param name the name of the list
+   * @return {@code true} if the list is registered, whether it's loaded or not
+   */
+  public boolean contains(String name) {
+    return entries.containsKey(name);
+  }
+
+  /**
+   * Checks if the list with the given name is loaded.
+   *
+   * @param name the name of the list
+   * @return {@code true} if the list is registered and loaded, or being loaded
+   */
+  public boolean isLoaded(String name) {
+    Entry<V> entry = entries.get(name);
+    if (entry == null) {
+      return false;
+    }
+
+    synchronized (entry) {
+      return entry.value != null;
+    }
+  }
+
+  /**
+   * Removes the list with the given name from the registry.
+   *
+   * @param name the name of the list
+   * @return {@code true} if the list was registered
+   */
+  public synchronized boolean remove(String name) {
+    Entry<V> entry = entries.remove(name);
+    if (entry == null) {
+      return false;
+    }
+
+    uncount(entry);
+    return true;
+  }
+
+  /**
+   * Returns the names of all of the registered lists, in alphabetical order.
+   *
+   * @return the names of the lists, loaded or not
+   */
+  public Set<String> names() {
+    return new TreeSet<>(entries.keySet());
+  }
+
+  /**
+   * Checks if no list is registered.
+   *
+   * @return {@code true} if the registry is empty
+   */
+  public boolean isEmpty() {
+    return entries.isEmpty();
+  }
+
+  /**
+   * Returns the estimated memory used by the loaded evictable lists.
+   *
+   * @return the number of bytes that count towards the budget
+   */
+  public synchronized long getEvictableBytes() {
+    return evictableBytes;
+  }
+
+  private synchronized void put(Entry<V> entry) {
+    Entry<V> previous = entries.put(entry.name, entry);
+
+    if (previous != null) {
+      uncount(previous);
+    }
+  }
+
+  private void load(Entry<V> entry, CompletableFuture<V> value) {
+    try {
+      V list = entry.loader.load();
+      value.complete(list);
+      loaded(entry, list);
+    } catch (IOException | RuntimeException e) {
+      synchronized (entry) {
+        entry.value = null;
+      }
+      value.completeExceptionally(e);
+    }
+  }
+
+  private synchronized void loaded(Entry<V> entry, V list) {
+    if (!entry.evictable || entries.get(entry.name) != entry) {
+      return;
+    }
+
+    entry.weight = weigher.applyAsLong(list);
+    entry.counted = true;
+    evictableBytes += entry.weight;
+
+    while (evictableBytes > budgetBytes) {
+      Entry<V> victim = null;
+
+      for (Entry<V> candidate : entries.values()) {
+        if (candidate != entry
+            && candidate.counted
+            && (victim == null || candidate.lastUsed < victim.lastUsed)) {
+          victim = candidate;
+        }
+      }
+      if (victim == null) {
+        break;
+      }
+
+      synchronized (victim) {
+        victim.value = null;
+      }
+      uncount(victim);
+    }
+  }
+
+  private void uncount(Entry<V> entry) {
+    if (entry.counted) {
+      evictableBytes -= entry.weight;
+      entry.counted = false;
+    }
+  }
+
+  private static final class Entry<V> {
+    private final String name;
+    private final Loader<? extends V> loader;
+    private final boolean evictable;
+    private volatile long lastUsed;
+
+    // guarded by the entry
+    private CompletableFuture<V> value;
+
+    // guarded by the registry
+    private long weight;
+    private boolean counted;
+
+    private Entry(String name, Loader<? extends V> loader, boolean evictable) {
+      this.name = name;
+      this.loader = loader;
+      this.evictable = evictable;
+    }
+  }
+}
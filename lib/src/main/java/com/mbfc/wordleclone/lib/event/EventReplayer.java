@@ -0,0 +1,199 @@
+package com.mbfc.wordleclone.lib.event;
+
+import com.mbfc.wordleclone.lib.comparator.ComparatorResult;
+import com.mbfc.wordleclone.lib.game.GameBoard;
+import com.mbfc.wordleclone.lib.util.Pair;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Reads the events of a {@link MappedEventLog} and rebuilds the boards of the games from them.
+ *
+ * <p>The replayer can be used as a tool:
+ *
+ * <pre>{@code
+ * java com.mbfc.wordleclone.lib.event.EventReplayer <log directory> [run id] [game id]
+ * }</pre>
+ *
+ * <p>Without a game, it prints every event of the log, one per line, with the run id in hex. With
+ * the run id and the id of a game, it prints the current board of the game.
+ */
+public final class EventReplayer {
+  private static final GameEventType[] TYPES = GameEventType.values();
+  private static final ComparatorResult[] RESULTS = ComparatorResult.values();
+
+  private EventReplayer() {}
+
+  /**
+   * Prints the events or a board of the log.
+   *
+   * @param args the directory of the log, and optionally the run id in hex and the id of a game
+   * @throws IOException if the log cannot be read
+   */
+  public static void main(String[] args) throws IOException {
+    if (args.length != 1 && args.length != 3) {
+      System.err.println("Usage: EventReplayer <log directory> [run id] [game id]");
+      System.exit(1);
+    }
+
+    Path directory = Path.of(args[0]);
+    if (args.length > 1) {
+      GameKey key = new GameKey(Long.parseUnsignedLong(args[1], 16), Long.parseLong(args[2]));
+      for (Pair<List<ComparatorResult>, String> row : replay(directory, key)) {
+        System.out.println(row.right() + " " + row.left());
+      }
+      return;
+    }
+
+    for (GameEvent event : read(directory)) {
+      System.out.println(
+          event.time()
+              + " "
+              + Long.toHexString(event.run())
+              + " "
+              + event.gameId()
+              + " "
+              + event.type()
+              + (event.type() == GameEventType.PLAY
+                  ? " " + event.guess() + " " + event.results()
+                  : ""));
+    }
+  }
+
+  /**
+   * Reads all of the events of the log.
+   *
+   * <p>Reading a segment stops at its unused end, or at a record that was not completely written.
+   *
+   * @param directory the directory of the log
+   * @return the events, in the order they were logged
+   * @throws IOException if the log cannot be read
+   */
+  public static List<GameEvent> read(Path directory) throws IOException {
+    List<GameEvent> events = new ArrayList<>();
+
+    for (Path segment : MappedEventLog.segments(directory)) {
+      try (FileChannel channel = FileChannel.open(segment, StandardOpenOption.READ)) {
+        MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        readSegment(buffer, events);
+      }
+    }
+
+    return events;
+  }
+
+  /**
+   * Rebuilds the boards of all of the games of the log.
+   *
+   * <p>A board holds the guesses of the current round of its game: it's cleared when a round is
+   * committed and when the game is reset. Games whose current round lost events, which the log
+   * marks with a {@link GameEventType#GAP}, are left out, since their boards cannot be rebuilt.
+   *
+   * @param events the events, in the order they were logged
+   * @return the boards by the keys of the games, in the order of their first events
+   */
+  public static Map<GameKey, GameBoard<String>> replay(List<GameEvent> events) {
+    Map<GameKey, GameBoard<String>> boards = new LinkedHashMap<>();
+    Set<GameKey> incomplete = new HashSet<>();
+
+    for (GameEvent event : events) {
+      if (event.type() == GameEventType.PLAY) {
+        boards
+            .computeIfAbsent(event.key(), key -> new GameBoard<>(String.class))
+            .add(event.results(), event.guess());
+      } else if (event.type() == GameEventType.GAP) {
+        boards.putIfAbsent(event.key(), new GameBoard<>(String.class));
+        incomplete.add(event.key());
+      } else {
+        boards.put(event.key(), new GameBoard<>(String.class));
+        incomplete.remove(event.key());
+      }
+    }
+
+    boards.keySet().removeAll(incomplete);
+    return boards;
+  }
+
+  /**
+   * Rebuilds the board of a single game of the log.
+   *
+   * @param directory the directory of the log
+   * @param key the run id of the log and the id of the game
+   * @return the current board of the game, empty if the game has no events
+   * @throws IOException if the log cannot be read, or lost events of the current round of the game
+   */
+  public static GameBoard<String> replay(Path directory, GameKey key) throws IOException {
+    List<GameEvent> events = new ArrayList<>();
+
+    for (GameEvent event : read(directory)) {
+      if (event.key().equals(key)) {
+        events.add(event);
+      }
+    }
+
+    GameBoard<String> board = replay(events).get(key);
+    if (board == null && !events.isEmpty()) {
+      throw new IOException("The log lost events of the current round of the game.");
+    }
+    return board != null ? board : new GameBoard<>(String.class);
+  }
+
+  private static void readSegment(ByteBuffer buffer, List<GameEvent> events) {
+    if (buffer.remaining() < MappedEventLog.SEGMENT_HEADER_SIZE) {
+      return;
+    }
+
+    final long run = buffer.getLong();
+    while (buffer.remaining() >= MappedEventLog.HEADER_SIZE) {
+      final int start = buffer.position();
+      int size = buffer.getInt();
+      if (size < MappedEventLog.HEADER_SIZE || size > buffer.remaining() + Integer.BYTES) {
+        return;
+      }
+
+      int type = buffer.get();
+      final long gameId = buffer.getLong();
+      final long time = buffer.getLong();
+      int resultCount = Short.toUnsignedInt(buffer.getShort());
+      if (type < 0 || type >= TYPES.length || resultCount > size - MappedEventLog.HEADER_SIZE) {
+        return;
+      }
+
+      List<ComparatorResult> results = new ArrayList<>(resultCount);
+      for (int i = 0; i < resultCount; i++) {
+        int result = buffer.get();
+        if (result < 0 || result >= RESULTS.length) {
+          return;
+        }
+        results.add(RESULTS[result]);
+      }
+
+      int guessLength = Short.toUnsignedInt(buffer.getShort());
+      if (start + size != buffer.position() + guessLength) {
+        return;
+      }
+      byte[] guess = new byte[guessLength];
+      buffer.get(guess);
+
+      events.add(
+          new GameEvent(
+              time,
+              run,
+              gameId,
+              TYPES[type],
+              new String(guess, StandardCharsets.UTF_8),
+              List.copyOf(results)));
+    }
+  }
+}
@@ -0,0 +1,32 @@
+package com.mbfc.wordleclone.lib.event;
+
+import com.mbfc.wordleclone.lib.comparator.ComparatorResult;
+import java.util.List;
+
+/**
+ * An event read back from an event log.
+ *
+ * @param time Time of the event, in milliseconds since the epoch.
+ * @param run Run id of the log that recorded the event, see {@link MappedEventLog#getRun()}.
+ * @param gameId Id of the game that emitted the event, see {@code Game#getId()}.
+ * @param type Type of the event.
+ * @param guess The guess as typed by the player, empty for events other than {@code PLAY}.
+ * @param results Results of the guess, empty for events other than {@code PLAY}.
+ */
+public record GameEvent(
+    long time,
+    long run,
+    long gameId,
+    GameEventType type,
+    String guess,
+    List<ComparatorResult> results) {
+
+  /**
+   * Returns the key of the game that emitted the event.
+   *
+   * @return the run id and the game id of the event
+   */
+  public GameKey key() {
+    return new GameKey(run, gameId);
+  }
+}
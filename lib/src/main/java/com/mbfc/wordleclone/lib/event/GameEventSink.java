@@ -0,0 +1,27 @@
+package com.mbfc.wordleclone.lib.event;
+
+import com.mbfc.wordleclone.lib.comparator.ComparatorResult;
+import java.util.List;
+
+/**
+ * Receives the events of games.
+ *
+ * <p>The sink is called on the thread that plays the game, in the middle of the guess loop, so it
+ * should return quickly, and it must be thread safe if it's shared by many games. The event is
+ * passed as arguments rather than as an object, so that emitting it doesn't allocate.
+ *
+ * @see com.mbfc.wordleclone.lib.game.Game#setEventSink
+ */
+@FunctionalInterface
+public interface GameEventSink {
+
+  /**
+   * Receives an event.
+   *
+   * @param gameId id of the game that emitted the event
+   * @param type type of the event
+   * @param guess the guess as typed by the player, empty for events other than {@code PLAY}
+   * @param results results of the guess, empty for events other than {@code PLAY}
+   */
+  void accept(long gameId, GameEventType type, String guess, List<ComparatorResult> results);
+}
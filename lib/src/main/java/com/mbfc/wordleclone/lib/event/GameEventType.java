@@ -0,0 +1,20 @@
+package com.mbfc.wordleclone.lib.event;
+
+/**
+ * Types of the events emitted by games.
+ *
+ * <ul>
+ *   <li>{@code PLAY} - a guess was played and added to the board.
+ *   <li>{@code COMMIT_ROUND} - a round of an endless game was won and the next one started with an
+ *       empty board.
+ *   <li>{@code RESET} - the game was reset to its initial state with an empty board.
+ *   <li>{@code GAP} - events of the game were dropped before this one. It's never emitted by the
+ *       games, but written by the {@link MappedEventLog} in place of the events it dropped.
+ * </ul>
+ */
+public enum GameEventType {
+  PLAY,
+  COMMIT_ROUND,
+  RESET,
+  GAP
+}
@@ -0,0 +1,12 @@
+package com.mbfc.wordleclone.lib.event;
+
+/**
+ * Identifies a game in an event log.
+ *
+ * <p>The ids of games start over in every process, so the same id can belong to different games of
+ * different runs of a log. Together with the run id of the log, it's unique.
+ *
+ * @param run Run id of the log, see {@link MappedEventLog#getRun()}.
+ * @param gameId Id of the game within the run, see {@code Game#getId()}.
+ */
+public record GameKey(long run, long gameId) {}
@@ -0,0 +1,460 @@
+package com.mbfc.wordleclone.lib.event;
+
+import com.mbfc.wordleclone.lib.comparator.ComparatorResult;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.security.SecureRandom;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * An event sink writing length-prefixed binary records to rolling, memory-mapped log files.
+ *
+ * <p>The log is a directory of segments named {@code events-000001.log}, {@code events-000002.log}
+ * and so on. Every segment is mapped into memory with a fixed size, and once the next record
+ * doesn't fit, the log rolls over to the next segment. A new log always starts a new segment after
+ * the existing ones, so the records of earlier runs are kept. The unused end of a segment is filled
+ * with zeros.
+ *
+ * <p>The ids of games are only unique within a process, so every log draws a random 64-bit run id
+ * when it's opened, and writes it at the start of each of its segments. The run id and the game id
+ * together identify a game across all of the runs of a log, see {@link GameKey}.
+ *
+ * <p>A record is laid out as:
+ *
+ * <ol>
+ *   <li>{@code int} - length of the whole record, in bytes.
+ *   <li>{@code byte} - ordinal of the {@link GameEventType}.
+ *   <li>{@code long} - id of the game.
+ *   <li>{@code long} - time of the event, in milliseconds since the epoch.
+ *   <li>{@code short} - number of results, followed by the ordinal of every {@link
+ *       ComparatorResult}, a byte each.
+ *   <li>{@code short} - length of the guess, followed by the guess in UTF-8.
+ * </ol>
+ *
+ * <p>Logging is asynchronous. The games encode their events into an in-memory buffer, which a
+ * background thread swaps with a second one and copies into the mapped segment, so a guess only
+ * waits for a short lock and never for the disk, and no objects are allocated for guesses in ASCII.
+ * If the games produce events faster than they are written, and the buffer fills up, the new events
+ * are dropped and counted instead of slowing the games down, see {@link #getDropped()}. The log
+ * remembers the games that lost events, and writes a {@link GameEventType#GAP} record for each of
+ * them before their next event, or as soon as the buffer has room, so that a reader knows their
+ * boards are incomplete.
+ *
+ * <p>Records are in the page cache as soon as they are copied, so they survive a crash of the
+ * process. A full segment is forced to the disk by a second background thread, so that rolling over
+ * doesn't stall the writer, and the last one when the log is closed.
+ */
+public class MappedEventLog implements GameEventSink, Closeable {
+
+  /** Default size of a segment, in bytes. */
+  public static final int DEFAULT_SEGMENT_SIZE = 16 << 20;
+
+  /** Default size of the in-memory buffer, in bytes. */
+  public static final int DEFAULT_BUFFER_SIZE = 1 << 20;
+
+  /** Size of the header of a segment, the run id. */
+  static final int SEGMENT_HEADER_SIZE = Long.BYTES;
+
+  /** Size of a record without the results and the guess. */
+  static final int HEADER_SIZE = Integer.BYTES + 1 + 2 * Long.BYTES + 2 * Short.BYTES;
+
+  private static final String PREFIX = "events-";
+  private static final String SUFFIX = ".log";
+  private static final int MAX_FIELD_LENGTH = 0xFFFF;
+
+  private final Path directory;
+  private final int segmentSize;
+  private final long run = new SecureRandom().nextLong();
+  private final ReentrantLock lock = new ReentrantLock();
+  private final Condition pending = lock.newCondition();
+  private final Condition drained = lock.newCondition();
+  private final Thread writer;
+  private final ExecutorService syncer =
+      Executors.newSingleThreadExecutor(
+          task -> {
+            Thread thread = new Thread(task, "wordle-event-log-sync");
+            thread.setDaemon(true);
+            return thread;
+          });
+
+  // guarded by lock
+  private final Set<Long> gaps = new LinkedHashSet<>();
+  private ByteBuffer front;
+  private ByteBuffer back;
+  private boolean writing;
+  private boolean closed;
+  private long dropped;
+  private IOException failure;
+
+  // owned by the writer thread
+  private MappedByteBuffer segment;
+  private int segmentIndex;
+
+  /**
+   * Opens a log with segments of {@value #DEFAULT_SEGMENT_SIZE} bytes.
+   *
+   * @param directory the directory of the log, created if it doesn't exist
+   * @throws IOException if the first segment cannot be created
+   */
+  public MappedEventLog(Path directory) throws IOException {
+    this(directory, DEFAULT_SEGMENT_SIZE, DEFAULT_BUFFER_SIZE);
+  }
+
+  /**
+   * Opens a log and starts its writer thread.
+   *
+   * @param directory the directory of the log, created if it doesn't exist
+   * @param segmentSize size of a segment, in bytes
+   * @param bufferSize size of the in-memory buffer, in bytes, which bounds the events waiting to be
+   *     written
+   * @throws IOException if the first segment cannot be created
+   * @throws IllegalArgumentException if a segment or the buffer cannot hold a record
+   */
+  public MappedEventLog(Path directory, int segmentSize, int bufferSize) throws IOException {
+    if (segmentSize < SEGMENT_HEADER_SIZE + HEADER_SIZE || bufferSize < HEADER_SIZE) {
+      throw new IllegalArgumentException("Segment and buffer must hold at least one record.");
+    }
+
+    this.directory = directory;
+    this.segmentSize = segmentSize;
+    this.front = ByteBuffer.allocate(bufferSize);
+    this.back = ByteBuffer.allocate(bufferSize);
+
+    Files.createDirectories(directory);
+    for (Path existing : segments(directory)) {
+      segmentIndex = Math.max(segmentIndex, indexOf(existing));
+    }
+    roll();
+
+    this.writer = new Thread(this::writeLoop, "wordle-event-log");
+    this.writer.setDaemon(true);
+    this.writer.start();
+  }
+
+  /**
+   * Returns the segments of a log.
+   *
+   * @param directory the directory of the log
+   * @return the paths of the segments, in the order they were written
+   * @throws IOException if the directory cannot be listed
+   */
+  public static List<Path> segments(Path directory) throws IOException {
+    List<Path> segments = new ArrayList<>();
+
+    try (DirectoryStream<Path> stream =
+        Files.newDirectoryStream(directory, PREFIX + "*" + SUFFIX)) {
+      for (Path path : stream) {
+        if (indexOf(path) > 0) {
+          segments.add(path);
+        }
+      }
+    }
+
+    segments.sort((a, b) -> Integer.compare(indexOf(a), indexOf(b)));
+    return segments;
+  }
+
+  /**
+   * Returns the run id of the log, written at the start of its segments.
+   *
+   * @return the random id of this run of the log
+   */
+  public long getRun() {
+    return run;
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public void accept(
+      long gameId, GameEventType type, String guess, List<ComparatorResult> results) {
+    boolean ascii = isAscii(guess);
+    // only guesses outside of ASCII are encoded up front
+    byte[] encoded = ascii ? null : guess.getBytes(StandardCharsets.UTF_8);
+    int guessLength = ascii ? guess.length() : encoded.length;
+    int size = HEADER_SIZE + results.size() + guessLength;
+    long time = System.currentTimeMillis();
+
+    lock.lock();
+    try {
+      if (closed) {
+        dropped++;
+        return;
+      }
+
+      // the gap of a game is written before its next event
+      boolean gap = !gaps.isEmpty() && gaps.contains(gameId);
+      if (results.size() > MAX_FIELD_LENGTH
+          || guessLength > MAX_FIELD_LENGTH
+          || size > segmentSize - SEGMENT_HEADER_SIZE
+          || size + (gap ? HEADER_SIZE : 0) > front.remaining()) {
+        dropped++;
+        gaps.add(gameId);
+        return;
+      }
+
+      final boolean wasEmpty = front.position() == 0;
+      if (gap) {
+        putGap(gameId, time);
+        gaps.remove(gameId);
+      }
+      front.putInt(size).put((byte) type.ordinal()).putLong(gameId).putLong(time);
+      front.putShort((short) results.size());
+      for (int i = 0; i < results.size(); i++) {
+        front.put((byte) results.get(i).ordinal());
+      }
+      front.putShort((short) guessLength);
+      if (ascii) {
+        for (int i = 0; i < guessLength; i++) {
+          front.put((byte) guess.charAt(i));
+        }
+      } else {
+        front.put(encoded);
+      }
+
+      if (wasEmpty) {
+        pending.signal();
+      }
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  /**
+   * Waits until all of the events accepted so far are written to the log.
+   *
+   * @throws IOException if the log cannot be written
+   * @throws InterruptedException if the thread is interrupted while waiting
+   */
+  public void flush() throws IOException, InterruptedException {
+    lock.lock();
+    try {
+      while ((front.position() > 0 || writing) && failure == null) {
+        drained.await();
+      }
+
+      if (failure != null) {
+        throw failure;
+      }
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  /**
+   * Returns the number of events that were not logged, because the buffer was full, the event was
+   * too large, the log was closed or it could not be written.
+   *
+   * @return the number of dropped events
+   */
+  public long getDropped() {
+    lock.lock();
+    try {
+      return dropped;
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  /**
+   * Writes the remaining events, forces the segments to the disk and stops the writer.
+   *
+   * <p>Events accepted after the log is closed are dropped.
+   *
+   * @throws IOException if the log cannot be written
+   */
+  @Override
+  public void close() throws IOException {
+    lock.lock();
+    try {
+      closed = true;
+      pending.signal();
+    } finally {
+      lock.unlock();
+    }
+
+    try {
+      writer.join();
+      syncer.shutdown();
+      syncer.awaitTermination(Long.MAX_VALUE, TimeUnit.NANOSECONDS);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new IOException("Interrupted while closing the event log.", e);
+    }
+
+    lock.lock();
+    try {
+      if (failure != null) {
+        throw failure;
+      }
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  private void writeLoop() {
+    while (true) {
+      ByteBuffer batch;
+
+      lock.lock();
+      try {
+        while (front.position() == 0 && !closed) {
+          pending.awaitUninterruptibly();
+        }
+        writeGaps();
+        if (front.position() == 0) {
+          segment.force();
+          drained.signalAll();
+          return;
+        }
+
+        batch = front;
+        front = back;
+        back = batch;
+        writing = true;
+      } finally {
+        lock.unlock();
+      }
+
+      IOException error = write(batch.flip());
+      batch.clear();
+
+      lock.lock();
+      try {
+        writing = false;
+        if (error != null && failure == null) {
+          failure = error;
+        }
+        drained.signalAll();
+      } finally {
+        lock.unlock();
+      }
+    }
+  }
+
+  private void writeGaps() {
+    long time = System.currentTimeMillis();
+
+    for (Iterator<Long> ids = gaps.iterator();
+        ids.hasNext() && front.remaining() >= HEADER_SIZE; ) {
+      putGap(ids.next(), time);
+      ids.remove();
+    }
+  }
+
+  private void putGap(long gameId, long time) {
+    front.putInt(HEADER_SIZE).put((byte) GameEventType.GAP.ordinal()).putLong(gameId);
+    front.putLong(time).putShort((short) 0).putShort((short) 0);
+  }
+
+  private IOException write(ByteBuffer batch) {
+    while (batch.hasRemaining()) {
+      // copy as many whole records as fit into the segment at once
+      int end = batch.position();
+      while (end < batch.limit()
+          && end + batch.getInt(end) - batch.position() <= segment.remaining()) {
+        end += batch.getInt(end);
+      }
+
+      if (end > batch.position()) {
+        int limit = batch.limit();
+        segment.put(batch.limit(end));
+        batch.limit(limit);
+        continue;
+      }
+
+      try {
+        MappedByteBuffer full = segment;
+        roll();
+        syncer.execute(() -> force(full));
+      } catch (IOException e) {
+        lock.lock();
+        try {
+          drop(batch);
+        } finally {
+          lock.unlock();
+        }
+        return e;
+      }
+    }
+
+    return null;
+  }
+
+  private void force(MappedByteBuffer full) {
+    try {
+      full.force();
+    } catch (UncheckedIOException e) {
+      lock.lock();
+      try {
+        if (failure == null) {
+          failure = e.getCause();
+        }
+      } finally {
+        lock.unlock();
+      }
+    }
+  }
+
+  private void roll() throws IOException {
+    segmentIndex++;
+    Path path = directory.resolve(String.format("%s%06d%s", PREFIX, segmentIndex, SUFFIX));
+
+    try (FileChannel channel =
+        FileChannel.open(
+            path,
+            StandardOpenOption.CREATE_NEW,
+            StandardOpenOption.READ,
+            StandardOpenOption.WRITE)) {
+      // the mapping stays valid after the channel is closed
+      segment = channel.map(FileChannel.MapMode.READ_WRITE, 0, segmentSize);
+    }
+    segment.putLong(run);
+  }
+
+  private void drop(ByteBuffer batch) {
+    for (int i = batch.position(); i < batch.limit(); i += batch.getInt(i)) {
+      if (batch.get(i + Integer.BYTES) != GameEventType.GAP.ordinal()) {
+        dropped++;
+      }
+      gaps.add(batch.getLong(i + Integer.BYTES + 1));
+    }
+  }
+
+  private static boolean isAscii(String value) {
+    for (int i = 0; i < value.length(); i++) {
+      if (value.charAt(i) >= 0x80) {
+        return false;
+      }
+    }
+
+    return true;
+  }
+
+  private static int indexOf(Path segment) {
+    String name = segment.getFileName().toString();
+
+    try {
+      return Integer.parseInt(name.substring(PREFIX.length(), name.length() - SUFFIX.length()));
+    } catch (NumberFormatException | IndexOutOfBoundsException e) {
+      return -1;
+    }
+  }
+}
@@ -0,0 +1,35 @@
+package com.mbfc.wordleclone.lib.game;
+
+import com.mbfc.wordleclone.lib.comparator.ComparatorResult;
+import java.util.List;
+
+/**
+ * Keeps track of the values that are still possible targets of a game.
+ *
+ * <p>A filter is attached to a {@link GameBoard}, which calls {@link #apply} with every guess added
+ * to it, so the filter only has to narrow down the candidates it already has instead of checking
+ * the whole history of the board again.
+ *
+ * @param <T> the type of each guess
+ * @see Game#setCandidateFilter
+ */
+public interface CandidateFilter<T> {
+
+  /**
+   * Removes the candidates that would give a different result for the guess.
+   *
+   * @param result the result of comparing the guess against the target
+   * @param guess the player's guess
+   */
+  void apply(List<ComparatorResult> result, T guess);
+
+  /**
+   * Returns the number of values that are still possible targets.
+   *
+   * @return the number of remaining candidates
+   */
+  int remaining();
+
+  /** Restores all values as candidates. */
+  void reset();
+}
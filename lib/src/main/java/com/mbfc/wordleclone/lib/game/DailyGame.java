@@ -0,0 +1,76 @@
+package com.mbfc.wordleclone.lib.game;
+
+import com.mbfc.wordleclone.lib.comparator.Comparator;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+/**
+ * An implementation of the {@link Game} class using strings.
+ *
+ * <p>This class implements a logic for a daily wordle game. It follows the rules of the {@link
+ * SimpleGame}, but the target isn't random: every player gets the same target on the same day,
+ * looked up in a {@link DailySchedule} of the guess list. Resetting the game starts the same puzzle
+ * over.
+ */
+public class DailyGame extends SimpleGame {
+  private final DailySchedule<String> schedule;
+  private final LocalDate date;
+
+  /**
+   * Creates a new game with today's puzzle, using the cached schedule of the guess list.
+   *
+   * @param comparator {@code String} comparator that determines correctness of the guess
+   * @param guessList the {@code List<String>} of valid guesses
+   * @param tries the maximum number of guesses that user can make
+   */
+  public DailyGame(Comparator<String> comparator, List<String> guessList, int tries)
+      throws NoSuchElementException {
+    this(comparator, guessList, tries, DailySchedule.of(guessList), DailySchedule.today());
+  }
+
+  /**
+   * Creates a new game with the puzzle of the given day.
+   *
+   * @param comparator {@code String} comparator that determines correctness of the guess
+   * @param guessList the {@code List<String>} of valid guesses
+   * @param tries the maximum number of guesses that user can make
+   * @param schedule the schedule of the targets
+   * @param date the day of the puzzle
+   */
+  public DailyGame(
+      Comparator<String> comparator,
+      List<String> guessList,
+      int tries,
+      DailySchedule<String> schedule,
+      LocalDate date)
+      throws NoSuchElementException {
+    super(comparator, guessList, tries);
+
+    this.schedule = schedule;
+    this.date = date;
+
+    selectRandomTarget();
+  }
+
+  public DailySchedule<String> getSchedule() {
+    return schedule;
+  }
+
+  public LocalDate getDate() {
+    return date;
+  }
+
+  /**
+   * Selects the target of the day from the schedule.
+   *
+   * @throws NoSuchElementException if the schedule is empty
+   */
+  @Override
+  protected void selectRandomTarget() throws NoSuchElementException {
+    // called by the Game constructor before the schedule is set
+    if (schedule != null) {
+      target = schedule.get(date);
+    }
+  }
+}
@@ -0,0 +1,84 @@
+package com.mbfc.wordleclone.lib.game;
+
+import com.mbfc.wordleclone.lib.comparator.Comparator;
+import com.mbfc.wordleclone.lib.json.Field;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.TreeMap;
+
+/**
+ * An implementation of the {@link Game} class using objects.
+ *
+ * <p>This class implements a logic for a daily object wordle game. It follows the rules of the
+ * {@link SimpleObjectGame}, but every player gets the same target on the same day, looked up in a
+ * {@link DailySchedule} of the guess list. Resetting the game starts the same puzzle over.
+ */
+public class DailyObjectGame extends SimpleObjectGame {
+  private final DailySchedule<TreeMap<String, Field>> schedule;
+  private final LocalDate date;
+
+  /**
+   * Creates a new game with today's puzzle, using the cached schedule of the guess list.
+   *
+   * @param comparator comparator that determines correctness of the guess
+   * @param guessList the list of valid guesses
+   * @param tries the maximum number of guesses that user can make
+   * @param key the key of the value that player tries to guess
+   */
+  public DailyObjectGame(
+      Comparator<TreeMap<String, Field>> comparator,
+      List<TreeMap<String, Field>> guessList,
+      int tries,
+      String key)
+      throws NoSuchElementException {
+    this(comparator, guessList, tries, key, DailySchedule.of(guessList), DailySchedule.today());
+  }
+
+  /**
+   * Creates a new game with the puzzle of the given day.
+   *
+   * @param comparator comparator that determines correctness of the guess
+   * @param guessList the list of valid guesses
+   * @param tries the maximum number of guesses that user can make
+   * @param key the key of the value that player tries to guess
+   * @param schedule the schedule of the targets
+   * @param date the day of the puzzle
+   */
+  public DailyObjectGame(
+      Comparator<TreeMap<String, Field>> comparator,
+      List<TreeMap<String, Field>> guessList,
+      int tries,
+      String key,
+      DailySchedule<TreeMap<String, Field>> schedule,
+      LocalDate date)
+      throws NoSuchElementException {
+    super(comparator, guessList, tries, key);
+
+    this.schedule = schedule;
+    this.date = date;
+
+    selectRandomTarget();
+  }
+
+  public DailySchedule<TreeMap<String, Field>> getSchedule() {
+    return schedule;
+  }
+
+  public LocalDate getDate() {
+    return date;
+  }
+
+  /**
+   * Selects the target of the day from the schedule.
+   *
+   * @throws NoSuchElementException if the schedule is empty
+   */
+  @Override
+  protected void selectRandomTarget() throws NoSuchElementException {
+    // called by the Game constructor before the schedule is set
+    if (schedule != null) {
+      target = schedule.get(date);
+    }
+  }
+}
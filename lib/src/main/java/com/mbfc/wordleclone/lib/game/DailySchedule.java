@@ -0,0 +1,158 @@
+package com.mbfc.wordleclone.lib.game;
+
+import com.mbfc.wordleclone.lib.util.SeededRandom;
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+
+/**
+ * The targets of the daily puzzles of a list, one per day.
+ *
+ * <p>The schedule is a shuffled order of the positions of the list, computed once, and the target
+ * of a day is the element at the position of the day in that order, so looking it up takes constant
+ * time, and every element is the target once before any of them repeats. The schedule reads the
+ * targets from the list itself, which must not change, so that a packed list is never decoded as a
+ * whole. The shuffle is driven by a {@link SeededRandom}, not by a JDK generator, so the same list
+ * and seed give the same targets in every JVM and after every restart.
+ *
+ * <p>Schedules created with {@link #of} use the {@link #DEFAULT_SEED}, and their orders are cached
+ * by the identity of the list, so, like a {@link com.mbfc.wordleclone.lib.dictionary.WordIndex},
+ * the list should be built once and shared by all games created from it. The cache holds the lists
+ * weakly, and an order is dropped once its list is no longer used. Schedules of other seeds are
+ * created with the constructor and not cached, so the cache holds at most one order per list.
+ *
+ * @param <T> the type of the targets
+ */
+public final class DailySchedule<T> {
+
+  /** The seed of the schedules, if none is given. */
+  public static final long DEFAULT_SEED = 0x5EED_DA11L;
+
+  // guarded by itself
+  private static final Map<Key, int[]> CACHE = new HashMap<>();
+  private static final ReferenceQueue<List<?>> CLEARED = new ReferenceQueue<>();
+
+  private final List<T> list;
+  private final int[] order;
+  private final long seed;
+
+  /**
+   * Creates an uncached schedule of the list.
+   *
+   * @param list the possible targets, in their canonical order
+   * @param seed the seed of the shuffle
+   */
+  public DailySchedule(List<T> list, long seed) {
+    this(list, seed, shuffle(list.size(), seed));
+  }
+
+  private DailySchedule(List<T> list, long seed, int[] order) {
+    this.list = list;
+    this.order = order;
+    this.seed = seed;
+  }
+
+  /**
+   * Returns the cached schedule of the list with the {@link #DEFAULT_SEED}.
+   *
+   * @param list the possible targets, in their canonical order
+   * @param <T> the type of the targets
+   * @return the schedule, computed on the first call for the list
+   */
+  public static <T> DailySchedule<T> of(List<T> list) {
+    int[] order;
+
+    synchronized (CACHE) {
+      for (Reference<?> cleared = CLEARED.poll(); cleared != null; cleared = CLEARED.poll()) {
+        CACHE.remove(cleared);
+      }
+
+      // the cache holds only the order, a schedule would keep its list reachable
+      order = CACHE.computeIfAbsent(new Key(list), key -> shuffle(list.size(), DEFAULT_SEED));
+    }
+
+    return new DailySchedule<>(list, DEFAULT_SEED, order);
+  }
+
+  /**
+   * Returns the current date in UTC, so that all players share the same daily puzzle.
+   *
+   * @return the date of today's puzzle
+   */
+  public static LocalDate today() {
+    return LocalDate.now(ZoneOffset.UTC);
+  }
+
+  /**
+   * Returns the target of the puzzle of the given day.
+   *
+   * @param date the day of the puzzle
+   * @return the target
+   * @throws NoSuchElementException if the list is empty
+   */
+  public T get(LocalDate date) throws NoSuchElementException {
+    if (order.length == 0) {
+      throw new NoSuchElementException("Cannot select the daily target. The list is empty.");
+    }
+
+    return list.get(order[(int) Math.floorMod(date.toEpochDay(), (long) order.length)]);
+  }
+
+  public long getSeed() {
+    return seed;
+  }
+
+  public int size() {
+    return order.length;
+  }
+
+  private static int[] shuffle(int size, long seed) {
+    int[] order = new int[size];
+    for (int i = 0; i < size; i++) {
+      order[i] = i;
+    }
+    SeededRandom random = new SeededRandom(seed);
+
+    // Fisher-Yates shuffle
+    for (int i = size - 1; i > 0; i--) {
+      int j = bounded(random.nextLong(), i + 1);
+      int swapped = order[i];
+      order[i] = order[j];
+      order[j] = swapped;
+    }
+
+    return order;
+  }
+
+  private static int bounded(long random, int bound) {
+    // the top 31 bits scaled to [0, bound)
+    return (int) (((random >>> 33) * bound) >>> 31);
+  }
+
+  /** Key of the cache, referencing the list weakly and comparing it by identity. */
+  private static final class Key extends WeakReference<List<?>> {
+    private final int hash;
+
+    private Key(List<?> list) {
+      super(list, CLEARED);
+      this.hash = System.identityHashCode(list);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+      // a cleared key is only equal to itself, so that it can be removed
+      return other == this || other instanceof Key key && get() != null && key.get() == get();
+    }
+
+    @Override
+    public int hashCode() {
+      return hash;
+    }
+  }
+}
@@ -3,8 +3,13 @@ package com.mbfc.wordleclone.lib.game;
 import com.mbfc.wordleclone.lib.comparator.Comparator;
 import com.mbfc.wordleclone.lib.comparator.ComparatorResult;
 import com.mbfc.wordleclone.lib.comparator.CompareException;
+import com.mbfc.wordleclone.lib.comparator.PackedResults;
+import com.mbfc.wordleclone.lib.event.GameEventType;
+import com.mbfc.wordleclone.lib.metrics.Metrics;
+import com.mbfc.wordleclone.lib.util.RandomGen;
 import java.util.List;
 import java.util.NoSuchElementException;
+import java.util.random.RandomGenerator;
 
 /**
  * Abstract class defining the common structure and logic for games in endless mode. It manages the
@@ -35,7 +40,28 @@ public abstract class EndlessGame<T, U> extends Game<T, U> {
   public EndlessGame(
       Class<?> type, Comparator<T> comparator, U guessList, int initialTries, int bonusTriesOnWin)
       throws NoSuchElementException {
-    super(type, comparator, guessList, initialTries);
+    this(type, comparator, guessList, initialTries, bonusTriesOnWin, RandomGen.split());
+  }
+
+  /**
+   * Tworzy instancję gry endless, która losuje cele podanym generatorem.
+   *
+   * @param type typ elementów do gry
+   * @param comparator obiekt porównujący zgadywany wyraz z celem
+   * @param guessList lista z poprawnymi wyrazami (może być null w przypadku EndlessRandomGame)
+   * @param initialTries początkowa liczba żyć
+   * @param bonusTriesOnWin bonus żyć przy trafieniu rundy
+   * @param random generator używany do losowania celów
+   */
+  public EndlessGame(
+      Class<?> type,
+      Comparator<T> comparator,
+      U guessList,
+      int initialTries,
+      int bonusTriesOnWin,
+      RandomGenerator random)
+      throws NoSuchElementException {
+    super(type, comparator, guessList, initialTries, random);
     this.initialLives = initialTries; // zapisujemy początkową wartość
     this.score = 0;
     this.lastRoundResult = null;
@@ -54,16 +80,15 @@ public abstract class EndlessGame<T, U> extends Game<T, U> {
    */
   @Override
   public final void play(String guess) throws CompareException, GameException {
-    T convertedGuess = convertGuess(guess);
-    validate(convertedGuess);
+    T convertedGuess = checkGuess(guess);
 
     lives--;
     triesUsed++;
 
-    List<ComparatorResult> result = comparator.compare(convertedGuess, target);
+    List<ComparatorResult> result = compareToTarget(convertedGuess);
     board.add(result, convertedGuess);
 
-    boolean roundWon = result.stream().allMatch(x -> x.equals(ComparatorResult.CORRECT));
+    boolean roundWon = PackedResults.allCorrect(result);
 
     if (roundWon) {
       attemptsTaken = triesUsed;
@@ -72,6 +97,8 @@ public abstract class EndlessGame<T, U> extends Game<T, U> {
       this.gameFinished = true;
       this.playerWon = false;
     }
+
+    emit(GameEventType.PLAY, guess, result);
   }
 
   /**
@@ -81,6 +108,7 @@ public abstract class EndlessGame<T, U> extends Game<T, U> {
    * performs the following actions:
    *
    * <ul>
+   *   <li>Records the number of guesses of the round in the {@link Metrics}.
    *   <li>Increments the overall score by one.
    *   <li>Adds a bonus number of lives (specified by {@code bonusTriesOnWin}) to the current lives.
    *   <li>Resets the {@code roundComplete} flag to indicate that the current round is no longer
@@ -96,10 +124,12 @@ public abstract class EndlessGame<T, U> extends Game<T, U> {
    */
   public final void commitRound() {
     if (roundComplete) {
+      Metrics.recordRoundLength(attemptsTaken);
       score++;
       lives += bonusTriesOnWin;
       roundComplete = false;
       resetRound();
+      emit(GameEventType.COMMIT_ROUND, "", List.of());
     }
   }
 
@@ -108,7 +138,7 @@ public abstract class EndlessGame<T, U> extends Game<T, U> {
    * consistent behavior.
    */
   protected final void resetRound() {
-    this.board = new GameBoard<>(getBoard().getType());
+    clearBoard();
     this.triesUsed = 0;
     selectRandomTarget();
   }
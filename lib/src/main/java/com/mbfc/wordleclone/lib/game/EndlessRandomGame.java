@@ -4,6 +4,7 @@ import com.mbfc.wordleclone.lib.comparator.Comparator;
 import com.mbfc.wordleclone.lib.util.RandomGen;
 import java.util.List;
 import java.util.NoSuchElementException;
+import java.util.random.RandomGenerator;
 
 /**
  * Concrete class implementing endless mode for a randomized word game. It combines the mechanics of
@@ -28,7 +29,27 @@ public class EndlessRandomGame extends EndlessGame<String, List<String>> {
   public EndlessRandomGame(
       Comparator<String> comparator, int initialTries, int bonusTriesOnWin, int length)
       throws NoSuchElementException {
-    super(String.class, comparator, null, initialTries, bonusTriesOnWin);
+    this(comparator, initialTries, bonusTriesOnWin, length, RandomGen.split());
+  }
+
+  /**
+   * Creates a new instance of EndlessRandomGame, which generates its targets with the given
+   * generator.
+   *
+   * @param comparator the String comparator that determines the correctness of a guess
+   * @param initialTries the initial number of tries (lives)
+   * @param bonusTriesOnWin the bonus lives awarded when a round is won
+   * @param length the desired length of the randomly generated target word
+   * @param random the generator used to generate the targets
+   */
+  public EndlessRandomGame(
+      Comparator<String> comparator,
+      int initialTries,
+      int bonusTriesOnWin,
+      int length,
+      RandomGenerator random)
+      throws NoSuchElementException {
+    super(String.class, comparator, null, initialTries, bonusTriesOnWin, random);
     this.length = length;
     selectRandomTarget(); // Select the first target word
   }
@@ -57,7 +78,7 @@ public class EndlessRandomGame extends EndlessGame<String, List<String>> {
   /** Selects a new random target word by generating a random string of the configured length. */
   @Override
   protected void selectRandomTarget() throws NoSuchElementException {
-    target = RandomGen.generate(length);
+    target = RandomGen.generate(length, random);
   }
 
   /**
@@ -81,4 +102,13 @@ public class EndlessRandomGame extends EndlessGame<String, List<String>> {
   public String getTarget() {
     return target;
   }
+
+  /**
+   * Returns the length of the generated target words.
+   *
+   * @return the length of the target words
+   */
+  public int getLength() {
+    return length;
+  }
 }
@@ -3,8 +3,18 @@ package com.mbfc.wordleclone.lib.game;
 import com.mbfc.wordleclone.lib.comparator.Comparator;
 import com.mbfc.wordleclone.lib.comparator.ComparatorResult;
 import com.mbfc.wordleclone.lib.comparator.CompareException;
+import com.mbfc.wordleclone.lib.comparator.PackedComparator;
+import com.mbfc.wordleclone.lib.comparator.PackedResults;
+import com.mbfc.wordleclone.lib.event.GameEventSink;
+import com.mbfc.wordleclone.lib.event.GameEventType;
+import com.mbfc.wordleclone.lib.metrics.Metrics;
+import com.mbfc.wordleclone.lib.util.Pair;
+import com.mbfc.wordleclone.lib.util.RandomGen;
+import com.mbfc.wordleclone.lib.util.SeededRandom;
 import java.util.List;
 import java.util.NoSuchElementException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.random.RandomGenerator;
 
 /**
  * An abstract base class representing a generic game framework.
@@ -15,6 +25,7 @@ import java.util.NoSuchElementException;
  * @param <U> the type of guess list, should generally be a collection of {@code T} type elements
  */
 public abstract class Game<T, U> {
+  private static final AtomicLong NEXT_ID = new AtomicLong();
 
   /**
    * Comparator used to compare guess against target.
@@ -28,6 +39,17 @@ public abstract class Game<T, U> {
 
   private final Class<?> type;
 
+  /**
+   * Generator used to select the targets.
+   *
+   * <p>It's seeded from the generator given to the constructor, so that its position can be saved
+   * with the game.
+   *
+   * @see RandomGen
+   * @see GameSnapshot
+   */
+  protected final SeededRandom random;
+
   /**
    * The value that needs to be guessed.
    *
@@ -44,6 +66,25 @@ public abstract class Game<T, U> {
    */
   protected GameBoard<T> board;
 
+  /**
+   * Filter of the possible targets, attached to every new board.
+   *
+   * @see CandidateFilter
+   */
+  private CandidateFilter<T> candidateFilter;
+
+  /**
+   * Id of the game, unique within the process, see {@link com.mbfc.wordleclone.lib.event.GameKey}.
+   */
+  private final long id = NEXT_ID.incrementAndGet();
+
+  /**
+   * Sink of the events of the game, or {@code null} if they are not emitted.
+   *
+   * @see GameEventSink
+   */
+  private GameEventSink eventSink;
+
   /** Maximum number of tries that user has to guess the value. */
   protected final int maxTries;
 
@@ -66,7 +107,25 @@ public abstract class Game<T, U> {
    */
   public Game(Class<?> type, Comparator<T> comparator, U guessList, int tries)
       throws NoSuchElementException {
+    this(type, comparator, guessList, tries, RandomGen.split());
+  }
+
+  /**
+   * Constructs a new game instance, which selects its targets with the given generator.
+   *
+   * @param type the type of the game board, needs to be there due to the type erasure
+   * @param comparator the comparator that determines correctness of the guess
+   * @param guessList the list of valid guesses
+   * @param tries the maximum number of guesses that user can make
+   * @param random the generator used to select the targets; unless it's a {@link SeededRandom},
+   *     only the seed of the game is drawn from it
+   */
+  public Game(
+      Class<?> type, Comparator<T> comparator, U guessList, int tries, RandomGenerator random)
+      throws NoSuchElementException {
     this.comparator = comparator;
+    this.random =
+        random instanceof SeededRandom seeded ? seeded : new SeededRandom(random.nextLong());
     this.guessList = guessList;
     this.board = new GameBoard<T>(type);
     this.maxTries = tries;
@@ -98,10 +157,54 @@ public abstract class Game<T, U> {
     return Integer.toString(maxTries - triesUsed);
   }
 
+  public long getId() {
+    return id;
+  }
+
+  public GameEventSink getEventSink() {
+    return eventSink;
+  }
+
+  /**
+   * Sets the sink of the events of the game.
+   *
+   * <p>The game emits an event for every guess played, and every time its board is cleared by
+   * {@link #reset()} or by committing a round of an endless game.
+   *
+   * @param eventSink the sink, or {@code null} to stop emitting events
+   */
+  public void setEventSink(GameEventSink eventSink) {
+    this.eventSink = eventSink;
+  }
+
   public GameBoard<T> getBoard() {
     return board;
   }
 
+  public CandidateFilter<T> getCandidateFilter() {
+    return candidateFilter;
+  }
+
+  /**
+   * Sets the filter of the possible targets.
+   *
+   * <p>The filter is reset, updated with the guesses already on the board and attached to it. It is
+   * then reset and attached again whenever the board is cleared.
+   *
+   * @param candidateFilter the filter to attach, or {@code null} to detach the current one
+   */
+  public void setCandidateFilter(CandidateFilter<T> candidateFilter) {
+    this.candidateFilter = candidateFilter;
+
+    if (candidateFilter != null) {
+      candidateFilter.reset();
+      for (Pair<List<ComparatorResult>, T> entry : board) {
+        candidateFilter.apply(entry.left(), entry.right());
+      }
+    }
+    board.setFilter(candidateFilter);
+  }
+
   public abstract String getTarget();
 
   /**
@@ -146,16 +249,80 @@ public abstract class Game<T, U> {
    * @throws GameException if the guess is not valid
    */
   public void play(String guess) throws CompareException, GameException {
-    T convertedGuess = convertGuess(guess);
-
-    validate(convertedGuess);
+    T convertedGuess = checkGuess(guess);
 
-    List<ComparatorResult> result = comparator.compare(convertedGuess, target);
+    List<ComparatorResult> result = compareToTarget(convertedGuess);
 
     triesUsed++;
 
     board.add(result, convertedGuess);
     isGameFinished(result);
+    emit(GameEventType.PLAY, guess, result);
+  }
+
+  /**
+   * Emits an event to the sink of the game, if it has one.
+   *
+   * @param type type of the event
+   * @param guess the guess as typed by the player, empty for events other than {@code PLAY}
+   * @param result results of the guess, empty for events other than {@code PLAY}
+   */
+  protected final void emit(GameEventType type, String guess, List<ComparatorResult> result) {
+    if (eventSink != null) {
+      eventSink.accept(id, type, guess, result);
+    }
+  }
+
+  /**
+   * Converts and validates a guess, recording the reason if it's rejected.
+   *
+   * @param guess the player's guess
+   * @return the converted guess
+   * @throws GameException if the guess is not valid
+   * @see Metrics#recordValidationFailure
+   */
+  protected final T checkGuess(String guess) throws GameException {
+    try {
+      T convertedGuess = convertGuess(guess);
+      validate(convertedGuess);
+
+      return convertedGuess;
+    } catch (GameException e) {
+      Metrics.recordValidationFailure(e.getMessage());
+      throw e;
+    }
+  }
+
+  /**
+   * Compares the guess against the current target.
+   *
+   * <p>If the comparator is a {@link PackedComparator}, the results are packed into a single code
+   * and wrapped in a list view, so that no intermediate collections are allocated for the guess.
+   * The guess and the latency of the comparison are recorded in the {@link Metrics}.
+   *
+   * @param guess the converted and validated guess
+   * @return results of the comparison
+   * @throws CompareException if an error occurs during comparison
+   */
+  protected final List<ComparatorResult> compareToTarget(T guess) throws CompareException {
+    long start = Metrics.startTimer();
+    List<ComparatorResult> result = null;
+
+    if (comparator instanceof PackedComparator<T> packed) {
+      int length = packed.resultLength(guess);
+      int radix = packed.radix();
+
+      if (length <= PackedResults.maxLength(radix)) {
+        result = PackedResults.asList(packed.comparePacked(guess, target), length, radix);
+      }
+    }
+    if (result == null) {
+      result = comparator.compare(guess, target);
+    }
+
+    Metrics.recordCompare(comparator.getClass(), start);
+    Metrics.recordGuess();
+    return result;
   }
 
   /**
@@ -167,22 +334,37 @@ public abstract class Game<T, U> {
    * @param result results of the last user's guess
    */
   public void isGameFinished(List<ComparatorResult> result) {
-    playerWon = result.stream().allMatch(x -> x.equals(ComparatorResult.CORRECT));
+    playerWon = PackedResults.allCorrect(result);
     gameFinished = triesUsed >= maxTries || playerWon;
   }
 
+  /**
+   * Replaces the board with an empty one, and resets the candidate filter for it.
+   *
+   * @see #setCandidateFilter
+   */
+  protected final void clearBoard() {
+    board = new GameBoard<>(type);
+
+    if (candidateFilter != null) {
+      candidateFilter.reset();
+      board.setFilter(candidateFilter);
+    }
+  }
+
   /**
    * Resets the game to it's initial state.
    *
    * <p>Clears the board, resets the number of attempts and selects new target.
    */
   public void reset() {
-    board = new GameBoard<>(type);
+    clearBoard();
 
     triesUsed = 0;
     this.gameFinished = false;
     this.playerWon = false;
 
     selectRandomTarget();
+    emit(GameEventType.RESET, "", List.of());
   }
 }
@@ -14,7 +14,7 @@ import java.util.NoSuchElementException;
  * so that the player can keep track of their previous guesses.
  *
  * <p>It supports iteration over the result-guess pairs and provides access to the most recent
- * entry.
+ * entry. A {@link CandidateFilter} can be attached to the board to be updated with every guess.
  *
  * @param <T> the type of each guess
  */
@@ -22,6 +22,7 @@ public class GameBoard<T> implements Iterable<Pair<List<ComparatorResult>, T>> {
   private List<List<ComparatorResult>> results;
   private List<T> guesses;
   private final Class<?> type;
+  private CandidateFilter<T> filter;
 
   /**
    * Constructs an empty {@code GameBoard}.
@@ -41,6 +42,21 @@ public class GameBoard<T> implements Iterable<Pair<List<ComparatorResult>, T>> {
     return type;
   }
 
+  public CandidateFilter<T> getFilter() {
+    return filter;
+  }
+
+  /**
+   * Attaches the filter to the board.
+   *
+   * <p>Guesses already on the board are not applied to the filter, only the ones added later.
+   *
+   * @param filter the filter to update with new guesses, or {@code null} to detach it
+   */
+  public void setFilter(CandidateFilter<T> filter) {
+    this.filter = filter;
+  }
+
   /**
    * Adds new guess and its corresponding result ot the board.
    *
@@ -50,6 +66,10 @@ public class GameBoard<T> implements Iterable<Pair<List<ComparatorResult>, T>> {
   public void add(List<ComparatorResult> result, T guess) {
     results.add(result);
     guesses.add(guess);
+
+    if (filter != null) {
+      filter.apply(result, guess);
+    }
   }
 
   /**
@@ -61,6 +81,15 @@ public class GameBoard<T> implements Iterable<Pair<List<ComparatorResult>, T>> {
     return results.isEmpty() || guesses.isEmpty();
   }
 
+  /**
+   * Returns the number of guesses on the board.
+   *
+   * @return the number of result-guess pairs
+   */
+  public int size() {
+    return Math.min(results.size(), guesses.size());
+  }
+
   /**
    * Returns the most recent result-guess pair.
    *
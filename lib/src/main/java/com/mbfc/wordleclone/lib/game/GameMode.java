@@ -16,6 +16,7 @@ import java.util.Optional;
  *   <li>{@code RANDOM} - mode with randomly generated targets.
  *   <li>{@code ENDLESS_RANDOM} - endless mode with random targets.
  *   <li>{@code ZEN_RANDOM} - a Zen variant with random targets.
+ *   <li>{@code DAILY} - the daily puzzle, with the same target for every player on the same day.
  * </ul>
  *
  * <p>This enum provides the method {@link #getOption()} to obtain the associated selection option
@@ -29,7 +30,8 @@ public enum GameMode {
   ZEN_CLASSIC("3"),
   RANDOM("4"),
   ENDLESS_RANDOM("5"),
-  ZEN_RANDOM("6");
+  ZEN_RANDOM("6"),
+  DAILY("7");
 
   private final String option;
 
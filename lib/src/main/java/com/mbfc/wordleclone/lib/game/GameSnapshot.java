@@ -0,0 +1,553 @@
+package com.mbfc.wordleclone.lib.game;
+
+import com.mbfc.wordleclone.lib.comparator.Comparator;
+import com.mbfc.wordleclone.lib.comparator.ComparatorResult;
+import com.mbfc.wordleclone.lib.comparator.CompareException;
+import com.mbfc.wordleclone.lib.comparator.PackedResults;
+import com.mbfc.wordleclone.lib.dataset.ObjectDataset;
+import com.mbfc.wordleclone.lib.json.Field;
+import com.mbfc.wordleclone.lib.json.StringField;
+import com.mbfc.wordleclone.lib.util.Pair;
+import com.mbfc.wordleclone.lib.util.SeededRandom;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.DateTimeException;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.TreeMap;
+
+/**
+ * Saves games into a compact binary snapshot and restores them.
+ *
+ * <p>A snapshot holds the whole state of a game: its type and settings, the target, the counters
+ * and flags, and every guess on the board with its results. Words are stored as UTF-8, objects as
+ * the value of their key, and the results of a guess are packed into a single number with {@link
+ * PackedResults}. All numbers are variable-length, so a finished 6-guess game of 5-letter words
+ * takes under 80 bytes.
+ *
+ * <p>The word list and the comparator are not part of the snapshot, they are given back when the
+ * game is restored, usually the same shared instances that the game was created with. Restoring a
+ * game doesn't replay the guesses, the board is rebuilt from the stored results. The results are
+ * checked against the target, and the counters and flags against the board, so a snapshot cannot
+ * hold a state that the game couldn't reach by playing. A candidate filter can be attached to the
+ * restored game with {@link Game#setCandidateFilter}.
+ *
+ * <p>The targets of the later rounds of endless games are drawn when the rounds start, so they are
+ * not part of the snapshot either. Instead, the snapshot holds the seed of the {@link SeededRandom}
+ * of the game and the number of values drawn from it, and the restored game continues the same
+ * sequence, so it draws the same targets as the saved one would have. Daily games store the seed of
+ * their schedule and their date, and are restored with the cached {@link DailySchedule} of the
+ * given list.
+ */
+public final class GameSnapshot {
+
+  /** The version of the format, the first byte of every snapshot. */
+  public static final int VERSION = 2;
+
+  private static final int RADIX = ComparatorResult.values().length;
+  private static final int MAX_PACKED = PackedResults.maxLength(RADIX);
+
+  /** Types of games that can be saved, in the order of their codes. */
+  private enum Kind {
+    SIMPLE(SimpleGame.class),
+    ZEN(ZenGame.class),
+    RANDOM(RandomGame.class),
+    ZEN_RANDOM(ZenRandomGame.class),
+    ENDLESS(SimpleEndlessGame.class),
+    ENDLESS_RANDOM(EndlessRandomGame.class),
+    OBJECT_SIMPLE(SimpleObjectGame.class),
+    OBJECT_ZEN(ZenObjectGame.class),
+    OBJECT_ENDLESS(ObjectEndlessGame.class),
+    DAILY(DailyGame.class),
+    OBJECT_DAILY(DailyObjectGame.class);
+
+    private final Class<?> type;
+
+    Kind(Class<?> type) {
+      this.type = type;
+    }
+
+    private boolean isObject() {
+      return name().startsWith("OBJECT_");
+    }
+
+    private boolean isDaily() {
+      return name().endsWith("DAILY");
+    }
+
+    private static Kind of(Game<?, ?> game) {
+      for (Kind kind : values()) {
+        if (kind.type == game.getClass()) {
+          return kind;
+        }
+      }
+
+      throw new IllegalArgumentException("Cannot save a game of type: " + game.getClass() + ".");
+    }
+  }
+
+  private GameSnapshot() {}
+
+  /**
+   * Saves the game.
+   *
+   * @param game the game to save
+   * @return the snapshot of the game
+   * @throws IllegalArgumentException if the game is not one of the game types of this library
+   */
+  public static byte[] save(Game<?, ?> game) {
+    Kind kind = Kind.of(game);
+    Writer out = new Writer();
+
+    out.writeByte(VERSION);
+    out.writeByte(kind.ordinal());
+    // the settings, in the order of the arguments of the constructors
+    out.writeInt(game.maxTries);
+    if (kind.isObject()) {
+      out.writeString(keyOf(game));
+    }
+    if (game instanceof EndlessGame<?, ?> endless) {
+      out.writeInt(endless.bonusTriesOnWin);
+    }
+    if (game instanceof RandomGame random) {
+      out.writeInt(random.getLength());
+    } else if (game instanceof EndlessRandomGame random) {
+      out.writeInt(random.getLength());
+    }
+    if (game instanceof DailyGame daily) {
+      out.writeLong(daily.getSchedule().getSeed());
+      out.writeLong(daily.getDate().toEpochDay());
+    } else if (game instanceof DailyObjectGame daily) {
+      out.writeLong(daily.getSchedule().getSeed());
+      out.writeLong(daily.getDate().toEpochDay());
+    }
+    if (!kind.isDaily()) {
+      out.writeLong(game.random.getSeed());
+      out.writeLong(game.random.getCount());
+    }
+
+    out.writeString(game.getTarget());
+    out.writeInt(game.triesUsed);
+    out.writeByte((game.gameFinished ? 1 : 0) | (game.playerWon ? 2 : 0));
+
+    if (game instanceof EndlessGame<?, ?> endless) {
+      out.writeInt(endless.score);
+      out.writeInt(endless.lives);
+      out.writeInt(endless.attemptsTaken);
+      out.writeByte(endless.roundComplete ? 1 : 0);
+    }
+
+    out.writeInt(game.board.size());
+    for (Pair<List<ComparatorResult>, ?> entry : game.board) {
+      writeResults(out, entry.left());
+      out.writeString(kind.isObject() ? valueOf(entry.right(), game) : (String) entry.right());
+    }
+
+    return out.toByteArray();
+  }
+
+  /**
+   * Checks if the snapshot is of a game of objects.
+   *
+   * @param snapshot the snapshot
+   * @return {@code true} if the game must be restored with {@link #restoreObject}, {@code false} if
+   *     with {@link #restore}
+   * @throws IOException if the snapshot is not valid
+   */
+  public static boolean isObjectGame(byte[] snapshot) throws IOException {
+    return kind(ByteBuffer.wrap(snapshot)).isObject();
+  }
+
+  /**
+   * Restores a game of words.
+   *
+   * @param snapshot the snapshot of the game
+   * @param comparator the comparator of the restored game
+   * @param words the word list of the game, ignored by the random games
+   * @return the restored game, of the same type as the saved one
+   * @throws IOException if the snapshot is not valid, is not of a game of words, or its state
+   *     doesn't match its board
+   */
+  public static Game<String, List<String>> restore(
+      byte[] snapshot, Comparator<String> comparator, List<String> words) throws IOException {
+    ByteBuffer in = ByteBuffer.wrap(snapshot);
+
+    try {
+      Kind kind = kind(in);
+      if (kind.isObject()) {
+        throw new IOException("The snapshot is of a game of objects.");
+      }
+
+      Game<String, List<String>> game = create(kind, in, comparator, words);
+      readPosition(in, kind, game);
+      readState(in, kind, game, readString(in), guess -> guess);
+
+      return game;
+    } catch (RuntimeException e) {
+      // e.g. BufferUnderflowException or IllegalArgumentException of a game constructor
+      throw new IOException("Truncated or corrupted game snapshot.", e);
+    }
+  }
+
+  /**
+   * Restores a game of objects.
+   *
+   * @param snapshot the snapshot of the game
+   * @param comparator the comparator of the restored game
+   * @param records the records of the game
+   * @return the restored game, of the same type as the saved one
+   * @throws IOException if the snapshot is not valid, is not of a game of objects, its state
+   *     doesn't match its board, or a guess or the target is not in the records
+   */
+  public static Game<TreeMap<String, Field>, List<TreeMap<String, Field>>> restoreObject(
+      byte[] snapshot,
+      Comparator<TreeMap<String, Field>> comparator,
+      List<TreeMap<String, Field>> records)
+      throws IOException {
+    ByteBuffer in = ByteBuffer.wrap(snapshot);
+
+    try {
+      Kind kind = kind(in);
+      if (!kind.isObject()) {
+        throw new IOException("The snapshot is of a game of words.");
+      }
+
+      int tries = readInt(in);
+      String key = readString(in);
+      Game<TreeMap<String, Field>, List<TreeMap<String, Field>>> game =
+          createObject(kind, tries, key, in, comparator, records);
+      readPosition(in, kind, game);
+      readState(
+          in, kind, game, find(records, key, readString(in)), value -> find(records, key, value));
+
+      return game;
+    } catch (RuntimeException e) {
+      // e.g. BufferUnderflowException or IllegalArgumentException of a game constructor
+      throw new IOException("Truncated or corrupted game snapshot.", e);
+    }
+  }
+
+  // the arguments are evaluated from left to right, so the settings are read in their order
+  private static Game<String, List<String>> create(
+      Kind kind, ByteBuffer in, Comparator<String> comparator, List<String> words)
+      throws IOException {
+    int tries = readInt(in);
+    if (words == null && !kind.name().contains("RANDOM")) {
+      throw new IOException("The game snapshot needs a word list.");
+    }
+
+    return switch (kind) {
+      case SIMPLE -> new SimpleGame(comparator, words, tries, readSeed(in));
+      case ZEN -> new ZenGame(comparator, words, readSeed(in));
+      case RANDOM -> new RandomGame(comparator, tries, readInt(in), readSeed(in));
+      case ZEN_RANDOM -> new ZenRandomGame(comparator, readInt(in), readSeed(in));
+      case ENDLESS -> new SimpleEndlessGame(comparator, words, tries, readInt(in), readSeed(in));
+      case DAILY -> new DailyGame(comparator, words, tries, readSchedule(in, words), readDate(in));
+      default -> new EndlessRandomGame(comparator, tries, readInt(in), readInt(in), readSeed(in));
+    };
+  }
+
+  private static Game<TreeMap<String, Field>, List<TreeMap<String, Field>>> createObject(
+      Kind kind,
+      int tries,
+      String key,
+      ByteBuffer in,
+      Comparator<TreeMap<String, Field>> comparator,
+      List<TreeMap<String, Field>> records)
+      throws IOException {
+    return switch (kind) {
+      case OBJECT_SIMPLE -> new SimpleObjectGame(comparator, records, tries, key, readSeed(in));
+      case OBJECT_ZEN -> new ZenObjectGame(comparator, records, key, readSeed(in));
+      case OBJECT_DAILY ->
+          new DailyObjectGame(
+              comparator, records, tries, key, readSchedule(in, records), readDate(in));
+      default -> new ObjectEndlessGame(comparator, records, tries, readInt(in), key, readSeed(in));
+    };
+  }
+
+  // only the cached schedules are restored, so snapshots cannot make the cache grow
+  private static <T> DailySchedule<T> readSchedule(ByteBuffer in, List<T> list) throws IOException {
+    long seed = readLong(in);
+    if (seed != DailySchedule.DEFAULT_SEED) {
+      throw new IOException("Unsupported seed of a daily game snapshot: " + seed + ".");
+    }
+
+    return DailySchedule.of(list);
+  }
+
+  private static SeededRandom readSeed(ByteBuffer in) throws IOException {
+    return new SeededRandom(readLong(in));
+  }
+
+  // the constructor has drawn the first target, the generator is moved to where the game left it
+  private static void readPosition(ByteBuffer in, Kind kind, Game<?, ?> game) throws IOException {
+    if (!kind.isDaily()) {
+      game.random.seek(readLong(in));
+    }
+  }
+
+  /** Converts the stored value of a guess back into a guess. */
+  @FunctionalInterface
+  private interface GuessReader<T> {
+    T read(String value) throws IOException;
+  }
+
+  private static <T> void readState(
+      ByteBuffer in, Kind kind, Game<T, ?> game, T target, GuessReader<T> guesses)
+      throws IOException {
+    // the target of a daily game is the one of its day, already selected by the constructor
+    if (kind.isDaily() && !target.equals(game.target)) {
+      throw new IOException("The target of the game snapshot is not the one of its day.");
+    }
+    game.target = target;
+    checkEntry(game, target, null);
+
+    game.triesUsed = readInt(in);
+    final int flags = in.get();
+
+    if (game instanceof EndlessGame<?, ?> endless) {
+      endless.score = readInt(in);
+      endless.lives = readInt(in);
+      endless.attemptsTaken = readInt(in);
+      endless.roundComplete = in.get() != 0;
+    }
+
+    // every entry takes at least two bytes, the number of results and the length of the guess
+    int size = readInt(in);
+    if (size < 0 || size > in.remaining() / 2) {
+      throw new IOException("Truncated or corrupted game snapshot.");
+    }
+
+    List<ComparatorResult> last = null;
+    for (int i = 0; i < size; i++) {
+      if (last != null && PackedResults.allCorrect(last)) {
+        throw new IOException("The game snapshot has guesses after the target was guessed.");
+      }
+
+      last = readResults(in);
+      T guess = guesses.read(readString(in));
+      checkEntry(game, guess, last);
+      game.board.add(last, guess);
+    }
+
+    if (in.hasRemaining()) {
+      throw new IOException("Unexpected data at the end of the game snapshot.");
+    }
+
+    checkCounters(game, flags, last);
+  }
+
+  // the results must be the ones of the guess, so the board cannot be forged
+  private static <T> void checkEntry(Game<T, ?> game, T guess, List<ComparatorResult> results)
+      throws IOException {
+    try {
+      game.validate(guess);
+
+      if (results != null && !game.comparator.compare(guess, game.target).equals(results)) {
+        throw new IOException("The results of the game snapshot don't match its target.");
+      }
+    } catch (GameException | CompareException e) {
+      throw new IOException("Invalid guess in the game snapshot: " + e.getMessage(), e);
+    }
+  }
+
+  // the counters and flags must be the ones the game would have after playing the board
+  private static void checkCounters(Game<?, ?> game, int flags, List<ComparatorResult> last)
+      throws IOException {
+    boolean won = last != null && PackedResults.allCorrect(last);
+    boolean valid = game.triesUsed == game.board.size();
+
+    if (game instanceof EndlessGame<?, ?> endless) {
+      // every won round takes at least one life and gives the bonus back
+      long maxLives =
+          (long) endless.initialLives
+              + (long) endless.score * (endless.bonusTriesOnWin - 1)
+              - game.triesUsed;
+      game.gameFinished = !won && last != null && endless.lives <= 0;
+      valid &=
+          endless.score >= 0
+              && endless.lives <= maxLives
+              && endless.attemptsTaken >= 0
+              && endless.roundComplete == won
+              && (!won || endless.attemptsTaken == game.triesUsed);
+    } else {
+      if (last != null) {
+        game.isGameFinished(last);
+      }
+      valid &= game.maxTries <= 0 || game.triesUsed <= game.maxTries;
+    }
+
+    if (!valid || flags != ((game.gameFinished ? 1 : 0) | (game.playerWon ? 2 : 0))) {
+      throw new IOException("The counters of the game snapshot don't match its board.");
+    }
+  }
+
+  private static void writeResults(Writer out, List<ComparatorResult> results) {
+    out.writeInt(results.size());
+
+    for (int from = 0; from < results.size(); from += MAX_PACKED) {
+      int to = Math.min(from + MAX_PACKED, results.size());
+      out.writeLong(PackedResults.pack(results.subList(from, to), RADIX));
+    }
+  }
+
+  private static List<ComparatorResult> readResults(ByteBuffer in) throws IOException {
+    // every chunk of the results takes at least one byte
+    int length = readInt(in);
+    if (length < 0 || length > (long) in.remaining() * MAX_PACKED) {
+      throw new IOException("Truncated or corrupted game snapshot.");
+    }
+
+    if (length <= MAX_PACKED) {
+      return PackedResults.asList(readCode(in, length), length, RADIX);
+    }
+
+    List<ComparatorResult> results = new ArrayList<>(length);
+    for (int from = 0; from < length; from += MAX_PACKED) {
+      int chunk = Math.min(MAX_PACKED, length - from);
+      results.addAll(PackedResults.asList(readCode(in, chunk), chunk, RADIX));
+    }
+
+    return results;
+  }
+
+  private static long readCode(ByteBuffer in, int length) throws IOException {
+    long code = readLong(in);
+
+    if (code < 0 || code >= PackedResults.codeCount(length, RADIX)) {
+      throw new IOException("Truncated or corrupted game snapshot.");
+    }
+
+    return code;
+  }
+
+  private static String keyOf(Game<?, ?> game) {
+    return game instanceof SimpleObjectGame object
+        ? object.getKey()
+        : ((ObjectEndlessGame) game).getKey();
+  }
+
+  private static String valueOf(Object record, Game<?, ?> game) {
+    @SuppressWarnings("unchecked")
+    TreeMap<String, Field> fields = (TreeMap<String, Field>) record;
+
+    return ((StringField) fields.get(keyOf(game))).getValue();
+  }
+
+  private static TreeMap<String, Field> find(
+      List<TreeMap<String, Field>> records, String key, String value) throws IOException {
+    TreeMap<String, Field> record = ObjectDataset.find(records, key, value);
+
+    if (record == null) {
+      throw new IOException("The record of the game snapshot is not in the list: " + value);
+    }
+
+    return record;
+  }
+
+  private static Kind kind(ByteBuffer in) throws IOException {
+    if (in.remaining() < 2) {
+      throw new IOException("Truncated or corrupted game snapshot.");
+    }
+
+    int version = in.get();
+    if (version != VERSION) {
+      throw new IOException("Unsupported version of a game snapshot: " + version + ".");
+    }
+
+    int kind = in.get();
+    if (kind < 0 || kind >= Kind.values().length) {
+      throw new IOException("Unknown type of a game snapshot: " + kind + ".");
+    }
+
+    return Kind.values()[kind];
+  }
+
+  private static int readInt(ByteBuffer in) throws IOException {
+    long value = readLong(in);
+
+    if (value > Integer.MAX_VALUE || value < Integer.MIN_VALUE) {
+      throw new IOException("Truncated or corrupted game snapshot.");
+    }
+
+    return (int) value;
+  }
+
+  private static long readLong(ByteBuffer in) throws IOException {
+    long zigzag = 0;
+
+    for (int shift = 0; shift < Long.SIZE; shift += 7) {
+      byte b = in.get();
+      zigzag |= (long) (b & 0x7F) << shift;
+
+      if ((b & 0x80) == 0) {
+        return (zigzag >>> 1) ^ -(zigzag & 1);
+      }
+    }
+
+    throw new IOException("Truncated or corrupted game snapshot.");
+  }
+
+  private static LocalDate readDate(ByteBuffer in) throws IOException {
+    try {
+      return LocalDate.ofEpochDay(readLong(in));
+    } catch (DateTimeException e) {
+      throw new IOException("Truncated or corrupted game snapshot.", e);
+    }
+  }
+
+  private static String readString(ByteBuffer in) throws IOException {
+    int length = readInt(in);
+    if (length < 0 || length > in.remaining()) {
+      throw new IOException("Truncated or corrupted game snapshot.");
+    }
+
+    String value = new String(in.array(), in.position(), length, StandardCharsets.UTF_8);
+    in.position(in.position() + length);
+
+    return value;
+  }
+
+  /** A growing buffer of variable-length numbers and strings. */
+  private static final class Writer {
+    private byte[] bytes = new byte[64];
+    private int size;
+
+    private void writeByte(int value) {
+      if (size == bytes.length) {
+        bytes = Arrays.copyOf(bytes, size * 2);
+      }
+      bytes[size++] = (byte) value;
+    }
+
+    private void writeInt(int value) {
+      writeLong(value);
+    }
+
+    private void writeLong(long value) {
+      long zigzag = (value << 1) ^ (value >> 63);
+
+      while ((zigzag & ~0x7FL) != 0) {
+        writeByte((int) (zigzag & 0x7F) | 0x80);
+        zigzag >>>= 7;
+      }
+      writeByte((int) zigzag);
+    }
+
+    private void writeString(String value) {
+      byte[] encoded = value.getBytes(StandardCharsets.UTF_8);
+
+      writeInt(encoded.length);
+      for (byte b : encoded) {
+        writeByte(b);
+      }
+    }
+
+    private byte[] toByteArray() {
+      return Arrays.copyOf(bytes, size);
+    }
+  }
+}
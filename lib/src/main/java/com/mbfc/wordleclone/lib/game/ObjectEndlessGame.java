@@ -1,16 +1,21 @@
 package com.mbfc.wordleclone.lib.game;
 
 import com.mbfc.wordleclone.lib.comparator.Comparator;
+import com.mbfc.wordleclone.lib.dataset.ObjectDataset;
 import com.mbfc.wordleclone.lib.json.Field;
 import com.mbfc.wordleclone.lib.json.StringField;
+import com.mbfc.wordleclone.lib.util.RandomGen;
 import java.util.List;
 import java.util.NoSuchElementException;
-import java.util.Random;
 import java.util.TreeMap;
+import java.util.random.RandomGenerator;
 
 /**
  * Concrete class implementing endless mode for a word game. Inherits all common endless game logic
  * from {@link EndlessGame} and provides implementations specific to operations on Strings.
+ *
+ * <p>If the guess list is an {@link ObjectDataset} indexed on the same key, converting and
+ * validating a guess are hash lookups; other lists are scanned.
  */
 public class ObjectEndlessGame
     extends EndlessGame<TreeMap<String, Field>, List<TreeMap<String, Field>>> {
@@ -32,7 +37,30 @@ public class ObjectEndlessGame
       int bonusTriesOnWin,
       String key)
       throws NoSuchElementException {
-    super(TreeMap.class, comparator, guessList, initialTries, bonusTriesOnWin);
+    this(comparator, guessList, initialTries, bonusTriesOnWin, key, RandomGen.split());
+  }
+
+  /**
+   * Creates a new instance of ObjectEndlessGame, which selects its targets with the given
+   * generator.
+   *
+   * @param comparator the comparator that determines the correctness of a guess
+   * @param guessList the list of valid words for guesses
+   * @param initialTries the initial number of tries (lives)
+   * @param bonusTriesOnWin the bonus lives awarded when a round is won
+   * @param key the key of the value that player tries to guess
+   * @param random the generator used to select the targets
+   * @throws NoSuchElementException if the guess list is empty
+   */
+  public ObjectEndlessGame(
+      Comparator<TreeMap<String, Field>> comparator,
+      List<TreeMap<String, Field>> guessList,
+      int initialTries,
+      int bonusTriesOnWin,
+      String key,
+      RandomGenerator random)
+      throws NoSuchElementException {
+    super(TreeMap.class, comparator, guessList, initialTries, bonusTriesOnWin, random);
 
     this.key = key;
   }
@@ -54,20 +82,17 @@ public class ObjectEndlessGame
       throw new NoSuchElementException("Cannot select random element. The list is empty.");
     }
 
-    Random rand = new Random();
-    target = guessList.get(rand.nextInt(guessList.size()));
+    target = guessList.get(random.nextInt(guessList.size()));
   }
 
   /** {@inheritDoc} */
   @Override
   protected TreeMap<String, Field> convertGuess(String guess) throws GameException {
-    StringField guessField = new StringField(guess);
-    TreeMap<String, Field> converted =
-        guessList.stream()
-            .filter(x -> ((StringField) x.get(key)).equal(guessField))
-            .findFirst()
-            .orElseThrow(
-                () -> new GameException("Invalid guess. The guess is not in the word list."));
+    TreeMap<String, Field> converted = ObjectDataset.find(guessList, key, guess);
+
+    if (converted == null) {
+      throw new GameException("Invalid guess. The guess is not in the word list.");
+    }
 
     return converted;
   }
@@ -76,4 +101,8 @@ public class ObjectEndlessGame
   public String getTarget() {
     return ((StringField) target.get(key)).getValue();
   }
+
+  public String getKey() {
+    return key;
+  }
 }
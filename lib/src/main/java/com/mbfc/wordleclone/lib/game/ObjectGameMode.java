@@ -13,6 +13,7 @@ import java.util.Optional;
  *   <li>{@code SIMPLE} - the standard mode.
  *   <li>{@code ENDLESS} - endless mode without strict round boundaries.
  *   <li>{@code ZEN_CLASSIC} - a Zen variant of the classic mode.
+ *   <li>{@code DAILY} - the daily puzzle, with the same target for every player on the same day.
  * </ul>
  *
  * <p>This enum provides the method {@link #getOption()} to obtain the associated selection option
@@ -23,7 +24,8 @@ import java.util.Optional;
 public enum ObjectGameMode {
   SIMPLE("1"),
   ENDLESS("2"),
-  ZEN_CLASSIC("3");
+  ZEN_CLASSIC("3"),
+  DAILY("4");
 
   private final String option;
 
@@ -4,6 +4,7 @@ import com.mbfc.wordleclone.lib.comparator.Comparator;
 import com.mbfc.wordleclone.lib.util.RandomGen;
 import java.util.List;
 import java.util.NoSuchElementException;
+import java.util.random.RandomGenerator;
 
 /**
  * An implementation of the {@link Game} class using random strings.
@@ -25,7 +26,20 @@ public class RandomGame extends Game<String, List<String>> {
    */
   public RandomGame(Comparator<String> comparator, int tries, int length)
       throws NoSuchElementException {
-    super(String.class, comparator, null, tries);
+    this(comparator, tries, length, RandomGen.split());
+  }
+
+  /**
+   * Creates a new game instance, which generates its targets with the given generator.
+   *
+   * @param comparator {@code String} comparator that determines correctness of the guess
+   * @param tries the maximum number of guesses that user can make
+   * @param length the desired length of the target word
+   * @param random the generator used to generate the targets
+   */
+  public RandomGame(Comparator<String> comparator, int tries, int length, RandomGenerator random)
+      throws NoSuchElementException {
+    super(String.class, comparator, null, tries, random);
 
     this.length = length;
 
@@ -50,7 +64,7 @@ public class RandomGame extends Game<String, List<String>> {
   /** {@inheritDoc} */
   @Override
   protected void selectRandomTarget() throws NoSuchElementException {
-    target = RandomGen.generate(length);
+    target = RandomGen.generate(length, random);
   }
 
   /** {@inheritDoc} */
@@ -73,4 +87,8 @@ public class RandomGame extends Game<String, List<String>> {
       return "\nYou lost. The target was: " + getTarget();
     }
   }
+
+  public int getLength() {
+    return length;
+  }
 }
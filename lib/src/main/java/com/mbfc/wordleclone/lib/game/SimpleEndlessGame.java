@@ -1,13 +1,18 @@
 package com.mbfc.wordleclone.lib.game;
 
 import com.mbfc.wordleclone.lib.comparator.Comparator;
+import com.mbfc.wordleclone.lib.dictionary.WordDictionaries;
+import com.mbfc.wordleclone.lib.util.RandomGen;
 import java.util.List;
 import java.util.NoSuchElementException;
-import java.util.Random;
+import java.util.random.RandomGenerator;
 
 /**
  * Concrete class implementing endless mode for a word game. Inherits all common endless game logic
  * from {@link EndlessGame} and provides implementations specific to operations on Strings.
+ *
+ * <p>Every guess is validated with {@link List#contains}, so the guess list should be built with
+ * {@link WordDictionaries#of}, see there.
  */
 public class SimpleEndlessGame extends EndlessGame<String, List<String>> {
 
@@ -23,7 +28,28 @@ public class SimpleEndlessGame extends EndlessGame<String, List<String>> {
   public SimpleEndlessGame(
       Comparator<String> comparator, List<String> guessList, int initialTries, int bonusTriesOnWin)
       throws NoSuchElementException {
-    super(String.class, comparator, guessList, initialTries, bonusTriesOnWin);
+    this(comparator, guessList, initialTries, bonusTriesOnWin, RandomGen.split());
+  }
+
+  /**
+   * Creates a new instance of SimpleEndlessGame, which selects its targets with the given
+   * generator.
+   *
+   * @param comparator the String comparator that determines the correctness of a guess
+   * @param guessList the list of valid words for guesses
+   * @param initialTries the initial number of tries (lives)
+   * @param bonusTriesOnWin the bonus lives awarded when a round is won
+   * @param random the generator used to select the targets
+   * @throws NoSuchElementException if the guess list is empty
+   */
+  public SimpleEndlessGame(
+      Comparator<String> comparator,
+      List<String> guessList,
+      int initialTries,
+      int bonusTriesOnWin,
+      RandomGenerator random)
+      throws NoSuchElementException {
+    super(String.class, comparator, guessList, initialTries, bonusTriesOnWin, random);
   }
 
   /**
@@ -52,8 +78,7 @@ public class SimpleEndlessGame extends EndlessGame<String, List<String>> {
     if (guessList.isEmpty()) {
       throw new NoSuchElementException("Cannot select random element. The list is empty.");
     }
-    Random rand = new Random();
-    target = guessList.get(rand.nextInt(guessList.size()));
+    target = guessList.get(random.nextInt(guessList.size()));
   }
 
   /**
@@ -1,15 +1,20 @@
 package com.mbfc.wordleclone.lib.game;
 
 import com.mbfc.wordleclone.lib.comparator.Comparator;
+import com.mbfc.wordleclone.lib.dictionary.WordDictionaries;
+import com.mbfc.wordleclone.lib.util.RandomGen;
 import java.util.List;
 import java.util.NoSuchElementException;
-import java.util.Random;
+import java.util.random.RandomGenerator;
 
 /**
  * An implementation of the {@link Game} class using strings.
  *
  * <p>This class implements a logic for a standard wordle game. Each guess is a {@code String} and
  * the guess list is just {@code List<String>}. It follows the standard rules of wordle.
+ *
+ * <p>Every guess is validated with {@link List#contains}, so the guess list should be built with
+ * {@link WordDictionaries#of}, see there.
  */
 public class SimpleGame extends Game<String, List<String>> {
   /**
@@ -21,7 +26,21 @@ public class SimpleGame extends Game<String, List<String>> {
    */
   public SimpleGame(Comparator<String> comparator, List<String> guessList, int tries)
       throws NoSuchElementException {
-    super(String.class, comparator, guessList, tries);
+    this(comparator, guessList, tries, RandomGen.split());
+  }
+
+  /**
+   * Creates a new game instance, which selects its targets with the given generator.
+   *
+   * @param comparator {@code String} comparator that determines correctness of the guess
+   * @param guessList the {@code List<String>} of valid guesses
+   * @param tries the maximum number of guesses that user can make
+   * @param random the generator used to select the targets
+   */
+  public SimpleGame(
+      Comparator<String> comparator, List<String> guessList, int tries, RandomGenerator random)
+      throws NoSuchElementException {
+    super(String.class, comparator, guessList, tries, random);
   }
 
   /** {@inheritDoc} */
@@ -41,8 +60,7 @@ public class SimpleGame extends Game<String, List<String>> {
       throw new NoSuchElementException("Cannot select random element. The list is empty.");
     }
 
-    Random rand = new Random();
-    target = guessList.get(rand.nextInt(guessList.size()));
+    target = guessList.get(random.nextInt(guessList.size()));
   }
 
   /** {@inheritDoc} */
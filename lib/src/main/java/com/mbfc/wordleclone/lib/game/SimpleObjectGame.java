@@ -1,18 +1,23 @@
 package com.mbfc.wordleclone.lib.game;
 
 import com.mbfc.wordleclone.lib.comparator.Comparator;
+import com.mbfc.wordleclone.lib.dataset.ObjectDataset;
 import com.mbfc.wordleclone.lib.json.Field;
 import com.mbfc.wordleclone.lib.json.StringField;
+import com.mbfc.wordleclone.lib.util.RandomGen;
 import java.util.List;
 import java.util.NoSuchElementException;
-import java.util.Random;
 import java.util.TreeMap;
+import java.util.random.RandomGenerator;
 
 /**
  * An implementation of the {@link Game} class using objects.
  *
  * <p>This class implements a logic for a standard wordle game, similiar to LoLdle and games like
  * that.
+ *
+ * <p>If the guess list is an {@link ObjectDataset} indexed on the same key, converting and
+ * validating a guess are hash lookups; other lists are scanned.
  */
 public class SimpleObjectGame extends Game<TreeMap<String, Field>, List<TreeMap<String, Field>>> {
   private final String key;
@@ -31,7 +36,26 @@ public class SimpleObjectGame extends Game<TreeMap<String, Field>, List<TreeMap<
       int tries,
       String key)
       throws NoSuchElementException {
-    super(TreeMap.class, comparator, guessList, tries);
+    this(comparator, guessList, tries, key, RandomGen.split());
+  }
+
+  /**
+   * Creates a new game instance, which selects its targets with the given generator.
+   *
+   * @param comparator comparator that determines correctness of the guess
+   * @param guessList the list of valid guesses
+   * @param tries the maximum number of guesses that user can make
+   * @param key the key of the value that player tries to guess
+   * @param random the generator used to select the targets
+   */
+  public SimpleObjectGame(
+      Comparator<TreeMap<String, Field>> comparator,
+      List<TreeMap<String, Field>> guessList,
+      int tries,
+      String key,
+      RandomGenerator random)
+      throws NoSuchElementException {
+    super(TreeMap.class, comparator, guessList, tries, random);
 
     this.key = key;
   }
@@ -53,20 +77,17 @@ public class SimpleObjectGame extends Game<TreeMap<String, Field>, List<TreeMap<
       throw new NoSuchElementException("Cannot select random element. The list is empty.");
     }
 
-    Random rand = new Random();
-    target = guessList.get(rand.nextInt(guessList.size()));
+    target = guessList.get(random.nextInt(guessList.size()));
   }
 
   /** {@inheritDoc} */
   @Override
   protected TreeMap<String, Field> convertGuess(String guess) throws GameException {
-    StringField guessField = new StringField(guess);
-    TreeMap<String, Field> converted =
-        guessList.stream()
-            .filter(x -> ((StringField) x.get(key)).equal(guessField))
-            .findFirst()
-            .orElseThrow(
-                () -> new GameException("Invalid guess. The guess is not in the word list."));
+    TreeMap<String, Field> converted = ObjectDataset.find(guessList, key, guess);
+
+    if (converted == null) {
+      throw new GameException("Invalid guess. The guess is not in the word list.");
+    }
 
     return converted;
   }
@@ -2,8 +2,10 @@ package com.mbfc.wordleclone.lib.game;
 
 import com.mbfc.wordleclone.lib.comparator.Comparator;
 import com.mbfc.wordleclone.lib.comparator.ComparatorResult;
+import com.mbfc.wordleclone.lib.comparator.PackedResults;
 import java.util.List;
 import java.util.NoSuchElementException;
+import java.util.random.RandomGenerator;
 
 /**
  * An implementation of the {@link Game} class using strings.
@@ -24,6 +26,18 @@ public class ZenGame extends SimpleGame {
     super(comparator, guessList, 0);
   }
 
+  /**
+   * Creates a new game instance, which selects its targets with the given generator.
+   *
+   * @param comparator {@code String} comparator that determines correctness of the guess
+   * @param guessList the {@code List<String>} of valid guesses
+   * @param random the generator used to select the targets
+   */
+  public ZenGame(Comparator<String> comparator, List<String> guessList, RandomGenerator random)
+      throws NoSuchElementException {
+    super(comparator, guessList, 0, random);
+  }
+
   @Override
   public String getTriesLeft() {
     return "Infinite (feel the /Z E N/)";
@@ -41,7 +55,7 @@ public class ZenGame extends SimpleGame {
    */
   @Override
   public void isGameFinished(List<ComparatorResult> result) {
-    playerWon = result.stream().allMatch(x -> x.equals(ComparatorResult.CORRECT));
+    playerWon = PackedResults.allCorrect(result);
     gameFinished = playerWon;
   }
 }
@@ -2,10 +2,12 @@ package com.mbfc.wordleclone.lib.game;
 
 import com.mbfc.wordleclone.lib.comparator.Comparator;
 import com.mbfc.wordleclone.lib.comparator.ComparatorResult;
+import com.mbfc.wordleclone.lib.comparator.PackedResults;
 import com.mbfc.wordleclone.lib.json.Field;
 import java.util.List;
 import java.util.NoSuchElementException;
 import java.util.TreeMap;
+import java.util.random.RandomGenerator;
 
 /**
  * An implementation of the {@link Game} class using strings.
@@ -33,6 +35,25 @@ public class ZenObjectGame extends SimpleObjectGame {
     this.key = key;
   }
 
+  /**
+   * Creates a new game instance, which selects its targets with the given generator.
+   *
+   * @param comparator comparator that determines correctness of the guess
+   * @param guessList the list of valid guesses
+   * @param key the key of the value that player tries to guess
+   * @param random the generator used to select the targets
+   */
+  public ZenObjectGame(
+      Comparator<TreeMap<String, Field>> comparator,
+      List<TreeMap<String, Field>> guessList,
+      String key,
+      RandomGenerator random)
+      throws NoSuchElementException {
+    super(comparator, guessList, 0, key, random);
+
+    this.key = key;
+  }
+
   @Override
   public String getTriesLeft() {
     return "Infinite (feel the /Z E N/)";
@@ -50,7 +71,7 @@ public class ZenObjectGame extends SimpleObjectGame {
    */
   @Override
   public void isGameFinished(List<ComparatorResult> result) {
-    playerWon = result.stream().allMatch(x -> x.equals(ComparatorResult.CORRECT));
+    playerWon = PackedResults.allCorrect(result);
     gameFinished = playerWon;
   }
 }
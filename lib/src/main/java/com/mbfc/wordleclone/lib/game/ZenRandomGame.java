@@ -2,8 +2,10 @@ package com.mbfc.wordleclone.lib.game;
 
 import com.mbfc.wordleclone.lib.comparator.Comparator;
 import com.mbfc.wordleclone.lib.comparator.ComparatorResult;
+import com.mbfc.wordleclone.lib.comparator.PackedResults;
 import java.util.List;
 import java.util.NoSuchElementException;
+import java.util.random.RandomGenerator;
 
 /**
  * An implementation of the {@link Game} class using strings.
@@ -24,6 +26,18 @@ public class ZenRandomGame extends RandomGame {
     super(comparator, 0, length);
   }
 
+  /**
+   * Creates a new game instance, which generates its targets with the given generator.
+   *
+   * @param comparator {@code String} comparator that determines correctness of the guess
+   * @param length the desired length of the target word
+   * @param random the generator used to generate the targets
+   */
+  public ZenRandomGame(Comparator<String> comparator, int length, RandomGenerator random)
+      throws NoSuchElementException {
+    super(comparator, 0, length, random);
+  }
+
   @Override
   public String getTriesLeft() {
     return "Infinite (feel the /Z E N/)";
@@ -41,7 +55,7 @@ public class ZenRandomGame extends RandomGame {
    */
   @Override
   public void isGameFinished(List<ComparatorResult> result) {
-    playerWon = result.stream().allMatch(x -> x.equals(ComparatorResult.CORRECT));
+    playerWon = PackedResults.allCorrect(result);
     gameFinished = playerWon;
   }
 }
@@ -0,0 +1,393 @@
+package com.mbfc.wordleclone.lib.leaderboard;
+
+import com.mbfc.wordleclone.lib.game.GameMode;
+import com.mbfc.wordleclone.lib.game.ObjectGameMode;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.OptionalDouble;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * Best scores of the players of every game mode, ranked.
+ *
+ * <p>Every game mode has its own board, named after the mode, see {@link #board(GameMode)} and
+ * {@link #board(ObjectGameMode)}. A board keeps the best score of every player in a {@link
+ * RankTree}, so recording a score, the top scores, and the rank and percentile of a player all take
+ * O(log n) time. Players with equal scores are ranked by who reached the score first.
+ *
+ * <p>The memory is bounded by the retention policy: a board keeps at most {@code capacity} players.
+ * When it's full, the player with the lowest rank is dropped to make room for a better score, and
+ * scores that wouldn't make it to the board are not recorded.
+ *
+ * <p>A leaderboard can be persisted in an append-only log, with a line of {@code
+ * board<TAB>player<TAB>score} for every recorded score. The log is replayed when the leaderboard is
+ * opened, and a line that was not completely written before a crash is dropped. Once the log has
+ * many more lines than there are players on the boards, it's compacted: rewritten with only the
+ * current scores and atomically renamed over the old one. A compaction that fails doesn't fail the
+ * score that triggered it, the log keeps growing and a later score tries again.
+ *
+ * <p>All methods are thread safe.
+ */
+public class Leaderboard implements Closeable {
+  // the log is compacted when it has this many times more lines than the boards have players
+  private static final int COMPACTION_RATIO = 4;
+  // ...and at least this many lines
+  private static final int COMPACTION_MIN_LINES = 1024;
+
+  private final int capacity;
+  private final Path log;
+  private final Map<String, Board> boards = new HashMap<>();
+  private Writer writer;
+  private boolean closed;
+  private long sequence;
+  private long logLines;
+
+  /**
+   * Creates an empty leaderboard kept only in memory.
+   *
+   * @param capacity maximum number of players kept on every board
+   * @throws IllegalArgumentException if the capacity is not positive
+   */
+  public Leaderboard(int capacity) {
+    if (capacity < 1) {
+      throw new IllegalArgumentException("Capacity must be positive.");
+    }
+
+    this.capacity = capacity;
+    this.log = null;
+  }
+
+  /**
+   * Opens a leaderboard persisted in the log, replaying the scores that are already in it.
+   *
+   * @param log the log file, created if it doesn't exist
+   * @param capacity maximum number of players kept on every board
+   * @throws IOException if the log cannot be read or opened for writing
+   * @throws IllegalArgumentException if the capacity is not positive
+   */
+  public Leaderboard(Path log, int capacity) throws IOException {
+    if (capacity < 1) {
+      throw new IllegalArgumentException("Capacity must be positive.");
+    }
+
+    this.capacity = capacity;
+    this.log = log.toAbsolutePath();
+    if (this.log.getParent() != null) {
+      Files.createDirectories(this.log.getParent());
+    }
+
+    replay();
+    if (needsCompaction()) {
+      compact();
+    } else {
+      open();
+    }
+  }
+
+  /**
+   * Returns the name of the board of a game mode.
+   *
+   * @param mode the game mode
+   * @return the name of the mode, e.g. {@code "ENDLESS"}
+   */
+  public static String board(GameMode mode) {
+    return mode.name();
+  }
+
+  /**
+   * Returns the name of the board of an object game mode.
+   *
+   * @param mode the object game mode
+   * @return the name of the mode prefixed with {@code OBJECT_}, e.g. {@code "OBJECT_ENDLESS"}
+   */
+  public static String board(ObjectGameMode mode) {
+    return "OBJECT_" + mode.name();
+  }
+
+  /**
+   * Records the score of a player, if it's better than the best score of the player on the board.
+   *
+   * @param board the name of the board
+   * @param player the name of the player
+   * @param score the score
+   * @return {@code true} if the score is the new best score of the player and made it to the board
+   * @throws IOException if the score cannot be written to the log, in which case it's not recorded,
+   *     or the leaderboard is closed
+   * @throws IllegalArgumentException if the board or the player contains a tab or a line break
+   */
+  public synchronized boolean record(String board, String player, int score) throws IOException {
+    checkName(board);
+    checkName(player);
+
+    if (!accepts(board, player, score)) {
+      return false;
+    }
+
+    if (log != null) {
+      if (closed) {
+        throw new IOException("The leaderboard is closed.");
+      } else if (writer == null) {
+        // a failed compaction could not reopen the log
+        open();
+      }
+
+      writer.write(board + '\t' + player + '\t' + score + '\n');
+      writer.flush();
+      logLines++;
+    }
+    apply(board, player, score);
+
+    if (needsCompaction()) {
+      try {
+        compact();
+      } catch (IOException ignore) {
+        // The score is recorded either way, and the log is compacted by a later score.
+      }
+    }
+    return true;
+  }
+
+  /**
+   * Returns the best scores of the board.
+   *
+   * @param board the name of the board
+   * @param count maximum number of scores to return
+   * @return the best scores, from the best one, or an empty list if the board doesn't exist
+   */
+  public synchronized List<LeaderboardEntry> top(String board, int count) {
+    Board scores = boards.get(board);
+    if (scores == null) {
+      return List.of();
+    }
+
+    int size = Math.min(Math.max(count, 0), scores.tree.size());
+    List<LeaderboardEntry> top = new ArrayList<>(size);
+    for (int i = 0; i < size; i++) {
+      RankTree.Node node = scores.tree.get(i);
+      top.add(new LeaderboardEntry(node.player, node.score, i + 1));
+    }
+
+    return top;
+  }
+
+  /**
+   * Returns the standing of a player on the board.
+   *
+   * @param board the name of the board
+   * @param player the name of the player
+   * @return the best score and the rank of the player, or nothing if the player is not on the board
+   */
+  public synchronized Optional<LeaderboardEntry> standing(String board, String player) {
+    Board scores = boards.get(board);
+    RankTree.Node node = scores == null ? null : scores.players.get(player);
+    if (node == null) {
+      return Optional.empty();
+    }
+
+    return Optional.of(new LeaderboardEntry(node.player, node.score, scores.tree.rank(node)));
+  }
+
+  /**
+   * Returns the percentile of a player on the board.
+   *
+   * @param board the name of the board
+   * @param player the name of the player
+   * @return the percentage of the other players of the board with a lower score, 100 if the player
+   *     is alone, or nothing if the player is not on the board
+   */
+  public synchronized OptionalDouble percentile(String board, String player) {
+    Board scores = boards.get(board);
+    RankTree.Node node = scores == null ? null : scores.players.get(player);
+    if (node == null) {
+      return OptionalDouble.empty();
+    }
+
+    int others = scores.tree.size() - 1;
+    if (others == 0) {
+      return OptionalDouble.of(100);
+    }
+
+    int lower = scores.tree.size() - scores.tree.countAtLeast(node.score);
+    return OptionalDouble.of(100.0 * lower / others);
+  }
+
+  /**
+   * Returns the number of players on the board.
+   *
+   * @param board the name of the board
+   * @return the number of players, 0 if the board doesn't exist
+   */
+  public synchronized int size(String board) {
+    Board scores = boards.get(board);
+
+    return scores == null ? 0 : scores.tree.size();
+  }
+
+  /**
+   * Returns the names of the boards with at least one score.
+   *
+   * @return the names of the boards, in alphabetical order
+   */
+  public synchronized Set<String> boards() {
+    return new TreeSet<>(boards.keySet());
+  }
+
+  /**
+   * Closes the log.
+   *
+   * @throws IOException if the log cannot be closed
+   */
+  @Override
+  public synchronized void close() throws IOException {
+    closed = true;
+    if (writer != null) {
+      writer.close();
+      writer = null;
+    }
+  }
+
+  private boolean accepts(String board, String player, int score) {
+    Board scores = boards.get(board);
+    if (scores == null) {
+      return true;
+    }
+
+    RankTree.Node current = scores.players.get(player);
+    if (current != null) {
+      return score > current.score;
+    }
+
+    return scores.tree.size() < capacity || score > scores.tree.get(scores.tree.size() - 1).score;
+  }
+
+  private void apply(String board, String player, int score) {
+    Board scores = boards.computeIfAbsent(board, name -> new Board());
+    RankTree.Node current = scores.players.get(player);
+
+    if (current != null) {
+      scores.tree.remove(current);
+    } else if (scores.tree.size() >= capacity) {
+      RankTree.Node last = scores.tree.get(scores.tree.size() - 1);
+      scores.tree.remove(last);
+      scores.players.remove(last.player);
+    }
+
+    scores.players.put(player, scores.tree.insert(player, score, sequence++));
+  }
+
+  private void replay() throws IOException {
+    if (!Files.exists(log)) {
+      return;
+    }
+
+    String content = Files.readString(log, StandardCharsets.UTF_8);
+    int start = 0;
+    int end;
+
+    while ((end = content.indexOf('\n', start)) >= 0) {
+      String[] parts = content.substring(start, end).split("\t", -1);
+      start = end + 1;
+      logLines++;
+
+      try {
+        if (parts.length == 3 && accepts(parts[0], parts[1], Integer.parseInt(parts[2]))) {
+          apply(parts[0], parts[1], Integer.parseInt(parts[2]));
+        }
+      } catch (NumberFormatException ignore) {
+        // a damaged line doesn't invalidate the other scores
+      }
+    }
+
+    if (start < content.length()) {
+      // the last line was cut off by a crash, drop it so that the next one starts on a new line
+      try (FileChannel channel = FileChannel.open(log, StandardOpenOption.WRITE)) {
+        channel.truncate(content.substring(0, start).getBytes(StandardCharsets.UTF_8).length);
+      }
+    }
+  }
+
+  private boolean needsCompaction() {
+    if (log == null) {
+      return false;
+    }
+
+    long players = boards.values().stream().mapToLong(board -> board.tree.size()).sum();
+    return logLines >= COMPACTION_MIN_LINES && logLines > COMPACTION_RATIO * players;
+  }
+
+  private void compact() throws IOException {
+    List<String> lines = new ArrayList<>();
+    List<RankTree.Node> nodes = new ArrayList<>();
+    Map<RankTree.Node, String> boardOf = new HashMap<>();
+
+    for (Map.Entry<String, Board> board : boards.entrySet()) {
+      for (RankTree.Node node : board.getValue().players.values()) {
+        nodes.add(node);
+        boardOf.put(node, board.getKey());
+      }
+    }
+    // keep the order of the records, which breaks the ties of the ranks
+    nodes.sort(Comparator.comparingLong(node -> node.sequence));
+    for (RankTree.Node node : nodes) {
+      lines.add(boardOf.get(node) + '\t' + node.player + '\t' + node.score);
+    }
+
+    Path temp = Files.createTempFile(log.getParent(), ".leaderboard", ".tmp");
+    try {
+      Files.write(temp, lines, StandardCharsets.UTF_8);
+      try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.WRITE)) {
+        channel.force(true);
+      }
+
+      // the log is only closed once the new one is complete, and reopened whatever happens
+      try {
+        writer.close();
+      } finally {
+        writer = null;
+      }
+      try {
+        Files.move(temp, log, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+      } catch (AtomicMoveNotSupportedException e) {
+        Files.move(temp, log, StandardCopyOption.REPLACE_EXISTING);
+      }
+      logLines = lines.size();
+    } finally {
+      Files.deleteIfExists(temp);
+      if (writer == null) {
+        open();
+      }
+    }
+  }
+
+  private void open() throws IOException {
+    writer =
+        Files.newBufferedWriter(
+            log, StandardCharsets.UTF_8, StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+  }
+
+  private static void checkName(String name) {
+    if (name.indexOf('\t') >= 0 || name.indexOf('\n') >= 0 || name.indexOf('\r') >= 0) {
+      throw new IllegalArgumentException("Names cannot contain tabs or line breaks.");
+    }
+  }
+
+  private static final class Board {
+    private final RankTree tree = new RankTree();
+    private final Map<String, RankTree.Node> players = new HashMap<>();
+  }
+}
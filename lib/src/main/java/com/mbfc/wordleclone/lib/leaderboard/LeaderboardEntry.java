@@ -0,0 +1,10 @@
+package com.mbfc.wordleclone.lib.leaderboard;
+
+/**
+ * The standing of a player on a leaderboard.
+ *
+ * @param player Name of the player.
+ * @param score Best score of the player.
+ * @param rank Position of the player, 1 for the best score.
+ */
+public record LeaderboardEntry(String player, int score, int rank) {}
@@ -0,0 +1,228 @@
+package com.mbfc.wordleclone.lib.leaderboard;
+
+import java.util.SplittableRandom;
+
+/**
+ * An order-statistic tree of the scores of a single leaderboard.
+ *
+ * <p>The tree is a treap ordered from the best to the worst score: higher scores come first, and
+ * equal scores are ordered by the sequence number of the record, so the player who reached a score
+ * first ranks higher. Every node keeps the size of its subtree, so ranks and positions are found in
+ * expected O(log n) time. It is not thread safe.
+ */
+final class RankTree {
+  // fixed seed, so the shape of the tree doesn't depend on the run
+  private final SplittableRandom priorities = new SplittableRandom(0x5EED);
+  private Node root;
+
+  /** A score of a player in the tree. */
+  static final class Node {
+    final String player;
+    final int score;
+    final long sequence;
+    private final int priority;
+    private int size = 1;
+    private Node left;
+    private Node right;
+
+    private Node(String player, int score, long sequence, int priority) {
+      this.player = player;
+      this.score = score;
+      this.sequence = sequence;
+      this.priority = priority;
+    }
+  }
+
+  /**
+   * Adds the score of a player.
+   *
+   * @param player the name of the player
+   * @param score the score
+   * @param sequence the number of the record, unique and increasing
+   * @return the added node
+   */
+  Node insert(String player, int score, long sequence) {
+    Node node = new Node(player, score, sequence, priorities.nextInt());
+    root = insertNode(root, node);
+
+    return node;
+  }
+
+  /**
+   * Removes a node that is in the tree.
+   *
+   * @param node the node to remove
+   */
+  void remove(Node node) {
+    root = removeNode(root, node);
+  }
+
+  int size() {
+    return sizeOf(root);
+  }
+
+  /**
+   * Returns the rank of a node that is in the tree.
+   *
+   * @param node the node
+   * @return the rank of the node, 1 for the best score
+   */
+  int rank(Node node) {
+    int rank = 0;
+    Node current = root;
+
+    while (current != null) {
+      int order = compare(node, current);
+      if (order < 0) {
+        current = current.left;
+      } else {
+        rank += sizeOf(current.left) + 1;
+        if (order == 0) {
+          break;
+        }
+        current = current.right;
+      }
+    }
+
+    return rank;
+  }
+
+  /**
+   * Returns the node at the given position.
+   *
+   * @param index the position, 0 for the best score
+   * @return the node at the position
+   * @throws IndexOutOfBoundsException if the position is out of range
+   */
+  Node get(int index) {
+    if (index < 0 || index >= size()) {
+      throw new IndexOutOfBoundsException("Index: " + index + ", size: " + size());
+    }
+
+    Node current = root;
+    while (true) {
+      int leftSize = sizeOf(current.left);
+      if (index < leftSize) {
+        current = current.left;
+      } else if (index == leftSize) {
+        return current;
+      } else {
+        index -= leftSize + 1;
+        current = current.right;
+      }
+    }
+  }
+
+  /**
+   * Counts the nodes with a score that is at least the given one.
+   *
+   * @param score the score
+   * @return the number of nodes with an equal or higher score
+   */
+  int countAtLeast(int score) {
+    int count = 0;
+    Node current = root;
+
+    while (current != null) {
+      if (current.score >= score) {
+        count += sizeOf(current.left) + 1;
+        current = current.right;
+      } else {
+        current = current.left;
+      }
+    }
+
+    return count;
+  }
+
+  private static Node insertNode(Node tree, Node node) {
+    if (tree == null) {
+      return node;
+    }
+
+    if (compare(node, tree) < 0) {
+      tree.left = insertNode(tree.left, node);
+      if (tree.left.priority > tree.priority) {
+        tree = rotateRight(tree);
+      }
+    } else {
+      tree.right = insertNode(tree.right, node);
+      if (tree.right.priority > tree.priority) {
+        tree = rotateLeft(tree);
+      }
+    }
+
+    update(tree);
+    return tree;
+  }
+
+  private static Node removeNode(Node tree, Node node) {
+    if (tree == null) {
+      return null;
+    }
+
+    int order = compare(node, tree);
+    if (order < 0) {
+      tree.left = removeNode(tree.left, node);
+    } else if (order > 0) {
+      tree.right = removeNode(tree.right, node);
+    } else {
+      return merge(tree.left, tree.right);
+    }
+
+    update(tree);
+    return tree;
+  }
+
+  private static Node merge(Node left, Node right) {
+    if (left == null) {
+      return right;
+    } else if (right == null) {
+      return left;
+    }
+
+    if (left.priority > right.priority) {
+      left.right = merge(left.right, right);
+      update(left);
+      return left;
+    }
+
+    right.left = merge(left, right.left);
+    update(right);
+    return right;
+  }
+
+  private static Node rotateRight(Node tree) {
+    Node left = tree.left;
+    tree.left = left.right;
+    left.right = tree;
+    update(tree);
+
+    return left;
+  }
+
+  private static Node rotateLeft(Node tree) {
+    Node right = tree.right;
+    tree.right = right.left;
+    right.left = tree;
+    update(tree);
+
+    return right;
+  }
+
+  private static void update(Node node) {
+    node.size = sizeOf(node.left) + sizeOf(node.right) + 1;
+  }
+
+  private static int sizeOf(Node node) {
+    return node == null ? 0 : node.size;
+  }
+
+  private static int compare(Node a, Node b) {
+    if (a.score != b.score) {
+      return Integer.compare(b.score, a.score);
+    }
+
+    return Long.compare(a.sequence, b.sequence);
+  }
+}
@@ -0,0 +1,127 @@
+package com.mbfc.wordleclone.lib.metrics;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A histogram of non-negative values, such as latencies in nanoseconds.
+ *
+ * <p>Like an HDR histogram, the buckets grow exponentially: every power of two is split into
+ * {@value #SUB_BUCKETS} equal buckets, so any value from 0 to {@link Long#MAX_VALUE} is recorded
+ * with a relative error of at most 1/16 in less than 8 KB. Values below {@value #SUB_BUCKETS} are
+ * recorded exactly.
+ *
+ * <p>Recording is lock-free: it increments the counter of a bucket and updates the sum and the
+ * maximum, and never allocates. Snapshots taken while values are recorded may miss some of them.
+ */
+public class Histogram {
+  /** Number of buckets every power of two is split into. */
+  static final int SUB_BUCKETS = 16;
+
+  private static final int SUB_BITS = Integer.numberOfTrailingZeros(SUB_BUCKETS);
+  // the highest exponent of a positive long is 62
+  private static final int BUCKETS = (Long.SIZE - SUB_BITS) * SUB_BUCKETS;
+
+  private final AtomicLongArray counts = new AtomicLongArray(BUCKETS);
+  private final LongAdder sum = new LongAdder();
+  private final LongAccumulator max = new LongAccumulator(Math::max, 0);
+
+  /**
+   * Records a value.
+   *
+   * @param value the value, negative values are recorded as 0
+   */
+  public void record(long value) {
+    long clamped = Math.max(value, 0);
+
+    counts.incrementAndGet(indexOf(clamped));
+    sum.add(clamped);
+    max.accumulate(clamped);
+  }
+
+  /**
+   * Returns the distribution of the recorded values.
+   *
+   * @return the snapshot of the histogram
+   */
+  public HistogramSnapshot snapshot() {
+    long[] snapshot = new long[BUCKETS];
+    long count = 0;
+
+    for (int i = 0; i < BUCKETS; i++) {
+      snapshot[i] = counts.get(i);
+      count += snapshot[i];
+    }
+
+    if (count == 0) {
+      return new HistogramSnapshot(0, 0, 0, 0, 0, 0);
+    }
+
+    long highest = max.get();
+    return new HistogramSnapshot(
+        count,
+        (double) sum.sum() / count,
+        Math.min(percentile(snapshot, count, 0.50), highest),
+        Math.min(percentile(snapshot, count, 0.90), highest),
+        Math.min(percentile(snapshot, count, 0.99), highest),
+        highest);
+  }
+
+  /** Removes all of the recorded values. */
+  public void reset() {
+    for (int i = 0; i < BUCKETS; i++) {
+      counts.set(i, 0);
+    }
+    sum.reset();
+    max.reset();
+  }
+
+  /**
+   * Returns the bucket of a value.
+   *
+   * @param value the non-negative value
+   * @return the index of the bucket
+   */
+  static int indexOf(long value) {
+    if (value < SUB_BUCKETS) {
+      return (int) value;
+    }
+
+    int exponent = Long.SIZE - 1 - Long.numberOfLeadingZeros(value);
+    int sub = (int) (value >>> (exponent - SUB_BITS)) & (SUB_BUCKETS - 1);
+
+    return (exponent - SUB_BITS + 1) * SUB_BUCKETS + sub;
+  }
+
+  /**
+   * Returns the highest value of a bucket.
+   *
+   * @param index the index of the bucket
+   * @return the highest value recorded into the bucket
+   */
+  static long upperBound(int index) {
+    if (index < SUB_BUCKETS) {
+      return index;
+    }
+
+    int shift = index / SUB_BUCKETS - 1;
+    long lower = (long) (SUB_BUCKETS + index % SUB_BUCKETS) << shift;
+
+    return lower + (1L << shift) - 1;
+  }
+
+  private static long percentile(long[] counts, long count, double percentile) {
+    long rank = Math.max(1, (long) Math.ceil(percentile * count));
+    long seen = 0;
+
+    for (int i = 0; i < counts.length; i++) {
+      seen += counts[i];
+      if (seen >= rank) {
+        return upperBound(i);
+      }
+    }
+
+    return upperBound(counts.length - 1);
+  }
+}
@@ -0,0 +1,16 @@
+package com.mbfc.wordleclone.lib.metrics;
+
+/**
+ * The distribution of the values recorded by a {@link Histogram}.
+ *
+ * <p>The percentiles are the upper bounds of the buckets they fall into, so they are at most 1/16
+ * higher than the exact values.
+ *
+ * @param count Number of recorded values.
+ * @param mean Mean of the values, 0 if there are none.
+ * @param p50 Median of the values.
+ * @param p90 90th percentile of the values.
+ * @param p99 99th percentile of the values.
+ * @param max Highest value, 0 if there are none.
+ */
+public record HistogramSnapshot(long count, double mean, long p50, long p90, long p99, long max) {}
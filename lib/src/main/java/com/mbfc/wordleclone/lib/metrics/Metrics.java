@@ -0,0 +1,168 @@
+package com.mbfc.wordleclone.lib.metrics;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Process-wide metrics of the games, the comparators and the parsers.
+ *
+ * <p>The library records:
+ *
+ * <ul>
+ *   <li>the number of guesses processed by the games,
+ *   <li>the number of rejected guesses, by the reason they were rejected for,
+ *   <li>the latency of the comparisons, by the implementation of the comparator,
+ *   <li>the time spent parsing every list,
+ *   <li>the number of guesses it took to win the rounds of endless games.
+ * </ul>
+ *
+ * <p>Metrics are disabled by default. While they are, every recording method returns after reading
+ * a single flag, and {@link #startTimer()} doesn't read the clock, so the instrumented code runs at
+ * nearly the same speed as without metrics. Recording is lock-free and thread safe, and the current
+ * values are read with {@link #snapshot()}.
+ */
+public final class Metrics {
+  // the reasons of rejected guesses come from exception messages, so their number is bounded
+  private static final int MAX_REASONS = 64;
+  private static final String OTHER_REASON = "(other)";
+
+  private static volatile boolean enabled;
+
+  private static final LongAdder GUESSES = new LongAdder();
+  private static final ConcurrentMap<String, LongAdder> VALIDATION_FAILURES =
+      new ConcurrentHashMap<>();
+  private static final ConcurrentMap<Class<?>, Histogram> COMPARE_NANOS = new ConcurrentHashMap<>();
+  private static final ConcurrentMap<String, Histogram> PARSE_NANOS = new ConcurrentHashMap<>();
+  private static final Histogram ROUND_LENGTHS = new Histogram();
+
+  private Metrics() {}
+
+  public static boolean isEnabled() {
+    return enabled;
+  }
+
+  /**
+   * Enables or disables the recording of the metrics.
+   *
+   * <p>The values recorded so far are kept, see {@link #reset()}.
+   *
+   * @param enabled {@code true} to record the metrics
+   */
+  public static void setEnabled(boolean enabled) {
+    Metrics.enabled = enabled;
+  }
+
+  /**
+   * Starts measuring a duration.
+   *
+   * @return the current time in nanoseconds, or 0 if the metrics are disabled
+   */
+  public static long startTimer() {
+    return enabled ? System.nanoTime() : 0;
+  }
+
+  /** Records a guess processed by a game. */
+  public static void recordGuess() {
+    if (enabled) {
+      GUESSES.increment();
+    }
+  }
+
+  /**
+   * Records a rejected guess.
+   *
+   * @param reason the reason the guess was rejected for, usually the message of the exception
+   */
+  public static void recordValidationFailure(String reason) {
+    if (!enabled) {
+      return;
+    }
+
+    String key = reason == null ? OTHER_REASON : reason;
+    LongAdder count = VALIDATION_FAILURES.get(key);
+    if (count == null) {
+      if (VALIDATION_FAILURES.size() >= MAX_REASONS) {
+        key = OTHER_REASON;
+      }
+      count = VALIDATION_FAILURES.computeIfAbsent(key, k -> new LongAdder());
+    }
+
+    count.increment();
+  }
+
+  /**
+   * Records the latency of a comparison.
+   *
+   * @param comparator the class of the comparator
+   * @param start the result of {@link #startTimer()} before the comparison
+   */
+  public static void recordCompare(Class<?> comparator, long start) {
+    if (enabled && start != 0) {
+      histogram(COMPARE_NANOS, comparator).record(System.nanoTime() - start);
+    }
+  }
+
+  /**
+   * Records the time spent parsing a list.
+   *
+   * @param list the path of the list
+   * @param start the result of {@link #startTimer()} before the list was parsed
+   */
+  public static void recordParse(String list, long start) {
+    if (enabled && start != 0) {
+      histogram(PARSE_NANOS, list).record(System.nanoTime() - start);
+    }
+  }
+
+  /**
+   * Records the length of a won round of an endless game.
+   *
+   * @param guesses the number of guesses it took to win the round
+   */
+  public static void recordRoundLength(int guesses) {
+    if (enabled) {
+      ROUND_LENGTHS.record(guesses);
+    }
+  }
+
+  /**
+   * Returns the current values of the metrics.
+   *
+   * @return the snapshot of the metrics, with the maps sorted by their keys
+   */
+  public static MetricsSnapshot snapshot() {
+    Map<String, Long> failures = new TreeMap<>();
+    VALIDATION_FAILURES.forEach((reason, count) -> failures.put(reason, count.sum()));
+
+    Map<String, HistogramSnapshot> compares = new TreeMap<>();
+    COMPARE_NANOS.forEach((type, histogram) -> compares.put(nameOf(type), histogram.snapshot()));
+
+    Map<String, HistogramSnapshot> parses = new TreeMap<>();
+    PARSE_NANOS.forEach((list, histogram) -> parses.put(list, histogram.snapshot()));
+
+    return new MetricsSnapshot(GUESSES.sum(), failures, compares, parses, ROUND_LENGTHS.snapshot());
+  }
+
+  /** Removes all of the recorded values. */
+  public static void reset() {
+    GUESSES.reset();
+    VALIDATION_FAILURES.clear();
+    COMPARE_NANOS.clear();
+    PARSE_NANOS.clear();
+    ROUND_LENGTHS.reset();
+  }
+
+  private static String nameOf(Class<?> type) {
+    // anonymous classes and lambdas have no simple name
+    return type.getSimpleName().isEmpty() ? type.getName() : type.getSimpleName();
+  }
+
+  private static <K> Histogram histogram(ConcurrentMap<K, Histogram> histograms, K key) {
+    Histogram histogram = histograms.get(key);
+
+    return histogram != null ? histogram : histograms.computeIfAbsent(key, k -> new Histogram());
+  }
+}
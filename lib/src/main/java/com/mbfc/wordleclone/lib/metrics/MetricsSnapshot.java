@@ -0,0 +1,70 @@
+package com.mbfc.wordleclone.lib.metrics;
+
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * The values of the {@link Metrics} at a point in time.
+ *
+ * @param guesses Number of guesses processed by the games.
+ * @param validationFailures Number of rejected guesses, by the message of the {@code
+ *     GameException}.
+ * @param compareNanos Latency of the comparisons in nanoseconds, by the simple class name of the
+ *     comparator.
+ * @param parseNanos Time spent parsing the lists in nanoseconds, by the path of the list.
+ * @param roundLengths Number of guesses it took to win the rounds of endless games.
+ */
+public record MetricsSnapshot(
+    long guesses,
+    Map<String, Long> validationFailures,
+    Map<String, HistogramSnapshot> compareNanos,
+    Map<String, HistogramSnapshot> parseNanos,
+    HistogramSnapshot roundLengths) {
+
+  /**
+   * Formats the metrics as a human-readable report, a metric per line.
+   *
+   * @return the report
+   */
+  public String format() {
+    StringBuilder report = new StringBuilder();
+
+    report.append("Guesses processed: ").append(guesses).append('\n');
+    report.append("Rejected guesses:\n");
+    validationFailures.forEach(
+        (reason, count) ->
+            report.append("  ").append(count).append("  ").append(reason).append('\n'));
+    report.append("Compare latency (ns):\n");
+    compareNanos.forEach((name, histogram) -> appendHistogram(report, name, histogram));
+    report.append("Parse time (ms):\n");
+    parseNanos.forEach(
+        (list, histogram) ->
+            report.append(
+                String.format(
+                    Locale.ROOT,
+                    "  %s: %d parsed, mean %.2f, max %.2f%n",
+                    list,
+                    histogram.count(),
+                    histogram.mean() / 1e6,
+                    histogram.max() / 1e6)));
+    report.append("Endless round lengths (guesses):\n");
+    appendHistogram(report, "rounds", roundLengths);
+
+    return report.toString();
+  }
+
+  private static void appendHistogram(
+      StringBuilder report, String name, HistogramSnapshot histogram) {
+    report.append(
+        String.format(
+            Locale.ROOT,
+            "  %s: count %d, mean %.1f, p50 %d, p90 %d, p99 %d, max %d%n",
+            name,
+            histogram.count(),
+            histogram.mean(),
+            histogram.p50(),
+            histogram.p90(),
+            histogram.p99(),
+            histogram.max()));
+  }
+}
@@ -1,24 +1,40 @@
 package com.mbfc.wordleclone.lib.parser;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.mbfc.wordleclone.lib.dataset.BinaryDataset;
+import com.mbfc.wordleclone.lib.dataset.ObjectDataset;
+import com.mbfc.wordleclone.lib.dictionary.BinaryWordList;
 import com.mbfc.wordleclone.lib.json.DateTimeField;
 import com.mbfc.wordleclone.lib.json.DoubleField;
 import com.mbfc.wordleclone.lib.json.Field;
 import com.mbfc.wordleclone.lib.json.IntegerField;
 import com.mbfc.wordleclone.lib.json.SetField;
 import com.mbfc.wordleclone.lib.json.StringField;
+import com.mbfc.wordleclone.lib.metrics.Metrics;
 import com.mbfc.wordleclone.lib.util.Pair;
+import java.io.BufferedInputStream;
 import java.io.FileInputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Path;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Deque;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.TreeMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
 
 /**
  * Parser that reads a file or classpath resource and parses it into a {@link Pair} of {@code
@@ -60,131 +76,339 @@ import java.util.TreeMap;
  * }
  * </pre>
  *
+ * <p>The parsed word list is an {@link ObjectDataset}, indexed on the "key" field.
+ *
+ * <p>The json is read as a stream of tokens, and every element of "data" is converted into typed
+ * fields as soon as it's read, so the raw string values of the records are never held in memory all
+ * at once. This requires "fields" to come before "data" in the file, otherwise the records are
+ * buffered until the schema is read.
+ *
+ * <p>Files and resources that start with the magic number of a {@link BinaryWordList} are read as a
+ * precompiled {@link BinaryDataset} instead, without parsing json at all.
+ *
+ * <p>Records can optionally be converted in parallel, see {@link #JsonParser(boolean)}. Either way,
+ * the order of the records is the order in the file, and a record that cannot be converted fails
+ * the whole parse. The cause of the thrown exception tells which record it was.
+ *
  * @see Parser
  */
 public class JsonParser implements Parser<Pair<String, List<TreeMap<String, Field>>>> {
+  private static final ObjectMapper MAPPER = new ObjectMapper();
+  private static final DateTimeFormatter FORMATTER =
+      DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm");
+  private static final int CHUNK_SIZE = 1024;
+
+  private final boolean parallel;
+
+  /** Creates a new parser that converts records on the calling thread. */
+  public JsonParser() {
+    this(false);
+  }
+
+  /**
+   * Creates a new parser.
+   *
+   * <p>A parallel parser splits the "data" array into chunks of {@value #CHUNK_SIZE} records and
+   * converts them on the common {@link ForkJoinPool}, while the file is still being read. This only
+   * pays off for large datasets, with hundreds of thousands of records.
+   *
+   * @param parallel {@code true} to convert records in parallel, {@code false} otherwise
+   */
+  public JsonParser(boolean parallel) {
+    this.parallel = parallel;
+  }
+
   /**
    * {@inheritDoc}
    *
-   * <p>This implementation reads the classpath resource json file.
+   * <p>This implementation reads the classpath resource json file, or a precompiled dataset.
    */
   @Override
   public Pair<String, List<TreeMap<String, Field>>> parseResource(String resourcePath)
       throws IOException {
-    ObjectMapper mapper = new ObjectMapper();
-    DateTimeFormatter formatter = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm");
-    JsonData wrapper = null;
-    List<TreeMap<String, Field>> wordList = new ArrayList<>();
+    long start = Metrics.startTimer();
+    Pair<String, List<TreeMap<String, Field>>> records = readResource(resourcePath);
+
+    Metrics.recordParse(resourcePath, start);
+    return records;
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * <p>This implementation reads the specified json file, or maps a precompiled dataset.
+   */
+  @Override
+  public Pair<String, List<TreeMap<String, Field>>> parseFile(String filePath) throws IOException {
+    long start = Metrics.startTimer();
+    Pair<String, List<TreeMap<String, Field>>> records = readFile(filePath);
+
+    Metrics.recordParse(filePath, start);
+    return records;
+  }
+
+  private Pair<String, List<TreeMap<String, Field>>> readResource(String resourcePath)
+      throws IOException {
     InputStream inputStream = JsonParser.class.getResourceAsStream(resourcePath);
 
     if (inputStream == null) {
       throw new IOException("Resource not found: " + resourcePath);
     }
 
-    try {
-      wrapper = mapper.readValue(inputStream, JsonData.class);
-    } catch (Exception e) {
-      throw new IOException("Unable to read the resource file: " + resourcePath, e);
+    try (BufferedInputStream in = new BufferedInputStream(inputStream)) {
+      if (BinaryWordList.isBinary(in)) {
+        return precompiled(BinaryDataset.read(ByteBuffer.wrap(in.readAllBytes())));
+      }
+
+      return parse(in, "resource file: " + resourcePath);
     }
+  }
 
-    try {
-      for (Map<String, String> element : wrapper.getData()) {
-        TreeMap<String, Field> x = new TreeMap<>();
-
-        for (Map.Entry<String, String> entry : element.entrySet()) {
-          switch (wrapper.getFields().get(entry.getKey())) {
-            case "string":
-              x.put(entry.getKey(), new StringField(entry.getValue()));
-              break;
-            case "integer":
-              x.put(entry.getKey(), new IntegerField(Integer.parseInt(entry.getValue())));
-              break;
-            case "double":
-              x.put(entry.getKey(), new DoubleField(Double.parseDouble(entry.getValue())));
-              break;
-            case "datetime":
-              x.put(
-                  entry.getKey(),
-                  new DateTimeField(LocalDateTime.parse(entry.getValue(), formatter)));
-              break;
-            case "set":
-              x.put(
-                  entry.getKey(),
-                  new SetField(new HashSet<>(Arrays.asList(entry.getValue().split(",")))));
-              break;
-            default:
-              throw new IOException("Unable to parse the resource file: " + resourcePath);
+  private Pair<String, List<TreeMap<String, Field>>> readFile(String filePath) throws IOException {
+    if (BinaryWordList.isBinary(Path.of(filePath))) {
+      return precompiled(BinaryDataset.read(Path.of(filePath)));
+    }
+
+    try (InputStream inputStream = new FileInputStream(filePath)) {
+      return parse(inputStream, "file: " + filePath);
+    }
+  }
+
+  private static Pair<String, List<TreeMap<String, Field>>> precompiled(ObjectDataset dataset) {
+    return new Pair<>(dataset.getKey(), dataset);
+  }
+
+  public boolean isParallel() {
+    return parallel;
+  }
+
+  /**
+   * Reads the json from the stream and converts its records into fields.
+   *
+   * @param inputStream the stream to read
+   * @param source the description of the stream used in error messages, e.g. {@code "file: x"}
+   * @return the key and the parsed records
+   * @throws IOException if the json cannot be read or its records cannot be converted
+   */
+  private Pair<String, List<TreeMap<String, Field>>> parse(InputStream inputStream, String source)
+      throws IOException {
+    String key = null;
+    Map<String, String> fields = null;
+    RecordConverter converter = null;
+    boolean read = false;
+
+    try (com.fasterxml.jackson.core.JsonParser json = MAPPER.createParser(inputStream)) {
+      expect(json.nextToken(), JsonToken.START_OBJECT, source);
+
+      while (json.nextToken() == JsonToken.FIELD_NAME) {
+        String name = json.currentName();
+        JsonToken token = json.nextToken();
+
+        switch (name) {
+          case "key" -> key = json.getValueAsString();
+          case "fields" ->
+              fields = MAPPER.readValue(json, new TypeReference<TreeMap<String, String>>() {});
+          case "data" -> {
+            expect(token, JsonToken.START_ARRAY, source);
+            converter = new RecordConverter(fields, source);
+            while (json.nextToken() == JsonToken.START_OBJECT) {
+              converter.add(readRecord(json, source));
+            }
+            expect(json.currentToken(), JsonToken.END_ARRAY, source);
           }
+          default -> json.skipChildren();
         }
+      }
+      read = true;
+    } catch (JsonProcessingException e) {
+      throw new IOException("Unable to read the " + source, e);
+    } finally {
+      if (converter != null && (!read || key == null || fields == null)) {
+        converter.cancel();
+      }
+    }
+
+    if (key == null || fields == null) {
+      throw new IOException("Unable to read the " + source);
+    }
 
-        wordList.add(x);
+    List<TreeMap<String, Field>> wordList =
+        converter == null ? new ArrayList<>() : converter.finish(fields);
+
+    try {
+      return new Pair<>(key, new ObjectDataset(key, fields, wordList));
+    } catch (IllegalArgumentException e) {
+      throw new IOException("Unable to parse the " + source, e);
+    }
+  }
+
+  /**
+   * Reads the raw values of a single record.
+   *
+   * @return the names and values of the record's fields, one after another
+   */
+  private static String[] readRecord(com.fasterxml.jackson.core.JsonParser json, String source)
+      throws IOException {
+    List<String> raw = new ArrayList<>();
+
+    while (json.nextToken() == JsonToken.FIELD_NAME) {
+      String name = json.currentName();
+      JsonToken token = json.nextToken();
+
+      if (!token.isScalarValue() || token == JsonToken.VALUE_NULL) {
+        throw new IOException("Unable to read the " + source);
       }
-    } catch (Exception e) {
-      throw new IOException("Unable to parse the resource file: " + resourcePath, e);
+
+      raw.add(name);
+      raw.add(json.getText());
     }
 
-    return new Pair(wrapper.getKey(), wordList);
+    return raw.toArray(new String[0]);
+  }
+
+  private static Field<?> toField(String name, String type, String value) {
+    if (type == null) {
+      throw new IllegalArgumentException("Field is not in the schema: " + name + ".");
+    }
+
+    return switch (type) {
+      case "string" -> new StringField(value);
+      case "integer" -> new IntegerField(Integer.parseInt(value));
+      case "double" -> new DoubleField(Double.parseDouble(value));
+      case "datetime" -> new DateTimeField(LocalDateTime.parse(value, FORMATTER));
+      case "set" -> new SetField(new HashSet<>(Arrays.asList(value.split(","))));
+      default -> throw new IllegalArgumentException("Unknown type of field: " + name + ".");
+    };
+  }
+
+  private static void expect(JsonToken actual, JsonToken expected, String source)
+      throws IOException {
+    if (actual != expected) {
+      throw new IOException("Unable to read the " + source);
+    }
   }
 
   /**
-   * {@inheritDoc}
+   * Converts raw records into fields, in the order in which they're added.
    *
-   * <p>This implementation reads the specified json file.
+   * <p>Records read before the schema are buffered until {@link #finish}. Otherwise they're
+   * converted right away, or, by a parallel parser, in chunks on the common {@link ForkJoinPool}.
+   * At most two chunks per thread of the pool are converted at a time, so a file is never buffered
+   * whole.
    */
-  @Override
-  public Pair<String, List<TreeMap<String, Field>>> parseFile(String filePath) throws IOException {
-    ObjectMapper mapper = new ObjectMapper();
-    DateTimeFormatter formatter = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm");
-    JsonData wrapper = null;
-    List<TreeMap<String, Field>> wordList = new ArrayList<>();
-    InputStream inputStream = new FileInputStream(filePath);
+  private final class RecordConverter {
+    private final String source;
+    private final List<TreeMap<String, Field>> records = new ArrayList<>();
+    private final Deque<ForkJoinTask<List<TreeMap<String, Field>>>> pending = new ArrayDeque<>();
+    private final int maxPending = 2 * ForkJoinPool.getCommonPoolParallelism();
+    private Map<String, String> fields;
+    private List<String[]> chunk = new ArrayList<>();
+    private int chunkStart;
+    private int count;
 
-    if (inputStream == null) {
-      throw new IOException("File not found: " + filePath);
+    RecordConverter(Map<String, String> fields, String source) {
+      this.fields = fields;
+      this.source = source;
     }
 
-    try {
-      wrapper = mapper.readValue(inputStream, JsonData.class);
-    } catch (Exception e) {
-      throw new IOException("Unable to read the file: " + filePath, e);
+    void add(String[] raw) throws IOException {
+      if (fields != null && !parallel) {
+        records.add(convert(raw, count++));
+        return;
+      }
+
+      chunk.add(raw);
+      count++;
+      if (fields != null && chunk.size() == CHUNK_SIZE) {
+        submit(chunk);
+      }
     }
 
-    try {
-      for (Map<String, String> element : wrapper.getData()) {
-        TreeMap<String, Field> x = new TreeMap<>();
-
-        for (Map.Entry<String, String> entry : element.entrySet()) {
-          switch (wrapper.getFields().get(entry.getKey())) {
-            case "string":
-              x.put(entry.getKey(), new StringField(entry.getValue()));
-              break;
-            case "integer":
-              x.put(entry.getKey(), new IntegerField(Integer.parseInt(entry.getValue())));
-              break;
-            case "double":
-              x.put(entry.getKey(), new DoubleField(Double.parseDouble(entry.getValue())));
-              break;
-            case "datetime":
-              x.put(
-                  entry.getKey(),
-                  new DateTimeField(LocalDateTime.parse(entry.getValue(), formatter)));
-              break;
-            case "set":
-              x.put(
-                  entry.getKey(),
-                  new SetField(new HashSet<>(Arrays.asList(entry.getValue().split(",")))));
-              break;
-            default:
-              throw new IOException("Unable to parse the file: " + filePath);
-          }
+    List<TreeMap<String, Field>> finish(Map<String, String> schema) throws IOException {
+      fields = schema;
+
+      if (parallel) {
+        List<String[]> rest = chunk;
+        for (int from = 0; from < rest.size(); from += CHUNK_SIZE) {
+          submit(new ArrayList<>(rest.subList(from, Math.min(from + CHUNK_SIZE, rest.size()))));
         }
+      } else {
+        for (String[] raw : chunk) {
+          records.add(convert(raw, chunkStart++));
+        }
+      }
+
+      while (!pending.isEmpty()) {
+        join();
+      }
+
+      return records;
+    }
+
+    void cancel() {
+      pending.forEach(task -> task.cancel(true));
+    }
+
+    private void submit(List<String[]> raws) throws IOException {
+      int start = chunkStart;
+      Map<String, String> schema = fields;
 
-        wordList.add(x);
+      pending.add(
+          ForkJoinPool.commonPool()
+              .submit(
+                  () -> {
+                    List<TreeMap<String, Field>> converted = new ArrayList<>(raws.size());
+                    for (int i = 0; i < raws.size(); i++) {
+                      converted.add(convert(schema, raws.get(i), start + i));
+                    }
+                    return converted;
+                  }));
+      chunkStart += raws.size();
+      chunk = new ArrayList<>();
+
+      while (pending.size() > maxPending) {
+        join();
       }
-    } catch (Exception e) {
-      throw new IOException("Unable to parse the file: " + filePath, e);
     }
 
-    return new Pair(wrapper.getKey(), wordList);
+    private void join() throws IOException {
+      try {
+        records.addAll(pending.poll().get());
+      } catch (ExecutionException e) {
+        cancel();
+        // the pool wraps checked exceptions of the task in a RuntimeException
+        for (Throwable cause = e.getCause(); cause != null; cause = cause.getCause()) {
+          if (cause instanceof IOException ioException) {
+            throw ioException;
+          }
+        }
+        throw new IOException("Unable to parse the " + source, e.getCause());
+      } catch (InterruptedException e) {
+        cancel();
+        Thread.currentThread().interrupt();
+        throw new InterruptedIOException("Interrupted while parsing the " + source);
+      }
+    }
+
+    private TreeMap<String, Field> convert(String[] raw, int index) throws IOException {
+      return convert(fields, raw, index);
+    }
+
+    private TreeMap<String, Field> convert(Map<String, String> schema, String[] raw, int index)
+        throws IOException {
+      TreeMap<String, Field> x = new TreeMap<>();
+
+      try {
+        for (int i = 0; i < raw.length; i += 2) {
+          x.put(raw[i], toField(raw[i], schema.get(raw[i]), raw[i + 1]));
+        }
+      } catch (RuntimeException e) {
+        throw new IOException(
+            "Unable to parse the " + source,
+            new IllegalArgumentException("Unable to parse record " + index + ".", e));
+      }
+
+      return x;
+    }
   }
 }
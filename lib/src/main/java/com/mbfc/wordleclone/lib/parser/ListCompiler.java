@@ -0,0 +1,64 @@
+package com.mbfc.wordleclone.lib.parser;
+
+import com.mbfc.wordleclone.lib.dataset.BinaryDataset;
+import com.mbfc.wordleclone.lib.dataset.ObjectDataset;
+import com.mbfc.wordleclone.lib.dictionary.BinaryWordList;
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Compiles word lists into the precompiled binary format, usually at build time.
+ *
+ * <p>The first argument is the output directory, the rest are the lists to compile. Every list is
+ * written to the output directory with the same name and the {@code .bin} extension. Json files are
+ * parsed with {@link JsonParser} and written with {@link BinaryDataset}, any other files are parsed
+ * with {@link SimpleStringParser} and written with {@link BinaryWordList}.
+ */
+public final class ListCompiler {
+
+  private ListCompiler() {}
+
+  /** Program entry point. */
+  public static void main(String[] args) throws IOException {
+    if (args.length < 2) {
+      throw new IllegalArgumentException("Usage: ListCompiler <output dir> <list>...");
+    }
+
+    Path outputDir = Path.of(args[0]);
+    Files.createDirectories(outputDir);
+
+    for (int i = 1; i < args.length; i++) {
+      Path source = Path.of(args[i]);
+      compile(source, outputDir.resolve(binaryName(source)));
+    }
+  }
+
+  /**
+   * Compiles a single list.
+   *
+   * @param source the text or json file to compile
+   * @param target the precompiled file to write
+   * @throws IOException if the source cannot be parsed or the target cannot be written
+   */
+  public static void compile(Path source, Path target) throws IOException {
+    try (OutputStream out = new BufferedOutputStream(Files.newOutputStream(target))) {
+      if (source.toString().endsWith(".json")) {
+        ObjectDataset dataset =
+            (ObjectDataset) new JsonParser().parseFile(source.toString()).right();
+        BinaryDataset.write(dataset, out);
+      } else {
+        BinaryWordList.write(new SimpleStringParser().parseFile(source.toString()), out);
+      }
+    }
+  }
+
+  private static String binaryName(Path source) {
+    String name = source.getFileName().toString();
+    int dot = name.lastIndexOf('.');
+
+    return (dot > 0 ? name.substring(0, dot) : name) + ".bin";
+  }
+}
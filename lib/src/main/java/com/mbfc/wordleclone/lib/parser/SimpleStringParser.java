@@ -1,11 +1,17 @@
 package com.mbfc.wordleclone.lib.parser;
 
+import com.mbfc.wordleclone.lib.dictionary.BinaryWordList;
+import com.mbfc.wordleclone.lib.dictionary.MappedWordList;
+import com.mbfc.wordleclone.lib.metrics.Metrics;
+import java.io.BufferedInputStream;
 import java.io.BufferedReader;
 import java.io.File;
-import java.io.FileReader;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -25,20 +31,71 @@ import java.util.stream.Collectors;
  *
  * <p>Would result in a list: {@code ["one", "two", "three"]}
  *
+ * <p>Files are read as UTF-8. For very large dictionaries, the parser can memory-map files instead
+ * of reading them, see {@link #SimpleStringParser(boolean)}.
+ *
+ * <p>Files and resources that start with the magic number of a {@link BinaryWordList} are loaded
+ * from the precompiled format instead, as a {@link
+ * com.mbfc.wordleclone.lib.dictionary.PackedWordDictionary} or a {@link
+ * com.mbfc.wordleclone.lib.dictionary.WordIndex}.
+ *
  * <p>This class implements the {@link Parser} interface for {@code String} elements.
  *
  * @see Parser
  */
 public class SimpleStringParser implements Parser<List<String>> {
+  private final boolean memoryMapped;
+
+  /** Creates a new parser that reads files into a list of strings. */
+  public SimpleStringParser() {
+    this(false);
+  }
+
+  /**
+   * Creates a new parser.
+   *
+   * <p>A memory-mapping parser returns a {@link MappedWordList} from {@link #parseFile}, which
+   * starts faster and keeps only the offsets of the words on the heap. Resources are always read
+   * into a list of strings.
+   *
+   * @param memoryMapped {@code true} to memory-map files, {@code false} to read them
+   */
+  public SimpleStringParser(boolean memoryMapped) {
+    this.memoryMapped = memoryMapped;
+  }
 
   /**
    * {@inheritDoc}
    *
    * <p>This implementation reads the classpath resource line by line and returns each line as a
-   * separate string in the list.
+   * separate string in the list. A precompiled resource is read with {@link BinaryWordList}.
    */
   @Override
   public List<String> parseResource(String resourcePath) throws IOException {
+    long start = Metrics.startTimer();
+    List<String> words = readResource(resourcePath);
+
+    Metrics.recordParse(resourcePath, start);
+    return words;
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * <p>This implementation reads the file line by line and returns each line as a separate string
+   * in the list. If the parser is memory-mapping, the list is a {@link MappedWordList}. A
+   * precompiled file is always mapped and read with {@link BinaryWordList}.
+   */
+  @Override
+  public List<String> parseFile(String filePath) throws IOException {
+    long start = Metrics.startTimer();
+    List<String> words = readFile(filePath);
+
+    Metrics.recordParse(filePath, start);
+    return words;
+  }
+
+  private List<String> readResource(String resourcePath) throws IOException {
     InputStream inputStream =
         SimpleStringParser.class.getClassLoader().getResourceAsStream(resourcePath);
 
@@ -46,23 +103,19 @@ public class SimpleStringParser implements Parser<List<String>> {
       throw new IOException("Resource not found: " + resourcePath);
     }
 
-    try {
-      BufferedReader reader = new BufferedReader(new InputStreamReader(inputStream));
+    try (BufferedInputStream in = new BufferedInputStream(inputStream)) {
+      if (BinaryWordList.isBinary(in)) {
+        return BinaryWordList.read(ByteBuffer.wrap(in.readAllBytes()));
+      }
 
+      BufferedReader reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8));
       return reader.lines().collect(Collectors.toList());
     } catch (Exception e) {
       throw new IOException("Unable to read the resource file: " + resourcePath, e);
     }
   }
 
-  /**
-   * {@inheritDoc}
-   *
-   * <p>This implementation reads the file line by line and returns each line as a separate string
-   * in the list.
-   */
-  @Override
-  public List<String> parseFile(String filePath) throws IOException {
+  private List<String> readFile(String filePath) throws IOException {
     File file = new File(filePath);
 
     if (!file.exists()) {
@@ -70,8 +123,22 @@ public class SimpleStringParser implements Parser<List<String>> {
     }
 
     try {
-      BufferedReader reader = new BufferedReader(new FileReader(file));
+      if (BinaryWordList.isBinary(file.toPath())) {
+        return BinaryWordList.read(file.toPath());
+      }
+    } catch (Exception e) {
+      throw new IOException("Unable to read the file: " + filePath, e);
+    }
+
+    if (memoryMapped) {
+      try {
+        return MappedWordList.map(file.toPath());
+      } catch (Exception e) {
+        throw new IOException("Unable to read the file: " + filePath, e);
+      }
+    }
 
+    try (BufferedReader reader = Files.newBufferedReader(file.toPath(), StandardCharsets.UTF_8)) {
       return reader.lines().collect(Collectors.toList());
     } catch (Exception e) {
       throw new IOException("Unable to read the file: " + filePath, e);
@@ -0,0 +1,96 @@
+package com.mbfc.wordleclone.lib.simulation;
+
+import com.mbfc.wordleclone.lib.comparator.CompareException;
+import com.mbfc.wordleclone.lib.comparator.PackedComparator;
+import com.mbfc.wordleclone.lib.game.EndlessRandomGame;
+import com.mbfc.wordleclone.lib.game.Game;
+import com.mbfc.wordleclone.lib.game.GameException;
+import com.mbfc.wordleclone.lib.game.RandomGame;
+import com.mbfc.wordleclone.lib.solver.CandidateSet;
+import com.mbfc.wordleclone.lib.util.RandomGen;
+import java.util.List;
+import java.util.random.RandomGenerator;
+
+/**
+ * A strategy for games on a word list, which guesses a random word that is still a possible target.
+ *
+ * <p>The candidates are kept in a {@link CandidateSet}, so every guess only applies the last result
+ * of the board, and a new round of an endless game starts over from the whole list.
+ *
+ * <p>The strategy never looks at the target. It takes the length of the target from the guesses on
+ * the board, from the settings of a random game, or, before the first guess, from the words of the
+ * list, which must then all have the same length.
+ */
+public final class CandidateStrategy implements Strategy<String> {
+  private final List<String> words;
+  private final PackedComparator<String> comparator;
+  private final RandomGenerator random;
+  private final int length;
+  private CandidateSet candidates;
+
+  /**
+   * Creates a strategy for the given word list.
+   *
+   * @param words the word list of the game
+   * @param comparator the comparator used by the game
+   */
+  public CandidateStrategy(List<String> words, PackedComparator<String> comparator) {
+    this(words, comparator, RandomGen.split());
+  }
+
+  /**
+   * Creates a strategy for the given word list, which picks the guesses with the given generator.
+   *
+   * @param words the word list of the game
+   * @param comparator the comparator used by the game
+   * @param random the generator used to pick the guesses
+   */
+  public CandidateStrategy(
+      List<String> words, PackedComparator<String> comparator, RandomGenerator random) {
+    this.words = words;
+    this.comparator = comparator;
+    this.random = random;
+    this.length = commonLength(words);
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public String nextGuess(Game<String, ?> game) throws CompareException, GameException {
+    int length = targetLength(game);
+
+    if (candidates == null || candidates.getLength() != length) {
+      candidates = new CandidateSet(words, comparator, length);
+    }
+    if (candidates.update(game.getBoard()) == 0) {
+      throw new GameException("No word in the list matches the results.");
+    }
+
+    return candidates.get(random.nextInt(candidates.size()));
+  }
+
+  private int targetLength(Game<String, ?> game) throws GameException {
+    if (!game.getBoard().isEmpty()) {
+      return game.getBoard().getLast().right().length();
+    } else if (game instanceof RandomGame randomGame) {
+      return randomGame.getLength();
+    } else if (game instanceof EndlessRandomGame randomGame) {
+      return randomGame.getLength();
+    } else if (length < 0) {
+      throw new GameException("Cannot tell the length of the target before the first guess.");
+    }
+
+    return length;
+  }
+
+  private static int commonLength(List<String> words) {
+    int length = words.isEmpty() ? -1 : words.get(0).length();
+
+    for (String word : words) {
+      if (word.length() != length) {
+        return -1;
+      }
+    }
+
+    return length;
+  }
+}
@@ -0,0 +1,141 @@
+package com.mbfc.wordleclone.lib.simulation;
+
+import com.mbfc.wordleclone.lib.comparator.ComparatorResult;
+import com.mbfc.wordleclone.lib.game.Game;
+import com.mbfc.wordleclone.lib.game.GameBoard;
+import com.mbfc.wordleclone.lib.util.Pair;
+import com.mbfc.wordleclone.lib.util.RandomGen;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.random.RandomGenerator;
+
+/**
+ * A strategy for games on random strings, which keeps track of the letters allowed at each
+ * position.
+ *
+ * <p>A {@code CORRECT} letter is kept at its position, a {@code PARTIAL} letter is moved to another
+ * position, and an {@code INCORRECT} letter is no longer guessed anywhere, unless the same guess
+ * showed that the target has it. Other positions get random allowed letters. Like the {@link
+ * CandidateStrategy}, only the guesses added to the board since the last call are applied.
+ */
+public final class LetterStrategy implements Strategy<String> {
+  private static final String LETTERS = RandomGen.getLetters();
+
+  private final RandomGenerator random;
+  private boolean[][] allowed;
+  private char[] fixed;
+  private boolean[] present;
+  private GameBoard<String> board;
+  private int applied;
+
+  /** Creates a strategy with a generator split from {@link RandomGen#split()}. */
+  public LetterStrategy() {
+    this(RandomGen.split());
+  }
+
+  /**
+   * Creates a strategy, which picks the random letters with the given generator.
+   *
+   * @param random the generator used to pick the letters
+   */
+  public LetterStrategy(RandomGenerator random) {
+    this.random = random;
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public String nextGuess(Game<String, ?> game) {
+    int length = game.getTarget().length();
+
+    if (allowed == null || allowed.length != length || board != game.getBoard()) {
+      reset(length, game.getBoard());
+    }
+
+    Iterator<Pair<List<ComparatorResult>, String>> entries = board.iterator();
+    for (int i = 0; entries.hasNext(); i++) {
+      Pair<List<ComparatorResult>, String> entry = entries.next();
+
+      if (i >= applied) {
+        apply(entry.left(), entry.right());
+        applied++;
+      }
+    }
+
+    return guess();
+  }
+
+  private void reset(int length, GameBoard<String> board) {
+    this.allowed = new boolean[length][LETTERS.length()];
+    this.fixed = new char[length];
+    this.present = new boolean[LETTERS.length()];
+    this.board = board;
+    this.applied = 0;
+
+    for (boolean[] position : allowed) {
+      Arrays.fill(position, true);
+    }
+  }
+
+  private void apply(List<ComparatorResult> result, String guess) {
+    boolean[] found = new boolean[LETTERS.length()];
+
+    for (int i = 0; i < guess.length(); i++) {
+      int letter = LETTERS.indexOf(guess.charAt(i));
+
+      if (result.get(i) == ComparatorResult.CORRECT) {
+        fixed[i] = guess.charAt(i);
+        found[letter] = true;
+      } else if (result.get(i) == ComparatorResult.PARTIAL) {
+        allowed[i][letter] = false;
+        present[letter] = true;
+        found[letter] = true;
+      } else {
+        allowed[i][letter] = false;
+      }
+    }
+
+    for (int i = 0; i < guess.length(); i++) {
+      int letter = LETTERS.indexOf(guess.charAt(i));
+
+      if (result.get(i) == ComparatorResult.INCORRECT && !found[letter]) {
+        for (boolean[] position : allowed) {
+          position[letter] = false;
+        }
+      }
+    }
+  }
+
+  private String guess() {
+    char[] guess = new char[fixed.length];
+    boolean[] placed = new boolean[LETTERS.length()];
+
+    for (int i = 0; i < guess.length; i++) {
+      if (fixed[i] != 0) {
+        guess[i] = fixed[i];
+        continue;
+      }
+
+      // place the letters known to be in the target first, then any allowed letter
+      int choice = -1;
+      for (int letter = 0; letter < LETTERS.length() && choice < 0; letter++) {
+        if (present[letter] && !placed[letter] && allowed[i][letter]) {
+          choice = letter;
+        }
+      }
+      int start = random.nextInt(LETTERS.length());
+      for (int k = 0; k < LETTERS.length() && choice < 0; k++) {
+        int letter = (start + k) % LETTERS.length();
+        choice = allowed[i][letter] ? letter : -1;
+      }
+      if (choice < 0) {
+        choice = start;
+      }
+
+      placed[choice] = true;
+      guess[i] = LETTERS.charAt(choice);
+    }
+
+    return new String(guess);
+  }
+}
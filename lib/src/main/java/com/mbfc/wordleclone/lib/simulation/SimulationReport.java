@@ -0,0 +1,138 @@
+package com.mbfc.wordleclone.lib.simulation;
+
+import java.util.Arrays;
+
+/**
+ * Aggregated results of simulated games.
+ *
+ * <p>Every game is made of rounds: a normal game is a single round, and an endless game has one
+ * round per guessed word, plus the round in which it ran out of lives. The report counts won rounds
+ * by the number of guesses they took, and endless games by their final score.
+ */
+public final class SimulationReport {
+  private final long games;
+  private final long abandoned;
+  private final long rounds;
+  private final long[] guesses;
+  private final long[] scores;
+  private final long nanos;
+
+  SimulationReport(
+      long games, long abandoned, long rounds, long[] guesses, long[] scores, long nanos) {
+    this.games = games;
+    this.abandoned = abandoned;
+    this.rounds = rounds;
+    this.guesses = guesses;
+    this.scores = scores;
+    this.nanos = nanos;
+  }
+
+  public long getGames() {
+    return games;
+  }
+
+  /**
+   * Returns the number of games stopped before they finished, because the strategy couldn't make a
+   * valid guess or the game reached the limit of guesses.
+   *
+   * @return the number of abandoned games
+   */
+  public long getAbandoned() {
+    return abandoned;
+  }
+
+  public long getRounds() {
+    return rounds;
+  }
+
+  /**
+   * Returns the number of won rounds.
+   *
+   * @return the sum of the guess histogram
+   */
+  public long getWins() {
+    return Arrays.stream(guesses).sum();
+  }
+
+  /**
+   * Returns the share of rounds that were won.
+   *
+   * @return the win rate from {@code 0} to {@code 1}, or {@code 0} if no round was played
+   */
+  public double getWinRate() {
+    return rounds == 0 ? 0 : (double) getWins() / rounds;
+  }
+
+  /**
+   * Returns the histogram of the number of guesses of won rounds.
+   *
+   * @return the number of rounds won with {@code i} guesses at index {@code i}
+   */
+  public long[] getGuessHistogram() {
+    return guesses.clone();
+  }
+
+  /**
+   * Returns the average number of guesses of won rounds.
+   *
+   * @return the average number of guesses, or {@code 0} if no round was won
+   */
+  public double getAverageGuesses() {
+    return average(guesses);
+  }
+
+  /**
+   * Returns the histogram of the final scores of endless games.
+   *
+   * @return the number of endless games with score {@code i} at index {@code i}
+   */
+  public long[] getScoreHistogram() {
+    return scores.clone();
+  }
+
+  /**
+   * Returns the average final score of endless games.
+   *
+   * @return the average score, or {@code 0} if no endless game was played
+   */
+  public double getAverageScore() {
+    return average(scores);
+  }
+
+  public long getNanos() {
+    return nanos;
+  }
+
+  /**
+   * Returns the throughput of the simulation.
+   *
+   * @return the number of games played per second of wall time
+   */
+  public double getGamesPerSecond() {
+    return nanos == 0 ? 0 : games * 1e9 / nanos;
+  }
+
+  @Override
+  public String toString() {
+    return String.format(
+        "games=%d abandoned=%d win rate=%.4f avg guesses=%.3f avg score=%.3f games/s=%.0f",
+        games,
+        abandoned,
+        getWinRate(),
+        getAverageGuesses(),
+        getAverageScore(),
+        getGamesPerSecond());
+  }
+
+  private static double average(long[] histogram) {
+    long count = 0;
+    long sum = 0;
+
+    for (int i = 0; i < histogram.length; i++) {
+      count += histogram[i];
+      sum += i * histogram[i];
+    }
+
+    return count == 0 ? 0 : (double) sum / count;
+  }
+}
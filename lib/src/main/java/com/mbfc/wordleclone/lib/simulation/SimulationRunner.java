@@ -0,0 +1,249 @@
+package com.mbfc.wordleclone.lib.simulation;
+
+import com.mbfc.wordleclone.lib.comparator.CompareException;
+import com.mbfc.wordleclone.lib.game.EndlessGame;
+import com.mbfc.wordleclone.lib.game.Game;
+import com.mbfc.wordleclone.lib.game.GameException;
+import com.mbfc.wordleclone.lib.util.RandomGen;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.random.RandomGenerator.SplittableGenerator;
+
+/**
+ * Plays simulated games without the interactive menu.
+ *
+ * <p>The games are split between worker threads. Each worker creates a single game and a single
+ * strategy with the given suppliers, and plays all its games by calling {@link Game#reset()}, so
+ * workers share no mutable state and games don't allocate new comparators or word lists. The
+ * results are counted per worker and merged into a {@link SimulationReport} at the end.
+ *
+ * <p>A seeded run gives every worker its own generators for the game and the strategy, split from
+ * the seed, so a run with the same seed and the same number of workers plays the same games.
+ *
+ * <p>Endless games are played until they run out of lives, committing every won round. Since Zen
+ * games never finish, every game is stopped after a limit of guesses and counted as abandoned.
+ */
+public final class SimulationRunner {
+
+  /** Default limit of guesses in a single game. */
+  public static final int DEFAULT_MAX_GUESSES = 1000;
+
+  private final int workers;
+  private final int maxGuesses;
+
+  /** Creates a runner with a worker per available processor. */
+  public SimulationRunner() {
+    this(Runtime.getRuntime().availableProcessors(), DEFAULT_MAX_GUESSES);
+  }
+
+  /**
+   * Creates a runner with the given number of workers.
+   *
+   * @param workers the number of worker threads
+   * @param maxGuesses the limit of guesses in a single game
+   * @throws IllegalArgumentException if any of the arguments is not positive
+   */
+  public SimulationRunner(int workers, int maxGuesses) {
+    if (workers <= 0 || maxGuesses <= 0) {
+      throw new IllegalArgumentException("The number of workers and guesses must be positive.");
+    }
+
+    this.workers = workers;
+    this.maxGuesses = maxGuesses;
+  }
+
+  /**
+   * Plays the given number of games.
+   *
+   * @param games the supplier of a game for each worker
+   * @param strategies the supplier of a strategy for each worker
+   * @param count the number of games to play
+   * @param <T> the type of values used in the game
+   * @return the aggregated results of all games
+   * @throws InterruptedException if the thread is interrupted while waiting for the workers
+   */
+  public <T> SimulationReport run(
+      Supplier<? extends Game<T, ?>> games, Supplier<? extends Strategy<T>> strategies, long count)
+      throws InterruptedException {
+    return run(random -> games.get(), random -> strategies.get(), count, RandomGen.split());
+  }
+
+  /**
+   * Plays the given number of games, with generators split from the given seed.
+   *
+   * @param games the factory of a game for each worker, given the generator of the game
+   * @param strategies the factory of a strategy for each worker, given the generator of the
+   *     strategy
+   * @param count the number of games to play
+   * @param seed the seed of the generators
+   * @param <T> the type of values used in the game
+   * @return the aggregated results of all games
+   * @throws InterruptedException if the thread is interrupted while waiting for the workers
+   */
+  public <T> SimulationReport run(
+      Function<? super SplittableGenerator, ? extends Game<T, ?>> games,
+      Function<? super SplittableGenerator, ? extends Strategy<T>> strategies,
+      long count,
+      long seed)
+      throws InterruptedException {
+    return run(games, strategies, count, RandomGen.seeded(seed));
+  }
+
+  private <T> SimulationReport run(
+      Function<? super SplittableGenerator, ? extends Game<T, ?>> games,
+      Function<? super SplittableGenerator, ? extends Strategy<T>> strategies,
+      long count,
+      SplittableGenerator random)
+      throws InterruptedException {
+    long start = System.nanoTime();
+    int threads = (int) Math.max(1, Math.min(workers, count));
+    ExecutorService executor = Executors.newFixedThreadPool(threads);
+    List<Future<Tally>> tallies = new ArrayList<>(threads);
+
+    try {
+      for (int w = 0; w < threads; w++) {
+        long share = count / threads + (w < count % threads ? 1 : 0);
+        // split in this thread, so the generators don't depend on the order the workers start in
+        SplittableGenerator gameRandom = random.split();
+        SplittableGenerator strategyRandom = random.split();
+        tallies.add(
+            executor.submit(
+                () -> play(games.apply(gameRandom), strategies.apply(strategyRandom), share)));
+      }
+
+      Tally total = new Tally();
+      for (Future<Tally> tally : tallies) {
+        total.merge(tally.get());
+      }
+
+      return total.toReport(System.nanoTime() - start);
+    } catch (ExecutionException e) {
+      if (e.getCause() instanceof RuntimeException cause) {
+        throw cause;
+      }
+      throw new IllegalStateException(e.getCause());
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
+  private <T> Tally play(Game<T, ?> game, Strategy<T> strategy, long count) {
+    Tally tally = new Tally();
+
+    for (long i = 0; i < count && !Thread.currentThread().isInterrupted(); i++) {
+      if (i > 0) {
+        game.reset();
+      }
+
+      if (game instanceof EndlessGame<T, ?> endless) {
+        playEndless(endless, strategy, tally);
+      } else {
+        playSingle(game, strategy, tally);
+      }
+    }
+
+    return tally;
+  }
+
+  private <T> void playSingle(Game<T, ?> game, Strategy<T> strategy, Tally tally) {
+    try {
+      for (int guesses = 0; !game.getGameFinished(); guesses++) {
+        if (guesses >= maxGuesses) {
+          tally.abandoned++;
+          return;
+        }
+        game.play(strategy.nextGuess(game));
+      }
+    } catch (CompareException | GameException e) {
+      tally.abandoned++;
+      return;
+    }
+
+    tally.games++;
+    tally.rounds++;
+    if (game.getPlayerWon()) {
+      tally.guesses = Tally.add(tally.guesses, game.getTriesUsed());
+    }
+  }
+
+  private <T> void playEndless(EndlessGame<T, ?> game, Strategy<T> strategy, Tally tally) {
+    try {
+      for (int guesses = 0; !game.getGameFinished(); guesses++) {
+        if (guesses >= maxGuesses) {
+          tally.abandoned++;
+          return;
+        }
+        game.play(strategy.nextGuess(game));
+
+        if (game.isRoundComplete()) {
+          tally.rounds++;
+          tally.guesses = Tally.add(tally.guesses, game.getAttemptsTaken());
+          game.commitRound();
+        }
+      }
+    } catch (CompareException | GameException e) {
+      tally.abandoned++;
+      return;
+    }
+
+    tally.games++;
+    tally.rounds++;
+    tally.scores = Tally.add(tally.scores, game.getScore());
+  }
+
+  /** Results counted by a single worker. */
+  private static final class Tally {
+    long games;
+    long abandoned;
+    long rounds;
+    long[] guesses = new long[16];
+    long[] scores = new long[0];
+
+    static long[] add(long[] histogram, int value) {
+      long[] result =
+          value < histogram.length ? histogram : Arrays.copyOf(histogram, 2 * value + 1);
+      result[value]++;
+
+      return result;
+    }
+
+    void merge(Tally other) {
+      games += other.games;
+      abandoned += other.abandoned;
+      rounds += other.rounds;
+      guesses = merge(guesses, other.guesses);
+      scores = merge(scores, other.scores);
+    }
+
+    static long[] merge(long[] histogram, long[] other) {
+      long[] result =
+          histogram.length >= other.length ? histogram : Arrays.copyOf(histogram, other.length);
+      for (int i = 0; i < other.length; i++) {
+        result[i] += other[i];
+      }
+
+      return result;
+    }
+
+    SimulationReport toReport(long nanos) {
+      return new SimulationReport(
+          games + abandoned, abandoned, rounds, trim(guesses), trim(scores), nanos);
+    }
+
+    static long[] trim(long[] histogram) {
+      int length = histogram.length;
+      while (length > 0 && histogram[length - 1] == 0) {
+        length--;
+      }
+
+      return Arrays.copyOf(histogram, length);
+    }
+  }
+}
@@ -0,0 +1,28 @@
+package com.mbfc.wordleclone.lib.simulation;
+
+import com.mbfc.wordleclone.lib.comparator.CompareException;
+import com.mbfc.wordleclone.lib.game.Game;
+import com.mbfc.wordleclone.lib.game.GameException;
+
+/**
+ * A player of simulated games.
+ *
+ * <p>A strategy chooses guesses by looking at the board of the game, the same way a player does.
+ * Each worker of the {@link SimulationRunner} gets its own strategy, so implementations may keep
+ * state between guesses and games without synchronization.
+ *
+ * @param <T> the type of values used in the game
+ */
+@FunctionalInterface
+public interface Strategy<T> {
+
+  /**
+   * Chooses the next guess for the game.
+   *
+   * @param game the game being played, which is not finished yet
+   * @return the guess, as the player would type it
+   * @throws CompareException if the results on the board cannot be interpreted
+   * @throws GameException if the strategy cannot make a guess
+   */
+  String nextGuess(Game<T, ?> game) throws CompareException, GameException;
+}
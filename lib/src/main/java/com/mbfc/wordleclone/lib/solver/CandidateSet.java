@@ -0,0 +1,225 @@
+package com.mbfc.wordleclone.lib.solver;
+
+import com.mbfc.wordleclone.lib.comparator.ComparatorResult;
+import com.mbfc.wordleclone.lib.comparator.CompareException;
+import com.mbfc.wordleclone.lib.comparator.PackedComparator;
+import com.mbfc.wordleclone.lib.comparator.PackedResults;
+import com.mbfc.wordleclone.lib.game.GameBoard;
+import com.mbfc.wordleclone.lib.util.Pair;
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+
+/**
+ * The words of a word list that are still possible targets, given the results of past guesses.
+ *
+ * <p>The set starts with all words of the given length and is pruned after every guess: a word
+ * stays a candidate only if comparing the guess against it gives the same result as comparing the
+ * guess against the real target. Candidates are kept as an array of positions in the word list, in
+ * the order of the list.
+ *
+ * <p>The set is updated incrementally from a {@link GameBoard}, so only guesses added since the
+ * last update are applied. It is not thread safe.
+ */
+public final class CandidateSet {
+  private final List<String> words;
+  private final PackedComparator<String> comparator;
+  private final int length;
+  private final int[] indices;
+  private int size;
+  private boolean filtered;
+  private GameBoard<String> board;
+  private int applied;
+
+  /**
+   * Creates a set of all words of the given length.
+   *
+   * @param words the word list
+   * @param comparator the comparator used by the game
+   * @param length the length of the target
+   */
+  public CandidateSet(List<String> words, PackedComparator<String> comparator, int length) {
+    this.words = words;
+    this.comparator = comparator;
+    this.length = length;
+    this.indices = new int[words.size()];
+
+    reset();
+  }
+
+  /**
+   * Applies the guesses added to the board since the last update.
+   *
+   * <p>If the set was last updated from a different board, or the board has fewer guesses than were
+   * applied (e.g. the game was reset), the set starts over from all words.
+   *
+   * @param board the board of the game
+   * @return the number of remaining candidates
+   * @throws CompareException if a guess cannot be compared
+   */
+  public int update(GameBoard<String> board) throws CompareException {
+    if (this.board != board || board.size() < applied) {
+      reset();
+      this.board = board;
+    }
+
+    Iterator<Pair<List<ComparatorResult>, String>> entries = board.iterator();
+    for (int i = 0; entries.hasNext(); i++) {
+      Pair<List<ComparatorResult>, String> entry = entries.next();
+
+      if (i >= applied) {
+        filter(entry.right(), entry.left());
+        applied++;
+      }
+    }
+
+    return size;
+  }
+
+  /**
+   * Removes the candidates that would give a different result for the guess.
+   *
+   * @param guess the guessed word
+   * @param code the packed result of the guess, see {@link PackedResults}
+   * @return the number of remaining candidates
+   * @throws CompareException if the guess cannot be compared
+   */
+  public int filter(String guess, long code) throws CompareException {
+    if (guess.length() != length) {
+      return size;
+    }
+
+    filtered = true;
+    int kept = 0;
+    for (int i = 0; i < size; i++) {
+      if (comparator.comparePacked(guess, words.get(indices[i])) == code) {
+        indices[kept++] = indices[i];
+      }
+    }
+    size = kept;
+
+    return size;
+  }
+
+  /**
+   * Removes the candidates that would give a different result for the guess.
+   *
+   * <p>Results too long to be packed are compared as lists.
+   *
+   * @param guess the guessed word
+   * @param result the result of comparing the guess against the target
+   * @return the number of remaining candidates
+   * @throws CompareException if the guess cannot be compared
+   */
+  public int filter(String guess, List<ComparatorResult> result) throws CompareException {
+    if (result.size() <= PackedResults.maxLength(comparator.radix())) {
+      return filter(guess, PackedResults.pack(result, comparator.radix()));
+    } else if (guess.length() != length) {
+      return size;
+    }
+
+    filtered = true;
+    int kept = 0;
+    for (int i = 0; i < size; i++) {
+      if (comparator.compare(guess, words.get(indices[i])).equals(result)) {
+        indices[kept++] = indices[i];
+      }
+    }
+    size = kept;
+
+    return size;
+  }
+
+  /** Removes all candidates. */
+  public void clear() {
+    filtered = true;
+    size = 0;
+  }
+
+  /** Restores all words of the length as candidates. */
+  public void reset() {
+    int restored = 0;
+
+    for (int i = 0; i < words.size(); i++) {
+      if (words.get(i).length() == length) {
+        indices[restored++] = i;
+      }
+    }
+    size = restored;
+    filtered = false;
+    board = null;
+    applied = 0;
+  }
+
+  public int size() {
+    return size;
+  }
+
+  public int getLength() {
+    return length;
+  }
+
+  /**
+   * Checks if no guess has been applied to the set yet.
+   *
+   * @return {@code true} if the set holds all words of the length, {@code false} otherwise
+   */
+  public boolean isInitial() {
+    return !filtered;
+  }
+
+  /**
+   * Returns the candidate at the given position.
+   *
+   * @param index the position among the candidates
+   * @return the candidate word
+   */
+  public String get(int index) {
+    return words.get(indices[index]);
+  }
+
+  /**
+   * Returns a view of the remaining candidates, which changes when the set is updated.
+   *
+   * @return the candidate words, in the order of the word list
+   */
+  public List<String> asList() {
+    return new AbstractList<>() {
+      @Override
+      public String get(int index) {
+        if (index >= size) {
+          throw new IndexOutOfBoundsException(index);
+        }
+        return CandidateSet.this.get(index);
+      }
+
+      @Override
+      public int size() {
+        return size;
+      }
+    };
+  }
+
+  /**
+   * Checks if the word at the given position of the word list is a candidate.
+   *
+   * @param index the position in the word list
+   * @return {@code true} if the word is a candidate, {@code false} otherwise
+   */
+  public boolean contains(int index) {
+    return Arrays.binarySearch(indices, 0, size, index) >= 0;
+  }
+
+  List<String> getWords() {
+    return words;
+  }
+
+  PackedComparator<String> getComparator() {
+    return comparator;
+  }
+
+  int[] candidateIndices() {
+    return Arrays.copyOf(indices, size);
+  }
+}
@@ -0,0 +1,545 @@
+package com.mbfc.wordleclone.lib.solver;
+
+import com.mbfc.wordleclone.lib.comparator.ComparatorResult;
+import com.mbfc.wordleclone.lib.dataset.ColumnType;
+import com.mbfc.wordleclone.lib.dataset.ColumnarDataset;
+import com.mbfc.wordleclone.lib.dataset.ObjectDataset;
+import com.mbfc.wordleclone.lib.game.CandidateFilter;
+import com.mbfc.wordleclone.lib.json.Field;
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.TreeMap;
+
+/**
+ * A {@link CandidateFilter} for object games, which compiles the results of the guesses into
+ * constraints on each column of the dataset.
+ *
+ * <p>The results of {@link com.mbfc.wordleclone.lib.comparator.ObjectComparator} say more about the
+ * target than whether it matches the guess, so each column accumulates them into a single
+ * predicate:
+ *
+ * <ul>
+ *   <li>{@code integer} and {@code datetime} columns into an interval of allowed values, e.g. a
+ *       {@code TOO_HIGH} result moves its upper bound below the guessed value,
+ *   <li>{@code double} columns into an interval with exclusive bounds and an exact value, so that
+ *       {@code NaN} and signed zeros are handled as by the comparator,
+ *   <li>{@code set} columns into bitmasks over the set elements: elements the target must not have,
+ *       the exact set, and sets the target must intersect,
+ *   <li>{@code string} columns into a verdict per distinct value of the column, which is computed
+ *       once for all rows that share the value.
+ * </ul>
+ *
+ * <p>Remaining candidates are kept as an array of rows. A guess tightens the constraints and then
+ * compacts the array one column at a time, starting with the cheapest columns, so every pass is a
+ * tight loop over primitive arrays and the expensive string checks only see the rows that are left.
+ * The compaction writes every row and only advances the end of the array for matching rows, which
+ * avoids a hard to predict branch per row.
+ *
+ * <p>Guesses that are not records of the dataset don't narrow down the candidates.
+ */
+public final class ConstraintFilter implements CandidateFilter<TreeMap<String, Field>> {
+  private final ObjectDataset records;
+  private final ColumnarDataset data;
+  private final Constraint[] constraints;
+  private final int[] rows;
+  private int size;
+
+  private ConstraintFilter(ObjectDataset records, ColumnarDataset data) {
+    this.records = records;
+    this.data = data;
+    this.constraints = new Constraint[data.columnCount()];
+    this.rows = new int[data.size()];
+
+    for (int c = 0; c < constraints.length; c++) {
+      constraints[c] = constraint(data.columnType(c), c);
+    }
+    Arrays.sort(constraints, Comparator.comparingInt(Constraint::cost));
+
+    reset();
+  }
+
+  /**
+   * Compiles a filter for the records of the given dataset.
+   *
+   * @param records the dataset, targets are taken from
+   * @return the filter with all records as candidates
+   * @throws IllegalArgumentException if a record doesn't match the schema of the dataset
+   */
+  public static ConstraintFilter compile(ObjectDataset records) {
+    return new ConstraintFilter(records, ColumnarDataset.of(records));
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public void apply(List<ComparatorResult> result, TreeMap<String, Field> guess) {
+    int guessRow = records.rowOf(guess);
+
+    if (guessRow < 0 || result.size() != constraints.length) {
+      return;
+    }
+
+    for (Constraint constraint : constraints) {
+      if (constraint.add(guessRow, result.get(constraint.column))) {
+        size = constraint.retain(rows, size);
+      }
+    }
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public int remaining() {
+    return size;
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public void reset() {
+    for (int row = 0; row < rows.length; row++) {
+      rows[row] = row;
+    }
+    size = rows.length;
+
+    for (Constraint constraint : constraints) {
+      constraint.clear();
+    }
+  }
+
+  /**
+   * Returns the rows of the remaining candidates.
+   *
+   * @return the rows in the dataset, in ascending order
+   */
+  public int[] candidateRows() {
+    return Arrays.copyOf(rows, size);
+  }
+
+  /**
+   * Returns a view of the remaining candidates, which changes when the filter is updated.
+   *
+   * @return the candidate records, in the order of the dataset
+   */
+  public List<TreeMap<String, Field>> asList() {
+    return new AbstractList<>() {
+      @Override
+      public TreeMap<String, Field> get(int index) {
+        if (index >= size) {
+          throw new IndexOutOfBoundsException(index);
+        }
+        return records.get(rows[index]);
+      }
+
+      @Override
+      public int size() {
+        return size;
+      }
+    };
+  }
+
+  private Constraint constraint(ColumnType type, int column) {
+    return switch (type) {
+      case INTEGER -> new LongRange(column, false);
+      case DATETIME -> new LongRange(column, true);
+      case DOUBLE -> new DoubleRange(column);
+      case SET -> new SetMasks(column);
+      case STRING -> new StringVerdicts(column);
+    };
+  }
+
+  /** Accumulated results of a single column. */
+  private abstract static class Constraint {
+    final int column;
+
+    Constraint(int column) {
+      this.column = column;
+    }
+
+    /**
+     * Adds the result of a guess to the constraint.
+     *
+     * @return {@code true} if the constraint may have changed, {@code false} otherwise
+     */
+    abstract boolean add(int guessRow, ComparatorResult result);
+
+    /** Moves the rows matching the constraint to the front, and returns their number. */
+    abstract int retain(int[] rows, int size);
+
+    abstract void clear();
+
+    /** Relative cost of checking a row, used to order the constraints. */
+    abstract int cost();
+  }
+
+  /** Inclusive interval of an {@code integer} or {@code datetime} column. */
+  private final class LongRange extends Constraint {
+    private final boolean dateTime;
+    private long low;
+    private long high;
+
+    LongRange(int column, boolean dateTime) {
+      super(column);
+      this.dateTime = dateTime;
+    }
+
+    @Override
+    boolean add(int guessRow, ComparatorResult result) {
+      long guess = value(guessRow);
+      long oldLow = low;
+      long oldHigh = high;
+
+      switch (result) {
+        case CORRECT -> {
+          low = Math.max(low, guess);
+          high = Math.min(high, guess);
+        }
+        case TOO_HIGH -> {
+          if (guess == Long.MIN_VALUE) {
+            makeEmpty();
+          } else {
+            high = Math.min(high, guess - 1);
+          }
+        }
+        case TOO_LOW -> {
+          if (guess == Long.MAX_VALUE) {
+            makeEmpty();
+          } else {
+            low = Math.max(low, guess + 1);
+          }
+        }
+        default -> makeEmpty();
+      }
+
+      return low != oldLow || high != oldHigh;
+    }
+
+    private void makeEmpty() {
+      low = Long.MAX_VALUE;
+      high = Long.MIN_VALUE;
+    }
+
+    @Override
+    int retain(int[] rows, int size) {
+      int kept = 0;
+
+      if (dateTime) {
+        for (int i = 0; i < size; i++) {
+          long value = data.dateTimeValue(column, rows[i]);
+          rows[kept] = rows[i];
+          kept += value >= low & value <= high ? 1 : 0;
+        }
+      } else {
+        for (int i = 0; i < size; i++) {
+          int value = data.intValue(column, rows[i]);
+          rows[kept] = rows[i];
+          kept += value >= low & value <= high ? 1 : 0;
+        }
+      }
+
+      return kept;
+    }
+
+    @Override
+    void clear() {
+      low = Long.MIN_VALUE;
+      high = Long.MAX_VALUE;
+    }
+
+    @Override
+    int cost() {
+      return 0;
+    }
+
+    private long value(int row) {
+      return dateTime ? data.dateTimeValue(column, row) : data.intValue(column, row);
+    }
+  }
+
+  /** Exclusive interval and exact value of a {@code double} column. */
+  private final class DoubleRange extends Constraint {
+    private boolean hasLow;
+    private double low;
+    private boolean hasHigh;
+    private double high;
+    private boolean hasExact;
+    private long exactBits;
+    private boolean empty;
+    // guesses with INCORRECT results, which only happen when a value is NaN or a signed zero
+    private final List<Double> incorrect = new ArrayList<>();
+
+    DoubleRange(int column) {
+      super(column);
+    }
+
+    @Override
+    boolean add(int guessRow, ComparatorResult result) {
+      double guess = data.doubleValue(column, guessRow);
+
+      switch (result) {
+        case CORRECT -> {
+          long bits = Double.doubleToLongBits(guess);
+          if (hasExact && exactBits == bits) {
+            return false;
+          }
+          empty |= hasExact;
+          hasExact = true;
+          exactBits = bits;
+        }
+        case TOO_HIGH -> {
+          if (hasHigh && high <= guess) {
+            return false;
+          }
+          hasHigh = true;
+          high = guess;
+        }
+        case TOO_LOW -> {
+          if (hasLow && low >= guess) {
+            return false;
+          }
+          hasLow = true;
+          low = guess;
+        }
+        case INCORRECT -> incorrect.add(guess);
+        default -> empty = true;
+      }
+
+      return true;
+    }
+
+    @Override
+    int retain(int[] rows, int size) {
+      if (empty) {
+        return 0;
+      }
+
+      int kept = 0;
+      for (int i = 0; i < size; i++) {
+        double value = data.doubleValue(column, rows[i]);
+        boolean matches =
+            (!hasExact || Double.doubleToLongBits(value) == exactBits)
+                & (!hasLow || value > low)
+                & (!hasHigh || value < high);
+
+        rows[kept] = rows[i];
+        kept += matches && isIncorrect(value) ? 1 : 0;
+      }
+
+      return kept;
+    }
+
+    private boolean isIncorrect(double value) {
+      for (double guess : incorrect) {
+        if (Double.doubleToLongBits(guess) == Double.doubleToLongBits(value)
+            || guess > value
+            || guess < value) {
+          return false;
+        }
+      }
+
+      return true;
+    }
+
+    @Override
+    void clear() {
+      hasLow = false;
+      hasHigh = false;
+      hasExact = false;
+      empty = false;
+      incorrect.clear();
+    }
+
+    @Override
+    int cost() {
+      return 1;
+    }
+  }
+
+  /** Bitmasks over the elements of a {@code set} column. */
+  private final class SetMasks extends Constraint {
+    private final int words;
+    private final long[] excluded;
+    private long[] exact;
+    // sets the target must intersect, and sets the target must differ from
+    private final List<long[]> intersected = new ArrayList<>();
+    private final List<long[]> different = new ArrayList<>();
+    private boolean empty;
+
+    SetMasks(int column) {
+      super(column);
+      this.words = data.setWordCount(column);
+      this.excluded = new long[words];
+    }
+
+    @Override
+    boolean add(int guessRow, ComparatorResult result) {
+      long[] guess = new long[words];
+      for (int w = 0; w < words; w++) {
+        guess[w] = data.setWord(column, guessRow, w);
+      }
+
+      switch (result) {
+        case CORRECT -> {
+          if (exact != null && Arrays.equals(exact, guess)) {
+            return false;
+          }
+          empty |= exact != null;
+          exact = guess;
+        }
+        case PARTIAL -> {
+          intersected.add(guess);
+          different.add(guess);
+        }
+        case INCORRECT -> {
+          for (int w = 0; w < words; w++) {
+            excluded[w] |= guess[w];
+          }
+          // an empty guess only matches an empty target
+          different.add(guess);
+        }
+        default -> empty = true;
+      }
+
+      return true;
+    }
+
+    @Override
+    int retain(int[] rows, int size) {
+      if (empty) {
+        return 0;
+      }
+
+      int kept = 0;
+      for (int i = 0; i < size; i++) {
+        rows[kept] = rows[i];
+        kept += matches(rows[i]) ? 1 : 0;
+      }
+
+      return kept;
+    }
+
+    private boolean matches(int row) {
+      for (int w = 0; w < words; w++) {
+        long bits = data.setWord(column, row, w);
+
+        if ((bits & excluded[w]) != 0 || (exact != null && bits != exact[w])) {
+          return false;
+        }
+      }
+
+      for (long[] mask : intersected) {
+        if (!intersects(row, mask)) {
+          return false;
+        }
+      }
+
+      for (long[] mask : different) {
+        if (isEqual(row, mask)) {
+          return false;
+        }
+      }
+
+      return true;
+    }
+
+    private boolean intersects(int row, long[] mask) {
+      for (int w = 0; w < words; w++) {
+        if ((data.setWord(column, row, w) & mask[w]) != 0) {
+          return true;
+        }
+      }
+
+      return false;
+    }
+
+    private boolean isEqual(int row, long[] mask) {
+      for (int w = 0; w < words; w++) {
+        if (data.setWord(column, row, w) != mask[w]) {
+          return false;
+        }
+      }
+
+      return true;
+    }
+
+    @Override
+    void clear() {
+      Arrays.fill(excluded, 0);
+      exact = null;
+      intersected.clear();
+      different.clear();
+      empty = false;
+    }
+
+    @Override
+    int cost() {
+      return 2;
+    }
+  }
+
+  /**
+   * Verdicts for the distinct values of a {@code string} column.
+   *
+   * <p>{@code passed[code]} is the number of guesses the value has matched, or {@code -1} if it
+   * failed one. Rows that are still candidates have matched all guesses before the last one, so
+   * only the last guess has to be checked, once per value.
+   */
+  private final class StringVerdicts extends Constraint {
+    private final int[] passed;
+    private int guesses;
+    private int lastGuessRow;
+    private ComparatorResult lastResult;
+
+    StringVerdicts(int column) {
+      super(column);
+      this.passed = new int[data.dictionarySize(column)];
+    }
+
+    @Override
+    boolean add(int guessRow, ComparatorResult result) {
+      guesses++;
+      lastGuessRow = guessRow;
+      lastResult = result;
+
+      return true;
+    }
+
+    @Override
+    int retain(int[] rows, int size) {
+      int kept = 0;
+
+      for (int i = 0; i < size; i++) {
+        int code = data.stringCode(column, rows[i]);
+
+        if (passed[code] == guesses - 1) {
+          passed[code] = result(rows[i]) == lastResult ? guesses : -1;
+        }
+        rows[kept] = rows[i];
+        kept += passed[code] == guesses ? 1 : 0;
+      }
+
+      return kept;
+    }
+
+    private ComparatorResult result(int row) {
+      if (data.stringEqual(column, lastGuessRow, row)) {
+        return ComparatorResult.CORRECT;
+      } else if (data.stringPartial(column, lastGuessRow, row)) {
+        return ComparatorResult.PARTIAL;
+      }
+
+      return ComparatorResult.INCORRECT;
+    }
+
+    @Override
+    void clear() {
+      Arrays.fill(passed, 0);
+      guesses = 0;
+    }
+
+    @Override
+    int cost() {
+      return 3;
+    }
+  }
+}
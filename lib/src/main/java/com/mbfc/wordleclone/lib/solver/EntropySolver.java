@@ -0,0 +1,209 @@
+package com.mbfc.wordleclone.lib.solver;
+
+import com.mbfc.wordleclone.lib.comparator.CompareException;
+import com.mbfc.wordleclone.lib.comparator.PackedComparator;
+import com.mbfc.wordleclone.lib.comparator.PackedResults;
+import com.mbfc.wordleclone.lib.game.GameBoard;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.IntStream;
+
+/**
+ * Recommends guesses that maximize the expected information about the target.
+ *
+ * <p>Every word of the list with the length of the target is scored by the entropy of the results
+ * it would get against the remaining candidates: a guess that splits the candidates into many
+ * groups of similar size is expected to eliminate the most of them. Guesses are scored in parallel
+ * on the common {@link java.util.concurrent.ForkJoinPool}, and ties are broken in favour of
+ * candidates, which can still win the game, and then of the first word in the list.
+ *
+ * <p>When more than {@value #SAMPLE_SIZE} candidates remain, the entropy is estimated on an evenly
+ * spaced sample of them, which keeps the first guess on {@code 6letters.txt} interactive. The first
+ * guess doesn't depend on the game, so it's also computed only once per word length.
+ *
+ * <p>If the board has a {@link WordCandidateFilter} on the same word list attached, the solver uses
+ * its candidates. Otherwise it keeps the candidates of the last board it was asked about, and only
+ * applies new guesses to them, see {@link CandidateSet#update}.
+ */
+public class EntropySolver {
+
+  /** Maximum number of candidates the entropy is computed against. */
+  public static final int SAMPLE_SIZE = 2048;
+
+  private static final int MAX_COUNTED_CODES = 1 << 16;
+
+  private final List<String> words;
+  private final PackedComparator<String> comparator;
+  private final Map<Integer, String> openings = new ConcurrentHashMap<>();
+  private CandidateSet candidates;
+  private CandidateSet last;
+
+  /**
+   * Creates a solver for the given word list.
+   *
+   * @param words the word list, targets and guesses are taken from
+   * @param comparator the comparator used by the game
+   */
+  public EntropySolver(List<String> words, PackedComparator<String> comparator) {
+    this.words = words;
+    this.comparator = comparator;
+  }
+
+  /**
+   * Recommends the next guess for the game with the given board.
+   *
+   * @param board the board of the game
+   * @param length the length of the target
+   * @return the recommended guess, or an empty {@link Optional} if no word fits the results
+   * @throws CompareException if a guess cannot be compared
+   */
+  public synchronized Optional<String> suggest(GameBoard<String> board, int length)
+      throws CompareException {
+    if (board.getFilter() instanceof WordCandidateFilter filter
+        && filter.getWords() == words
+        && filter.getCandidates() != null
+        && filter.getCandidates().getLength() == length) {
+      last = filter.getCandidates();
+      return suggest(last);
+    }
+
+    if (candidates == null || candidates.getLength() != length) {
+      candidates = new CandidateSet(words, comparator, length);
+    }
+    candidates.update(board);
+    last = candidates;
+
+    return suggest(candidates);
+  }
+
+  /**
+   * Recommends the next guess for the given candidates.
+   *
+   * @param candidates the remaining candidates, created for the same word list
+   * @return the recommended guess, or an empty {@link Optional} if there are no candidates
+   */
+  public Optional<String> suggest(CandidateSet candidates) {
+    if (candidates.size() == 0) {
+      return Optional.empty();
+    } else if (candidates.size() <= 2) {
+      return Optional.of(candidates.get(0));
+    } else if (candidates.isInitial()) {
+      return Optional.of(
+          openings.computeIfAbsent(candidates.getLength(), x -> bestGuess(candidates)));
+    }
+
+    return Optional.of(bestGuess(candidates));
+  }
+
+  /**
+   * Returns the candidates of the last board passed to {@link #suggest(GameBoard, int)}.
+   *
+   * @return the remaining candidates, or {@code null} if no board was passed yet
+   */
+  public synchronized CandidateSet getCandidates() {
+    return last;
+  }
+
+  /**
+   * Computes the entropy of the results of the guess against the given targets.
+   *
+   * @param guess the guessed word
+   * @param targets the possible targets
+   * @return the expected information of the guess in bits
+   * @throws CompareException if the guess cannot be compared
+   */
+  public double entropy(String guess, List<String> targets) throws CompareException {
+    long[] codes = new long[targets.size()];
+
+    for (int i = 0; i < codes.length; i++) {
+      codes[i] = comparator.comparePacked(guess, targets.get(i));
+    }
+
+    return entropyOf(codes, guess.length());
+  }
+
+  private String bestGuess(CandidateSet candidates) {
+    int length = candidates.getLength();
+    int[] pool =
+        IntStream.range(0, words.size()).filter(i -> words.get(i).length() == length).toArray();
+    String[] targets = sample(candidates);
+    double[] scores = new double[pool.length];
+
+    IntStream.range(0, pool.length)
+        .parallel()
+        .forEach(i -> scores[i] = score(words.get(pool[i]), targets));
+
+    boolean[] isCandidate = new boolean[words.size()];
+    for (int index : candidates.candidateIndices()) {
+      isCandidate[index] = true;
+    }
+
+    int best = 0;
+    for (int i = 1; i < pool.length; i++) {
+      if (scores[i] > scores[best]
+          || (scores[i] == scores[best] && isCandidate[pool[i]] && !isCandidate[pool[best]])) {
+        best = i;
+      }
+    }
+
+    return words.get(pool[best]);
+  }
+
+  private double score(String guess, String[] targets) {
+    long[] codes = new long[targets.length];
+
+    try {
+      for (int i = 0; i < targets.length; i++) {
+        codes[i] = comparator.comparePacked(guess, targets[i]);
+      }
+    } catch (CompareException e) {
+      // all words in the pool have the length of the candidates
+      throw new IllegalStateException(e);
+    }
+
+    return entropyOf(codes, guess.length());
+  }
+
+  private double entropyOf(long[] codes, int length) {
+    long codeCount = PackedResults.codeCount(length, comparator.radix());
+    double sum = 0;
+
+    if (codeCount <= MAX_COUNTED_CODES) {
+      int[] counts = new int[(int) codeCount];
+      for (long code : codes) {
+        counts[(int) code]++;
+      }
+      for (int count : counts) {
+        sum += count * log2(count);
+      }
+    } else {
+      Arrays.sort(codes);
+      for (int from = 0, to = 0; from < codes.length; from = to) {
+        while (to < codes.length && codes[to] == codes[from]) {
+          to++;
+        }
+        sum += (to - from) * log2(to - from);
+      }
+    }
+
+    return codes.length == 0 ? 0 : log2(codes.length) - sum / codes.length;
+  }
+
+  private static String[] sample(CandidateSet candidates) {
+    int count = Math.min(candidates.size(), SAMPLE_SIZE);
+    String[] sample = new String[count];
+
+    for (int i = 0; i < count; i++) {
+      sample[i] = candidates.get((int) ((long) i * candidates.size() / count));
+    }
+
+    return sample;
+  }
+
+  private static double log2(double x) {
+    return x <= 1 ? 0 : Math.log(x) / Math.log(2);
+  }
+}
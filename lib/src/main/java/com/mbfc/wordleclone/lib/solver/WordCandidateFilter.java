@@ -0,0 +1,95 @@
+package com.mbfc.wordleclone.lib.solver;
+
+import com.mbfc.wordleclone.lib.comparator.ComparatorResult;
+import com.mbfc.wordleclone.lib.comparator.CompareException;
+import com.mbfc.wordleclone.lib.comparator.PackedComparator;
+import com.mbfc.wordleclone.lib.game.CandidateFilter;
+import java.util.List;
+
+/**
+ * A {@link CandidateFilter} for string games, keeping the remaining words in a {@link
+ * CandidateSet}.
+ *
+ * <p>The set is created for the length of the first guess, so words of other lengths are no longer
+ * candidates once a guess is applied. A new guess only compares the words that are still
+ * candidates, by their packed result, so every guess costs at most one comparison per word, no
+ * matter how many guesses were made before.
+ *
+ * <p>An {@link EntropySolver} on the same word list suggests guesses from the candidates of the
+ * filter attached to a board, instead of tracking them again.
+ */
+public final class WordCandidateFilter implements CandidateFilter<String> {
+  private final List<String> words;
+  private final PackedComparator<String> comparator;
+  private CandidateSet candidates;
+
+  /**
+   * Creates a filter with all words of the list as candidates.
+   *
+   * @param words the word list, targets are taken from
+   * @param comparator the comparator used by the game
+   */
+  public WordCandidateFilter(List<String> words, PackedComparator<String> comparator) {
+    this.words = words;
+    this.comparator = comparator;
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public void apply(List<ComparatorResult> result, String guess) {
+    if (candidates == null) {
+      candidates = new CandidateSet(words, comparator, guess.length());
+    } else if (candidates.getLength() != guess.length()) {
+      candidates.clear();
+      return;
+    }
+
+    try {
+      candidates.filter(guess, result);
+    } catch (CompareException e) {
+      candidates.clear();
+    }
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public int remaining() {
+    return isInitial() ? words.size() : candidates.size();
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public void reset() {
+    if (candidates != null) {
+      candidates.reset();
+    }
+  }
+
+  /**
+   * Checks if the word at the given position of the list is still a possible target.
+   *
+   * @param index the position in the word list
+   * @return {@code true} if the word is a candidate, {@code false} otherwise
+   */
+  public boolean isCandidate(int index) {
+    return isInitial() || candidates.contains(index);
+  }
+
+  /**
+   * Returns the remaining candidates.
+   *
+   * @return the candidates, or {@code null} if no guess was applied since the filter was created or
+   *     reset
+   */
+  public CandidateSet getCandidates() {
+    return isInitial() ? null : candidates;
+  }
+
+  List<String> getWords() {
+    return words;
+  }
+
+  private boolean isInitial() {
+    return candidates == null || candidates.isInitial();
+  }
+}
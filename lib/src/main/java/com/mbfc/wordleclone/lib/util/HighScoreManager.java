@@ -4,7 +4,6 @@ import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
-import java.nio.file.StandardOpenOption;
 
 /**
  * Utility class for managing the high score.
@@ -12,6 +11,10 @@ import java.nio.file.StandardOpenOption;
  * <p>This class reads and writes the high score to a file. By default, if a relative file name is
  * provided, it is stored inside the project's folder at "cli/src/main/resources". However, if an
  * absolute path is provided (e.g., during tests), it will be used directly.
+ *
+ * <p>The file is replaced atomically, so a crash while saving keeps the previous high score. To
+ * keep the high scores of many modes and players, shared by several processes, use {@link
+ * HighScoreStore}.
  */
 public class HighScoreManager {
   private final Path filePath;
@@ -84,11 +87,7 @@ public class HighScoreManager {
   private void saveHighScore() {
     try {
       String scoreStr = String.valueOf(highScore);
-      Files.write(
-          filePath,
-          scoreStr.getBytes(),
-          StandardOpenOption.CREATE,
-          StandardOpenOption.TRUNCATE_EXISTING);
+      HighScoreStore.writeAtomically(filePath, scoreStr.getBytes());
     } catch (IOException e) {
       System.err.println("Error saving high score: " + e.getMessage());
     }
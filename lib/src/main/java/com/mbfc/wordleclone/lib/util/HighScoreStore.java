@@ -0,0 +1,258 @@
+package com.mbfc.wordleclone.lib.util;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Stores the high scores of many game modes and players in a single file.
+ *
+ * <p>The file has a line of {@code mode<TAB>player<TAB>score} for every mode and player. It's never
+ * modified in place: a new version is written to a temporary file, flushed to the disk and then
+ * atomically renamed over the old one, so a crash in the middle of a write leaves the previous
+ * version intact, and readers always see a complete file.
+ *
+ * <p>Updates are batched in memory and written together by {@link #flush()}, which is called
+ * automatically after {@code batchSize} updates or once {@code flushInterval} has passed since the
+ * last write, and by {@link #close()}. Scores that are not written yet are already returned by
+ * {@link #getHighScore}. A failed automatic flush keeps the updates for the next one.
+ *
+ * <p>Several processes can share the same file. Writes are serialized with a {@link FileLock} on a
+ * {@code .lock} file next to it, and every write merges the pending scores into the latest version
+ * of the file, keeping the higher score of every mode and player, so no process loses the scores of
+ * another one.
+ */
+public class HighScoreStore implements Closeable {
+  // FileLock is held by the whole JVM, so stores of the same file in one process also need a
+  // monitor of their own
+  private static final ConcurrentMap<Path, Object> PROCESS_LOCKS = new ConcurrentHashMap<>();
+
+  private final Path file;
+  private final Path lockFile;
+  private final int batchSize;
+  private final long flushIntervalNanos;
+  private final Map<String, Integer> scores = new HashMap<>();
+  private final Map<String, Integer> pending = new HashMap<>();
+  private int pendingUpdates;
+  private long lastFlush;
+
+  /**
+   * Creates a store that writes every 16 updates, or every 5 seconds.
+   *
+   * @param file the file of the high scores, created on the first write
+   */
+  public HighScoreStore(Path file) {
+    this(file, 16, Duration.ofSeconds(5));
+  }
+
+  /**
+   * Creates a store and loads the high scores from the file, if it exists.
+   *
+   * <p>If the file cannot be read, the store starts without high scores, and reads them again on
+   * the next {@link #flush()}.
+   *
+   * @param file the file of the high scores, created on the first write
+   * @param batchSize number of updates after which the pending scores are written
+   * @param flushInterval time after which the pending scores are written by the next update
+   * @throws IllegalArgumentException if the batch size is not positive
+   */
+  public HighScoreStore(Path file, int batchSize, Duration flushInterval) {
+    if (batchSize < 1) {
+      throw new IllegalArgumentException("Batch size must be positive.");
+    }
+
+    this.file = file.toAbsolutePath().normalize();
+    this.lockFile = this.file.resolveSibling(this.file.getFileName() + ".lock");
+    this.batchSize = batchSize;
+    this.flushIntervalNanos = flushInterval.toNanos();
+    this.lastFlush = System.nanoTime();
+
+    try {
+      scores.putAll(read(this.file));
+    } catch (IOException ignore) {
+      // the scores are read again by the next flush
+    }
+  }
+
+  /**
+   * Returns the high score of the player in the mode.
+   *
+   * @param mode the game mode, e.g. {@code "endless_classic"}
+   * @param player the name of the player
+   * @return the high score, including updates that are not written yet, or 0 if there is none
+   */
+  public synchronized int getHighScore(String mode, String player) {
+    String key = key(mode, player);
+
+    return Math.max(scores.getOrDefault(key, 0), pending.getOrDefault(key, 0));
+  }
+
+  /**
+   * Records the score, if it's higher than the high score of the player in the mode.
+   *
+   * @param mode the game mode, e.g. {@code "endless_classic"}
+   * @param player the name of the player
+   * @param score the score to record
+   * @return {@code true} if the score is a new high score
+   * @throws IllegalArgumentException if the mode or the player contains a tab or a line break
+   */
+  public synchronized boolean updateHighScore(String mode, String player, int score) {
+    String key = key(mode, player);
+    if (score <= getHighScore(mode, player)) {
+      return false;
+    }
+
+    pending.put(key, score);
+    pendingUpdates++;
+    if (pendingUpdates >= batchSize || System.nanoTime() - lastFlush >= flushIntervalNanos) {
+      try {
+        flush();
+      } catch (IOException ignore) {
+        // the scores stay pending until the next flush
+      }
+    }
+
+    return true;
+  }
+
+  /**
+   * Writes the pending scores to the file, merged with the scores written by other stores.
+   *
+   * <p>The high scores of the store are refreshed from the file as well.
+   *
+   * @throws IOException if the file cannot be written, in which case the scores stay pending
+   */
+  public synchronized void flush() throws IOException {
+    lastFlush = System.nanoTime();
+
+    synchronized (PROCESS_LOCKS.computeIfAbsent(file, path -> new Object())) {
+      if (file.getParent() != null) {
+        Files.createDirectories(file.getParent());
+      }
+
+      try (FileChannel channel =
+          FileChannel.open(lockFile, StandardOpenOption.CREATE, StandardOpenOption.WRITE)) {
+        FileLock lock = channel.lock();
+        try {
+          Map<String, Integer> merged = read(file);
+          if (!pending.isEmpty()) {
+            pending.forEach((key, score) -> merged.merge(key, score, Math::max));
+            write(merged);
+          }
+
+          scores.clear();
+          scores.putAll(merged);
+          pending.clear();
+          pendingUpdates = 0;
+        } finally {
+          lock.release();
+        }
+      }
+    }
+  }
+
+  /**
+   * Writes the pending scores.
+   *
+   * @throws IOException if the file cannot be written
+   */
+  @Override
+  public void close() throws IOException {
+    flush();
+  }
+
+  /**
+   * Writes the content to a temporary file and renames it over the target in one step.
+   *
+   * @param target the file to replace
+   * @param content the new content of the file
+   * @throws IOException if the file cannot be written
+   */
+  static void writeAtomically(Path target, byte[] content) throws IOException {
+    Path temp = Files.createTempFile(target.toAbsolutePath().getParent(), ".highscore", ".tmp");
+
+    try {
+      try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.WRITE)) {
+        ByteBuffer buffer = ByteBuffer.wrap(content);
+        while (buffer.hasRemaining()) {
+          channel.write(buffer);
+        }
+        channel.force(true);
+      }
+
+      try {
+        Files.move(
+            temp, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+      } catch (AtomicMoveNotSupportedException e) {
+        Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING);
+      }
+    } finally {
+      Files.deleteIfExists(temp);
+    }
+  }
+
+  private void write(Map<String, Integer> merged) throws IOException {
+    StringBuilder content = new StringBuilder();
+
+    for (Map.Entry<String, Integer> entry : new TreeMap<>(merged).entrySet()) {
+      content.append(entry.getKey()).append('\t').append(entry.getValue()).append('\n');
+    }
+
+    writeAtomically(file, content.toString().getBytes(StandardCharsets.UTF_8));
+  }
+
+  private static Map<String, Integer> read(Path file) throws IOException {
+    Map<String, Integer> scores = new HashMap<>();
+    List<String> lines;
+
+    try {
+      lines = Files.readAllLines(file, StandardCharsets.UTF_8);
+    } catch (NoSuchFileException e) {
+      return scores;
+    }
+
+    for (String line : lines) {
+      int separator = line.lastIndexOf('\t');
+      if (separator <= 0 || line.indexOf('\t') == separator) {
+        continue;
+      }
+
+      try {
+        int score = Integer.parseInt(line.substring(separator + 1).trim());
+        scores.merge(line.substring(0, separator), score, Math::max);
+      } catch (NumberFormatException ignore) {
+        // a damaged line doesn't invalidate the other scores
+      }
+    }
+
+    return scores;
+  }
+
+  private static String key(String mode, String player) {
+    if (hasSeparator(mode) || hasSeparator(player)) {
+      throw new IllegalArgumentException("Mode and player cannot contain tabs or line breaks.");
+    }
+
+    return mode + '\t' + player;
+  }
+
+  private static boolean hasSeparator(String value) {
+    return value.indexOf('\t') >= 0 || value.indexOf('\n') >= 0 || value.indexOf('\r') >= 0;
+  }
+}
@@ -1,15 +1,53 @@
 package com.mbfc.wordleclone.lib.util;
 
-import java.util.Random;
+import java.util.SplittableRandom;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.random.RandomGenerator;
+import java.util.random.RandomGenerator.SplittableGenerator;
 
-/** Utility class for generating random string of letters. */
+/**
+ * Utility class for generating random string of letters.
+ *
+ * <p>It's also the source of the random generators of the games. Every game takes its own generator
+ * through its constructor, split from a root generator of the current thread by default, so games
+ * don't contend on a shared generator or a lock, and a game built with a {@link #seeded} generator
+ * selects the same targets on every run. The game draws the seed of its {@link SeededRandom} from
+ * the generator, so the position of the game in its sequence is saved with its snapshot.
+ */
 public class RandomGen {
   private static final String letters = "abcdefghijklmnopqrstuvwxyz";
+  // every thread splits off its own root, seeded from its ThreadLocalRandom
+  private static final ThreadLocal<SplittableRandom> roots =
+      ThreadLocal.withInitial(() -> new SplittableRandom(ThreadLocalRandom.current().nextLong()));
 
   public static String getLetters() {
     return letters;
   }
 
+  /**
+   * Splits a new, independent generator off the root generator of the current thread.
+   *
+   * <p>The returned generator is not thread-safe, it should be used by one thread or one game, and
+   * split further for the others.
+   *
+   * @return a new generator
+   */
+  public static SplittableGenerator split() {
+    return roots.get().split();
+  }
+
+  /**
+   * Creates a generator, which produces the same sequence for the same seed.
+   *
+   * <p>Generators split off a seeded generator are deterministic as well.
+   *
+   * @param seed the seed of the generator
+   * @return a new generator
+   */
+  public static SplittableGenerator seeded(long seed) {
+    return new SplittableRandom(seed);
+  }
+
   /**
    * Generates the random string of the specified length from the {@code letters} list.
    *
@@ -17,13 +55,23 @@ public class RandomGen {
    * @return a randomly generated string of given length
    */
   public static String generate(int length) {
-    Random rand = new Random();
-    StringBuilder result = new StringBuilder();
+    return generate(length, ThreadLocalRandom.current());
+  }
+
+  /**
+   * Generates the random string of the specified length from the {@code letters} list.
+   *
+   * @param length desired length of the generated string
+   * @param random the generator of the letters
+   * @return a randomly generated string of given length
+   */
+  public static String generate(int length, RandomGenerator random) {
+    char[] result = new char[Math.max(length, 0)];
 
     for (int i = 0; i < length; i++) {
-      result.append(letters.charAt(rand.nextInt(letters.length())));
+      result[i] = letters.charAt(random.nextInt(letters.length()));
     }
 
-    return result.toString();
+    return new String(result);
   }
 }
@@ -0,0 +1,65 @@
+package com.mbfc.wordleclone.lib.util;
+
+import java.util.random.RandomGenerator;
+
+/**
+ * A generator, whose whole state is its seed and the number of values drawn from it.
+ *
+ * <p>It produces the SplitMix64 sequence, the same one as {@link java.util.SplittableRandom}: the
+ * n-th value is a mix of {@code seed + n * gamma}, so the generator can be saved as two numbers and
+ * moved to any position in constant time. Games draw their targets from it, so that a saved game
+ * draws the same targets after it's restored.
+ *
+ * <p>The generator is not thread-safe.
+ */
+public final class SeededRandom implements RandomGenerator {
+  private static final long GOLDEN_GAMMA = 0x9E3779B97F4A7C15L;
+
+  private final long seed;
+  private long count;
+
+  /**
+   * Creates a generator at the start of the sequence of the seed.
+   *
+   * @param seed the seed of the generator
+   */
+  public SeededRandom(long seed) {
+    this.seed = seed;
+  }
+
+  public long getSeed() {
+    return seed;
+  }
+
+  /**
+   * Returns the position of the generator.
+   *
+   * @return the number of values drawn so far
+   */
+  public long getCount() {
+    return count;
+  }
+
+  /**
+   * Moves the generator to the given position of its sequence.
+   *
+   * @param count the number of values drawn so far
+   * @throws IllegalArgumentException if the count is negative
+   */
+  public void seek(long count) {
+    if (count < 0) {
+      throw new IllegalArgumentException("The position of a generator cannot be negative.");
+    }
+
+    this.count = count;
+  }
+
+  @Override
+  public long nextLong() {
+    long z = seed + ++count * GOLDEN_GAMMA;
+    z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+    z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+
+    return z ^ (z >>> 31);
+  }
+}
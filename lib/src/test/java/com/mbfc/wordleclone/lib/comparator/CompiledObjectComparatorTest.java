@@ -0,0 +1,85 @@
+package com.mbfc.wordleclone.lib.comparator;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+
+import com.mbfc.wordleclone.lib.dataset.ObjectDataset;
+import com.mbfc.wordleclone.lib.json.Field;
+import com.mbfc.wordleclone.lib.json.IntegerField;
+import com.mbfc.wordleclone.lib.json.StringField;
+import com.mbfc.wordleclone.lib.parser.JsonParser;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.Test;
+
+/** Test suite for {@link CompiledObjectComparator}. */
+public class CompiledObjectComparatorTest {
+  private static final Path BUNDLED_LISTS = Path.of("..", "cli", "src", "main", "resources");
+
+  /** Test that all pairs of records of the bundled json files compare as with ObjectComparator. */
+  @Test
+  void compare_bundledJsonFiles_sameAsObjectComparator() throws IOException, CompareException {
+    ObjectComparator expected = new ObjectComparator();
+    List<Path> files;
+    try (Stream<Path> paths = Files.list(BUNDLED_LISTS)) {
+      files = paths.filter(x -> x.toString().endsWith(".json")).sorted().toList();
+    }
+
+    assertFalse(files.isEmpty());
+    for (Path file : files) {
+      List<TreeMap<String, Field>> records = new JsonParser().parseFile(file.toString()).right();
+      ObjectDataset dataset = assertInstanceOf(ObjectDataset.class, records);
+      CompiledObjectComparator comparator = CompiledObjectComparator.compile(dataset);
+      byte[] buffer = new byte[dataset.getFields().size()];
+
+      for (TreeMap<String, Field> guess : records) {
+        for (TreeMap<String, Field> target : records) {
+          List<ComparatorResult> result = expected.compare(guess, target);
+          String message = file.getFileName() + ": " + guess + " vs " + target;
+
+          assertEquals(result, comparator.compare(guess, target), message);
+          assertEquals(
+              PackedResults.pack(result, CompiledObjectComparator.RADIX),
+              comparator.comparePacked(guess, target),
+              message);
+          assertEquals(result.size(), comparator.compareInto(guess, target, buffer));
+          assertEquals(result, PackedResults.toList(buffer, result.size()), message);
+        }
+      }
+    }
+  }
+
+  /** Test that records outside of the compiled dataset are compared by ObjectComparator. */
+  @Test
+  void compare_recordOutsideDataset_usesFallback() throws CompareException {
+    // given
+    TreeMap<String, Field> java = record("Java", 1995);
+    TreeMap<String, Field> go = record("Go", 2009);
+    ObjectDataset dataset =
+        new ObjectDataset("name", Map.of("name", "string", "created", "integer"), List.of(java));
+    CompiledObjectComparator comparator = CompiledObjectComparator.compile(dataset);
+
+    // when
+    List<ComparatorResult> result = comparator.compare(go, java);
+
+    // then
+    assertEquals(new ObjectComparator().compare(go, java), result);
+    assertEquals(
+        PackedResults.pack(result, CompiledObjectComparator.RADIX),
+        comparator.comparePacked(go, java));
+  }
+
+  private static TreeMap<String, Field> record(String name, int created) {
+    TreeMap<String, Field> record = new TreeMap<>();
+    record.put("name", new StringField(name));
+    record.put("created", new IntegerField(created));
+
+    return record;
+  }
+}
@@ -0,0 +1,92 @@
+package com.mbfc.wordleclone.lib.comparator;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+/** Test suite for {@link FeedbackMatrix}. */
+public class FeedbackMatrixTest {
+  private final StringComparator comparator = new StringComparator();
+  private final List<String> words = List.of("llama", "alley", "eerie", "theme", "abcde", "edcba");
+
+  /** Test that every cell of the full matrix matches the string comparator. */
+  @Test
+  void build_wordList_matchesStringComparator() throws CompareException {
+    // given
+    FeedbackMatrix matrix = FeedbackMatrix.build(words);
+
+    // when
+
+    // then
+    assertFalse(matrix.isLazy());
+    assertEquals(words.size(), matrix.getMaterializedRows());
+    for (int i = 0; i < words.size(); i++) {
+      for (int j = 0; j < words.size(); j++) {
+        assertEquals(comparator.comparePacked(words.get(i), words.get(j)), matrix.code(i, j));
+        assertEquals(
+            comparator.compare(words.get(i), words.get(j)),
+            matrix.compare(words.get(i), words.get(j)));
+      }
+    }
+  }
+
+  /** Test that wide codes of six letter words are stored without losing information. */
+  @Test
+  void build_sixLetterWords_usesWideCodes() throws CompareException {
+    // given
+    List<String> sixLetters = List.of("banana", "ananas", "bandit");
+    FeedbackMatrix matrix = FeedbackMatrix.build(sixLetters);
+
+    // when
+    long code = matrix.comparePacked("ananas", "bandit");
+
+    // then
+    assertEquals(comparator.comparePacked("ananas", "bandit"), code);
+    assertEquals(FeedbackMatrix.estimateBytes(3, 6), matrix.getMemoryBytes());
+  }
+
+  /** Test that rows of a lazy matrix are computed only when they are needed. */
+  @Test
+  void lazy_lookup_materializesSingleRow() throws CompareException {
+    // given
+    FeedbackMatrix matrix = FeedbackMatrix.lazy(words);
+
+    // when
+    long code = matrix.comparePacked("eerie", "theme");
+
+    // then
+    assertTrue(matrix.isLazy());
+    assertEquals(comparator.comparePacked("eerie", "theme"), code);
+    assertEquals(1, matrix.getMaterializedRows());
+  }
+
+  /** Test that words outside the list are compared by the string comparator. */
+  @Test
+  void comparePacked_wordOutsideList_fallsBackToComparator() throws CompareException {
+    // given
+    FeedbackMatrix matrix = FeedbackMatrix.lazy(words);
+
+    // when
+    long code = matrix.comparePacked("zzzzz", "llama");
+
+    // then
+    assertEquals(comparator.comparePacked("zzzzz", "llama"), code);
+    assertEquals(0, matrix.getMaterializedRows());
+  }
+
+  /** Test that a list with words of different lengths is rejected. */
+  @Test
+  void build_differentLengths_throwsException() {
+    // given
+    List<String> mixed = List.of("abc", "abcd");
+
+    // when
+
+    // then
+    assertThrows(IllegalArgumentException.class, () -> FeedbackMatrix.build(mixed));
+  }
+}
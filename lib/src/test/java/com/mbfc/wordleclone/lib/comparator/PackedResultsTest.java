@@ -0,0 +1,73 @@
+package com.mbfc.wordleclone.lib.comparator;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+/** Test suite for {@link PackedResults}. */
+public class PackedResultsTest {
+
+  /** Test that the maximum length is the largest one that fits in a long. */
+  @Test
+  void maxLength_supportedRadixes_fitsInLong() {
+    // given
+
+    // when
+
+    // then
+    assertEquals(39, PackedResults.maxLength(3));
+    assertEquals(27, PackedResults.maxLength(5));
+    assertThrows(IllegalArgumentException.class, () -> PackedResults.maxLength(6));
+  }
+
+  /** Test that packing a list and reading it back gives the same results. */
+  @Test
+  void pack_listOfResults_roundTrips() {
+    // given
+    List<ComparatorResult> results =
+        List.of(
+            ComparatorResult.TOO_HIGH,
+            ComparatorResult.CORRECT,
+            ComparatorResult.TOO_LOW,
+            ComparatorResult.PARTIAL);
+
+    // when
+    long code = PackedResults.pack(results, 5);
+
+    // then
+    assertEquals(results, PackedResults.asList(code, results.size(), 5));
+    assertEquals(code, PackedResults.pack(PackedResults.asList(code, results.size(), 5), 5));
+  }
+
+  /** Test that results which don't fit the radix cannot be packed. */
+  @Test
+  void pack_resultOutsideRadix_throwsException() {
+    // given
+    List<ComparatorResult> results = List.of(ComparatorResult.TOO_LOW);
+
+    // when
+
+    // then
+    assertThrows(IllegalArgumentException.class, () -> PackedResults.pack(results, 3));
+  }
+
+  /** Test that a fully correct result is recognized for both packed and regular lists. */
+  @Test
+  void allCorrect_packedAndRegularLists_detectsWin() {
+    // given
+    List<ComparatorResult> packedWin = PackedResults.asList(PackedResults.ALL_CORRECT, 5, 3);
+    List<ComparatorResult> packedLoss = PackedResults.asList(1, 5, 3);
+    List<ComparatorResult> regularWin = List.of(ComparatorResult.CORRECT);
+
+    // when
+
+    // then
+    assertTrue(PackedResults.allCorrect(packedWin));
+    assertFalse(PackedResults.allCorrect(packedLoss));
+    assertTrue(PackedResults.allCorrect(regularWin));
+  }
+}
@@ -99,4 +99,126 @@ public class StringComparatorTest {
     assertNotNull(result);
     assertTrue(result.stream().allMatch(x -> x.equals(ComparatorResult.CORRECT)));
   }
+
+  /** Test that only as many letters are marked as partial as there are left in the target. */
+  @Test
+  void compare_repeatedLetters_partialOnlyForRemainingLetters() throws CompareException {
+    // given
+    String guess = "eerie";
+    String target = "theme";
+
+    // when
+    List<ComparatorResult> result = comparator.compare(guess, target);
+
+    // then
+    assertEquals(
+        List.of(
+            ComparatorResult.PARTIAL,
+            ComparatorResult.INCORRECT,
+            ComparatorResult.INCORRECT,
+            ComparatorResult.INCORRECT,
+            ComparatorResult.CORRECT),
+        result);
+  }
+
+  /** Test that characters outside the lowercase ASCII alphabet are compared correctly. */
+  @Test
+  void compare_nonAsciiCharacters_sameAsAsciiLetters() throws CompareException {
+    // given
+    String guess = "ñaÑño";
+    String target = "oñaÑx";
+
+    // when
+    List<ComparatorResult> result = comparator.compare(guess, target);
+
+    // then
+    assertEquals(
+        List.of(
+            ComparatorResult.PARTIAL,
+            ComparatorResult.PARTIAL,
+            ComparatorResult.PARTIAL,
+            ComparatorResult.INCORRECT,
+            ComparatorResult.PARTIAL),
+        result);
+  }
+
+  /** Test that the packed code encodes the results in radix 3. */
+  @Test
+  void comparePacked_mixedResults_returnsCode() throws CompareException {
+    // given
+    String guess = "abc";
+    String target = "axb";
+
+    // when
+    long code = comparator.comparePacked(guess, target);
+
+    // then
+    assertEquals(0 + 1 * 3 + 2 * 9, code);
+    assertEquals(
+        List.of(ComparatorResult.CORRECT, ComparatorResult.PARTIAL, ComparatorResult.INCORRECT),
+        PackedResults.asList(code, guess.length(), StringComparator.RADIX));
+  }
+
+  /** Test that results written into the buffer match the packed code. */
+  @Test
+  void compareInto_sameWords_matchesPackedCode() throws CompareException {
+    // given
+    String guess = "llama";
+    String target = "alley";
+    byte[] buffer = new byte[8];
+
+    // when
+    int length = comparator.compareInto(guess, target, buffer);
+
+    // then
+    assertEquals(5, length);
+    assertEquals(
+        comparator.comparePacked(guess, target),
+        PackedResults.pack(buffer, length, StringComparator.RADIX));
+  }
+
+  /** Test that a buffer shorter than the strings throws an exception. */
+  @Test
+  void compareInto_bufferTooSmall_throwsException() {
+    // given
+    byte[] buffer = new byte[2];
+
+    // when
+
+    // then
+    assertThrows(CompareException.class, () -> comparator.compareInto("abc", "abc", buffer));
+  }
+
+  /** Test that strings too long to be packed are still compared by the list adapter. */
+  @Test
+  void compare_stringsLongerThanPackedLength_returnsList() throws CompareException {
+    // given
+    String guess = "ab".repeat(StringComparator.MAX_PACKED_LENGTH);
+    String target = "ba".repeat(StringComparator.MAX_PACKED_LENGTH);
+
+    // when
+    List<ComparatorResult> result = comparator.compare(guess, target);
+
+    // then
+    assertEquals(guess.length(), result.size());
+    assertTrue(result.stream().allMatch(x -> x.equals(ComparatorResult.PARTIAL)));
+    assertThrows(CompareException.class, () -> comparator.comparePacked(guess, target));
+  }
+
+  /** Test that the letters left over by a comparison don't leak into the next one. */
+  @Test
+  void compare_afterUnmatchedLetters_countsOnlyNewTarget() throws CompareException {
+    // given
+    comparator.compare("zzzzz", "aaaaa");
+    byte[] buffer = new byte[5];
+    comparator.compareInto("zzzzz", "aaaaa", buffer);
+
+    // when
+    List<ComparatorResult> result = comparator.compare("aaaaa", "bbbbb");
+    comparator.compareInto("aaaaa", "bbbbb", buffer);
+
+    // then
+    assertTrue(result.stream().allMatch(x -> x.equals(ComparatorResult.INCORRECT)));
+    assertEquals(PackedResults.toList(buffer, 5), result);
+  }
 }
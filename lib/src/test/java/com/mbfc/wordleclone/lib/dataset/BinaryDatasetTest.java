@@ -0,0 +1,166 @@
+package com.mbfc.wordleclone.lib.dataset;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.mbfc.wordleclone.lib.json.DateTimeField;
+import com.mbfc.wordleclone.lib.json.DoubleField;
+import com.mbfc.wordleclone.lib.json.Field;
+import com.mbfc.wordleclone.lib.json.IntegerField;
+import com.mbfc.wordleclone.lib.json.SetField;
+import com.mbfc.wordleclone.lib.json.StringField;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/** Test suite for {@link BinaryDataset}. */
+public class BinaryDatasetTest {
+  private ObjectDataset dataset;
+
+  @BeforeEach
+  void setUp() {
+    List<TreeMap<String, Field>> records = new ArrayList<>();
+    records.add(record("Java", 1995, 4.5, LocalDateTime.of(1995, 5, 23, 10, 30), "jvm", "oop"));
+    records.add(record("Kotlin", 2011, 4.0, LocalDateTime.of(2011, 7, 22, 0, 0), "jvm"));
+    records.add(record("Zig", 2016, 3.5, LocalDateTime.of(2016, 2, 8, 23, 59)));
+    dataset =
+        new ObjectDataset(
+            "name",
+            Map.of(
+                "name", "string",
+                "created", "integer",
+                "rating", "double",
+                "released", "datetime",
+                "tags", "set"),
+            records);
+  }
+
+  /** Test that all of the fields of all of the records are read back with the same values. */
+  @Test
+  void read_writtenDataset_returnsSameRecords() throws IOException {
+    // given
+    byte[] bytes = write(dataset);
+
+    // when
+    ObjectDataset result = BinaryDataset.read(ByteBuffer.wrap(bytes));
+
+    // then
+    assertEquals("name", result.getKey());
+    assertEquals(dataset.getFields(), result.getFields());
+    assertEquals(values(dataset), values(result));
+    assertEquals(1, result.rowOf("kotlin"));
+  }
+
+  /** Test that equal strings of a column are read back as a single shared instance. */
+  @Test
+  void read_repeatedStrings_shareInstances() throws IOException {
+    // given
+    byte[] bytes = write(dataset);
+
+    // when
+    ObjectDataset result = BinaryDataset.read(ByteBuffer.wrap(bytes));
+
+    // then
+    String first = find(result.get(0), "jvm");
+    String second = find(result.get(1), "jvm");
+    assertSame(first, second);
+  }
+
+  /** Test that a mapped file is read the same way as a buffer. */
+  @Test
+  void read_file_returnsSameRecords() throws IOException {
+    // given
+    Path tempFile = Files.createTempFile("dataset", ".bin");
+    Files.write(tempFile, write(dataset));
+
+    // when
+    ObjectDataset result = BinaryDataset.read(tempFile);
+
+    // then
+    assertEquals(values(dataset), values(result));
+  }
+
+  /** Test that a truncated dataset throws an exception. */
+  @Test
+  void read_truncatedDataset_throwsException() throws IOException {
+    // given
+    byte[] bytes = write(dataset);
+    byte[] truncated = Arrays.copyOf(bytes, bytes.length - 5);
+
+    // when
+
+    // then
+    assertThrows(IOException.class, () -> BinaryDataset.read(ByteBuffer.wrap(truncated)));
+  }
+
+  /** Test that a record without a field of the schema cannot be written. */
+  @Test
+  void write_missingField_throwsException() {
+    // given
+    TreeMap<String, Field> record = new TreeMap<>();
+    record.put("name", new StringField("Go"));
+    ObjectDataset incomplete =
+        new ObjectDataset(
+            "name",
+            Map.of("name", "string", "created", "integer"),
+            new ArrayList<>(List.of(record)));
+
+    // when
+
+    // then
+    assertThrows(IllegalArgumentException.class, () -> write(incomplete));
+  }
+
+  private static TreeMap<String, Field> record(
+      String name, int created, double rating, LocalDateTime released, String... tags) {
+    TreeMap<String, Field> record = new TreeMap<>();
+    record.put("name", new StringField(name));
+    record.put("created", new IntegerField(created));
+    record.put("rating", new DoubleField(rating));
+    record.put("released", new DateTimeField(released));
+    record.put("tags", new SetField(new HashSet<>(Set.of(tags))));
+    return record;
+  }
+
+  private static List<Map<String, Object>> values(List<TreeMap<String, Field>> records) {
+    List<Map<String, Object>> values = new ArrayList<>();
+
+    for (TreeMap<String, Field> record : records) {
+      Map<String, Object> row = new TreeMap<>();
+      record.forEach((name, field) -> row.put(name, field.getValue()));
+      values.add(row);
+    }
+
+    return values;
+  }
+
+  private static String find(TreeMap<String, Field> record, String tag) {
+    for (String element : ((SetField) record.get("tags")).getValue()) {
+      if (element.equals(tag)) {
+        return element;
+      }
+    }
+
+    return null;
+  }
+
+  private static byte[] write(ObjectDataset dataset) throws IOException {
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    BinaryDataset.write(dataset, out);
+
+    return out.toByteArray();
+  }
+}
@@ -0,0 +1,189 @@
+package com.mbfc.wordleclone.lib.dataset;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.mbfc.wordleclone.lib.comparator.CompareException;
+import com.mbfc.wordleclone.lib.comparator.ObjectComparator;
+import com.mbfc.wordleclone.lib.json.DateTimeField;
+import com.mbfc.wordleclone.lib.json.DoubleField;
+import com.mbfc.wordleclone.lib.json.Field;
+import com.mbfc.wordleclone.lib.json.IntegerField;
+import com.mbfc.wordleclone.lib.json.SetField;
+import com.mbfc.wordleclone.lib.json.StringField;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/** Test suite for {@link ColumnarDataset}. */
+public class ColumnarDatasetTest {
+  private static final Map<String, String> FIELDS =
+      Map.of(
+          "name", "string",
+          "created", "integer",
+          "rating", "double",
+          "release", "datetime",
+          "paradigms", "set");
+
+  private List<TreeMap<String, Field>> records;
+  private ColumnarDataset dataset;
+
+  @BeforeEach
+  void setUp() {
+    records = new ArrayList<>();
+    records.add(record("Java", 1995, 4.5, "1996-01-23 00:00", "object-oriented", "imperative"));
+    records.add(record("JavaScript", 1995, 4.0, "1995-12-04 10:30", "functional", "imperative"));
+    records.add(record("java", 2000, 4.5, "1996-01-23 00:00", "imperative", "object-oriented"));
+    records.add(record("Haskell", 1990, -0.0, "1990-04-01 12:00", "functional"));
+    records.add(record("Prolog", 1972, 0.0, "1972-01-01 00:00", "logic"));
+    dataset = ColumnarDataset.of(new ObjectDataset("name", FIELDS, records));
+  }
+
+  /** Test that columns are ordered by field name and hold the original values. */
+  @Test
+  void of_objectDataset_columnsSortedByName() {
+    // given
+
+    // when
+    final int created = dataset.columnIndex("created");
+    final int name = dataset.columnIndex("name");
+
+    // then
+    assertEquals(5, dataset.size());
+    assertEquals(List.of("created", "name", "paradigms", "rating", "release"), columnNames());
+    assertEquals(ColumnType.INTEGER, dataset.columnType(created));
+    assertEquals(2000, dataset.intValue(created, 2));
+    assertEquals("JavaScript", dataset.stringValue(name, 1));
+    assertEquals(-1, dataset.columnIndex("unknown"));
+  }
+
+  /** Test that rows are found by their key, ignoring case. */
+  @Test
+  void rowOf_differentCase_returnsFirstMatchingRow() {
+    // given
+
+    // when
+
+    // then
+    assertEquals(0, dataset.rowOf("JAVA"));
+    assertEquals(3, dataset.rowOf("haskell"));
+    assertEquals(-1, dataset.rowOf("go"));
+  }
+
+  /** Test that comparing rows gives the same results as comparing the records. */
+  @Test
+  void compare_allRowPairs_sameAsTreeMaps() throws CompareException {
+    // given
+    ObjectComparator comparator = new ObjectComparator();
+
+    // when
+
+    // then
+    for (int i = 0; i < records.size(); i++) {
+      for (int j = 0; j < records.size(); j++) {
+        assertEquals(
+            comparator.compare(records.get(i), records.get(j)),
+            comparator.compare(dataset, i, j),
+            "guess " + i + ", target " + j);
+      }
+    }
+  }
+
+  /** Test that set columns use the bitsets for equality and intersection. */
+  @Test
+  void setEqual_sameElementsInDifferentOrder_returnsTrue() {
+    // given
+    int paradigms = dataset.columnIndex("paradigms");
+
+    // when
+
+    // then
+    assertTrue(dataset.setEqual(paradigms, 0, 2));
+    assertFalse(dataset.setEqual(paradigms, 0, 1));
+    assertTrue(dataset.setPartial(paradigms, 0, 1));
+    assertFalse(dataset.setPartial(paradigms, 0, 4));
+  }
+
+  /** Test that set columns with more than 64 distinct elements span several words per row. */
+  @Test
+  void setPartial_manyDistinctElements_comparesAllWords() {
+    // given
+    List<TreeMap<String, Field>> many = new ArrayList<>();
+    for (int i = 0; i < 100; i++) {
+      TreeMap<String, Field> record = new TreeMap<>();
+      record.put("name", new StringField("word" + i));
+      record.put("tags", new SetField(new HashSet<>(List.of("tag" + i, "tag" + (i + 1) / 2))));
+      many.add(record);
+    }
+
+    // when
+    ColumnarDataset result =
+        ColumnarDataset.of("name", Map.of("name", "string", "tags", "set"), many);
+    int tags = result.columnIndex("tags");
+
+    // then
+    assertTrue(result.setPartial(tags, 99, 50));
+    assertFalse(result.setPartial(tags, 99, 97));
+    assertTrue(result.setEqual(tags, 98, 98));
+  }
+
+  /** Test that records that don't match the schema are rejected. */
+  @Test
+  void of_missingField_throwsException() {
+    // given
+    TreeMap<String, Field> record = new TreeMap<>();
+    record.put("name", new StringField("Go"));
+    record.put("created", new StringField("2009"));
+
+    // when
+
+    // then
+    assertThrows(
+        IllegalArgumentException.class, () -> ColumnarDataset.of("name", FIELDS, List.of(record)));
+    assertThrows(
+        IllegalArgumentException.class,
+        () ->
+            ColumnarDataset.of(
+                "name", Map.of("name", "string", "created", "integer"), List.of(record)));
+  }
+
+  /** Test that the memory estimate accounts for the columns. */
+  @Test
+  void estimateMemoryBytes_smallDataset_positive() {
+    // given
+
+    // when
+    long bytes = dataset.estimateMemoryBytes();
+
+    // then
+    assertTrue(bytes > 0);
+  }
+
+  private List<String> columnNames() {
+    List<String> names = new ArrayList<>();
+    for (int c = 0; c < dataset.columnCount(); c++) {
+      names.add(dataset.columnName(c));
+    }
+
+    return names;
+  }
+
+  private static TreeMap<String, Field> record(
+      String name, int created, double rating, String release, String... paradigms) {
+    TreeMap<String, Field> record = new TreeMap<>();
+    record.put("name", new StringField(name));
+    record.put("created", new IntegerField(created));
+    record.put("rating", new DoubleField(rating));
+    record.put("release", new DateTimeField(LocalDateTime.parse(release.replace(' ', 'T'))));
+    record.put("paradigms", new SetField(new HashSet<>(List.of(paradigms))));
+
+    return record;
+  }
+}
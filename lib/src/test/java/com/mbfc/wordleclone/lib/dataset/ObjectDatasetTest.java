@@ -0,0 +1,95 @@
+package com.mbfc.wordleclone.lib.dataset;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.mbfc.wordleclone.lib.json.Field;
+import com.mbfc.wordleclone.lib.json.IntegerField;
+import com.mbfc.wordleclone.lib.json.StringField;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/** Test suite for {@link ObjectDataset}. */
+public class ObjectDatasetTest {
+  private List<TreeMap<String, Field>> records;
+  private ObjectDataset dataset;
+
+  @BeforeEach
+  void setUp() {
+    records = new ArrayList<>();
+    records.add(record("Java", 1995));
+    records.add(record("Rust", 2010));
+    records.add(record("java", 2000));
+    dataset = new ObjectDataset("name", Map.of("name", "string", "created", "integer"), records);
+  }
+
+  /** Test that records are found by their key, ignoring case. */
+  @Test
+  void find_differentCase_returnsFirstMatchingRecord() {
+    // given
+
+    // when
+    TreeMap<String, Field> result = dataset.find("JAVA");
+
+    // then
+    assertSame(records.get(0), result);
+    assertEquals(1, dataset.rowOf("rust"));
+    assertNull(dataset.find("go"));
+  }
+
+  /** Test that the static lookup gives the same results for indexed and plain lists. */
+  @Test
+  void find_plainList_sameAsIndexed() {
+    // given
+
+    // when
+
+    // then
+    assertSame(ObjectDataset.find(records, "name", "rust"), dataset.find("rust"));
+    assertSame(ObjectDataset.find(records, "name", "java"), dataset.find("java"));
+    assertNull(ObjectDataset.find(records, "name", "go"));
+  }
+
+  /** Test that only records from the dataset are contained in it. */
+  @Test
+  void contains_recordsInAndOutOfDataset_detectsMembership() {
+    // given
+    final TreeMap<String, Field> unknown = record("Rust", 2015);
+
+    // when
+
+    // then
+    assertTrue(dataset.contains(records.get(1)));
+    assertTrue(dataset.contains(records.get(2)));
+    assertEquals(2, dataset.rowOf(records.get(2)));
+    assertFalse(dataset.contains(unknown));
+    assertFalse(dataset.contains("Rust"));
+  }
+
+  /** Test that records without a string key are rejected. */
+  @Test
+  void constructor_missingKey_throwsException() {
+    // given
+    TreeMap<String, Field> invalid = new TreeMap<>(Map.of("created", new IntegerField(1)));
+
+    // when
+
+    // then
+    assertThrows(
+        IllegalArgumentException.class,
+        () -> new ObjectDataset("name", Map.of(), List.of(invalid)));
+  }
+
+  private static TreeMap<String, Field> record(String name, int created) {
+    return new TreeMap<>(
+        Map.of("name", new StringField(name), "created", new IntegerField(created)));
+  }
+}
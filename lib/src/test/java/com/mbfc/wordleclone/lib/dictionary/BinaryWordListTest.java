@@ -0,0 +1,136 @@
+package com.mbfc.wordleclone.lib.dictionary;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+/** Test suite for {@link BinaryWordList}. */
+public class BinaryWordListTest {
+
+  /** Test that packable words are read back as a packed dictionary, sorted and deduplicated. */
+  @Test
+  void read_packableWords_returnsPackedDictionary() throws IOException {
+    // given
+    List<String> words = List.of("crane", "apple", "slate", "apple");
+
+    // when
+    List<String> result = BinaryWordList.read(ByteBuffer.wrap(write(words)));
+
+    // then
+    assertInstanceOf(PackedWordDictionary.class, result);
+    assertEquals(List.of("apple", "crane", "slate"), result);
+    assertTrue(result.contains("slate"));
+  }
+
+  /** Test that words that cannot be packed are read back as an index, in the original order. */
+  @Test
+  void read_unpackableWords_returnsWordIndex() throws IOException {
+    // given
+    List<String> words = List.of("żółw", "ñandú", "Aa", "BB");
+
+    // when
+    List<String> result = BinaryWordList.read(ByteBuffer.wrap(write(words)));
+
+    // then
+    assertInstanceOf(WordIndex.class, result);
+    assertEquals(words, result);
+    assertEquals(3, result.indexOf("BB"));
+    assertFalse(result.contains("Ab"));
+  }
+
+  /** Test that a mapped file is read the same way as a buffer. */
+  @Test
+  void read_file_returnsSameWords() throws IOException {
+    // given
+    Path tempFile = Files.createTempFile("words", ".bin");
+    Files.write(tempFile, write(List.of("one", "two", "three")));
+
+    // when
+    List<String> result = BinaryWordList.read(tempFile);
+
+    // then
+    assertEquals(List.of("one", "three", "two"), result);
+  }
+
+  /** Test that only streams starting with the magic number are recognized, without consuming it. */
+  @Test
+  void isBinary_stream_checksMagicNumber() throws IOException {
+    // given
+    InputStream binary = new ByteArrayInputStream(write(List.of("abc")));
+    InputStream text = new ByteArrayInputStream("abc\n".getBytes(StandardCharsets.UTF_8));
+
+    // when
+
+    // then
+    assertTrue(BinaryWordList.isBinary(binary));
+    assertEquals(BinaryWordList.MAGIC, ByteBuffer.wrap(binary.readNBytes(4)).getInt());
+    assertFalse(BinaryWordList.isBinary(text));
+    assertFalse(BinaryWordList.isBinary(new ByteArrayInputStream(new byte[0])));
+  }
+
+  /** Test that a truncated list throws an exception instead of returning partial words. */
+  @Test
+  void read_truncatedList_throwsException() throws IOException {
+    // given
+    byte[] bytes = write(List.of("żółw", "ñandú"));
+    byte[] truncated = Arrays.copyOf(bytes, bytes.length - 3);
+
+    // when
+
+    // then
+    assertThrows(IOException.class, () -> BinaryWordList.read(ByteBuffer.wrap(truncated)));
+  }
+
+  /** Test that a list of an unsupported version throws an exception. */
+  @Test
+  void read_unsupportedVersion_throwsException() throws IOException {
+    // given
+    byte[] bytes = write(List.of("abc"));
+    bytes[4] = BinaryWordList.VERSION + 1;
+
+    // when
+    Exception exception =
+        assertThrows(IOException.class, () -> BinaryWordList.read(ByteBuffer.wrap(bytes)));
+
+    // then
+    assertTrue(exception.getMessage().startsWith("Unsupported version"));
+  }
+
+  /** Test that a packed list with unsorted codes throws an exception. */
+  @Test
+  void read_unsortedCodes_throwsException() throws IOException {
+    // given
+    byte[] bytes = write(List.of("abc", "def"));
+    ByteBuffer buffer = ByteBuffer.wrap(bytes);
+    long first = buffer.getLong(BinaryWordList.HEADER_BYTES + 4);
+    buffer.putLong(
+        BinaryWordList.HEADER_BYTES + 4, buffer.getLong(BinaryWordList.HEADER_BYTES + 12));
+    buffer.putLong(BinaryWordList.HEADER_BYTES + 12, first);
+
+    // when
+
+    // then
+    assertThrows(IOException.class, () -> BinaryWordList.read(ByteBuffer.wrap(bytes)));
+  }
+
+  private static byte[] write(List<String> words) throws IOException {
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    BinaryWordList.write(words, out);
+
+    return out.toByteArray();
+  }
+}
@@ -0,0 +1,114 @@
+package com.mbfc.wordleclone.lib.dictionary;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+/** Test suite for {@link MappedWordList}. */
+public class MappedWordListTest {
+
+  /** Test that lines are split on all kinds of line breaks, like BufferedReader does. */
+  @Test
+  void map_mixedLineBreaks_splitsLines() throws IOException {
+    // given
+    Path file = write("one\ntwo\r\nthree\rfour\n\nsix\n");
+
+    // when
+    MappedWordList words = MappedWordList.map(file);
+
+    // then
+    assertEquals(List.of("one", "two", "three", "four", "", "six"), words);
+  }
+
+  /** Test that the last line is read even without a trailing line break. */
+  @Test
+  void map_noTrailingLineBreak_readsLastLine() throws IOException {
+    // given
+    Path file = write("abc\ndef");
+
+    // when
+    MappedWordList words = MappedWordList.map(file);
+
+    // then
+    assertEquals(List.of("abc", "def"), words);
+  }
+
+  /** Test that words are decoded as UTF-8. */
+  @Test
+  void get_multiByteCharacters_decodesUtf8() throws IOException {
+    // given
+    Path file = write("żółw\nñandú\n");
+
+    // when
+    MappedWordList words = MappedWordList.map(file);
+
+    // then
+    assertEquals("żółw", words.get(0));
+    assertEquals("ñandú", words.get(1));
+    assertThrows(IndexOutOfBoundsException.class, () -> words.get(2));
+  }
+
+  /** Test that an empty file gives an empty list. */
+  @Test
+  void map_emptyFile_returnsEmptyList() throws IOException {
+    // given
+    Path file = write("");
+
+    // when
+    MappedWordList words = MappedWordList.map(file);
+
+    // then
+    assertTrue(words.isEmpty());
+  }
+
+  /** Test that the interned list shares strings with other interned copies. */
+  @Test
+  void toInternedList_anyWords_returnsInternedStrings() throws IOException {
+    // given
+    Path file = write("apple\nbanana\n");
+
+    // when
+    List<String> words = MappedWordList.map(file).toInternedList();
+
+    // then
+    assertEquals(List.of("apple", "banana"), words);
+    assertSame("apple", words.get(0));
+    assertThrows(UnsupportedOperationException.class, () -> words.add("cherry"));
+  }
+
+  /** Test that lookups find the first and the last of equal lines in an unsorted file. */
+  @Test
+  void indexOf_unsortedFile_findsLines() throws IOException {
+    // given
+    Path file = write("pear\napple\nżółw\nkiwi\napple\n\nfig\n");
+
+    // when
+    MappedWordList words = MappedWordList.map(file);
+
+    // then
+    assertEquals(1, words.indexOf("apple"));
+    assertEquals(4, words.lastIndexOf("apple"));
+    assertEquals(2, words.indexOf("żółw"));
+    assertEquals(5, words.indexOf(""));
+    assertTrue(words.contains("fig"));
+    assertFalse(words.contains("appl"));
+    assertFalse(words.contains("grape"));
+    assertFalse(words.contains(42));
+  }
+
+  private static Path write(String content) throws IOException {
+    Path file = Files.createTempFile("words", ".txt");
+    Files.writeString(file, content, StandardCharsets.UTF_8);
+
+    return file;
+  }
+}
@@ -0,0 +1,86 @@
+package com.mbfc.wordleclone.lib.dictionary;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+/** Test suite for {@link PackedWordDictionary}. */
+public class PackedWordDictionaryTest {
+
+  /** Test that words are sorted, deduplicated and decoded back to the same strings. */
+  @Test
+  void of_wordList_sortedDistinctWords() {
+    // given
+    List<String> words = List.of("pear", "apple", "zyzzyva", "apple", "a");
+
+    // when
+    PackedWordDictionary dictionary = PackedWordDictionary.of(words);
+
+    // then
+    assertEquals(List.of("a", "apple", "pear", "zyzzyva"), dictionary);
+  }
+
+  /** Test that lookups find exactly the packed words. */
+  @Test
+  void contains_packedWords_usesBinarySearch() {
+    // given
+    PackedWordDictionary dictionary = PackedWordDictionary.of(List.of("crane", "slate", "adieu"));
+
+    // when
+
+    // then
+    assertTrue(dictionary.contains("slate"));
+    assertEquals(0, dictionary.indexOf("adieu"));
+    assertFalse(dictionary.contains("slat"));
+    assertFalse(dictionary.contains("Slate"));
+    assertFalse(dictionary.contains("ñandú"));
+    assertFalse(dictionary.contains(null));
+  }
+
+  /** Test that the longest words survive a round trip through their codes. */
+  @Test
+  void decode_maxLengthWord_returnsSameWord() {
+    // given
+    String word = "zzzzzzzzzzzz";
+
+    // when
+    long code = PackedWordDictionary.encode(word);
+
+    // then
+    assertTrue(code > 0);
+    assertEquals(word, PackedWordDictionary.decode(code));
+    assertEquals(-1, PackedWordDictionary.encode(word + "z"));
+  }
+
+  /** Test that words that cannot be packed are detected and rejected. */
+  @Test
+  void of_unpackableWord_throwsException() {
+    // given
+    List<String> words = List.of("apple", "Über");
+
+    // when
+
+    // then
+    assertFalse(PackedWordDictionary.isPackable(words));
+    assertTrue(PackedWordDictionary.isPackable(List.of("apple")));
+    assertThrows(IllegalArgumentException.class, () -> PackedWordDictionary.of(words));
+  }
+
+  /** Test that packing a dictionary again returns the same instance. */
+  @Test
+  void of_packedDictionary_returnsSameInstance() {
+    // given
+    PackedWordDictionary dictionary = PackedWordDictionary.of(List.of("abc"));
+
+    // when
+
+    // then
+    assertSame(dictionary, PackedWordDictionary.of(dictionary));
+    assertEquals(24, dictionary.getMemoryBytes());
+  }
+}
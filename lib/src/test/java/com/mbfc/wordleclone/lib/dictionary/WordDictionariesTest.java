@@ -0,0 +1,36 @@
+package com.mbfc.wordleclone.lib.dictionary;
+
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+/** Test suite for {@link WordDictionaries}. */
+public class WordDictionariesTest {
+
+  /** Test that lowercase words are packed. */
+  @Test
+  void of_lowercaseWords_packed() {
+    // given
+    List<String> words = List.of("crane", "slate");
+
+    // when
+    List<String> dictionary = WordDictionaries.of(words);
+
+    // then
+    assertInstanceOf(PackedWordDictionary.class, dictionary);
+  }
+
+  /** Test that words which cannot be packed are indexed. */
+  @Test
+  void of_wordsWithDigits_indexed() {
+    // given
+    List<String> words = List.of("crane", "r2d2");
+
+    // when
+    List<String> dictionary = WordDictionaries.of(words);
+
+    // then
+    assertInstanceOf(WordIndex.class, dictionary);
+  }
+}
@@ -0,0 +1,99 @@
+package com.mbfc.wordleclone.lib.dictionary;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+/** Test suite for {@link WordIndex}. */
+public class WordIndexTest {
+
+  /** Test that the index contains exactly the indexed words, in the original order. */
+  @Test
+  void of_wordList_containsAllWords() {
+    // given
+    List<String> words = List.of("abc", "def", "ghi", "jkl");
+
+    // when
+    WordIndex index = WordIndex.of(words);
+
+    // then
+    assertEquals(words, index);
+    for (String word : words) {
+      assertTrue(index.contains(word));
+    }
+    assertFalse(index.contains("xyz"));
+    assertFalse(index.contains(null));
+  }
+
+  /** Test that colliding hash codes are resolved by comparing the words. */
+  @Test
+  void contains_collidingHashCodes_findsBothWords() {
+    // given
+    WordIndex index = WordIndex.of(List.of("Aa", "BB", "c"));
+
+    // when
+
+    // then
+    assertEquals("Aa".hashCode(), "BB".hashCode());
+    assertEquals(0, index.indexOf("Aa"));
+    assertEquals(1, index.indexOf("BB"));
+    assertEquals(-1, index.indexOf("Ab"));
+  }
+
+  /** Test that duplicated words are found at their first position. */
+  @Test
+  void indexOf_duplicatedWord_returnsFirstPosition() {
+    // given
+    WordIndex index = WordIndex.of(List.of("abc", "def", "abc"));
+
+    // when
+
+    // then
+    assertEquals(0, index.indexOf("abc"));
+    assertEquals(3, index.size());
+  }
+
+  /** Test that indexing an already indexed list returns the same instance. */
+  @Test
+  void of_wordIndex_returnsSameInstance() {
+    // given
+    WordIndex index = WordIndex.of(new ArrayList<>(List.of("abc")));
+
+    // when
+
+    // then
+    assertSame(index, WordIndex.of(index));
+  }
+
+  /** Test that the memory estimate grows with the number and length of the words. */
+  @Test
+  void getMemoryBytes_longerList_isLarger() {
+    // given
+    WordIndex small = WordIndex.of(List.of("abc"));
+    WordIndex large = WordIndex.of(List.of("abc", "abcdefghijklmnop"));
+
+    // when
+
+    // then
+    assertTrue(small.getMemoryBytes() > 0);
+    assertTrue(large.getMemoryBytes() > small.getMemoryBytes() + 16);
+  }
+
+  /** Test that the index cannot be modified. */
+  @Test
+  void add_anyWord_throwsException() {
+    // given
+    WordIndex index = WordIndex.of(List.of("abc"));
+
+    // when
+
+    // then
+    assertThrows(UnsupportedOperationException.class, () -> index.add("def"));
+  }
+}
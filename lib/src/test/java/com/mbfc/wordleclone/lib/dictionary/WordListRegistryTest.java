@@ -0,0 +1,223 @@
+package com.mbfc.wordleclone.lib.dictionary;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+
+/** Test suite for {@link WordListRegistry}. */
+public class WordListRegistryTest {
+  private final WordListRegistry<List<String>> registry = new WordListRegistry<>(List::size, 2);
+
+  /** Test that a list is only loaded when it's used for the first time. */
+  @Test
+  void register_listNotUsed_isNotLoaded() throws IOException {
+    // given
+    AtomicInteger loads = new AtomicInteger();
+    registry.register("words", () -> count(loads, List.of("crane")));
+
+    // when
+    boolean loadedBefore = registry.isLoaded("words");
+    List<String> words = registry.get("words");
+
+    // then
+    assertFalse(loadedBefore);
+    assertTrue(registry.isLoaded("words"));
+    assertEquals(List.of("crane"), words);
+    assertEquals(1, loads.get());
+  }
+
+  /** Test that the same instance is returned without loading the list again. */
+  @Test
+  void get_calledTwice_loadsOnce() throws IOException {
+    // given
+    AtomicInteger loads = new AtomicInteger();
+    registry.register("words", () -> count(loads, List.of("crane")));
+
+    // when
+    List<String> first = registry.get("words");
+    List<String> second = registry.get("words");
+
+    // then
+    assertSame(first, second);
+    assertEquals(1, loads.get());
+  }
+
+  /** Test that a loaded list is registered without running its loader. */
+  @Test
+  void registerEvictable_loadedList_returnedWithoutLoading() throws IOException {
+    // given
+    AtomicInteger loads = new AtomicInteger();
+    List<String> list = List.of("crane");
+
+    // when
+    registry.registerEvictable("words", () -> count(loads, List.of("slate")), list);
+
+    // then
+    assertTrue(registry.isLoaded("words"));
+    assertSame(list, registry.get("words"));
+    assertEquals(0, loads.get());
+    assertEquals(1, registry.getEvictableBytes());
+  }
+
+  /** Test that concurrent calls for a list that is not loaded yet share a single load. */
+  @Test
+  void get_concurrentCalls_loadsOnce() throws Exception {
+    // given
+    AtomicInteger loads = new AtomicInteger();
+    CountDownLatch start = new CountDownLatch(1);
+    registry.register(
+        "words",
+        () -> {
+          try {
+            Thread.sleep(50);
+          } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+          }
+          return count(loads, List.of("crane"));
+        });
+    ExecutorService pool = Executors.newFixedThreadPool(8);
+
+    // when
+    List<Future<List<String>>> results = new ArrayList<>();
+    for (int i = 0; i < 8; i++) {
+      results.add(
+          pool.submit(
+              () -> {
+                start.await();
+                return registry.get("words");
+              }));
+    }
+    start.countDown();
+
+    // then
+    List<String> first = results.get(0).get();
+    for (Future<List<String>> result : results) {
+      assertSame(first, result.get());
+    }
+    assertEquals(1, loads.get());
+    pool.shutdown();
+  }
+
+  /** Test that a failed load is reported and the list is loaded again on the next call. */
+  @Test
+  void get_failingLoader_retriesOnNextCall() throws IOException {
+    // given
+    AtomicInteger loads = new AtomicInteger();
+    registry.register(
+        "words",
+        () -> {
+          if (loads.incrementAndGet() == 1) {
+            throw new IOException("Unable to read the file");
+          }
+          return List.of("crane");
+        });
+
+    // when
+    IOException e = assertThrows(IOException.class, () -> registry.get("words"));
+    boolean loadedAfterFailure = registry.isLoaded("words");
+    List<String> words = registry.get("words");
+
+    // then
+    assertEquals("Unable to read the file", e.getMessage());
+    assertFalse(loadedAfterFailure);
+    assertEquals(List.of("crane"), words);
+  }
+
+  /** Test that the least recently used evictable list is unloaded when over the budget. */
+  @Test
+  void get_overBudget_evictsLeastRecentlyUsed() throws IOException {
+    // given
+    AtomicInteger loads = new AtomicInteger();
+    registry.registerEvictable("a", () -> count(loads, List.of("crane")));
+    registry.registerEvictable("b", () -> count(loads, List.of("slate")));
+    registry.registerEvictable("c", () -> count(loads, List.of("trace")));
+    registry.get("a");
+    registry.get("b");
+    registry.get("a");
+
+    // when
+    registry.get("c");
+
+    // then
+    assertTrue(registry.isLoaded("a"));
+    assertFalse(registry.isLoaded("b"));
+    assertTrue(registry.isLoaded("c"));
+    assertEquals(2, registry.getEvictableBytes());
+    assertEquals(List.of("slate"), registry.get("b"));
+    assertEquals(4, loads.get());
+  }
+
+  /** Test that lists which are not evictable are kept and don't count towards the budget. */
+  @Test
+  void get_overBudget_keepsPinnedLists() throws IOException {
+    // given
+    registry.register("pinned", () -> List.of("crane", "slate", "trace"));
+    registry.registerEvictable("a", () -> List.of("crane", "slate"));
+    registry.get("pinned");
+
+    // when
+    registry.get("a");
+    registry.registerEvictable("b", () -> List.of("trace"));
+    registry.get("b");
+
+    // then
+    assertTrue(registry.isLoaded("pinned"));
+    assertFalse(registry.isLoaded("a"));
+    assertTrue(registry.isLoaded("b"));
+    assertEquals(1, registry.getEvictableBytes());
+  }
+
+  /** Test that unknown and removed lists are not returned. */
+  @Test
+  void get_unknownOrRemovedList_returnsNull() throws IOException {
+    // given
+    registry.registerEvictable("words", () -> List.of("crane"));
+    registry.get("words");
+
+    // when
+    boolean removed = registry.remove("words");
+
+    // then
+    assertTrue(removed);
+    assertFalse(registry.remove("words"));
+    assertNull(registry.get("words"));
+    assertNull(registry.get("other"));
+    assertEquals(0, registry.getEvictableBytes());
+    assertTrue(registry.isEmpty());
+  }
+
+  /** Test that names are listed in alphabetical order, whether the lists are loaded or not. */
+  @Test
+  void names_registeredLists_returnsSortedNames() throws IOException {
+    // given
+    registry.register("b", () -> List.of("crane"));
+    registry.registerEvictable("a", () -> List.of("slate"));
+    registry.get("b");
+
+    // when
+    Set<String> names = registry.names();
+
+    // then
+    assertEquals(List.of("a", "b"), new ArrayList<>(names));
+    assertTrue(registry.contains("a"));
+  }
+
+  private static List<String> count(AtomicInteger loads, List<String> words) {
+    loads.incrementAndGet();
+    return words;
+  }
+}
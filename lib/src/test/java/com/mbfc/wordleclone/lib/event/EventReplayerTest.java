@@ -0,0 +1,173 @@
+package com.mbfc.wordleclone.lib.event;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.mbfc.wordleclone.lib.comparator.ComparatorResult;
+import com.mbfc.wordleclone.lib.comparator.CompareException;
+import com.mbfc.wordleclone.lib.comparator.StringComparator;
+import com.mbfc.wordleclone.lib.game.GameBoard;
+import com.mbfc.wordleclone.lib.game.GameException;
+import com.mbfc.wordleclone.lib.game.SimpleEndlessGame;
+import com.mbfc.wordleclone.lib.game.SimpleGame;
+import com.mbfc.wordleclone.lib.util.Pair;
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/** Test suite for {@link EventReplayer} and the events emitted by games. */
+public class EventReplayerTest {
+  private final StringComparator comparator = new StringComparator();
+  private final List<String> words = List.of("crane", "slate", "trace");
+
+  @TempDir Path tempDir;
+
+  @Test
+  void replay_loggedGame_sameBoard() throws CompareException, GameException, IOException {
+    // given
+    SimpleGame game = new SimpleGame(comparator, words, 6);
+    long run;
+
+    // when
+    try (MappedEventLog log = new MappedEventLog(tempDir)) {
+      run = log.getRun();
+      game.setEventSink(log);
+      game.play("crane");
+      game.play("slate");
+    }
+
+    // then
+    GameBoard<String> board = EventReplayer.replay(tempDir, new GameKey(run, game.getId()));
+    assertEquals(game.getBoard().size(), board.size());
+    Iterator<Pair<List<ComparatorResult>, String>> rows = board.iterator();
+    for (Pair<List<ComparatorResult>, String> row : game.getBoard()) {
+      Pair<List<ComparatorResult>, String> replayed = rows.next();
+      assertEquals(row.left(), replayed.left());
+      assertEquals(row.right(), replayed.right());
+    }
+  }
+
+  @Test
+  void play_endlessGame_emitsEvents() throws CompareException, GameException {
+    // given
+    List<GameEventType> types = new ArrayList<>();
+    SimpleEndlessGame game = new SimpleEndlessGame(comparator, List.of("crane"), 3, 1);
+    game.setEventSink((id, type, guess, results) -> types.add(type));
+
+    // when
+    game.play("crane");
+    game.commitRound();
+    game.reset();
+
+    // then
+    assertEquals(
+        List.of(GameEventType.PLAY, GameEventType.COMMIT_ROUND, GameEventType.RESET), types);
+  }
+
+  @Test
+  void replay_committedRound_clearsBoard() throws CompareException, GameException {
+    // given
+    List<GameEvent> events = new ArrayList<>();
+    SimpleEndlessGame game = new SimpleEndlessGame(comparator, List.of("crane"), 3, 1);
+    game.setEventSink(
+        (id, type, guess, results) -> events.add(new GameEvent(0, 0, id, type, guess, results)));
+
+    // when
+    game.play("crane");
+    game.commitRound();
+    game.play("crane");
+    Map<GameKey, GameBoard<String>> boards = EventReplayer.replay(events);
+
+    // then
+    assertEquals(1, boards.size());
+    assertEquals(1, boards.get(new GameKey(0, game.getId())).size());
+  }
+
+  @Test
+  void replay_logsOfTwoRuns_separateGames() throws IOException {
+    // given
+    List<ComparatorResult> results = List.of(ComparatorResult.CORRECT);
+    try (MappedEventLog log = new MappedEventLog(tempDir, 1024, 1024)) {
+      log.accept(1, GameEventType.PLAY, "a", results);
+    }
+    try (MappedEventLog log = new MappedEventLog(tempDir, 1024, 1024)) {
+      log.accept(1, GameEventType.PLAY, "b", results);
+    }
+
+    // when
+    Map<GameKey, GameBoard<String>> boards = EventReplayer.replay(EventReplayer.read(tempDir));
+
+    // then
+    assertEquals(2, boards.size());
+    for (GameBoard<String> board : boards.values()) {
+      assertEquals(1, board.size());
+    }
+  }
+
+  @Test
+  void replay_droppedEvent_rejectsGame() throws IOException {
+    // given
+    long run;
+    try (MappedEventLog log = new MappedEventLog(tempDir, 64, 1024)) {
+      run = log.getRun();
+      log.accept(1, GameEventType.PLAY, "a".repeat(100), List.of());
+      log.accept(1, GameEventType.PLAY, "a", List.of(ComparatorResult.CORRECT));
+    }
+
+    // when
+    Map<GameKey, GameBoard<String>> boards = EventReplayer.replay(EventReplayer.read(tempDir));
+
+    // then
+    assertTrue(boards.isEmpty());
+    assertThrows(IOException.class, () -> EventReplayer.replay(tempDir, new GameKey(run, 1)));
+  }
+
+  @Test
+  void replay_resetAfterGap_rebuildsBoard() {
+    // given
+    List<ComparatorResult> results = List.of(ComparatorResult.CORRECT);
+    List<GameEvent> events =
+        List.of(
+            new GameEvent(0, 0, 1, GameEventType.GAP, "", List.of()),
+            new GameEvent(0, 0, 1, GameEventType.RESET, "", List.of()),
+            new GameEvent(0, 0, 1, GameEventType.PLAY, "a", results));
+
+    // when
+    Map<GameKey, GameBoard<String>> boards = EventReplayer.replay(events);
+
+    // then
+    assertEquals(1, boards.get(new GameKey(0, 1)).size());
+  }
+
+  @Test
+  void read_truncatedRecord_stopsBeforeIt() throws IOException {
+    // given
+    List<ComparatorResult> results = List.of(ComparatorResult.CORRECT);
+    long run;
+    try (MappedEventLog log = new MappedEventLog(tempDir, 1024, 1024)) {
+      run = log.getRun();
+      log.accept(1, GameEventType.PLAY, "a", results);
+      log.accept(2, GameEventType.PLAY, "b", results);
+    }
+    Path segment = MappedEventLog.segments(tempDir).get(0);
+    int recordSize = MappedEventLog.HEADER_SIZE + 2;
+
+    // when
+    try (FileChannel channel = FileChannel.open(segment, StandardOpenOption.WRITE)) {
+      channel.truncate(MappedEventLog.SEGMENT_HEADER_SIZE + 2L * recordSize - 1);
+    }
+    List<GameEvent> events = EventReplayer.read(tempDir);
+
+    // then
+    assertEquals(1, events.size());
+    assertTrue(EventReplayer.replay(tempDir, new GameKey(run, 2)).isEmpty());
+  }
+}
@@ -0,0 +1,188 @@
+package com.mbfc.wordleclone.lib.event;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.mbfc.wordleclone.lib.comparator.ComparatorResult;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/** Test suite for {@link MappedEventLog}. */
+public class MappedEventLogTest {
+  private static final List<ComparatorResult> RESULTS =
+      List.of(ComparatorResult.CORRECT, ComparatorResult.PARTIAL, ComparatorResult.INCORRECT);
+
+  @TempDir Path tempDir;
+
+  @Test
+  void accept_events_readBackInOrder() throws IOException {
+    // given
+    try (MappedEventLog log = new MappedEventLog(tempDir)) {
+      // when
+      log.accept(1, GameEventType.PLAY, "abc", RESULTS);
+      log.accept(1, GameEventType.COMMIT_ROUND, "", List.of());
+      log.accept(2, GameEventType.PLAY, "żółw", List.of(ComparatorResult.TOO_HIGH));
+    }
+
+    // then
+    List<GameEvent> events = EventReplayer.read(tempDir);
+    assertEquals(3, events.size());
+    assertEquals(1, events.get(0).gameId());
+    assertEquals(GameEventType.PLAY, events.get(0).type());
+    assertEquals("abc", events.get(0).guess());
+    assertEquals(RESULTS, events.get(0).results());
+    assertEquals(GameEventType.COMMIT_ROUND, events.get(1).type());
+    assertEquals("", events.get(1).guess());
+    assertEquals("żółw", events.get(2).guess());
+    assertEquals(List.of(ComparatorResult.TOO_HIGH), events.get(2).results());
+    assertTrue(events.get(0).time() > 0);
+  }
+
+  @Test
+  void accept_fullSegment_rollsOver() throws IOException {
+    // given
+    int recordSize = MappedEventLog.HEADER_SIZE + RESULTS.size() + "abc".length();
+
+    // when
+    try (MappedEventLog log =
+        new MappedEventLog(tempDir, MappedEventLog.SEGMENT_HEADER_SIZE + 2 * recordSize, 1024)) {
+      for (int i = 0; i < 5; i++) {
+        log.accept(i, GameEventType.PLAY, "abc", RESULTS);
+      }
+    }
+
+    // then
+    assertEquals(3, MappedEventLog.segments(tempDir).size());
+    List<GameEvent> events = EventReplayer.read(tempDir);
+    assertEquals(5, events.size());
+    for (int i = 0; i < 5; i++) {
+      assertEquals(i, events.get(i).gameId());
+    }
+  }
+
+  @Test
+  void constructor_existingLog_startsNewSegment() throws IOException {
+    // given
+    try (MappedEventLog log = new MappedEventLog(tempDir, 1024, 1024)) {
+      log.accept(1, GameEventType.PLAY, "abc", RESULTS);
+    }
+
+    // when
+    try (MappedEventLog log = new MappedEventLog(tempDir, 1024, 1024)) {
+      log.accept(2, GameEventType.PLAY, "def", RESULTS);
+    }
+
+    // then
+    List<Path> segments = MappedEventLog.segments(tempDir);
+    assertEquals(2, segments.size());
+    assertEquals("events-000002.log", segments.get(1).getFileName().toString());
+    assertEquals(2, EventReplayer.read(tempDir).size());
+  }
+
+  @Test
+  void accept_closedLog_dropsEvent() throws IOException {
+    // given
+    MappedEventLog log = new MappedEventLog(tempDir, 1024, 1024);
+    log.close();
+
+    // when
+    log.accept(1, GameEventType.PLAY, "abc", RESULTS);
+
+    // then
+    assertEquals(1, log.getDropped());
+    assertEquals(0, EventReplayer.read(tempDir).size());
+  }
+
+  @Test
+  void accept_eventLargerThanSegment_dropsEvent() throws IOException {
+    // given
+    try (MappedEventLog log = new MappedEventLog(tempDir, 64, 1024)) {
+      // when
+      log.accept(1, GameEventType.PLAY, "a".repeat(100), RESULTS);
+
+      // then
+      assertEquals(1, log.getDropped());
+    }
+  }
+
+  @Test
+  void accept_concurrentGames_allLoggedOrDropped() throws Exception {
+    // given
+    ExecutorService executor = Executors.newFixedThreadPool(4);
+    MappedEventLog log = new MappedEventLog(tempDir, 4096, 1024);
+
+    // when
+    List<Future<?>> futures = new ArrayList<>();
+    for (int game = 0; game < 4; game++) {
+      long id = game;
+      futures.add(
+          executor.submit(
+              () -> {
+                for (int i = 0; i < 1000; i++) {
+                  log.accept(id, GameEventType.PLAY, "crane", RESULTS);
+                }
+              }));
+    }
+    for (Future<?> future : futures) {
+      future.get();
+    }
+    executor.shutdown();
+    log.close();
+
+    // then
+    long played =
+        EventReplayer.read(tempDir).stream()
+            .filter(event -> event.type() == GameEventType.PLAY)
+            .count();
+    assertEquals(4000, played + log.getDropped());
+  }
+
+  @Test
+  void accept_afterDroppedEvent_writesGap() throws IOException {
+    // given
+    try (MappedEventLog log = new MappedEventLog(tempDir, 64, 1024)) {
+      log.accept(1, GameEventType.PLAY, "a".repeat(100), RESULTS);
+
+      // when
+      log.accept(1, GameEventType.PLAY, "a", List.of(ComparatorResult.CORRECT));
+    }
+
+    // then
+    List<GameEvent> events = EventReplayer.read(tempDir);
+    assertEquals(2, events.size());
+    assertEquals(GameEventType.GAP, events.get(0).type());
+    assertEquals(1, events.get(0).gameId());
+    assertEquals(GameEventType.PLAY, events.get(1).type());
+  }
+
+  @Test
+  void close_afterDroppedEvent_writesGap() throws IOException {
+    // given
+    MappedEventLog log = new MappedEventLog(tempDir, 64, 1024);
+    log.accept(1, GameEventType.PLAY, "a".repeat(100), RESULTS);
+
+    // when
+    log.close();
+
+    // then
+    List<GameEvent> events = EventReplayer.read(tempDir);
+    assertEquals(1, events.size());
+    assertEquals(GameEventType.GAP, events.get(0).type());
+  }
+
+  @Test
+  void constructor_tooSmallSegment_throwsException() {
+    // given
+    // when
+    // then
+    assertThrows(IllegalArgumentException.class, () -> new MappedEventLog(tempDir, 8, 1024));
+  }
+}
@@ -0,0 +1,84 @@
+package com.mbfc.wordleclone.lib.game;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.mbfc.wordleclone.lib.comparator.CompareException;
+import com.mbfc.wordleclone.lib.comparator.ObjectComparator;
+import com.mbfc.wordleclone.lib.comparator.StringComparator;
+import com.mbfc.wordleclone.lib.json.Field;
+import com.mbfc.wordleclone.lib.json.StringField;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.TreeMap;
+import org.junit.jupiter.api.Test;
+
+/** Test suite for {@link DailyGame} and {@link DailyObjectGame}. */
+public class DailyGameTest {
+  private final StringComparator comparator = new StringComparator();
+  private final List<String> words = List.of("apple", "berry", "melon", "lemon", "peach", "grape");
+  private final LocalDate date = LocalDate.of(2025, 3, 14);
+
+  /** Test that games of the same day have the same target, also after a reset. */
+  @Test
+  void constructor_sameDay_sameTarget() {
+    // given
+    DailySchedule<String> schedule = DailySchedule.of(words);
+
+    // when
+    DailyGame first = new DailyGame(comparator, words, 6, schedule, date);
+    DailyGame second = new DailyGame(comparator, words, 6, schedule, date);
+    first.reset();
+
+    // then
+    assertEquals(schedule.get(date), first.getTarget());
+    assertEquals(first.getTarget(), second.getTarget());
+  }
+
+  /** Test that a daily game is played like a simple game. */
+  @Test
+  void play_target_wins() throws CompareException, GameException {
+    // given
+    DailyGame game = new DailyGame(comparator, words, 6, DailySchedule.of(words), date);
+
+    // when
+    game.play(game.getTarget());
+
+    // then
+    assertTrue(game.getPlayerWon());
+    assertEquals(1, game.getTriesUsed());
+  }
+
+  /** Test that a daily game needs a target. */
+  @Test
+  void constructor_emptyList_throwsException() {
+    // given
+    List<String> empty = List.of();
+
+    // when
+    // then
+    assertThrows(NoSuchElementException.class, () -> new DailyGame(comparator, empty, 6));
+  }
+
+  /** Test that daily object games pick their targets from the schedule of the records. */
+  @Test
+  void objectGame_sameDay_scheduledTarget() {
+    // given
+    List<TreeMap<String, Field>> records = List.of(record("Ahri"), record("Zed"), record("Lux"));
+    DailySchedule<TreeMap<String, Field>> schedule = DailySchedule.of(records);
+
+    // when
+    DailyObjectGame game =
+        new DailyObjectGame(new ObjectComparator(), records, 6, "name", schedule, date);
+
+    // then
+    assertEquals(schedule.get(date), game.target);
+  }
+
+  private static TreeMap<String, Field> record(String name) {
+    return new TreeMap<>(Map.of("name", new StringField(name)));
+  }
+}
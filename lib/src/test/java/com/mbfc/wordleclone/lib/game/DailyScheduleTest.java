@@ -0,0 +1,112 @@
+package com.mbfc.wordleclone.lib.game;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import org.junit.jupiter.api.Test;
+
+/** Test suite for {@link DailySchedule}. */
+public class DailyScheduleTest {
+  private final List<String> letters = List.of("a", "b", "c", "d", "e", "f", "g", "h");
+
+  /** Test that the shuffle doesn't change, so all JVMs agree on the targets. */
+  @Test
+  void get_fixedSeed_knownTargets() {
+    // given
+    DailySchedule<String> schedule = new DailySchedule<>(letters, 42);
+
+    // when
+    StringBuilder targets = new StringBuilder();
+    for (int day = 0; day < letters.size(); day++) {
+      targets.append(schedule.get(LocalDate.ofEpochDay(day)));
+    }
+
+    // then
+    assertEquals("edcahgbf", targets.toString());
+  }
+
+  /** Test that every element is a target once before the schedule repeats. */
+  @Test
+  void get_consecutiveDays_everyElementOnce() {
+    // given
+    DailySchedule<String> schedule = new DailySchedule<>(letters, 7);
+    LocalDate start = LocalDate.of(2024, 2, 27);
+
+    // when
+    Set<String> targets = new HashSet<>();
+    for (int day = 0; day < letters.size(); day++) {
+      targets.add(schedule.get(start.plusDays(day)));
+    }
+
+    // then
+    assertEquals(Set.copyOf(letters), targets);
+    assertEquals(schedule.get(start), schedule.get(start.plusDays(letters.size())));
+  }
+
+  /** Test that days before the epoch have targets too. */
+  @Test
+  void get_dateBeforeEpoch_wrapsAround() {
+    // given
+    DailySchedule<String> schedule = new DailySchedule<>(letters, 42);
+
+    // when
+    String target = schedule.get(LocalDate.ofEpochDay(-1));
+
+    // then
+    assertEquals(schedule.get(LocalDate.ofEpochDay(letters.size() - 1)), target);
+  }
+
+  /** Test that the schedules of a list have the default seed and agree on every day. */
+  @Test
+  void of_sameList_sameTargets() {
+    // given
+    List<String> list = new ArrayList<>(letters);
+    DailySchedule<String> uncached = new DailySchedule<>(list, DailySchedule.DEFAULT_SEED);
+
+    // when
+    DailySchedule<String> schedule = DailySchedule.of(list);
+
+    // then
+    assertEquals(DailySchedule.DEFAULT_SEED, schedule.getSeed());
+    for (int day = 0; day < letters.size(); day++) {
+      LocalDate date = LocalDate.ofEpochDay(day);
+      assertEquals(uncached.get(date), schedule.get(date));
+      assertEquals(schedule.get(date), DailySchedule.of(list).get(date));
+    }
+  }
+
+  /** Test that the schedule reads the targets from the list instead of copying it. */
+  @Test
+  void get_anyDay_returnsElementOfList() {
+    // given
+    List<String> list = new ArrayList<>();
+    for (String letter : letters) {
+      list.add(new String(letter));
+    }
+    DailySchedule<String> schedule = DailySchedule.of(list);
+
+    // when
+    String target = schedule.get(LocalDate.ofEpochDay(0));
+
+    // then
+    assertSame(list.get(list.indexOf(target)), target);
+  }
+
+  /** Test that an empty schedule has no target. */
+  @Test
+  void get_emptyList_throwsException() {
+    // given
+    DailySchedule<String> schedule = new DailySchedule<>(List.of(), 42);
+
+    // when
+    // then
+    assertThrows(NoSuchElementException.class, () -> schedule.get(LocalDate.of(2024, 1, 1)));
+  }
+}
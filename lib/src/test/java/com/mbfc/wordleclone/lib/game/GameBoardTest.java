@@ -111,4 +111,35 @@ public class GameBoardTest {
     // then
     assertThrows(NoSuchElementException.class, it::next);
   }
+
+  /** Test that an attached filter is updated with every added guess. */
+  @Test
+  void add_attachedFilter_appliesGuess() {
+    // given
+    List<String> applied = new ArrayList<>();
+    board.setFilter(
+        new CandidateFilter<>() {
+          @Override
+          public void apply(List<ComparatorResult> result, String guess) {
+            applied.add(guess);
+          }
+
+          @Override
+          public int remaining() {
+            return applied.size();
+          }
+
+          @Override
+          public void reset() {
+            applied.clear();
+          }
+        });
+
+    // when
+    board.add(new ArrayList<>(List.of(ComparatorResult.CORRECT)), "s");
+
+    // then
+    assertEquals(List.of("s"), applied);
+    assertEquals(1, board.size());
+  }
 }
@@ -0,0 +1,379 @@
+package com.mbfc.wordleclone.lib.game;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.mbfc.wordleclone.lib.comparator.ComparatorResult;
+import com.mbfc.wordleclone.lib.comparator.CompareException;
+import com.mbfc.wordleclone.lib.comparator.ObjectComparator;
+import com.mbfc.wordleclone.lib.comparator.StringComparator;
+import com.mbfc.wordleclone.lib.json.Field;
+import com.mbfc.wordleclone.lib.json.IntegerField;
+import com.mbfc.wordleclone.lib.json.StringField;
+import com.mbfc.wordleclone.lib.util.Pair;
+import com.mbfc.wordleclone.lib.util.RandomGen;
+import java.io.IOException;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import org.junit.jupiter.api.Test;
+
+/** Test suite for {@link GameSnapshot}. */
+public class GameSnapshotTest {
+  private final StringComparator comparator = new StringComparator();
+  private final List<String> words = List.of("apple", "berry", "melon", "lemon", "peach", "grape");
+
+  @Test
+  void restore_simpleGame_sameState() throws CompareException, GameException, IOException {
+    // given
+    SimpleGame game = new SimpleGame(comparator, words, 6);
+    game.target = "melon";
+    game.play("apple");
+    game.play("lemon");
+
+    // when
+    Game<String, List<String>> restored =
+        GameSnapshot.restore(GameSnapshot.save(game), comparator, words);
+
+    // then
+    assertInstanceOf(SimpleGame.class, restored);
+    assertEquals("melon", restored.getTarget());
+    assertEquals(6, restored.getMaxTries());
+    assertEquals(2, restored.getTriesUsed());
+    assertFalse(restored.getGameFinished());
+    assertBoardsEqual(game.getBoard(), restored.getBoard());
+  }
+
+  @Test
+  void restore_simpleGame_canBeFinished() throws CompareException, GameException, IOException {
+    // given
+    SimpleGame game = new SimpleGame(comparator, words, 6);
+    game.target = "melon";
+    game.play("apple");
+    Game<String, List<String>> restored =
+        GameSnapshot.restore(GameSnapshot.save(game), comparator, words);
+
+    // when
+    restored.play("melon");
+
+    // then
+    assertTrue(restored.getGameFinished());
+    assertTrue(restored.getPlayerWon());
+    assertEquals(2, restored.getTriesUsed());
+  }
+
+  @Test
+  void restore_finishedGame_sameFlags() throws CompareException, GameException, IOException {
+    // given
+    SimpleGame game = new SimpleGame(comparator, words, 2);
+    game.target = "melon";
+    game.play("apple");
+    game.play("peach");
+
+    // when
+    Game<String, List<String>> restored =
+        GameSnapshot.restore(GameSnapshot.save(game), comparator, words);
+
+    // then
+    assertTrue(restored.getGameFinished());
+    assertFalse(restored.getPlayerWon());
+    assertBoardsEqual(game.getBoard(), restored.getBoard());
+  }
+
+  @Test
+  void restore_randomGame_sameLengthAndTarget()
+      throws CompareException, GameException, IOException {
+    // given
+    RandomGame game = new RandomGame(comparator, 6, 7);
+    game.play("abcdefg");
+
+    // when
+    Game<String, List<String>> restored =
+        GameSnapshot.restore(GameSnapshot.save(game), comparator, null);
+
+    // then
+    assertInstanceOf(RandomGame.class, restored);
+    assertEquals(7, ((RandomGame) restored).getLength());
+    assertEquals(game.getTarget(), restored.getTarget());
+    assertBoardsEqual(game.getBoard(), restored.getBoard());
+  }
+
+  @Test
+  void restore_endlessGame_sameCounters() throws CompareException, GameException, IOException {
+    // given
+    SimpleEndlessGame game = new SimpleEndlessGame(comparator, words, 3, 2);
+    game.target = "apple";
+    game.play("apple");
+    game.commitRound();
+    game.target = "melon";
+    game.play("lemon");
+
+    // when
+    Game<String, List<String>> restored =
+        GameSnapshot.restore(GameSnapshot.save(game), comparator, words);
+
+    // then
+    SimpleEndlessGame endless = assertInstanceOf(SimpleEndlessGame.class, restored);
+    assertEquals(1, endless.getScore());
+    assertEquals(game.getLives(), endless.getLives());
+    assertEquals(2, endless.getBonusTriesOnWin());
+    assertEquals(game.getAttemptsTaken(), endless.getAttemptsTaken());
+    assertEquals(1, endless.getTriesUsed());
+    assertBoardsEqual(game.getBoard(), endless.getBoard());
+  }
+
+  @Test
+  void restore_seededEndlessGame_sameNextTarget()
+      throws CompareException, GameException, IOException {
+    // given
+    SimpleEndlessGame game = new SimpleEndlessGame(comparator, words, 3, 2, RandomGen.seeded(42));
+    game.play(game.getTarget());
+    game.commitRound();
+    game.play(game.getTarget());
+    Game<String, List<String>> restored =
+        GameSnapshot.restore(GameSnapshot.save(game), comparator, words);
+    SimpleEndlessGame endless = assertInstanceOf(SimpleEndlessGame.class, restored);
+
+    // when
+    List<String> expected = new ArrayList<>();
+    List<String> actual = new ArrayList<>();
+    for (int i = 0; i < 10; i++) {
+      game.commitRound();
+      endless.commitRound();
+      expected.add(game.getTarget());
+      actual.add(endless.getTarget());
+      game.play(game.getTarget());
+      endless.play(endless.getTarget());
+    }
+
+    // then
+    assertEquals(expected, actual);
+  }
+
+  @Test
+  void restore_longResults_packedInChunks() throws CompareException, GameException, IOException {
+    // given
+    RandomGame game = new RandomGame(comparator, 6, 40);
+    game.play("abcdefghijklmnopqrstuvwxyzabcdefghijklmn");
+
+    // when
+    Game<String, List<String>> restored =
+        GameSnapshot.restore(GameSnapshot.save(game), comparator, null);
+
+    // then
+    assertBoardsEqual(game.getBoard(), restored.getBoard());
+  }
+
+  @Test
+  void restoreObject_objectGame_sameRecords() throws CompareException, GameException, IOException {
+    // given
+    List<TreeMap<String, Field>> records =
+        new ArrayList<>(Arrays.asList(record("Ahri", 2011), record("Zed", 2012)));
+    ObjectComparator objectComparator = new ObjectComparator();
+    SimpleObjectGame game = new SimpleObjectGame(objectComparator, records, 6, "name");
+    game.target = records.get(1);
+    game.play("Ahri");
+
+    // when
+    Game<TreeMap<String, Field>, List<TreeMap<String, Field>>> restored =
+        GameSnapshot.restoreObject(GameSnapshot.save(game), objectComparator, records);
+
+    // then
+    assertInstanceOf(SimpleObjectGame.class, restored);
+    assertSame(records.get(1), restored.target);
+    assertSame(records.get(0), restored.getBoard().getLast().right());
+    assertEquals(game.getBoard().getLast().left(), restored.getBoard().getLast().left());
+  }
+
+  @Test
+  void restore_dailyGame_sameDateAndSchedule() throws CompareException, GameException, IOException {
+    // given
+    LocalDate date = LocalDate.of(2025, 3, 14);
+    DailyGame game = new DailyGame(comparator, words, 6, DailySchedule.of(words), date);
+    game.play("apple");
+
+    // when
+    Game<String, List<String>> restored =
+        GameSnapshot.restore(GameSnapshot.save(game), comparator, words);
+
+    // then
+    DailyGame daily = assertInstanceOf(DailyGame.class, restored);
+    assertEquals(date, daily.getDate());
+    assertEquals(game.getSchedule().getSeed(), daily.getSchedule().getSeed());
+    assertEquals(game.getTarget(), daily.getTarget());
+    assertBoardsEqual(game.getBoard(), daily.getBoard());
+  }
+
+  @Test
+  void restore_dailyGameOfOtherSeed_throwsException() {
+    // given
+    LocalDate date = LocalDate.of(2025, 3, 14);
+    DailyGame game = new DailyGame(comparator, words, 6, new DailySchedule<>(words, 3), date);
+
+    // when
+    byte[] snapshot = GameSnapshot.save(game);
+
+    // then
+    assertThrows(IOException.class, () -> GameSnapshot.restore(snapshot, comparator, words));
+  }
+
+  @Test
+  void restoreObject_dailyObjectGame_sameDate() throws IOException {
+    // given
+    List<TreeMap<String, Field>> records =
+        new ArrayList<>(Arrays.asList(record("Ahri", 2011), record("Zed", 2012)));
+    ObjectComparator objectComparator = new ObjectComparator();
+    LocalDate date = LocalDate.of(2025, 3, 14);
+    DailyObjectGame game =
+        new DailyObjectGame(objectComparator, records, 6, "name", DailySchedule.of(records), date);
+
+    // when
+    Game<TreeMap<String, Field>, List<TreeMap<String, Field>>> restored =
+        GameSnapshot.restoreObject(GameSnapshot.save(game), objectComparator, records);
+
+    // then
+    DailyObjectGame daily = assertInstanceOf(DailyObjectGame.class, restored);
+    assertEquals(date, daily.getDate());
+    assertSame(game.target, daily.target);
+  }
+
+  @Test
+  void restoreObject_missingRecord_throwsException() throws CompareException, GameException {
+    // given
+    List<TreeMap<String, Field>> records =
+        new ArrayList<>(Arrays.asList(record("Ahri", 2011), record("Zed", 2012)));
+    ObjectComparator objectComparator = new ObjectComparator();
+    SimpleObjectGame game = new SimpleObjectGame(objectComparator, records, 6, "name");
+    game.target = records.get(1);
+    byte[] snapshot = GameSnapshot.save(game);
+
+    // when
+    // then
+    assertThrows(
+        IOException.class,
+        () -> GameSnapshot.restoreObject(snapshot, objectComparator, records.subList(0, 1)));
+  }
+
+  @Test
+  void restore_objectSnapshot_throwsException() throws IOException {
+    // given
+    List<TreeMap<String, Field>> records = new ArrayList<>(List.of(record("Ahri", 2011)));
+    byte[] snapshot =
+        GameSnapshot.save(new SimpleObjectGame(new ObjectComparator(), records, 6, "name"));
+
+    // when
+    // then
+    assertTrue(GameSnapshot.isObjectGame(snapshot));
+    assertThrows(IOException.class, () -> GameSnapshot.restore(snapshot, comparator, words));
+  }
+
+  @Test
+  void restore_truncatedSnapshot_throwsException() throws CompareException, GameException {
+    // given
+    SimpleGame game = new SimpleGame(comparator, words, 6);
+    game.play("apple");
+    byte[] snapshot = GameSnapshot.save(game);
+
+    // when
+    // then
+    for (int length = 0; length < snapshot.length; length++) {
+      byte[] truncated = Arrays.copyOf(snapshot, length);
+      assertThrows(IOException.class, () -> GameSnapshot.restore(truncated, comparator, words));
+    }
+  }
+
+  @Test
+  void restore_corruptedSnapshot_throwsOnlyIoException() throws CompareException, GameException {
+    // given
+    SimpleEndlessGame game = new SimpleEndlessGame(comparator, words, 3, 2);
+    game.target = "melon";
+    game.play("apple");
+    game.play("lemon");
+    byte[] snapshot = GameSnapshot.save(game);
+
+    // when
+    // then
+    for (int i = 0; i < snapshot.length; i++) {
+      for (int value = 0; value < 256; value++) {
+        byte[] corrupted = snapshot.clone();
+        corrupted[i] = (byte) value;
+        try {
+          GameSnapshot.restore(corrupted, comparator, words);
+        } catch (IOException expected) {
+          // any other exception fails the test
+        }
+      }
+    }
+  }
+
+  @Test
+  void restore_forgedCounters_throwsException() throws CompareException, GameException {
+    // given
+    SimpleGame simple = new SimpleGame(comparator, words, 6);
+    simple.target = "melon";
+    simple.play("apple");
+    simple.triesUsed = 0;
+    SimpleEndlessGame endless = new SimpleEndlessGame(comparator, words, 3, 2);
+    endless.target = "melon";
+    endless.play("apple");
+    endless.lives = 1000;
+
+    // when
+    byte[] forgedTries = GameSnapshot.save(simple);
+    byte[] forgedLives = GameSnapshot.save(endless);
+
+    // then
+    assertThrows(IOException.class, () -> GameSnapshot.restore(forgedTries, comparator, words));
+    assertThrows(IOException.class, () -> GameSnapshot.restore(forgedLives, comparator, words));
+  }
+
+  @Test
+  void restore_forgedResults_throwsException() throws CompareException, GameException {
+    // given
+    SimpleGame game = new SimpleGame(comparator, words, 6);
+    game.target = "apple";
+    game.play("apple");
+    game.target = "melon";
+    game.gameFinished = false;
+    game.playerWon = false;
+
+    // when
+    byte[] snapshot = GameSnapshot.save(game);
+
+    // then
+    assertThrows(IOException.class, () -> GameSnapshot.restore(snapshot, comparator, words));
+  }
+
+  @Test
+  void save_unknownGame_throwsException() {
+    // given
+    SimpleGame game = new SimpleGame(comparator, words, 6) {};
+
+    // when
+    // then
+    assertThrows(IllegalArgumentException.class, () -> GameSnapshot.save(game));
+  }
+
+  private static TreeMap<String, Field> record(String name, int year) {
+    return new TreeMap<>(Map.of("name", new StringField(name), "year", new IntegerField(year)));
+  }
+
+  private static void assertBoardsEqual(GameBoard<String> expected, GameBoard<String> actual) {
+    assertEquals(expected.size(), actual.size());
+
+    Iterator<Pair<List<ComparatorResult>, String>> rows = actual.iterator();
+    for (Pair<List<ComparatorResult>, String> row : expected) {
+      Pair<List<ComparatorResult>, String> other = rows.next();
+      assertEquals(row.left(), other.left());
+      assertEquals(row.right(), other.right());
+    }
+  }
+}
@@ -9,6 +9,8 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import com.mbfc.wordleclone.lib.comparator.CompareException;
 import com.mbfc.wordleclone.lib.comparator.StringComparator;
+import com.mbfc.wordleclone.lib.solver.WordCandidateFilter;
+import com.mbfc.wordleclone.lib.util.RandomGen;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
@@ -189,4 +191,41 @@ public class SimpleGameTest {
     assertEquals(0, game.getTriesUsed());
     assertNotEquals("ddd", game.target);
   }
+
+  /** Test that the candidate filter is updated by guesses and restored when the game is reset. */
+  @Test
+  void setCandidateFilter_playAndReset_filterFollowsBoard() throws CompareException, GameException {
+    // given
+    SimpleGame game = new SimpleGame(comparator, validWordList, lives);
+    WordCandidateFilter filter = new WordCandidateFilter(validWordList, comparator);
+    game.setCandidateFilter(filter);
+    String wrongGuess = game.getTarget().equals("abc") ? "def" : "abc";
+
+    // when
+    game.play(wrongGuess);
+    int afterGuess = filter.remaining();
+    game.reset();
+
+    // then
+    assertEquals(2, afterGuess);
+    assertEquals(3, filter.remaining());
+    assertEquals(filter, game.getBoard().getFilter());
+  }
+
+  /** Test that games with the same seed select the same targets, also after a reset. */
+  @Test
+  void constructor_sameSeed_sameTargets() {
+    // given
+    List<String> words = List.of("apple", "berry", "melon", "lemon", "peach", "grape", "plums");
+    SimpleGame first = new SimpleGame(comparator, words, lives, RandomGen.seeded(2024));
+    SimpleGame second = new SimpleGame(comparator, words, lives, RandomGen.seeded(2024));
+
+    // when
+    // then
+    for (int i = 0; i < 10; i++) {
+      assertEquals(first.getTarget(), second.getTarget());
+      first.reset();
+      second.reset();
+    }
+  }
 }
@@ -0,0 +1,223 @@
+package com.mbfc.wordleclone.lib.leaderboard;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.mbfc.wordleclone.lib.game.GameMode;
+import com.mbfc.wordleclone.lib.game.ObjectGameMode;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Optional;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/** Test suite for {@link Leaderboard}. */
+public class LeaderboardTest {
+  private static final String BOARD = Leaderboard.board(GameMode.ENDLESS);
+
+  @TempDir Path tempDir;
+
+  /** Test that the top scores are ordered from the best one, with the earlier score first. */
+  @Test
+  void top_severalPlayers_returnsBestScoresInOrder() throws IOException {
+    // given
+    Leaderboard leaderboard = new Leaderboard(100);
+    leaderboard.record(BOARD, "alice", 5);
+    leaderboard.record(BOARD, "bob", 9);
+    leaderboard.record(BOARD, "carol", 5);
+    leaderboard.record(BOARD, "dave", 1);
+
+    // when
+    List<LeaderboardEntry> top = leaderboard.top(BOARD, 3);
+
+    // then
+    assertEquals(
+        List.of(
+            new LeaderboardEntry("bob", 9, 1),
+            new LeaderboardEntry("alice", 5, 2),
+            new LeaderboardEntry("carol", 5, 3)),
+        top);
+    assertEquals(List.of(), leaderboard.top("OBJECT_ENDLESS", 3));
+  }
+
+  /** Test that only a better score of a player replaces the previous one. */
+  @Test
+  void record_lowerScore_keepsBestScore() throws IOException {
+    // given
+    Leaderboard leaderboard = new Leaderboard(100);
+    leaderboard.record(BOARD, "alice", 5);
+    leaderboard.record(BOARD, "bob", 7);
+
+    // when
+    boolean lower = leaderboard.record(BOARD, "alice", 3);
+    boolean higher = leaderboard.record(BOARD, "alice", 8);
+
+    // then
+    assertFalse(lower);
+    assertTrue(higher);
+    assertEquals(
+        Optional.of(new LeaderboardEntry("alice", 8, 1)), leaderboard.standing(BOARD, "alice"));
+    assertEquals(2, leaderboard.size(BOARD));
+  }
+
+  /** Test the percentage of the other players with a lower score. */
+  @Test
+  void percentile_severalPlayers_countsLowerScores() throws IOException {
+    // given
+    Leaderboard leaderboard = new Leaderboard(100);
+    leaderboard.record(BOARD, "alice", 10);
+    leaderboard.record(BOARD, "bob", 5);
+    leaderboard.record(BOARD, "carol", 5);
+    leaderboard.record(BOARD, "dave", 1);
+    leaderboard.record(BOARD, "eve", 0);
+
+    // when
+
+    // then
+    assertEquals(100.0, leaderboard.percentile(BOARD, "alice").getAsDouble());
+    assertEquals(50.0, leaderboard.percentile(BOARD, "bob").getAsDouble());
+    assertEquals(50.0, leaderboard.percentile(BOARD, "carol").getAsDouble());
+    assertEquals(0.0, leaderboard.percentile(BOARD, "eve").getAsDouble());
+    assertTrue(leaderboard.percentile(BOARD, "frank").isEmpty());
+  }
+
+  /** Test that a full board drops the lowest score for a better one and rejects worse ones. */
+  @Test
+  void record_fullBoard_dropsLowestScore() throws IOException {
+    // given
+    Leaderboard leaderboard = new Leaderboard(2);
+    leaderboard.record(BOARD, "alice", 5);
+    leaderboard.record(BOARD, "bob", 3);
+
+    // when
+    boolean worse = leaderboard.record(BOARD, "carol", 2);
+    boolean better = leaderboard.record(BOARD, "dave", 4);
+
+    // then
+    assertFalse(worse);
+    assertTrue(better);
+    assertEquals(2, leaderboard.size(BOARD));
+    assertTrue(leaderboard.standing(BOARD, "bob").isEmpty());
+    assertEquals(2, leaderboard.standing(BOARD, "dave").orElseThrow().rank());
+  }
+
+  /** Test that boards of different modes are ranked separately. */
+  @Test
+  void record_differentModes_separateBoards() throws IOException {
+    // given
+    Leaderboard leaderboard = new Leaderboard(100);
+    String objectBoard = Leaderboard.board(ObjectGameMode.ENDLESS);
+
+    // when
+    leaderboard.record(BOARD, "alice", 5);
+    leaderboard.record(objectBoard, "alice", 2);
+
+    // then
+    assertEquals(5, leaderboard.standing(BOARD, "alice").orElseThrow().score());
+    assertEquals(2, leaderboard.standing(objectBoard, "alice").orElseThrow().score());
+    assertEquals(List.of("ENDLESS", "OBJECT_ENDLESS"), List.copyOf(leaderboard.boards()));
+  }
+
+  /** Test that reopening the log rebuilds the same boards. */
+  @Test
+  void constructor_existingLog_rebuildsBoards() throws IOException {
+    // given
+    Path log = tempDir.resolve("leaderboard.log");
+    try (Leaderboard leaderboard = new Leaderboard(log, 100)) {
+      leaderboard.record(BOARD, "alice", 5);
+      leaderboard.record(BOARD, "bob", 5);
+      leaderboard.record(BOARD, "alice", 6);
+      leaderboard.record(BOARD, "bob", 6);
+    }
+
+    // when
+    Leaderboard reopened = new Leaderboard(log, 100);
+
+    // then
+    assertEquals(
+        List.of(new LeaderboardEntry("alice", 6, 1), new LeaderboardEntry("bob", 6, 2)),
+        reopened.top(BOARD, 10));
+    reopened.close();
+  }
+
+  /** Test that a line cut off by a crash is dropped, and the log can be appended to again. */
+  @Test
+  void constructor_truncatedLine_dropsLine() throws IOException {
+    // given
+    Path log = tempDir.resolve("leaderboard.log");
+    Files.writeString(log, "ENDLESS\talice\t5\nENDLESS\tbob\t", StandardCharsets.UTF_8);
+
+    // when
+    try (Leaderboard leaderboard = new Leaderboard(log, 100)) {
+      leaderboard.record(BOARD, "carol", 3);
+    }
+
+    // then
+    assertEquals(
+        List.of("ENDLESS\talice\t5", "ENDLESS\tcarol\t3"),
+        Files.readAllLines(log, StandardCharsets.UTF_8));
+  }
+
+  /** Test that a log with many replaced scores is compacted to the current ones. */
+  @Test
+  void record_manyUpdates_compactsLog() throws IOException {
+    // given
+    Path log = tempDir.resolve("leaderboard.log");
+
+    // when
+    try (Leaderboard leaderboard = new Leaderboard(log, 100)) {
+      for (int score = 1; score <= 2000; score++) {
+        leaderboard.record(BOARD, "alice", score);
+        leaderboard.record(BOARD, "bob", score);
+      }
+    }
+
+    // then
+    assertTrue(Files.readAllLines(log, StandardCharsets.UTF_8).size() < 1024);
+    Leaderboard reopened = new Leaderboard(log, 100);
+    assertEquals(
+        List.of(new LeaderboardEntry("alice", 2000, 1), new LeaderboardEntry("bob", 2000, 2)),
+        reopened.top(BOARD, 10));
+    reopened.close();
+  }
+
+  /** Test that a failed compaction doesn't fail the score that triggered it. */
+  @Test
+  void record_failedCompaction_recordsScore() throws IOException {
+    // given
+    Path directory = Files.createDirectory(tempDir.resolve("scores"));
+    Path log = directory.resolve("leaderboard.log");
+
+    try (Leaderboard leaderboard = new Leaderboard(log, 100)) {
+      // the open log is still written, but no new file can be created next to it
+      Files.delete(log);
+      Files.delete(directory);
+
+      // when
+      for (int score = 1; score <= 2000; score++) {
+        leaderboard.record(BOARD, "alice", score);
+      }
+
+      // then
+      assertEquals(List.of(new LeaderboardEntry("alice", 2000, 1)), leaderboard.top(BOARD, 10));
+    }
+  }
+
+  /** Test that recording on a closed persistent leaderboard throws an exception. */
+  @Test
+  void record_closedLeaderboard_throwsException() throws IOException {
+    // given
+    Leaderboard leaderboard = new Leaderboard(tempDir.resolve("leaderboard.log"), 100);
+
+    // when
+    leaderboard.close();
+
+    // then
+    assertThrows(IOException.class, () -> leaderboard.record(BOARD, "alice", 1));
+  }
+}
@@ -0,0 +1,81 @@
+package com.mbfc.wordleclone.lib.leaderboard;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+
+/** Test suite for {@link RankTree}. */
+public class RankTreeTest {
+
+  /** Test that higher scores rank first, and equal scores are ranked by their sequence. */
+  @Test
+  void rank_equalScores_earlierRecordFirst() {
+    // given
+    RankTree tree = new RankTree();
+    RankTree.Node late = tree.insert("late", 5, 2);
+    RankTree.Node best = tree.insert("best", 9, 3);
+    RankTree.Node early = tree.insert("early", 5, 1);
+
+    // when
+
+    // then
+    assertEquals(1, tree.rank(best));
+    assertEquals(2, tree.rank(early));
+    assertEquals(3, tree.rank(late));
+    assertSame(early, tree.get(1));
+  }
+
+  /** Test that random inserts and removes give the same order as sorting a list. */
+  @Test
+  void get_randomOperations_matchesSortedList() {
+    // given
+    RankTree tree = new RankTree();
+    List<RankTree.Node> expected = new ArrayList<>();
+    Random random = new Random(42);
+
+    // when
+    for (int i = 0; i < 2000; i++) {
+      if (!expected.isEmpty() && random.nextInt(3) == 0) {
+        tree.remove(expected.remove(random.nextInt(expected.size())));
+      } else {
+        expected.add(tree.insert("p" + i, random.nextInt(50), i));
+      }
+    }
+    expected.sort(
+        Comparator.comparingInt((RankTree.Node node) -> -node.score)
+            .thenComparingLong(node -> node.sequence));
+
+    // then
+    assertEquals(expected.size(), tree.size());
+    for (int i = 0; i < expected.size(); i++) {
+      assertSame(expected.get(i), tree.get(i));
+      assertEquals(i + 1, tree.rank(expected.get(i)));
+    }
+    for (int score = -1; score <= 50; score++) {
+      int atLeast = score;
+      assertEquals(
+          expected.stream().filter(node -> node.score >= atLeast).count(),
+          tree.countAtLeast(score));
+    }
+  }
+
+  /** Test that a position outside of the tree throws an exception. */
+  @Test
+  void get_outOfRange_throwsException() {
+    // given
+    RankTree tree = new RankTree();
+    tree.insert("player", 1, 0);
+
+    // when
+
+    // then
+    assertThrows(IndexOutOfBoundsException.class, () -> tree.get(1));
+    assertThrows(IndexOutOfBoundsException.class, () -> tree.get(-1));
+  }
+}
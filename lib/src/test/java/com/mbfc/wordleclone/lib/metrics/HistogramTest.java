@@ -0,0 +1,76 @@
+package com.mbfc.wordleclone.lib.metrics;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+/** Test suite for {@link Histogram}. */
+public class HistogramTest {
+
+  @Test
+  void indexOf_everyPowerOfTwo_withinBucketBounds() {
+    // given
+    // when
+    // then
+    for (int exponent = 0; exponent < 63; exponent++) {
+      for (long value : new long[] {(1L << exponent) - 1, 1L << exponent, (1L << exponent) + 1}) {
+        int index = Histogram.indexOf(value);
+        assertTrue(value <= Histogram.upperBound(index), "value " + value);
+        assertTrue(index == 0 || value > Histogram.upperBound(index - 1), "value " + value);
+      }
+    }
+    assertEquals(Long.MAX_VALUE, Histogram.upperBound(Histogram.indexOf(Long.MAX_VALUE)));
+  }
+
+  @Test
+  void snapshot_smallValues_exactPercentiles() {
+    // given
+    Histogram histogram = new Histogram();
+
+    // when
+    for (int i = 1; i <= 10; i++) {
+      histogram.record(i);
+    }
+    HistogramSnapshot snapshot = histogram.snapshot();
+
+    // then
+    assertEquals(10, snapshot.count());
+    assertEquals(5.5, snapshot.mean());
+    assertEquals(5, snapshot.p50());
+    assertEquals(9, snapshot.p90());
+    assertEquals(10, snapshot.p99());
+    assertEquals(10, snapshot.max());
+  }
+
+  @Test
+  void snapshot_largeValues_withinRelativeError() {
+    // given
+    Histogram histogram = new Histogram();
+
+    // when
+    for (long i = 1; i <= 100_000; i++) {
+      histogram.record(i * 1000);
+    }
+    HistogramSnapshot snapshot = histogram.snapshot();
+
+    // then
+    assertEquals(100_000, snapshot.count());
+    assertTrue(Math.abs(snapshot.p50() - 50_000_000) <= 50_000_000 / Histogram.SUB_BUCKETS);
+    assertTrue(Math.abs(snapshot.p99() - 99_000_000) <= 99_000_000 / Histogram.SUB_BUCKETS);
+    assertEquals(100_000_000, snapshot.max());
+  }
+
+  @Test
+  void snapshot_empty_zeros() {
+    // given
+    Histogram histogram = new Histogram();
+    histogram.record(42);
+
+    // when
+    histogram.reset();
+
+    // then
+    assertEquals(new HistogramSnapshot(0, 0, 0, 0, 0, 0), histogram.snapshot());
+  }
+}
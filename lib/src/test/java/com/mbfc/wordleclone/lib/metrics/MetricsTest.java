@@ -0,0 +1,125 @@
+package com.mbfc.wordleclone.lib.metrics;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.mbfc.wordleclone.lib.comparator.CompareException;
+import com.mbfc.wordleclone.lib.comparator.StringComparator;
+import com.mbfc.wordleclone.lib.game.GameException;
+import com.mbfc.wordleclone.lib.game.SimpleEndlessGame;
+import com.mbfc.wordleclone.lib.game.SimpleGame;
+import java.util.List;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/** Test suite for {@link Metrics} and the instrumentation of the games. */
+public class MetricsTest {
+  private final StringComparator comparator = new StringComparator();
+
+  @BeforeEach
+  void setUp() {
+    Metrics.reset();
+    Metrics.setEnabled(true);
+  }
+
+  @AfterEach
+  void tearDown() {
+    Metrics.setEnabled(false);
+    Metrics.reset();
+  }
+
+  @Test
+  void play_validGuesses_recordsGuessesAndCompares() throws CompareException, GameException {
+    // given
+    SimpleGame game = new SimpleGame(comparator, List.of("crane", "slate"), 6);
+
+    // when
+    game.play("crane");
+    if (!game.getGameFinished()) {
+      game.play("slate");
+    }
+    MetricsSnapshot snapshot = Metrics.snapshot();
+
+    // then
+    assertEquals(game.getTriesUsed(), snapshot.guesses());
+    assertEquals(game.getTriesUsed(), snapshot.compareNanos().get("StringComparator").count());
+  }
+
+  @Test
+  void play_invalidGuess_recordsReason() {
+    // given
+    SimpleGame game = new SimpleGame(comparator, List.of("crane", "slate"), 6);
+
+    // when
+    assertThrows(GameException.class, () -> game.play("plant"));
+    assertThrows(GameException.class, () -> game.play("plant"));
+    MetricsSnapshot snapshot = Metrics.snapshot();
+
+    // then
+    assertEquals(0, snapshot.guesses());
+    assertEquals(1, snapshot.validationFailures().size());
+    assertEquals(2L, snapshot.validationFailures().values().iterator().next());
+  }
+
+  @Test
+  void commitRound_wonRound_recordsRoundLength() throws CompareException, GameException {
+    // given
+    SimpleEndlessGame game = new SimpleEndlessGame(comparator, List.of("crane"), 3, 1);
+
+    // when
+    game.play("crane");
+    game.commitRound();
+    HistogramSnapshot rounds = Metrics.snapshot().roundLengths();
+
+    // then
+    assertEquals(1, rounds.count());
+    assertEquals(1, rounds.max());
+  }
+
+  @Test
+  void recordParse_startedTimer_recordsList() {
+    // given
+    long start = Metrics.startTimer();
+
+    // when
+    Metrics.recordParse("words.txt", start);
+
+    // then
+    assertEquals(1, Metrics.snapshot().parseNanos().get("words.txt").count());
+    assertTrue(Metrics.snapshot().format().contains("words.txt"));
+  }
+
+  @Test
+  void play_disabledMetrics_recordsNothing() throws CompareException, GameException {
+    // given
+    Metrics.setEnabled(false);
+    SimpleGame game = new SimpleGame(comparator, List.of("crane"), 6);
+
+    // when
+    game.play("crane");
+    Metrics.recordParse("words.txt", Metrics.startTimer());
+
+    // then
+    MetricsSnapshot snapshot = Metrics.snapshot();
+    assertEquals(0, snapshot.guesses());
+    assertTrue(snapshot.compareNanos().isEmpty());
+    assertTrue(snapshot.parseNanos().isEmpty());
+  }
+
+  @Test
+  void recordValidationFailure_manyReasons_bounded() {
+    // given
+    // when
+    for (int i = 0; i < 1000; i++) {
+      Metrics.recordValidationFailure("reason " + i);
+    }
+
+    // then
+    MetricsSnapshot snapshot = Metrics.snapshot();
+    assertTrue(snapshot.validationFailures().size() <= 65);
+    assertEquals(
+        1000L, snapshot.validationFailures().values().stream().mapToLong(Long::longValue).sum());
+  }
+}
@@ -1,9 +1,12 @@
 package com.mbfc.wordleclone.lib.parser;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
+import com.mbfc.wordleclone.lib.dataset.ObjectDataset;
 import com.mbfc.wordleclone.lib.json.Field;
 import com.mbfc.wordleclone.lib.util.Pair;
 import java.io.IOException;
@@ -77,6 +80,8 @@ public class JsonParserTest {
     assertEquals(2000.50, result.right().get(1).get("salary").getValue());
     assertEquals(2, result.right().get(1).get("cars").getValue());
     assertEquals(2, ((HashSet<String>) result.right().get(1).get("kids").getValue()).size());
+    assertInstanceOf(ObjectDataset.class, result.right());
+    assertSame(result.right().get(0), ((ObjectDataset) result.right()).find("JOHN"));
   }
 
   @Test
@@ -160,4 +165,174 @@ public class JsonParserTest {
     assertEquals(2, result.right().get(1).get("cars").getValue());
     assertEquals(2, ((HashSet<String>) result.right().get(1).get("kids").getValue()).size());
   }
+
+  /** Test that a precompiled dataset is detected and read with the same records. */
+  @Test
+  void parseFile_precompiledFile_returnsSameRecords() throws IOException {
+    // given
+    Path binaryFile = Files.createTempFile("test_file", ".bin");
+    Pair<String, List<TreeMap<String, Field>>> expected =
+        parser.parseResource("/test_resource.json");
+    ListCompiler.compile(
+        Path.of(System.getProperty("user.dir"), "src/test/resources/test_resource.json"),
+        binaryFile);
+
+    // when
+    Pair<String, List<TreeMap<String, Field>>> result = parser.parseFile(binaryFile.toString());
+
+    // then
+    assertEquals(expected.left(), result.left());
+    assertInstanceOf(ObjectDataset.class, result.right());
+    assertEquals(expected.right().size(), result.right().size());
+    for (int i = 0; i < expected.right().size(); i++) {
+      for (String field : expected.right().get(i).keySet()) {
+        assertEquals(
+            expected.right().get(i).get(field).getValue(),
+            result.right().get(i).get(field).getValue());
+      }
+    }
+  }
+
+  @Test
+  void parseFile_dataBeforeFields_returnsExpectedList() throws IOException {
+    // given
+    Path tempFile = Files.createTempFile("test_file", ".json");
+    String jsonString =
+        """
+        {
+          "data": [
+            { "name": "john", "cars": "2" },
+            { "name": "anna", "cars": 3 }
+          ],
+          "fields": { "name": "string", "cars": "integer" },
+          "key": "name"
+        }
+        """;
+    Files.writeString(tempFile, jsonString, StandardCharsets.UTF_8);
+
+    // when
+    Pair<String, List<TreeMap<String, Field>>> result = parser.parseFile(tempFile.toString());
+
+    // then
+    assertEquals("name", result.left());
+    assertEquals(2, result.right().size());
+    assertEquals(2, result.right().get(0).get("cars").getValue());
+    assertEquals(3, result.right().get(1).get("cars").getValue());
+  }
+
+  @Test
+  void parseFile_numericValues_returnsExpectedList() throws IOException {
+    // given
+    Path tempFile = Files.createTempFile("test_file", ".json");
+    String jsonString =
+        """
+        {
+          "key": "name",
+          "fields": { "name": "string", "cars": "integer", "salary": "double" },
+          "ignored": { "nested": [1, 2, 3] },
+          "data": [ { "name": "john", "cars": 2, "salary": 2000.5 } ]
+        }
+        """;
+    Files.writeString(tempFile, jsonString, StandardCharsets.UTF_8);
+
+    // when
+    Pair<String, List<TreeMap<String, Field>>> result = parser.parseFile(tempFile.toString());
+
+    // then
+    assertEquals(1, result.right().size());
+    assertEquals(2, result.right().get(0).get("cars").getValue());
+    assertEquals(2000.5, result.right().get(0).get("salary").getValue());
+  }
+
+  @Test
+  void parseFile_invalidValue_throwsException() throws IOException {
+    // given
+    Path tempFile = Files.createTempFile("test_file", ".json");
+    String jsonString =
+        """
+        {
+          "key": "name",
+          "fields": { "name": "string", "cars": "integer" },
+          "data": [ { "name": "john", "cars": "two" } ]
+        }
+        """;
+    Files.writeString(tempFile, jsonString, StandardCharsets.UTF_8);
+
+    // when
+    Exception exception =
+        assertThrows(IOException.class, () -> parser.parseFile(tempFile.toString()));
+
+    // then
+    assertEquals("Unable to parse the file: " + tempFile, exception.getMessage());
+    assertEquals("Unable to parse record 0.", exception.getCause().getMessage());
+  }
+
+  @Test
+  void parseFile_malformedJson_throwsException() throws IOException {
+    // given
+    Path tempFile = Files.createTempFile("test_file", ".json");
+    Files.writeString(tempFile, "{ \"key\": \"name\", \"data\": [ {", StandardCharsets.UTF_8);
+
+    // when
+    Exception exception =
+        assertThrows(IOException.class, () -> parser.parseFile(tempFile.toString()));
+
+    // then
+    assertEquals("Unable to read the file: " + tempFile, exception.getMessage());
+  }
+
+  @Test
+  void parseFile_parallel_sameOrderAsSerial() throws IOException {
+    // given
+    Path tempFile = Files.createTempFile("test_file", ".json");
+    Files.writeString(tempFile, generateJson(5000, -1), StandardCharsets.UTF_8);
+
+    // when
+    List<TreeMap<String, Field>> serial = parser.parseFile(tempFile.toString()).right();
+    List<TreeMap<String, Field>> parallel =
+        new JsonParser(true).parseFile(tempFile.toString()).right();
+
+    // then
+    assertEquals(5000, parallel.size());
+    for (int i = 0; i < serial.size(); i++) {
+      assertEquals("word" + i, parallel.get(i).get("name").getValue());
+      assertEquals(serial.get(i).get("tags").getValue(), parallel.get(i).get("tags").getValue());
+    }
+  }
+
+  @Test
+  void parseFile_parallelInvalidValue_reportsFirstInvalidRecord() throws IOException {
+    // given
+    Path tempFile = Files.createTempFile("test_file", ".json");
+    Files.writeString(tempFile, generateJson(5000, 3000), StandardCharsets.UTF_8);
+
+    // when
+    Exception exception =
+        assertThrows(IOException.class, () -> new JsonParser(true).parseFile(tempFile.toString()));
+
+    // then
+    assertEquals("Unable to parse the file: " + tempFile, exception.getMessage());
+    assertEquals("Unable to parse record 3000.", exception.getCause().getMessage());
+  }
+
+  private static String generateJson(int records, int invalidRecord) {
+    StringBuilder json =
+        new StringBuilder(
+            "{\"key\": \"name\", \"fields\": {\"name\": \"string\", \"count\": \"integer\","
+                + " \"tags\": \"set\"}, \"data\": [");
+    for (int i = 0; i < records; i++) {
+      json.append(i == 0 ? "" : ",")
+          .append("{\"name\": \"word")
+          .append(i)
+          .append("\", \"count\": \"")
+          .append(i == invalidRecord ? "many" : String.valueOf(i))
+          .append("\", \"tags\": \"a")
+          .append(i % 7)
+          .append(",b")
+          .append(i % 3)
+          .append("\"}");
+    }
+
+    return json.append("]}").toString();
+  }
 }
@@ -1,10 +1,14 @@
 package com.mbfc.wordleclone.lib.parser;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
+import com.mbfc.wordleclone.lib.dictionary.MappedWordList;
+import com.mbfc.wordleclone.lib.dictionary.WordIndex;
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.List;
@@ -118,4 +122,50 @@ public class SimpleStringParserTest {
     assertEquals("two", result.get(1));
     assertEquals("three", result.get(2));
   }
+
+  /** Test that files are decoded as UTF-8, regardless of the platform charset. */
+  @Test
+  void parseFile_utf8File_returnsDecodedWords() throws IOException {
+    // given
+    Path tempFile = Files.createTempFile("test_file", ".txt");
+    Files.writeString(tempFile, "żółw\nñandú\n", StandardCharsets.UTF_8);
+
+    // when
+    List<String> result = parser.parseFile(tempFile.toString());
+
+    // then
+    assertEquals(List.of("żółw", "ñandú"), result);
+  }
+
+  /** Test that a memory-mapping parser returns the same words as a reading parser. */
+  @Test
+  void parseFile_memoryMapped_returnsMappedList() throws IOException {
+    // given
+    Path tempFile = Files.createTempFile("test_file", ".txt");
+    Files.writeString(tempFile, "one\r\ntwo\nżółw", StandardCharsets.UTF_8);
+
+    // when
+    List<String> result = new SimpleStringParser(true).parseFile(tempFile.toString());
+
+    // then
+    assertInstanceOf(MappedWordList.class, result);
+    assertEquals(parser.parseFile(tempFile.toString()), result);
+  }
+
+  /** Test that a precompiled file is detected and read as the same words. */
+  @Test
+  void parseFile_precompiledFile_returnsSameWords() throws IOException {
+    // given
+    Path textFile = Files.createTempFile("test_file", ".txt");
+    Path binaryFile = Files.createTempFile("test_file", ".bin");
+    Files.write(textFile, List.of("żółw", "ñandú", "one"));
+    ListCompiler.compile(textFile, binaryFile);
+
+    // when
+    List<String> result = parser.parseFile(binaryFile.toString());
+
+    // then
+    assertInstanceOf(WordIndex.class, result);
+    assertEquals(parser.parseFile(textFile.toString()), result);
+  }
 }
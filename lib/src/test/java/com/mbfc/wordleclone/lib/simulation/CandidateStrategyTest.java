@@ -0,0 +1,46 @@
+package com.mbfc.wordleclone.lib.simulation;
+
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.mbfc.wordleclone.lib.comparator.CompareException;
+import com.mbfc.wordleclone.lib.comparator.StringComparator;
+import com.mbfc.wordleclone.lib.game.GameException;
+import com.mbfc.wordleclone.lib.game.SimpleGame;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+/** Test suite for {@link CandidateStrategy}. */
+public class CandidateStrategyTest {
+  private final StringComparator comparator = new StringComparator();
+
+  /** Test that the strategy wins with guesses consistent with the board. */
+  @Test
+  void nextGuess_sameLengthWords_wins() throws CompareException, GameException {
+    // given
+    List<String> words = List.of("crane", "crate", "slate", "trace", "grace", "brace");
+    SimpleGame game = new SimpleGame(comparator, words, words.size());
+    CandidateStrategy strategy = new CandidateStrategy(words, comparator);
+
+    // when
+    while (!game.getGameFinished()) {
+      game.play(strategy.nextGuess(game));
+    }
+
+    // then
+    assertTrue(game.getPlayerWon());
+  }
+
+  /** Test that the length of the target is not guessed from a list of mixed lengths. */
+  @Test
+  void nextGuess_mixedLengthsEmptyBoard_throwsException() {
+    // given
+    List<String> words = List.of("crane", "cat");
+    SimpleGame game = new SimpleGame(comparator, words, 6);
+    CandidateStrategy strategy = new CandidateStrategy(words, comparator);
+
+    // when
+    // then
+    assertThrows(GameException.class, () -> strategy.nextGuess(game));
+  }
+}
@@ -0,0 +1,43 @@
+package com.mbfc.wordleclone.lib.simulation;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.mbfc.wordleclone.lib.comparator.ComparatorResult;
+import com.mbfc.wordleclone.lib.comparator.CompareException;
+import com.mbfc.wordleclone.lib.comparator.StringComparator;
+import com.mbfc.wordleclone.lib.game.GameException;
+import com.mbfc.wordleclone.lib.game.RandomGame;
+import com.mbfc.wordleclone.lib.util.Pair;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+/** Test suite for {@link LetterStrategy}. */
+public class LetterStrategyTest {
+
+  /** Test that correct letters are kept in the next guesses until the target is found. */
+  @Test
+  void nextGuess_randomGame_keepsCorrectLettersAndWins() throws CompareException, GameException {
+    // given
+    RandomGame game = new RandomGame(new StringComparator(), 100, 4);
+    LetterStrategy strategy = new LetterStrategy();
+
+    // when
+    while (!game.getGameFinished()) {
+      String guess = strategy.nextGuess(game);
+
+      // then
+      assertEquals(4, guess.length());
+      if (!game.getBoard().isEmpty()) {
+        Pair<List<ComparatorResult>, String> last = game.getBoard().getLast();
+        for (int i = 0; i < guess.length(); i++) {
+          if (last.left().get(i) == ComparatorResult.CORRECT) {
+            assertEquals(last.right().charAt(i), guess.charAt(i));
+          }
+        }
+      }
+      game.play(guess);
+    }
+    assertTrue(game.getPlayerWon());
+  }
+}
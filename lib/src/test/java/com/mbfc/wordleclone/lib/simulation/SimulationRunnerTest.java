@@ -0,0 +1,140 @@
+package com.mbfc.wordleclone.lib.simulation;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.mbfc.wordleclone.lib.comparator.StringComparator;
+import com.mbfc.wordleclone.lib.game.EndlessRandomGame;
+import com.mbfc.wordleclone.lib.game.SimpleEndlessGame;
+import com.mbfc.wordleclone.lib.game.SimpleGame;
+import com.mbfc.wordleclone.lib.game.ZenGame;
+import java.util.Arrays;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+/** Test suite for {@link SimulationRunner}. */
+public class SimulationRunnerTest {
+  private static final List<String> WORDS =
+      List.of("crane", "crate", "slate", "trace", "grace", "brace", "plant", "shine");
+  private final StringComparator comparator = new StringComparator();
+
+  /** Test that every game is played and the histogram counts the won games. */
+  @Test
+  void run_simpleGames_countsAllGames() throws InterruptedException {
+    // given
+    SimulationRunner runner = new SimulationRunner(3, 100);
+
+    // when
+    SimulationReport report =
+        runner.run(
+            () -> new SimpleGame(comparator, WORDS, 6),
+            () -> new CandidateStrategy(WORDS, comparator),
+            1000);
+
+    // then
+    assertEquals(1000, report.getGames());
+    assertEquals(0, report.getAbandoned());
+    assertEquals(1000, report.getRounds());
+    assertEquals(report.getWins(), Arrays.stream(report.getGuessHistogram()).sum());
+    assertTrue(report.getWinRate() > 0.9);
+    assertTrue(report.getAverageGuesses() >= 1);
+    assertEquals(0, report.getScoreHistogram().length);
+  }
+
+  /** Test that endless games count their scores and every won round. */
+  @Test
+  void run_endlessGames_countsScoresAndRounds() throws InterruptedException {
+    // given
+    SimulationRunner runner = new SimulationRunner(2, 1000);
+
+    // when
+    SimulationReport report =
+        runner.run(
+            () -> new SimpleEndlessGame(comparator, WORDS, 3, 1),
+            () -> new CandidateStrategy(WORDS, comparator),
+            200);
+
+    // then
+    long[] scores = report.getScoreHistogram();
+    long totalScore = 0;
+    for (int i = 0; i < scores.length; i++) {
+      totalScore += i * scores[i];
+    }
+    assertEquals(200, report.getGames());
+    assertEquals(200, Arrays.stream(scores).sum());
+    assertEquals(totalScore, report.getWins());
+    assertEquals(totalScore + 200, report.getRounds());
+  }
+
+  /** Test that random endless games can be played with the letter strategy. */
+  @Test
+  void run_endlessRandomGames_scoresWithLetterStrategy() throws InterruptedException {
+    // given
+    SimulationRunner runner = new SimulationRunner(1, 1000);
+
+    // when
+    SimulationReport report =
+        runner.run(() -> new EndlessRandomGame(comparator, 20, 5, 3), LetterStrategy::new, 50);
+
+    // then
+    assertEquals(50, report.getGames());
+    assertEquals(0, report.getAbandoned());
+    assertTrue(report.getAverageScore() > 0);
+  }
+
+  /** Test that games which never finish are stopped at the limit of guesses. */
+  @Test
+  void run_zenGameWithWrongGuesses_abandonsGames() throws InterruptedException {
+    // given
+    SimulationRunner runner = new SimulationRunner(1, 10);
+
+    // when
+    SimulationReport report =
+        runner.run(
+            () -> new ZenGame(comparator, List.of("crane", "shine")),
+            () -> game -> game.getTarget().equals("crane") ? "shine" : "crane",
+            5);
+
+    // then
+    assertEquals(5, report.getGames());
+    assertEquals(5, report.getAbandoned());
+  }
+
+  /** Test that seeded runs with the same seed play the same games. */
+  @Test
+  void run_sameSeed_sameReport() throws InterruptedException {
+    // given
+    SimulationRunner runner = new SimulationRunner(3, 100);
+
+    // when
+    SimulationReport first =
+        runner.run(
+            random -> new SimpleGame(comparator, WORDS, 6, random),
+            random -> new CandidateStrategy(WORDS, comparator, random),
+            300,
+            99);
+    SimulationReport second =
+        runner.run(
+            random -> new SimpleGame(comparator, WORDS, 6, random),
+            random -> new CandidateStrategy(WORDS, comparator, random),
+            300,
+            99);
+
+    // then
+    assertEquals(first.getWins(), second.getWins());
+    assertArrayEquals(first.getGuessHistogram(), second.getGuessHistogram());
+  }
+
+  /** Test that a runner needs at least one worker. */
+  @Test
+  void constructor_noWorkers_throwsIllegalArgumentException() {
+    // given
+
+    // when
+
+    // then
+    assertThrows(IllegalArgumentException.class, () -> new SimulationRunner(0, 10));
+  }
+}
@@ -0,0 +1,103 @@
+package com.mbfc.wordleclone.lib.solver;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.mbfc.wordleclone.lib.comparator.CompareException;
+import com.mbfc.wordleclone.lib.comparator.StringComparator;
+import com.mbfc.wordleclone.lib.game.GameBoard;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+/** Test suite for {@link CandidateSet}. */
+public class CandidateSetTest {
+  private static final List<String> WORDS =
+      List.of("crane", "crate", "slate", "trace", "cat", "grace", "brace");
+  private final StringComparator comparator = new StringComparator();
+
+  /** Test that a new set holds only the words of the given length. */
+  @Test
+  void constructor_mixedLengths_keepsWordsOfLength() {
+    // given
+
+    // when
+    CandidateSet candidates = new CandidateSet(WORDS, comparator, 5);
+
+    // then
+    assertEquals(
+        List.of("crane", "crate", "slate", "trace", "grace", "brace"), candidates.asList());
+    assertTrue(candidates.isInitial());
+  }
+
+  /** Test that update keeps exactly the words consistent with the guesses on the board. */
+  @Test
+  void update_boardWithGuesses_keepsConsistentWords() throws CompareException {
+    // given
+    CandidateSet candidates = new CandidateSet(WORDS, comparator, 5);
+    GameBoard<String> board = new GameBoard<>(String.class);
+    board.add(comparator.compare("crane", "grace"), "crane");
+
+    // when
+    int size = candidates.update(board);
+
+    // then
+    assertEquals(3, size);
+    assertEquals(List.of("trace", "grace", "brace"), candidates.asList());
+    assertFalse(candidates.isInitial());
+  }
+
+  /** Test that only guesses added since the last update are applied. */
+  @Test
+  void update_newGuess_appliesOnlyNewGuess() throws CompareException {
+    // given
+    CandidateSet candidates = new CandidateSet(WORDS, comparator, 5);
+    GameBoard<String> board = new GameBoard<>(String.class);
+    board.add(comparator.compare("crane", "grace"), "crane");
+    candidates.update(board);
+    board.add(comparator.compare("grace", "grace"), "grace");
+
+    // when
+    int size = candidates.update(board);
+
+    // then
+    assertEquals(1, size);
+    assertEquals("grace", candidates.get(0));
+  }
+
+  /** Test that a different board starts the set over from all words. */
+  @Test
+  void update_differentBoard_resetsCandidates() throws CompareException {
+    // given
+    CandidateSet candidates = new CandidateSet(WORDS, comparator, 5);
+    GameBoard<String> board = new GameBoard<>(String.class);
+    board.add(comparator.compare("crane", "grace"), "crane");
+    candidates.update(board);
+
+    // when
+    int size = candidates.update(new GameBoard<>(String.class));
+
+    // then
+    assertEquals(6, size);
+    assertTrue(candidates.isInitial());
+  }
+
+  /** Test that update compares results too long to be packed as lists. */
+  @Test
+  void update_resultsLongerThanPackedLength_keepsConsistentWords() throws CompareException {
+    // given
+    int length = StringComparator.MAX_PACKED_LENGTH + 1;
+    String target = "a".repeat(length);
+    String other = "b".repeat(length);
+    CandidateSet candidates = new CandidateSet(List.of(target, other), comparator, length);
+    GameBoard<String> board = new GameBoard<>(String.class);
+    board.add(comparator.compare(other, target), other);
+
+    // when
+    int size = candidates.update(board);
+
+    // then
+    assertEquals(1, size);
+    assertEquals(List.of(target), candidates.asList());
+  }
+}
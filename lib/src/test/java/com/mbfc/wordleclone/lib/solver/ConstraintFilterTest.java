@@ -0,0 +1,146 @@
+package com.mbfc.wordleclone.lib.solver;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+
+import com.mbfc.wordleclone.lib.comparator.ComparatorResult;
+import com.mbfc.wordleclone.lib.comparator.CompareException;
+import com.mbfc.wordleclone.lib.comparator.ObjectComparator;
+import com.mbfc.wordleclone.lib.dataset.ObjectDataset;
+import com.mbfc.wordleclone.lib.json.DoubleField;
+import com.mbfc.wordleclone.lib.json.Field;
+import com.mbfc.wordleclone.lib.json.SetField;
+import com.mbfc.wordleclone.lib.json.StringField;
+import com.mbfc.wordleclone.lib.parser.JsonParser;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.Test;
+
+/** Test suite for {@link ConstraintFilter}. */
+public class ConstraintFilterTest {
+  private static final Path BUNDLED_LISTS = Path.of("..", "cli", "src", "main", "resources");
+  private final ObjectComparator comparator = new ObjectComparator();
+
+  /** Test that the filter keeps the same records as comparing every record with every guess. */
+  @Test
+  void apply_bundledJsonFiles_sameAsComparingAllRecords() throws IOException, CompareException {
+    // given
+    List<Path> files;
+    try (Stream<Path> paths = Files.list(BUNDLED_LISTS)) {
+      files = paths.filter(x -> x.toString().endsWith(".json")).sorted().toList();
+    }
+
+    // when
+
+    // then
+    assertFalse(files.isEmpty());
+    for (Path file : files) {
+      List<TreeMap<String, Field>> records = new JsonParser().parseFile(file.toString()).right();
+      ObjectDataset dataset = assertInstanceOf(ObjectDataset.class, records);
+      ConstraintFilter filter = ConstraintFilter.compile(dataset);
+
+      for (int t = 0; t < records.size(); t += 3) {
+        TreeMap<String, Field> target = records.get(t);
+        List<TreeMap<String, Field>> guesses = new ArrayList<>();
+        filter.reset();
+
+        for (int g = t % 7; g < records.size() && guesses.size() < 4; g += 5) {
+          TreeMap<String, Field> guess = records.get(g);
+          guesses.add(guess);
+          filter.apply(comparator.compare(guess, target), guess);
+
+          assertEquals(
+              consistent(records, guesses, target),
+              filter.asList(),
+              file.getFileName() + ": " + guesses + " for " + target);
+        }
+      }
+    }
+  }
+
+  /** Test that signed zeros, NaN and empty sets are filtered as the comparator compares them. */
+  @Test
+  void apply_edgeValues_sameAsComparingAllRecords() throws CompareException {
+    // given
+    List<TreeMap<String, Field>> records =
+        List.of(
+            record("a", 0.0),
+            record("b", -0.0),
+            record("c", Double.NaN),
+            record("d", 1.0, "x"),
+            record("e", -1.0, "x", "y"),
+            record("f", 0.0, "y"));
+    ObjectDataset dataset =
+        new ObjectDataset(
+            "name", Map.of("name", "string", "value", "double", "tags", "set"), records);
+    ConstraintFilter filter = ConstraintFilter.compile(dataset);
+
+    // when
+
+    // then
+    for (TreeMap<String, Field> target : records) {
+      for (TreeMap<String, Field> guess : records) {
+        filter.reset();
+        filter.apply(comparator.compare(guess, target), guess);
+
+        assertEquals(
+            consistent(records, List.of(guess), target), filter.asList(), guess + " for " + target);
+      }
+    }
+  }
+
+  /** Test that guesses outside of the dataset don't change the candidates. */
+  @Test
+  void apply_guessOutsideDataset_keepsCandidates() throws CompareException {
+    // given
+    List<TreeMap<String, Field>> records = List.of(record("a", 1.0), record("b", 2.0));
+    ObjectDataset dataset =
+        new ObjectDataset(
+            "name", Map.of("name", "string", "value", "double", "tags", "set"), records);
+    ConstraintFilter filter = ConstraintFilter.compile(dataset);
+    TreeMap<String, Field> guess = record("z", 3.0);
+
+    // when
+    filter.apply(List.of(ComparatorResult.INCORRECT), guess);
+
+    // then
+    assertEquals(2, filter.remaining());
+  }
+
+  private List<TreeMap<String, Field>> consistent(
+      List<TreeMap<String, Field>> records,
+      List<TreeMap<String, Field>> guesses,
+      TreeMap<String, Field> target)
+      throws CompareException {
+    List<TreeMap<String, Field>> result = new ArrayList<>();
+
+    for (TreeMap<String, Field> candidate : records) {
+      boolean matches = true;
+      for (TreeMap<String, Field> guess : guesses) {
+        matches &= comparator.compare(guess, candidate).equals(comparator.compare(guess, target));
+      }
+      if (matches) {
+        result.add(candidate);
+      }
+    }
+
+    return result;
+  }
+
+  private static TreeMap<String, Field> record(String name, double value, String... tags) {
+    TreeMap<String, Field> record = new TreeMap<>();
+    record.put("name", new StringField(name));
+    record.put("value", new DoubleField(value));
+    record.put("tags", new SetField(new HashSet<>(List.of(tags))));
+
+    return record;
+  }
+}
@@ -0,0 +1,117 @@
+package com.mbfc.wordleclone.lib.solver;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.mbfc.wordleclone.lib.comparator.CompareException;
+import com.mbfc.wordleclone.lib.comparator.FeedbackMatrix;
+import com.mbfc.wordleclone.lib.comparator.StringComparator;
+import com.mbfc.wordleclone.lib.game.GameBoard;
+import java.util.List;
+import java.util.Optional;
+import org.junit.jupiter.api.Test;
+
+/** Test suite for {@link EntropySolver}. */
+public class EntropySolverTest {
+  private static final List<String> WORDS =
+      List.of("aaaa", "bbbb", "cccc", "dddd", "abcd", "aabb", "ccdd", "abab");
+  private final StringComparator comparator = new StringComparator();
+
+  /** Test that entropy is zero for a single target and grows with the number of groups. */
+  @Test
+  void entropy_distinctResults_returnsBits() throws CompareException {
+    // given
+    EntropySolver solver = new EntropySolver(WORDS, comparator);
+
+    // when
+    double single = solver.entropy("aaaa", List.of("bbbb"));
+    double split = solver.entropy("abcd", List.of("aaaa", "bbbb", "cccc", "dddd"));
+
+    // then
+    assertEquals(0.0, single, 1e-9);
+    assertEquals(2.0, split, 1e-9);
+  }
+
+  /** Test that the guess splitting the candidates the most is recommended. */
+  @Test
+  void suggest_initialCandidates_returnsMostInformativeGuess() throws CompareException {
+    // given
+    List<String> words = List.of("aaaa", "bbbb", "cccc", "dddd", "abcd");
+    EntropySolver solver = new EntropySolver(words, comparator);
+
+    // when
+    Optional<String> guess = solver.suggest(new GameBoard<>(String.class), 4);
+
+    // then
+    assertEquals(Optional.of("abcd"), guess);
+  }
+
+  /** Test that the remaining candidate is recommended once the target is known. */
+  @Test
+  void suggest_singleCandidate_returnsTarget() throws CompareException {
+    // given
+    EntropySolver solver = new EntropySolver(WORDS, comparator);
+    GameBoard<String> board = new GameBoard<>(String.class);
+    board.add(comparator.compare("abcd", "ccdd"), "abcd");
+    board.add(comparator.compare("aabb", "ccdd"), "aabb");
+
+    // when
+    Optional<String> guess = solver.suggest(board, 4);
+
+    // then
+    assertEquals(Optional.of("ccdd"), guess);
+    assertEquals(1, solver.getCandidates().size());
+  }
+
+  /** Test that the candidates of the filter attached to the board are used. */
+  @Test
+  void suggest_boardWithFilter_usesFilterCandidates() throws CompareException {
+    // given
+    EntropySolver solver = new EntropySolver(WORDS, comparator);
+    WordCandidateFilter filter = new WordCandidateFilter(WORDS, comparator);
+    GameBoard<String> board = new GameBoard<>(String.class);
+    board.setFilter(filter);
+    board.add(comparator.compare("abcd", "ccdd"), "abcd");
+
+    // when
+    Optional<String> guess = solver.suggest(board, 4);
+
+    // then
+    assertTrue(guess.isPresent());
+    assertSame(filter.getCandidates(), solver.getCandidates());
+  }
+
+  /** Test that no guess is recommended when no word fits the results. */
+  @Test
+  void suggest_noCandidates_returnsEmpty() throws CompareException {
+    // given
+    EntropySolver solver = new EntropySolver(WORDS, comparator);
+    GameBoard<String> board = new GameBoard<>(String.class);
+    board.add(comparator.compare("abcd", "zzzz"), "abcd");
+
+    // when
+    Optional<String> guess = solver.suggest(board, 4);
+
+    // then
+    assertTrue(guess.isEmpty());
+  }
+
+  /** Test that a feedback matrix and the string comparator recommend the same guesses. */
+  @Test
+  void suggest_feedbackMatrix_matchesStringComparator() throws CompareException {
+    // given
+    EntropySolver direct = new EntropySolver(WORDS, comparator);
+    EntropySolver matrix = new EntropySolver(WORDS, FeedbackMatrix.build(WORDS));
+    GameBoard<String> board = new GameBoard<>(String.class);
+    board.add(comparator.compare("aabb", "abab"), "aabb");
+
+    // when
+    Optional<String> expected = direct.suggest(board, 4);
+    Optional<String> actual = matrix.suggest(board, 4);
+
+    // then
+    assertTrue(expected.isPresent());
+    assertEquals(expected, actual);
+  }
+}
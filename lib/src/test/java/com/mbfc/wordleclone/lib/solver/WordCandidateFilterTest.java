@@ -0,0 +1,96 @@
+package com.mbfc.wordleclone.lib.solver;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.mbfc.wordleclone.lib.comparator.CompareException;
+import com.mbfc.wordleclone.lib.comparator.FeedbackMatrix;
+import com.mbfc.wordleclone.lib.comparator.StringComparator;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+/** Test suite for {@link WordCandidateFilter}. */
+public class WordCandidateFilterTest {
+  private static final List<String> WORDS =
+      List.of("crane", "crate", "slate", "trace", "cat", "grace", "brace");
+  private final StringComparator comparator = new StringComparator();
+
+  /** Test that a guess keeps only the words that would give the same result. */
+  @Test
+  void apply_guess_keepsConsistentWords() throws CompareException {
+    // given
+    WordCandidateFilter filter = new WordCandidateFilter(WORDS, comparator);
+
+    // when
+    filter.apply(comparator.compare("crane", "grace"), "crane");
+
+    // then
+    assertEquals(3, filter.remaining());
+    assertTrue(filter.isCandidate(WORDS.indexOf("trace")));
+    assertTrue(filter.isCandidate(WORDS.indexOf("grace")));
+    assertTrue(filter.isCandidate(WORDS.indexOf("brace")));
+    assertFalse(filter.isCandidate(WORDS.indexOf("cat")));
+  }
+
+  /** Test that every guess narrows down the words left by the previous ones. */
+  @Test
+  void apply_consecutiveGuesses_narrowsDown() throws CompareException {
+    // given
+    WordCandidateFilter filter = new WordCandidateFilter(WORDS, comparator);
+    filter.apply(comparator.compare("crane", "grace"), "crane");
+
+    // when
+    filter.apply(comparator.compare("trace", "grace"), "trace");
+
+    // then
+    assertEquals(2, filter.remaining());
+    assertFalse(filter.isCandidate(WORDS.indexOf("trace")));
+  }
+
+  /** Test that a feedback matrix filters the same words as the string comparator. */
+  @Test
+  void apply_feedbackMatrix_matchesStringComparator() throws CompareException {
+    // given
+    List<String> words = List.of("crane", "crate", "slate", "trace", "grace", "brace");
+    WordCandidateFilter direct = new WordCandidateFilter(words, comparator);
+    WordCandidateFilter matrix = new WordCandidateFilter(words, FeedbackMatrix.build(words));
+
+    // when
+    direct.apply(comparator.compare("slate", "crate"), "slate");
+    matrix.apply(comparator.compare("slate", "crate"), "slate");
+
+    // then
+    for (int i = 0; i < words.size(); i++) {
+      assertEquals(direct.isCandidate(i), matrix.isCandidate(i));
+    }
+  }
+
+  /** Test that a guess of another length than the earlier ones leaves no candidates. */
+  @Test
+  void apply_guessOfOtherLength_removesAllWords() throws CompareException {
+    // given
+    WordCandidateFilter filter = new WordCandidateFilter(WORDS, comparator);
+    filter.apply(comparator.compare("crane", "grace"), "crane");
+
+    // when
+    filter.apply(comparator.compare("cat", "cat"), "cat");
+
+    // then
+    assertEquals(0, filter.remaining());
+  }
+
+  /** Test that reset restores all words. */
+  @Test
+  void reset_afterGuess_restoresAllWords() throws CompareException {
+    // given
+    WordCandidateFilter filter = new WordCandidateFilter(WORDS, comparator);
+    filter.apply(comparator.compare("crane", "grace"), "crane");
+
+    // when
+    filter.reset();
+
+    // then
+    assertEquals(WORDS.size(), filter.remaining());
+  }
+}
@@ -0,0 +1,160 @@
+package com.mbfc.wordleclone.lib.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/** Test suite for {@link HighScoreStore}. */
+public class HighScoreStoreTest {
+  @TempDir Path tempDir;
+
+  /** Test that updates are kept in memory until the batch is full. */
+  @Test
+  void updateHighScore_batchNotFull_writesNothing() throws IOException {
+    // given
+    Path file = tempDir.resolve("scores.txt");
+    HighScoreStore store = new HighScoreStore(file, 3, Duration.ofHours(1));
+
+    // when
+    store.updateHighScore("endless", "alice", 1);
+    store.updateHighScore("endless", "alice", 2);
+
+    // then
+    assertEquals(2, store.getHighScore("endless", "alice"));
+    assertFalse(Files.exists(file));
+
+    store.updateHighScore("endless", "bob", 4);
+    assertTrue(Files.exists(file));
+    assertEquals(4, new HighScoreStore(file).getHighScore("endless", "bob"));
+  }
+
+  /** Test that a lower score doesn't replace the high score. */
+  @Test
+  void updateHighScore_lowerScore_returnsFalse() {
+    // given
+    HighScoreStore store = new HighScoreStore(tempDir.resolve("scores.txt"));
+    store.updateHighScore("endless", "alice", 5);
+
+    // when
+    boolean updated = store.updateHighScore("endless", "alice", 3);
+
+    // then
+    assertFalse(updated);
+    assertEquals(5, store.getHighScore("endless", "alice"));
+    assertEquals(0, store.getHighScore("random", "alice"));
+  }
+
+  /** Test that flushing keeps the scores written by another store of the same file. */
+  @Test
+  void flush_twoStores_mergesHigherScores() throws IOException {
+    // given
+    Path file = tempDir.resolve("scores.txt");
+    HighScoreStore first = new HighScoreStore(file);
+    HighScoreStore second = new HighScoreStore(file);
+
+    // when
+    first.updateHighScore("endless", "alice", 5);
+    second.updateHighScore("endless", "alice", 3);
+    second.updateHighScore("endless", "bob", 7);
+    first.flush();
+    second.close();
+
+    // then
+    HighScoreStore reloaded = new HighScoreStore(file);
+    assertEquals(5, reloaded.getHighScore("endless", "alice"));
+    assertEquals(7, reloaded.getHighScore("endless", "bob"));
+    assertEquals(5, second.getHighScore("endless", "alice"));
+  }
+
+  /** Test that stores flushing from many threads don't lose any score. */
+  @Test
+  void flush_concurrentStores_keepsAllScores() throws Exception {
+    // given
+    Path file = tempDir.resolve("scores.txt");
+    ExecutorService executor = Executors.newFixedThreadPool(4);
+    List<Future<?>> futures = new ArrayList<>();
+
+    // when
+    for (int t = 0; t < 4; t++) {
+      String player = "player" + t;
+      futures.add(
+          executor.submit(
+              () -> {
+                HighScoreStore store = new HighScoreStore(file, 1, Duration.ofHours(1));
+                for (int score = 1; score <= 20; score++) {
+                  store.updateHighScore("endless", player, score);
+                }
+                return null;
+              }));
+    }
+    for (Future<?> future : futures) {
+      future.get();
+    }
+    executor.shutdown();
+
+    // then
+    HighScoreStore reloaded = new HighScoreStore(file);
+    for (int t = 0; t < 4; t++) {
+      assertEquals(20, reloaded.getHighScore("endless", "player" + t));
+    }
+  }
+
+  /** Test that no temporary files are left next to the store after writing. */
+  @Test
+  void flush_pendingScores_leavesOnlyStoreFiles() throws IOException {
+    // given
+    HighScoreStore store = new HighScoreStore(tempDir.resolve("scores.txt"));
+    store.updateHighScore("endless", "alice", 5);
+
+    // when
+    store.flush();
+
+    // then
+    try (Stream<Path> files = Files.list(tempDir)) {
+      assertEquals(
+          List.of("scores.txt", "scores.txt.lock"),
+          files.map(path -> path.getFileName().toString()).sorted().toList());
+    }
+  }
+
+  /** Test that damaged lines of the file are skipped. */
+  @Test
+  void constructor_damagedLines_readsValidScores() throws IOException {
+    // given
+    Path file = tempDir.resolve("scores.txt");
+    Files.writeString(file, "endless\talice\t5\ngarbage\nendless\tbob\tx\nendless\tbob\t");
+
+    // when
+    HighScoreStore store = new HighScoreStore(file);
+
+    // then
+    assertEquals(5, store.getHighScore("endless", "alice"));
+    assertEquals(0, store.getHighScore("endless", "bob"));
+  }
+
+  /** Test that names which would break the format of the file are rejected. */
+  @Test
+  void updateHighScore_tabInName_throwsException() {
+    // given
+    HighScoreStore store = new HighScoreStore(tempDir.resolve("scores.txt"));
+
+    // when
+
+    // then
+    assertThrows(IllegalArgumentException.class, () -> store.updateHighScore("endless", "a\tb", 1));
+  }
+}
@@ -1,8 +1,10 @@
 package com.mbfc.wordleclone.lib.util;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.util.random.RandomGenerator.SplittableGenerator;
 import org.junit.jupiter.api.Test;
 
 /** Test suite for {@link RandomGen}. */
@@ -61,4 +63,47 @@ public class RandomGenTest {
       assertTrue(letters.indexOf(c) >= 0);
     }
   }
+
+  /** Test that generators with the same seed generate the same strings. */
+  @Test
+  void generate_sameSeed_sameString() {
+    // given
+    SplittableGenerator first = RandomGen.seeded(42);
+    SplittableGenerator second = RandomGen.seeded(42);
+
+    // when
+    String generated = RandomGen.generate(20, first);
+
+    // then
+    assertEquals(generated, RandomGen.generate(20, second));
+  }
+
+  /** Test that generators split from the same seed are deterministic but differ from each other. */
+  @Test
+  void seeded_split_deterministicAndIndependent() {
+    // given
+    SplittableGenerator first = RandomGen.seeded(7);
+    SplittableGenerator second = RandomGen.seeded(7);
+
+    // when
+    SplittableGenerator firstSplit = first.split();
+    SplittableGenerator secondSplit = second.split();
+
+    // then
+    assertEquals(firstSplit.nextLong(), secondSplit.nextLong());
+    assertNotEquals(first.nextLong(), firstSplit.nextLong());
+  }
+
+  /** Test that generators split from the root generator are different. */
+  @Test
+  void split_twice_differentSequences() {
+    // given
+    SplittableGenerator first = RandomGen.split();
+
+    // when
+    SplittableGenerator second = RandomGen.split();
+
+    // then
+    assertNotEquals(RandomGen.generate(20, first), RandomGen.generate(20, second));
+  }
 }
@@ -0,0 +1,56 @@
+package com.mbfc.wordleclone.lib.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.SplittableRandom;
+import org.junit.jupiter.api.Test;
+
+/** Test suite for {@link SeededRandom}. */
+public class SeededRandomTest {
+
+  /** Test that the generator produces the sequence of a {@link SplittableRandom}. */
+  @Test
+  void nextLong_sameSeed_sameAsSplittableRandom() {
+    // given
+    SeededRandom random = new SeededRandom(42);
+    SplittableRandom expected = new SplittableRandom(42);
+
+    // when
+    // then
+    for (int i = 0; i < 100; i++) {
+      assertEquals(expected.nextLong(), random.nextLong());
+    }
+    assertEquals(100, random.getCount());
+  }
+
+  /** Test that a generator moved to a position continues the sequence from there. */
+  @Test
+  void seek_savedPosition_sameValues() {
+    // given
+    SeededRandom random = new SeededRandom(7);
+    for (int i = 0; i < 10; i++) {
+      random.nextInt(100);
+    }
+    SeededRandom moved = new SeededRandom(random.getSeed());
+
+    // when
+    moved.seek(random.getCount());
+
+    // then
+    for (int i = 0; i < 10; i++) {
+      assertEquals(random.nextInt(1000), moved.nextInt(1000));
+    }
+  }
+
+  /** Test that a generator cannot be moved before the start of its sequence. */
+  @Test
+  void seek_negativeCount_throwsException() {
+    // given
+    SeededRandom random = new SeededRandom(7);
+
+    // when
+    // then
+    assertThrows(IllegalArgumentException.class, () -> random.seek(-1));
+  }
+}
@@ -0,0 +1,221 @@
+package com.mbfc.wordleclone.server;
+
+import com.mbfc.wordleclone.lib.event.GameEventSink;
+import com.mbfc.wordleclone.lib.leaderboard.Leaderboard;
+import java.io.Closeable;
+import java.io.IOException;
+import java.lang.reflect.Method;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.net.SocketException;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A TCP server hosting games for many players at once.
+ *
+ * <p>Every connection is served by its own {@link Session}, which blocks on the socket while the
+ * player thinks. On Java 21 and newer, sessions run on virtual threads, so an idle session only
+ * costs its game and a few small buffers, and tens of thousands of them fit on a single machine.
+ * The project targets Java 17, so the virtual thread executor is looked up reflectively, and older
+ * runtimes fall back to a cached pool of platform threads with small stacks.
+ *
+ * <p>All sessions share the same {@link WordLists}, and the same {@link Leaderboard} if the server
+ * has one, and emit the events of their games to the same {@link GameEventSink}, if it's set. The
+ * protocol is described in {@link Session}.
+ */
+public class GameServer implements Closeable {
+
+  /** Maximum number of pending connections. */
+  public static final int BACKLOG = 4096;
+
+  /** Stack size of the platform threads, used when virtual threads are not available. */
+  private static final long PLATFORM_STACK_SIZE = 256 * 1024;
+
+  private final WordLists lists;
+  private final Leaderboard leaderboard;
+  private final ServerSocket serverSocket;
+  private final ExecutorService sessions;
+  private final boolean virtualThreads;
+  private final Set<Socket> connections = ConcurrentHashMap.newKeySet();
+  private final Thread acceptor;
+  private volatile GameEventSink eventSink;
+
+  /**
+   * Creates a server listening on the given port of all interfaces.
+   *
+   * @param lists the lists shared by all of the games
+   * @param port the port to listen on, or {@code 0} to use any free port
+   * @throws IOException if the port cannot be bound
+   */
+  public GameServer(WordLists lists, int port) throws IOException {
+    this(lists, port, null);
+  }
+
+  /**
+   * Creates a server listening on the given port and address.
+   *
+   * @param lists the lists shared by all of the games
+   * @param port the port to listen on, or {@code 0} to use any free port
+   * @param address the address to listen on, or {@code null} to listen on all interfaces
+   * @throws IOException if the port cannot be bound
+   */
+  public GameServer(WordLists lists, int port, InetAddress address) throws IOException {
+    this(lists, port, address, null);
+  }
+
+  /**
+   * Creates a server listening on the given port and address, which ranks the endless games.
+   *
+   * @param lists the lists shared by all of the games
+   * @param port the port to listen on, or {@code 0} to use any free port
+   * @param address the address to listen on, or {@code null} to listen on all interfaces
+   * @param leaderboard the leaderboard of the final scores of endless games, or {@code null} to
+   *     disable it; it's not closed by the server
+   * @throws IOException if the port cannot be bound
+   */
+  public GameServer(WordLists lists, int port, InetAddress address, Leaderboard leaderboard)
+      throws IOException {
+    this.lists = lists;
+    this.leaderboard = leaderboard;
+    this.serverSocket = new ServerSocket(port, BACKLOG, address);
+
+    ExecutorService virtual = newVirtualThreadExecutor();
+    this.virtualThreads = virtual != null;
+    this.sessions = virtual != null ? virtual : newPlatformThreadExecutor();
+    this.acceptor = new Thread(this::acceptLoop, "wordle-server-acceptor");
+  }
+
+  /** Starts accepting connections in the background. */
+  public void start() {
+    acceptor.start();
+  }
+
+  /**
+   * Waits until the server is closed.
+   *
+   * @throws InterruptedException if the thread is interrupted while waiting
+   */
+  public void join() throws InterruptedException {
+    acceptor.join();
+  }
+
+  /**
+   * Sets the sink of the events of the games started after this call.
+   *
+   * @param eventSink the shared sink, or {@code null} to stop emitting events; it's not closed by
+   *     the server
+   */
+  public void setEventSink(GameEventSink eventSink) {
+    this.eventSink = eventSink;
+  }
+
+  public int getPort() {
+    return serverSocket.getLocalPort();
+  }
+
+  /**
+   * Returns the number of connected players.
+   *
+   * @return the number of open sessions
+   */
+  public int getSessionCount() {
+    return connections.size();
+  }
+
+  /**
+   * Checks if the sessions run on virtual threads.
+   *
+   * @return {@code true} on Java 21 and newer, {@code false} otherwise
+   */
+  public boolean usesVirtualThreads() {
+    return virtualThreads;
+  }
+
+  /**
+   * Stops accepting connections and disconnects all players.
+   *
+   * @throws IOException if the server socket cannot be closed
+   */
+  @Override
+  public void close() throws IOException {
+    serverSocket.close();
+
+    for (Socket socket : connections) {
+      try {
+        socket.close();
+      } catch (IOException ignore) {
+        // The session ends either way.
+      }
+    }
+
+    sessions.shutdown();
+    try {
+      sessions.awaitTermination(5, TimeUnit.SECONDS);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  private void acceptLoop() {
+    while (!serverSocket.isClosed()) {
+      Socket socket;
+      try {
+        socket = serverSocket.accept();
+        socket.setTcpNoDelay(true);
+      } catch (SocketException e) {
+        // The server socket was closed.
+        break;
+      } catch (IOException e) {
+        continue;
+      }
+
+      connections.add(socket);
+      try {
+        sessions.execute(() -> serve(socket));
+      } catch (RejectedExecutionException e) {
+        disconnect(socket);
+      }
+    }
+  }
+
+  private void serve(Socket socket) {
+    try {
+      new Session(socket, lists, leaderboard, eventSink).run();
+    } finally {
+      disconnect(socket);
+    }
+  }
+
+  private void disconnect(Socket socket) {
+    connections.remove(socket);
+    try {
+      socket.close();
+    } catch (IOException ignore) {
+      // Already closed.
+    }
+  }
+
+  private static ExecutorService newVirtualThreadExecutor() {
+    try {
+      Method factory = Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+      return (ExecutorService) factory.invoke(null);
+    } catch (ReflectiveOperationException e) {
+      return null;
+    }
+  }
+
+  private static ExecutorService newPlatformThreadExecutor() {
+    return Executors.newCachedThreadPool(
+        runnable -> {
+          Thread thread = new Thread(null, runnable, "wordle-session", PLATFORM_STACK_SIZE);
+          thread.setDaemon(true);
+          return thread;
+        });
+  }
+}
@@ -0,0 +1,59 @@
+package com.mbfc.wordleclone.server;
+
+import com.mbfc.wordleclone.lib.event.MappedEventLog;
+import com.mbfc.wordleclone.lib.leaderboard.Leaderboard;
+import java.io.IOException;
+import java.nio.file.Path;
+
+/**
+ * Game server entry point.
+ *
+ * <p>This class loads the bundled word lists and serves games on the port given as the first
+ * argument, {@value #DEFAULT_PORT} by default. The final scores of endless games are ranked on a
+ * leaderboard persisted in the log given as the second argument, {@value #DEFAULT_LEADERBOARD} by
+ * default. If a directory is given as the third argument, the events of all of the games are logged
+ * to a {@link MappedEventLog} in it.
+ */
+public class ServerApp {
+
+  /** The port the server listens on if none is given. */
+  public static final int DEFAULT_PORT = 4747;
+
+  /** The log of the leaderboard if none is given. */
+  public static final String DEFAULT_LEADERBOARD = "leaderboard.log";
+
+  /** Maximum number of players kept on the leaderboard of every mode. */
+  public static final int LEADERBOARD_CAPACITY = 100_000;
+
+  /** Program entry point. */
+  public static void main(String[] args) throws IOException, InterruptedException {
+    int port = args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_PORT;
+    Path log = Path.of(args.length > 1 ? args[1] : DEFAULT_LEADERBOARD);
+
+    Leaderboard leaderboard = new Leaderboard(log, LEADERBOARD_CAPACITY);
+    MappedEventLog events = args.length > 2 ? new MappedEventLog(Path.of(args[2])) : null;
+    GameServer server = new GameServer(WordLists.loadDefaults(), port, null, leaderboard);
+    server.setEventSink(events);
+    Runtime.getRuntime()
+        .addShutdownHook(
+            new Thread(
+                () -> {
+                  try {
+                    server.close();
+                    leaderboard.close();
+                    if (events != null) {
+                      events.close();
+                    }
+                  } catch (IOException ignore) {
+                    // The process is exiting anyway.
+                  }
+                }));
+
+    server.start();
+    System.out.println(
+        "Listening on port "
+            + server.getPort()
+            + (server.usesVirtualThreads() ? " (virtual threads)" : " (platform threads)"));
+    server.join();
+  }
+}
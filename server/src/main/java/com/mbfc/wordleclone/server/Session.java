@@ -0,0 +1,594 @@
+package com.mbfc.wordleclone.server;
+
+import com.mbfc.wordleclone.lib.comparator.Comparator;
+import com.mbfc.wordleclone.lib.comparator.ComparatorResult;
+import com.mbfc.wordleclone.lib.comparator.CompareException;
+import com.mbfc.wordleclone.lib.comparator.StringComparator;
+import com.mbfc.wordleclone.lib.event.GameEventSink;
+import com.mbfc.wordleclone.lib.game.DailyGame;
+import com.mbfc.wordleclone.lib.game.DailyObjectGame;
+import com.mbfc.wordleclone.lib.game.EndlessGame;
+import com.mbfc.wordleclone.lib.game.EndlessRandomGame;
+import com.mbfc.wordleclone.lib.game.Game;
+import com.mbfc.wordleclone.lib.game.GameException;
+import com.mbfc.wordleclone.lib.game.GameMode;
+import com.mbfc.wordleclone.lib.game.GameSnapshot;
+import com.mbfc.wordleclone.lib.game.ObjectEndlessGame;
+import com.mbfc.wordleclone.lib.game.ObjectGameMode;
+import com.mbfc.wordleclone.lib.game.RandomGame;
+import com.mbfc.wordleclone.lib.game.SimpleEndlessGame;
+import com.mbfc.wordleclone.lib.game.SimpleGame;
+import com.mbfc.wordleclone.lib.game.SimpleObjectGame;
+import com.mbfc.wordleclone.lib.game.ZenGame;
+import com.mbfc.wordleclone.lib.game.ZenObjectGame;
+import com.mbfc.wordleclone.lib.game.ZenRandomGame;
+import com.mbfc.wordleclone.lib.json.Field;
+import com.mbfc.wordleclone.lib.leaderboard.Leaderboard;
+import com.mbfc.wordleclone.lib.leaderboard.LeaderboardEntry;
+import com.mbfc.wordleclone.lib.util.Pair;
+import com.mbfc.wordleclone.lib.util.RandomGen;
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.TreeMap;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import java.util.random.RandomGenerator.SplittableGenerator;
+
+/**
+ * A single player connected to the {@link GameServer}.
+ *
+ * <p>The session reads commands from the socket, one per line, and answers each of them with a
+ * single line. Lines are encoded in UTF-8. The server greets the client with {@code HELLO
+ * wordle-clone}, then the following commands are accepted:
+ *
+ * <ul>
+ *   <li>{@code LISTS} - answers {@code LISTS <name>...} with the names of the hosted lists.
+ *   <li>{@code NEW <mode> [list=<name>] [tries=<n>] [bonus=<n>] [length=<n>] [seed=<n>]} - starts a
+ *       new game and answers {@code OK <tries left>}. The mode is a {@link GameMode} name, e.g.
+ *       {@code SIMPLE} or {@code ENDLESS_RANDOM}, or an {@link ObjectGameMode} name prefixed with
+ *       {@code OBJECT_}, e.g. {@code OBJECT_SIMPLE}. The defaults are the ones of the interactive
+ *       menu. Games started with the same seed and options select the same targets. The {@code
+ *       DAILY} modes ignore the seed: every player gets the same target on the same day, in UTC.
+ *   <li>{@code GUESS <guess>} - plays the guess and answers {@code RESULT <codes> <state>}.
+ *   <li>{@code NAME <player>} - sets the name under which the final scores of endless games are
+ *       recorded on the leaderboard, and answers {@code OK}. Only games with the default list and
+ *       options are ranked, so that all of the scores of a board are comparable.
+ *   <li>{@code TOP <board> [count]} - answers {@code TOP <player>:<score>...} with the best scores
+ *       of the board, 10 by default. Boards are named like the modes of {@code NEW}.
+ *   <li>{@code RANK <board>} - answers {@code RANK <rank> <score> <percentile>} for the player.
+ *   <li>{@code SAVE} - answers {@code SNAPSHOT <token>} with the state of the current game, encoded
+ *       as URL-safe base64. The token can be restored by any server hosting the same lists.
+ *   <li>{@code RESTORE <token>} - continues a saved game and answers {@code OK <tries left>}. The
+ *       tokens are not signed, so the final scores of restored games are not recorded on the
+ *       leaderboard. Neither are the scores of games started with a seed, since their targets are
+ *       known in advance.
+ *   <li>{@code QUIT} - answers {@code BYE} and closes the connection.
+ * </ul>
+ *
+ * <p>The codes of a result have one letter per letter of the guessed word, or per field of the
+ * guessed object in the order of the field names: {@code C}orrect, {@code P}artial, {@code
+ * I}ncorrect, too {@code L}ow and too {@code H}igh. The state is one of:
+ *
+ * <ul>
+ *   <li>{@code PLAYING <tries left>} - the game goes on, zen games have {@code *} tries left and
+ *       endless games report the lives left.
+ *   <li>{@code WON <tries used>} - the game is won.
+ *   <li>{@code LOST <target>} - the game is lost.
+ *   <li>{@code ROUND <score> <lives>} - a round of an endless game is won and the next one started.
+ *   <li>{@code OVER <score> <target>} - an endless game ran out of lives.
+ * </ul>
+ *
+ * <p>Invalid commands and guesses are answered with {@code ERR <message>}, and don't end the
+ * session. The leaderboard commands are answered with an error if the server has no {@link
+ * Leaderboard}.
+ */
+final class Session implements Runnable {
+
+  /**
+   * Size of the read and write buffers of a session.
+   *
+   * <p>Commands and answers are short, so small buffers keep the memory of idle sessions low.
+   */
+  static final int BUFFER_SIZE = 512;
+
+  /**
+   * Maximum length of a command line, in characters.
+   *
+   * <p>Longer lines are skipped and answered with an error, so a client cannot make the session
+   * buffer an unbounded line. The limit leaves room for the tokens of long zen games.
+   */
+  static final int MAX_LINE_LENGTH = 1 << 16;
+
+  /** Time a client may stay silent before its session is closed, in milliseconds. */
+  static final int READ_TIMEOUT_MILLIS = 10 * 60 * 1000;
+
+  /** Maximum length of the words of the random modes. */
+  static final int MAX_LENGTH = 32;
+
+  /** Default number of tries, or lives of the endless modes. */
+  static final int DEFAULT_TRIES = 6;
+
+  /** Default number of lives won with a round of the endless modes. */
+  static final int DEFAULT_BONUS = 2;
+
+  /** Default length of the words of the random modes. */
+  static final int DEFAULT_LENGTH = 5;
+
+  /** Default list of the string modes. */
+  static final String DEFAULT_LIST = "5letters";
+
+  /** Default list of the object modes. */
+  static final String DEFAULT_OBJECT_LIST = "programming_languages";
+
+  /** Codes of the results, in the order of the {@link ComparatorResult} constants. */
+  private static final String RESULT_CODES = "CPILH";
+
+  private static final Logger LOGGER = Logger.getLogger(Session.class.getName());
+
+  private static final StringComparator STRING_COMPARATOR = new StringComparator();
+
+  /** Boards of the game types, named like the modes of {@code NEW}. */
+  private static final Map<Class<?>, String> BOARDS =
+      Map.ofEntries(
+          Map.entry(SimpleGame.class, "SIMPLE"),
+          Map.entry(SimpleEndlessGame.class, "ENDLESS"),
+          Map.entry(ZenGame.class, "ZEN_CLASSIC"),
+          Map.entry(RandomGame.class, "RANDOM"),
+          Map.entry(EndlessRandomGame.class, "ENDLESS_RANDOM"),
+          Map.entry(ZenRandomGame.class, "ZEN_RANDOM"),
+          Map.entry(DailyGame.class, "DAILY"),
+          Map.entry(SimpleObjectGame.class, "OBJECT_SIMPLE"),
+          Map.entry(ObjectEndlessGame.class, "OBJECT_ENDLESS"),
+          Map.entry(ZenObjectGame.class, "OBJECT_ZEN_CLASSIC"),
+          Map.entry(DailyObjectGame.class, "OBJECT_DAILY"));
+
+  private final Socket socket;
+  private final WordLists lists;
+  private final Leaderboard leaderboard;
+  private final GameEventSink eventSink;
+  private final SplittableGenerator random = RandomGen.split();
+  private Game<?, ?> game;
+  private String board;
+  private String list;
+  private boolean ranked;
+  private String player;
+
+  /**
+   * Creates a session for the given connection.
+   *
+   * @param socket the connected socket, closed when the session ends
+   * @param lists the shared lists the games are played on
+   * @param leaderboard the shared leaderboard, or {@code null} if scores are not recorded
+   * @param eventSink the shared sink of the events of the games, or {@code null} if they are not
+   *     emitted
+   */
+  Session(Socket socket, WordLists lists, Leaderboard leaderboard, GameEventSink eventSink) {
+    this.socket = socket;
+    this.lists = lists;
+    this.leaderboard = leaderboard;
+    this.eventSink = eventSink;
+  }
+
+  /** Serves the commands of the client until it quits or disconnects. */
+  @Override
+  public void run() {
+    try (socket;
+        BufferedReader in =
+            new BufferedReader(
+                new InputStreamReader(socket.getInputStream(), StandardCharsets.UTF_8),
+                BUFFER_SIZE);
+        Writer out =
+            new BufferedWriter(
+                new OutputStreamWriter(socket.getOutputStream(), StandardCharsets.UTF_8),
+                BUFFER_SIZE)) {
+      socket.setSoTimeout(READ_TIMEOUT_MILLIS);
+      send(out, "HELLO wordle-clone");
+
+      String line;
+      while ((line = readLine(in)) != null) {
+        String response =
+            line.length() > MAX_LINE_LENGTH
+                ? "ERR The line is longer than " + MAX_LINE_LENGTH + " characters."
+                : handle(line.trim());
+        send(out, response);
+
+        if (response.equals("BYE")) {
+          break;
+        }
+      }
+    } catch (IOException ignore) {
+      // The client has disconnected, or was silent for too long.
+    }
+  }
+
+  /**
+   * Executes a single command.
+   *
+   * @param line the command line sent by the client
+   * @return the answer line
+   */
+  String handle(String line) {
+    String[] parts = line.split("\\s+");
+
+    try {
+      return switch (parts[0].toUpperCase(Locale.ROOT)) {
+        case "LISTS" -> "LISTS " + String.join(" ", lists.names());
+        case "NEW" -> newGame(parts);
+        case "GUESS" -> guess(parts);
+        case "NAME" -> name(parts);
+        case "TOP" -> top(parts);
+        case "RANK" -> rank(parts);
+        case "SAVE" -> save();
+        case "RESTORE" -> restore(parts);
+        case "QUIT" -> "BYE";
+        default -> "ERR Unknown command: " + parts[0];
+      };
+    } catch (CompareException | GameException | IllegalArgumentException e) {
+      return "ERR " + e.getMessage();
+    } catch (NoSuchElementException e) {
+      return "ERR Cannot start the game: " + e.getMessage();
+    } catch (RuntimeException e) {
+      // the details stay on the server, they may reveal its internals
+      LOGGER.log(Level.WARNING, "Cannot execute the command: " + line, e);
+      return "ERR Cannot execute the command.";
+    }
+  }
+
+  private String newGame(String[] parts) {
+    if (parts.length < 2) {
+      throw new IllegalArgumentException("Usage: NEW <mode> [list=<name>] [tries=<n>] ...");
+    }
+
+    Map<String, String> options = new HashMap<>();
+    for (int i = 2; i < parts.length; i++) {
+      int separator = parts[i].indexOf('=');
+      if (separator < 0) {
+        throw new IllegalArgumentException("Invalid option: " + parts[i]);
+      }
+      options.put(parts[i].substring(0, separator), parts[i].substring(separator + 1));
+    }
+
+    String mode = parts[1].toUpperCase(Locale.ROOT);
+    int tries = option(options, "tries", DEFAULT_TRIES, 1, Integer.MAX_VALUE);
+    int bonus = option(options, "bonus", DEFAULT_BONUS, 0, Integer.MAX_VALUE);
+    boolean objects = mode.startsWith("OBJECT_");
+    String defaultList = objects ? DEFAULT_OBJECT_LIST : DEFAULT_LIST;
+    String name = options.getOrDefault("list", defaultList);
+    SplittableGenerator generator = generator(options);
+
+    game =
+        objects
+            ? newObjectGame(
+                objectMode(mode.substring("OBJECT_".length())), name, tries, bonus, generator)
+            : newStringGame(stringMode(mode), options, name, tries, bonus, generator);
+    game.setEventSink(eventSink);
+    board = mode;
+    list = name;
+    ranked =
+        !options.containsKey("seed")
+            && name.equals(defaultList)
+            && tries == DEFAULT_TRIES
+            && bonus == DEFAULT_BONUS
+            && !(game instanceof EndlessRandomGame endless
+                && endless.getLength() != DEFAULT_LENGTH);
+
+    return "OK " + triesLeft(game);
+  }
+
+  private Game<?, ?> newStringGame(
+      GameMode mode,
+      Map<String, String> options,
+      String name,
+      int tries,
+      int bonus,
+      SplittableGenerator generator) {
+    if (mode.name().contains("RANDOM")) {
+      int length = option(options, "length", DEFAULT_LENGTH, 1, MAX_LENGTH);
+
+      return switch (mode) {
+        case ENDLESS_RANDOM ->
+            new EndlessRandomGame(STRING_COMPARATOR, tries, bonus, length, generator);
+        case ZEN_RANDOM -> new ZenRandomGame(STRING_COMPARATOR, length, generator);
+        default -> new RandomGame(STRING_COMPARATOR, tries, length, generator);
+      };
+    }
+
+    List<String> words = words(name);
+
+    return switch (mode) {
+      case ENDLESS -> new SimpleEndlessGame(STRING_COMPARATOR, words, tries, bonus, generator);
+      case ZEN_CLASSIC -> new ZenGame(STRING_COMPARATOR, words, generator);
+      case DAILY -> new DailyGame(STRING_COMPARATOR, words, tries);
+      default -> new SimpleGame(STRING_COMPARATOR, words, tries, generator);
+    };
+  }
+
+  private Game<?, ?> newObjectGame(
+      ObjectGameMode mode, String name, int tries, int bonus, SplittableGenerator generator) {
+    Pair<String, List<TreeMap<String, Field>>> records = objects(name);
+    Comparator<TreeMap<String, Field>> comparator = lists.getObjectComparator(name);
+
+    return switch (mode) {
+      case ENDLESS ->
+          new ObjectEndlessGame(
+              comparator, records.right(), tries, bonus, records.left(), generator);
+      case ZEN_CLASSIC -> new ZenObjectGame(comparator, records.right(), records.left(), generator);
+      case DAILY -> new DailyObjectGame(comparator, records.right(), tries, records.left());
+      default ->
+          new SimpleObjectGame(comparator, records.right(), tries, records.left(), generator);
+    };
+  }
+
+  private String guess(String[] parts) throws CompareException, GameException {
+    if (game == null || game.getGameFinished()) {
+      throw new IllegalArgumentException("No game in progress, start one with NEW.");
+    } else if (parts.length < 2) {
+      throw new IllegalArgumentException("Usage: GUESS <guess>");
+    }
+
+    // object keys may contain spaces
+    String guess = String.join(" ", List.of(parts).subList(1, parts.length));
+    game.play(guess.toLowerCase(Locale.ROOT));
+
+    String codes = codes(game.getBoard().getLast().left());
+
+    if (game instanceof EndlessGame<?, ?> endless) {
+      if (endless.isRoundComplete()) {
+        endless.commitRound();
+        return "RESULT " + codes + " ROUND " + endless.getScore() + " " + endless.getLives();
+      } else if (endless.getGameFinished()) {
+        recordScore(endless.getScore());
+        return "RESULT " + codes + " OVER " + endless.getScore() + " " + endless.getTarget();
+      }
+    } else if (game.getPlayerWon()) {
+      return "RESULT " + codes + " WON " + game.getTriesUsed();
+    } else if (game.getGameFinished()) {
+      return "RESULT " + codes + " LOST " + game.getTarget();
+    }
+
+    return "RESULT " + codes + " PLAYING " + triesLeft(game);
+  }
+
+  private String save() {
+    if (game == null) {
+      throw new IllegalArgumentException("No game in progress, start one with NEW.");
+    }
+
+    byte[] header = (list + '\n').getBytes(StandardCharsets.UTF_8);
+    byte[] snapshot = GameSnapshot.save(game);
+    byte[] token = Arrays.copyOf(header, header.length + snapshot.length);
+    System.arraycopy(snapshot, 0, token, header.length, snapshot.length);
+
+    return "SNAPSHOT " + Base64.getUrlEncoder().withoutPadding().encodeToString(token);
+  }
+
+  private String restore(String[] parts) {
+    if (parts.length != 2) {
+      throw new IllegalArgumentException("Usage: RESTORE <token>");
+    }
+
+    // throws IllegalArgumentException if the token is not base64
+    byte[] token = Base64.getUrlDecoder().decode(parts[1]);
+    int listEnd = indexOf(token, 0);
+    String savedList = new String(token, 0, listEnd, StandardCharsets.UTF_8);
+    byte[] snapshot = Arrays.copyOfRange(token, listEnd + 1, token.length);
+
+    try {
+      if (GameSnapshot.isObjectGame(snapshot)) {
+        game =
+            GameSnapshot.restoreObject(
+                snapshot, lists.getObjectComparator(savedList), objects(savedList).right());
+      } else {
+        // the random games need no list, the others fail without one
+        game = GameSnapshot.restore(snapshot, STRING_COMPARATOR, lists.getWords(savedList));
+      }
+    } catch (IOException e) {
+      throw new IllegalArgumentException("Invalid snapshot: " + e.getMessage());
+    }
+    game.setEventSink(eventSink);
+    board = BOARDS.get(game.getClass());
+    list = savedList;
+    ranked = false;
+
+    return "OK " + triesLeft(game);
+  }
+
+  private String name(String[] parts) {
+    if (parts.length != 2) {
+      throw new IllegalArgumentException("Usage: NAME <player>");
+    }
+
+    player = parts[1];
+    return "OK";
+  }
+
+  private String top(String[] parts) {
+    if (parts.length < 2) {
+      throw new IllegalArgumentException("Usage: TOP <board> [count]");
+    }
+
+    int count = parts.length > 2 ? option(Map.of("count", parts[2]), "count", 10, 1, 100) : 10;
+    StringBuilder response = new StringBuilder("TOP");
+    for (LeaderboardEntry entry : leaderboard().top(parts[1].toUpperCase(Locale.ROOT), count)) {
+      response.append(' ').append(entry.player()).append(':').append(entry.score());
+    }
+
+    return response.toString();
+  }
+
+  private String rank(String[] parts) {
+    if (parts.length != 2) {
+      throw new IllegalArgumentException("Usage: RANK <board>");
+    } else if (player == null) {
+      throw new IllegalArgumentException("No player name, set one with NAME.");
+    }
+
+    String name = parts[1].toUpperCase(Locale.ROOT);
+    LeaderboardEntry entry =
+        leaderboard()
+            .standing(name, player)
+            .orElseThrow(() -> new IllegalArgumentException("Not on the leaderboard: " + name));
+    double percentile = leaderboard.percentile(name, player).orElse(0);
+
+    return String.format(Locale.ROOT, "RANK %d %d %.1f", entry.rank(), entry.score(), percentile);
+  }
+
+  private Leaderboard leaderboard() {
+    if (leaderboard == null) {
+      throw new IllegalArgumentException("The leaderboard is disabled.");
+    }
+
+    return leaderboard;
+  }
+
+  private void recordScore(int score) {
+    if (leaderboard == null || player == null || !ranked) {
+      return;
+    }
+
+    try {
+      leaderboard.record(board, player, score);
+    } catch (IOException ignore) {
+      // The game is over either way, the score is just not ranked.
+    }
+  }
+
+  private List<String> words(String name) {
+    List<String> words = lists.getWords(name);
+    if (words == null) {
+      throw new IllegalArgumentException("No word list with that name exists: " + name);
+    }
+
+    return words;
+  }
+
+  private Pair<String, List<TreeMap<String, Field>>> objects(String name) {
+    Pair<String, List<TreeMap<String, Field>>> records = lists.getObjects(name);
+    if (records == null) {
+      throw new IllegalArgumentException("No object list with that name exists: " + name);
+    }
+
+    return records;
+  }
+
+  private static int indexOf(byte[] token, int from) {
+    for (int i = from; i < token.length; i++) {
+      if (token[i] == '\n') {
+        return i;
+      }
+    }
+
+    throw new IllegalArgumentException("Invalid snapshot: the token is truncated.");
+  }
+
+  private static String triesLeft(Game<?, ?> game) {
+    if (game instanceof EndlessGame<?, ?> endless) {
+      return Integer.toString(endless.getLives());
+    }
+
+    return game.getMaxTries() <= 0 ? "*" : game.getTriesLeft();
+  }
+
+  private static String codes(List<ComparatorResult> results) {
+    char[] codes = new char[results.size()];
+
+    for (int i = 0; i < codes.length; i++) {
+      codes[i] = RESULT_CODES.charAt(results.get(i).ordinal());
+    }
+
+    return new String(codes);
+  }
+
+  private static GameMode stringMode(String name) {
+    try {
+      return GameMode.valueOf(name);
+    } catch (IllegalArgumentException e) {
+      throw new IllegalArgumentException("Unknown game mode: " + name);
+    }
+  }
+
+  private static ObjectGameMode objectMode(String name) {
+    try {
+      return ObjectGameMode.valueOf(name);
+    } catch (IllegalArgumentException e) {
+      throw new IllegalArgumentException("Unknown game mode: OBJECT_" + name);
+    }
+  }
+
+  private SplittableGenerator generator(Map<String, String> options) {
+    String seed = options.get("seed");
+    if (seed == null) {
+      return random.split();
+    }
+
+    try {
+      return RandomGen.seeded(Long.parseLong(seed));
+    } catch (NumberFormatException e) {
+      throw new IllegalArgumentException("Invalid number for the option 'seed'.");
+    }
+  }
+
+  private static int option(
+      Map<String, String> options, String name, int fallback, int min, int max) {
+    String value = options.get(name);
+    if (value == null) {
+      return fallback;
+    }
+
+    try {
+      int parsed = Integer.parseInt(value);
+      if (parsed < min || parsed > max) {
+        throw new IllegalArgumentException(
+            "The option '" + name + "' must be between " + min + " and " + max + ".");
+      }
+
+      return parsed;
+    } catch (NumberFormatException e) {
+      throw new IllegalArgumentException("Invalid number for the option '" + name + "'.");
+    }
+  }
+
+  /**
+   * Reads a line, keeping at most one character more than {@link #MAX_LINE_LENGTH}.
+   *
+   * @param in the reader of the socket
+   * @return the line without the line break, cut after {@code MAX_LINE_LENGTH + 1} characters, or
+   *     {@code null} at the end of the stream
+   * @throws IOException if the line cannot be read
+   */
+  private static String readLine(BufferedReader in) throws IOException {
+    StringBuilder line = new StringBuilder();
+    int c = in.read();
+
+    if (c < 0) {
+      return null;
+    }
+    while (c >= 0 && c != '\n') {
+      if (line.length() <= MAX_LINE_LENGTH) {
+        line.append((char) c);
+      }
+      c = in.read();
+    }
+
+    return line.toString();
+  }
+
+  private static void send(Writer out, String line) throws IOException {
+    out.write(line);
+    out.write('\n');
+    out.flush();
+  }
+}
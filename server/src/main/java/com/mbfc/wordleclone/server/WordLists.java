@@ -0,0 +1,146 @@
+package com.mbfc.wordleclone.server;
+
+import com.mbfc.wordleclone.lib.comparator.Comparator;
+import com.mbfc.wordleclone.lib.comparator.CompiledObjectComparator;
+import com.mbfc.wordleclone.lib.comparator.ObjectComparator;
+import com.mbfc.wordleclone.lib.dataset.ObjectDataset;
+import com.mbfc.wordleclone.lib.dictionary.PackedWordDictionary;
+import com.mbfc.wordleclone.lib.dictionary.WordDictionaries;
+import com.mbfc.wordleclone.lib.dictionary.WordIndex;
+import com.mbfc.wordleclone.lib.json.Field;
+import com.mbfc.wordleclone.lib.parser.JsonParser;
+import com.mbfc.wordleclone.lib.parser.SimpleStringParser;
+import com.mbfc.wordleclone.lib.util.Pair;
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+/**
+ * The word lists hosted by the server.
+ *
+ * <p>Lists are parsed and indexed once, when the server starts, and are then shared by all of the
+ * sessions. Word lists are indexed as a {@link PackedWordDictionary} or a {@link WordIndex}, and a
+ * comparator is compiled once for every object list, so a session only allocates its own game. None
+ * of the shared objects are modified after they are created, so they can be read by any number of
+ * sessions without locking.
+ */
+public final class WordLists {
+
+  private static final String[] WORD_RESOURCES = {
+    "4letters.txt", "5letters.txt", "6letters.txt", "spanish5letters.txt"
+  };
+
+  private static final String[] OBJECT_RESOURCES = {
+    "programming_languages.json", "music_genres.json"
+  };
+
+  private final Map<String, List<String>> words;
+  private final Map<String, Pair<String, List<TreeMap<String, Field>>>> objects;
+  private final Map<String, Comparator<TreeMap<String, Field>>> objectComparators;
+
+  /**
+   * Creates the hosted lists.
+   *
+   * @param words the word lists stored as {@code <list name, words>}
+   * @param objects the object lists stored as {@code <list name, <key, records>>}
+   * @throws IllegalArgumentException if a word list is empty
+   */
+  public WordLists(
+      Map<String, List<String>> words,
+      Map<String, Pair<String, List<TreeMap<String, Field>>>> objects) {
+    Map<String, List<String>> indexed = new HashMap<>();
+    Map<String, Comparator<TreeMap<String, Field>>> comparators = new HashMap<>();
+
+    for (Map.Entry<String, List<String>> entry : words.entrySet()) {
+      if (entry.getValue().isEmpty()) {
+        throw new IllegalArgumentException("The word list '" + entry.getKey() + "' is empty.");
+      }
+      indexed.put(entry.getKey(), WordDictionaries.of(entry.getValue()));
+    }
+    for (Map.Entry<String, Pair<String, List<TreeMap<String, Field>>>> entry : objects.entrySet()) {
+      comparators.put(
+          entry.getKey(),
+          entry.getValue().right() instanceof ObjectDataset dataset
+              ? CompiledObjectComparator.compile(dataset)
+              : new ObjectComparator());
+    }
+
+    this.words = Map.copyOf(indexed);
+    this.objects = Map.copyOf(objects);
+    this.objectComparators = Map.copyOf(comparators);
+  }
+
+  /**
+   * Loads the lists bundled with the server.
+   *
+   * <p>Every list is named after its resource file, without the extension, e.g. {@code 5letters}.
+   *
+   * @return the bundled lists
+   * @throws IOException if a list cannot be read
+   */
+  public static WordLists loadDefaults() throws IOException {
+    SimpleStringParser parser = new SimpleStringParser();
+    JsonParser jsonParser = new JsonParser();
+    Map<String, List<String>> words = new HashMap<>();
+    Map<String, Pair<String, List<TreeMap<String, Field>>>> objects = new HashMap<>();
+
+    for (String resource : WORD_RESOURCES) {
+      words.put(name(resource), parser.parseResource(resource));
+    }
+    for (String resource : OBJECT_RESOURCES) {
+      objects.put(name(resource), jsonParser.parseResource("/" + resource));
+    }
+
+    return new WordLists(words, objects);
+  }
+
+  /**
+   * Returns the word list with the given name.
+   *
+   * @param name the name of the list
+   * @return the indexed words, or {@code null} if there is no such list
+   */
+  public List<String> getWords(String name) {
+    return words.get(name);
+  }
+
+  /**
+   * Returns the object list with the given name.
+   *
+   * @param name the name of the list
+   * @return the key and the records of the list, or {@code null} if there is no such list
+   */
+  public Pair<String, List<TreeMap<String, Field>>> getObjects(String name) {
+    return objects.get(name);
+  }
+
+  /**
+   * Returns the comparator of the object list with the given name.
+   *
+   * @param name the name of the list
+   * @return the comparator, or {@code null} if there is no such list
+   */
+  public Comparator<TreeMap<String, Field>> getObjectComparator(String name) {
+    return objectComparators.get(name);
+  }
+
+  /**
+   * Returns the names of all of the lists, in alphabetical order.
+   *
+   * @return the names of the word and object lists
+   */
+  public Set<String> names() {
+    Set<String> names = new TreeSet<>(words.keySet());
+    names.addAll(objects.keySet());
+
+    return names;
+  }
+
+  private static String name(String resource) {
+    return resource.substring(0, resource.lastIndexOf('.'));
+  }
+}
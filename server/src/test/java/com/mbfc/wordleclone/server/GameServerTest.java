@@ -0,0 +1,464 @@
+package com.mbfc.wordleclone.server;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.mbfc.wordleclone.lib.json.Field;
+import com.mbfc.wordleclone.lib.json.IntegerField;
+import com.mbfc.wordleclone.lib.leaderboard.Leaderboard;
+import com.mbfc.wordleclone.lib.util.Pair;
+import java.io.IOException;
+import java.net.InetAddress;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+/** Test suite for {@link GameServer} and the protocol of {@link Session}. */
+public class GameServerTest {
+  private static WordLists defaults;
+  private GameServer server;
+
+  @BeforeAll
+  static void loadDefaults() throws IOException {
+    defaults = WordLists.loadDefaults();
+  }
+
+  @BeforeEach
+  void setUp() throws IOException {
+    WordLists lists =
+        new WordLists(
+            Map.of("one", List.of("crane"), "two", List.of("crane", "slate")),
+            Map.of("programming_languages", defaults.getObjects("programming_languages")));
+    server = new GameServer(lists, 0, InetAddress.getLoopbackAddress());
+    server.start();
+  }
+
+  @AfterEach
+  void tearDown() throws IOException {
+    server.close();
+  }
+
+  /** Test that the client is greeted and can list the hosted lists. */
+  @Test
+  void lists_connectedClient_returnsNamesInOrder() throws IOException {
+    // given
+    try (LocalClient client = new LocalClient(server.getPort())) {
+      // when
+      String response = client.send("LISTS");
+
+      // then
+      assertEquals("HELLO wordle-clone", client.getGreeting());
+      assertEquals("LISTS one programming_languages two", response);
+    }
+  }
+
+  /** Test that a simple game is won with the only word of the list. */
+  @Test
+  void guess_simpleGameOnSingleWord_wins() throws IOException {
+    // given
+    try (LocalClient client = new LocalClient(server.getPort())) {
+      // when
+      String started = client.send("NEW SIMPLE list=one tries=3");
+      String response = client.send("GUESS CRANE");
+
+      // then
+      assertEquals("OK 3", started);
+      assertEquals("RESULT CCCCC WON 1", response);
+      assertTrue(client.send("GUESS crane").startsWith("ERR "));
+    }
+  }
+
+  /** Test that a simple game with one try is either won or lost with the target. */
+  @Test
+  void guess_simpleGameWithOneTry_finishesGame() throws IOException {
+    // given
+    try (LocalClient client = new LocalClient(server.getPort())) {
+      client.send("NEW SIMPLE list=two tries=1");
+
+      // when
+      String response = client.send("GUESS slate");
+
+      // then
+      assertTrue(
+          Set.of("RESULT CCCCC WON 1", "RESULT IICIC LOST crane").contains(response), response);
+    }
+  }
+
+  /** Test that won rounds of an endless game are committed and add the bonus lives. */
+  @Test
+  void guess_endlessGame_commitsRounds() throws IOException {
+    // given
+    try (LocalClient client = new LocalClient(server.getPort())) {
+      client.send("NEW ENDLESS list=one tries=2 bonus=2");
+
+      // when
+      String first = client.send("GUESS crane");
+      String second = client.send("GUESS crane");
+
+      // then
+      assertEquals("RESULT CCCCC ROUND 1 3", first);
+      assertEquals("RESULT CCCCC ROUND 2 4", second);
+    }
+  }
+
+  /** Test that zen random games have no limit of tries. */
+  @Test
+  void newGame_zenRandom_hasUnlimitedTries() throws IOException {
+    // given
+    try (LocalClient client = new LocalClient(server.getPort())) {
+      // when
+      String response = client.send("NEW zen_random length=3");
+
+      // then
+      assertEquals("OK *", response);
+    }
+  }
+
+  /** Test that random games started with the same seed generate the same target. */
+  @Test
+  void newGame_sameSeed_sameTarget() throws IOException {
+    // given
+    try (LocalClient first = new LocalClient(server.getPort());
+        LocalClient second = new LocalClient(server.getPort())) {
+      first.send("NEW RANDOM tries=1 length=12 seed=2024");
+      second.send("NEW RANDOM tries=1 length=12 seed=2024");
+
+      // when
+      String lost = first.send("GUESS zzzzzzzzzzzz");
+
+      // then
+      assertTrue(lost.startsWith("RESULT "));
+      assertEquals(lost, second.send("GUESS zzzzzzzzzzzz"));
+    }
+  }
+
+  /** Test that all players of the daily puzzle get the same target. */
+  @Test
+  void newGame_daily_sameTargetForEveryPlayer() throws IOException {
+    // given
+    try (LocalClient first = new LocalClient(server.getPort());
+        LocalClient second = new LocalClient(server.getPort())) {
+      assertEquals("OK 1", first.send("NEW DAILY list=two tries=1"));
+      second.send("NEW daily list=two tries=1 seed=5");
+
+      // when
+      String result = first.send("GUESS crane");
+
+      // then
+      assertEquals(result, second.send("GUESS crane"));
+    }
+  }
+
+  /** Test that guesses of an object game are answered with one code per field. */
+  @Test
+  void guess_objectGame_returnsCodePerField() throws IOException {
+    // given
+    Pair<String, List<TreeMap<String, Field>>> records =
+        defaults.getObjects("programming_languages");
+    TreeMap<String, Field> record = records.right().get(0);
+    String name = record.get(records.left()).getValue().toString();
+
+    try (LocalClient client = new LocalClient(server.getPort())) {
+      client.send("NEW OBJECT_SIMPLE tries=10");
+
+      // when
+      String response = client.send("GUESS " + name);
+
+      // then
+      String[] parts = response.split(" ");
+      assertEquals("RESULT", parts[0], response);
+      assertEquals(record.size(), parts[1].length());
+    }
+  }
+
+  /** Test that invalid commands are answered with an error and don't end the session. */
+  @ParameterizedTest
+  @ValueSource(
+      strings = {
+        "",
+        "HELP",
+        "GUESS crane",
+        "NEW",
+        "NEW SIMPLE list=three",
+        "NEW SIMPLE tries=0",
+        "NEW SIMPLE tries",
+        "NEW RANDOM length=1000",
+        "NEW OBJECT_RANDOM",
+        "NEW SIMPLE seed=abc",
+        "NEW UNKNOWN",
+        "SAVE",
+        "RESTORE abc",
+        "RESTORE CgoA"
+      })
+  void handle_invalidCommand_returnsError(String command) throws IOException {
+    // given
+    try (LocalClient client = new LocalClient(server.getPort())) {
+      // when
+      String response = client.send(command);
+
+      // then
+      assertTrue(response.startsWith("ERR "), response);
+      assertEquals("OK 6", client.send("NEW SIMPLE list=one"));
+    }
+  }
+
+  /** Test that a guess that isn't in the list is rejected without using a try. */
+  @Test
+  void guess_wordNotInList_returnsError() throws IOException {
+    // given
+    try (LocalClient client = new LocalClient(server.getPort())) {
+      client.send("NEW SIMPLE list=two tries=2");
+
+      // when
+      String response = client.send("GUESS plant");
+
+      // then
+      assertTrue(response.startsWith("ERR "), response);
+      assertTrue(client.send("GUESS crane").matches("RESULT \\S+ (WON 1|PLAYING 1)"));
+    }
+  }
+
+  /** Test that a too long line is answered with an error and the session goes on. */
+  @Test
+  void handle_tooLongLine_returnsError() throws IOException {
+    // given
+    try (LocalClient client = new LocalClient(server.getPort())) {
+      // when
+      String response = client.send("GUESS " + "a".repeat(Session.MAX_LINE_LENGTH));
+
+      // then
+      assertTrue(response.startsWith("ERR "));
+      assertEquals("LISTS one programming_languages two", client.send("LISTS"));
+    }
+  }
+
+  /** Test that an unexpected exception of a command is answered with an error. */
+  @Test
+  void handle_unexpectedException_returnsError() {
+    // given
+    TreeMap<String, Field> record = new TreeMap<>(Map.of("name", new IntegerField(1)));
+    Session session =
+        new Session(
+            null,
+            new WordLists(Map.of(), Map.of("numbers", new Pair<>("name", List.of(record)))),
+            null,
+            null);
+    session.handle("NEW OBJECT_SIMPLE list=numbers");
+
+    // when
+    String response = session.handle("GUESS 1");
+
+    // then
+    assertEquals("ERR Cannot execute the command.", response);
+  }
+
+  /** Test that quitting closes the connection. */
+  @Test
+  void quit_connectedClient_closesConnection() throws IOException {
+    // given
+    try (LocalClient client = new LocalClient(server.getPort())) {
+      // when
+      String response = client.send("QUIT");
+
+      // then
+      assertEquals("BYE", response);
+      assertNull(client.send("LISTS"));
+    }
+  }
+
+  /** Test that many players can play at the same time. */
+  @Test
+  void guess_concurrentClients_allWin() throws Exception {
+    // given
+    int clients = 500;
+    List<LocalClient> connected = new ArrayList<>();
+    for (int i = 0; i < clients; i++) {
+      connected.add(new LocalClient(server.getPort()));
+    }
+
+    // when
+    ExecutorService pool = Executors.newFixedThreadPool(16);
+    List<Future<String>> responses = new ArrayList<>();
+    for (LocalClient client : connected) {
+      responses.add(
+          pool.submit(
+              () -> {
+                client.send("NEW ENDLESS list=one tries=1 bonus=1");
+                client.send("GUESS crane");
+                return client.send("GUESS crane");
+              }));
+    }
+
+    // then
+    for (Future<String> response : responses) {
+      assertEquals("RESULT CCCCC ROUND 2 1", response.get());
+    }
+    assertEquals(clients, server.getSessionCount());
+
+    pool.shutdown();
+    for (LocalClient client : connected) {
+      client.close();
+    }
+  }
+
+  /** Test that the final score of an endless game is ranked on the leaderboard of its mode. */
+  @Test
+  void rank_finishedEndlessGame_returnsStanding() throws IOException {
+    // given
+    WordLists lists =
+        new WordLists(Map.of(Session.DEFAULT_LIST, List.of("crane", "slate", "trace")), Map.of());
+    Leaderboard leaderboard = new Leaderboard(100);
+    leaderboard.record("ENDLESS", "bob", 1000);
+
+    try (GameServer ranked =
+            new GameServer(lists, 0, InetAddress.getLoopbackAddress(), leaderboard);
+        LocalClient client = new LocalClient(startedPort(ranked))) {
+      client.send("NAME alice");
+      client.send("NEW ENDLESS");
+
+      // when
+      String response;
+      while (!(response = client.send("GUESS crane")).contains(" OVER ")) {
+        // play until the lives run out
+      }
+      int score = Integer.parseInt(response.split(" ")[3]);
+
+      // then
+      assertEquals("RANK 2 " + score + " 0.0", client.send("RANK endless"));
+      assertEquals("TOP bob:1000 alice:" + score, client.send("TOP ENDLESS"));
+      assertEquals("TOP bob:1000", client.send("TOP ENDLESS 1"));
+      assertTrue(client.send("RANK SIMPLE").startsWith("ERR "));
+    }
+  }
+
+  /** Test that the final score of an endless game with other than default options is not ranked. */
+  @ParameterizedTest
+  @ValueSource(strings = {"NEW ENDLESS tries=1 bonus=1", "NEW ENDLESS seed=42"})
+  void guess_endlessGameWithOptions_scoreNotRecorded(String command) throws IOException {
+    // given
+    WordLists lists =
+        new WordLists(Map.of(Session.DEFAULT_LIST, List.of("crane", "slate", "trace")), Map.of());
+    Leaderboard leaderboard = new Leaderboard(100);
+
+    try (GameServer ranked =
+            new GameServer(lists, 0, InetAddress.getLoopbackAddress(), leaderboard);
+        LocalClient client = new LocalClient(startedPort(ranked))) {
+      client.send("NAME alice");
+      client.send(command);
+
+      // when
+      while (!client.send("GUESS crane").contains(" OVER ")) {
+        // play until the lives run out
+      }
+
+      // then
+      assertEquals("TOP", client.send("TOP ENDLESS"));
+    }
+  }
+
+  /** Test that a saved game is continued on another server. */
+  @Test
+  void restore_savedGame_continuesOnAnotherServer() throws IOException {
+    // given
+    String token;
+    String first;
+    try (LocalClient client = new LocalClient(server.getPort())) {
+      client.send("NEW SIMPLE list=two tries=3");
+      first = client.send("GUESS slate");
+      token = client.send("SAVE").substring("SNAPSHOT ".length());
+    }
+
+    try (GameServer other =
+            new GameServer(
+                new WordLists(Map.of("two", List.of("crane", "slate")), Map.of()),
+                0,
+                InetAddress.getLoopbackAddress());
+        LocalClient client = new LocalClient(startedPort(other))) {
+      // when
+      String restored = client.send("RESTORE " + token);
+      String response = client.send("GUESS crane");
+
+      // then
+      assertEquals("OK 2", restored);
+      if (first.endsWith("WON 1")) {
+        assertTrue(response.startsWith("ERR "), response);
+      } else {
+        assertEquals("RESULT CCCCC WON 2", response);
+      }
+    }
+  }
+
+  /** Test that the final score of a restored endless game is not ranked. */
+  @Test
+  void restore_endlessGame_scoreNotRecorded() throws IOException {
+    // given
+    WordLists lists =
+        new WordLists(Map.of(Session.DEFAULT_LIST, List.of("crane", "slate", "trace")), Map.of());
+    Leaderboard leaderboard = new Leaderboard(100);
+
+    try (GameServer ranked =
+            new GameServer(lists, 0, InetAddress.getLoopbackAddress(), leaderboard);
+        LocalClient client = new LocalClient(startedPort(ranked))) {
+      client.send("NAME alice");
+      client.send("NEW ENDLESS");
+      String token = client.send("SAVE").substring("SNAPSHOT ".length());
+
+      // when
+      assertEquals("OK 6", client.send("RESTORE " + token));
+      while (!client.send("GUESS crane").contains(" OVER ")) {
+        // play until the lives run out
+      }
+
+      // then
+      assertEquals("TOP", client.send("TOP ENDLESS"));
+    }
+  }
+
+  /** Test that the guesses of the games are emitted to the event sink of the server. */
+  @Test
+  void guess_eventSink_receivesEvents() throws IOException {
+    // given
+    List<String> guesses = Collections.synchronizedList(new ArrayList<>());
+    server.setEventSink((id, type, guess, results) -> guesses.add(type + " " + guess));
+
+    try (LocalClient client = new LocalClient(server.getPort())) {
+      // when
+      client.send("NEW SIMPLE list=one");
+      client.send("GUESS crane");
+    }
+
+    // then
+    assertEquals(List.of("PLAY crane"), guesses);
+  }
+
+  /** Test that the leaderboard commands fail on a server without a leaderboard. */
+  @Test
+  void top_noLeaderboard_returnsError() throws IOException {
+    // given
+    try (LocalClient client = new LocalClient(server.getPort())) {
+      // when
+      String response = client.send("TOP ENDLESS");
+
+      // then
+      assertEquals("ERR The leaderboard is disabled.", response);
+    }
+  }
+
+  private static int startedPort(GameServer server) {
+    server.start();
+    return server.getPort();
+  }
+}
@@ -0,0 +1,56 @@
+package com.mbfc.wordleclone.server;
+
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.net.InetAddress;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+
+/** A blocking client of the {@link GameServer}, for tests. */
+class LocalClient implements Closeable {
+  private final Socket socket;
+  private final BufferedReader in;
+  private final Writer out;
+  private final String greeting;
+
+  /**
+   * Connects to the server on the loopback interface and reads its greeting.
+   *
+   * @param port the port of the server
+   * @throws IOException if the server cannot be reached
+   */
+  LocalClient(int port) throws IOException {
+    socket = new Socket(InetAddress.getLoopbackAddress(), port);
+    in = new BufferedReader(new InputStreamReader(socket.getInputStream(), StandardCharsets.UTF_8));
+    out = new OutputStreamWriter(socket.getOutputStream(), StandardCharsets.UTF_8);
+    greeting = in.readLine();
+  }
+
+  String getGreeting() {
+    return greeting;
+  }
+
+  /**
+   * Sends a command and waits for the answer.
+   *
+   * @param command the command line
+   * @return the answer line, or {@code null} if the server closed the connection
+   * @throws IOException if the connection fails
+   */
+  String send(String command) throws IOException {
+    out.write(command);
+    out.write('\n');
+    out.flush();
+
+    return in.readLine();
+  }
+
+  @Override
+  public void close() throws IOException {
+    socket.close();
+  }
+}